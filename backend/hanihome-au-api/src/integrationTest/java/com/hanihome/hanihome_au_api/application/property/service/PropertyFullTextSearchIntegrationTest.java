@@ -0,0 +1,179 @@
+package com.hanihome.hanihome_au_api.application.property.service;
+
+import com.hanihome.hanihome_au_api.application.property.dto.PropertyResponseDto;
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTracing;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchRequest;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Keyword search against the migrated PostgreSQL schema: the search_vector trigger, the
+ * property_fts_match / property_fts_rank functions and the Korean substring fallback.
+ * The schema comes from Flyway, since the H2 and create-drop profiles have no search_vector. The migrations
+ * up to V20250105_003 cannot run on an empty database, so the container starts from the baseline schema
+ * at that version and Flyway applies every later migration.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@DisplayName("PropertySearchService full-text search Tests")
+class PropertyFullTextSearchIntegrationTest {
+
+    /** SQL prepared by Hibernate, to check how the status filter reaches PostgreSQL */
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Container
+    static final PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:15-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("testuser")
+                    .withPassword("testpass")
+                    .withInitScript("db/baseline/schema-20250105_003.sql");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.flyway.baseline-version", () -> "20250105.003");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    (StatementInspector) sql -> {
+                        statements.add(sql);
+                        return sql;
+                    });
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private PropertySearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        PropertyApplicationService applicationService = mock(PropertyApplicationService.class);
+        when(applicationService.convertToDto(any(PropertyJpaEntity.class))).thenCallRealMethod();
+        searchService = new PropertySearchService(entityManager, applicationService, SearchTracing.noop());
+        ReflectionTestUtils.setField(searchService, "fullTextEnabled", true);
+        statements.clear();
+    }
+
+    @Test
+    @DisplayName("English keywords should match stemmed title and description words of active listings")
+    void should_MatchStemmedEnglishWords() {
+        insert("Sunny apartments near the station", "Renovated kitchen", "ACTIVE", 3);
+        insert("Quiet studio", "Two minutes from Central stations", "ACTIVE", 2);
+        insert("Garden flat", "Close to the park", "ACTIVE", 1);
+        insert("Station apartment", "Already leased", "INACTIVE", 1);
+
+        assertThat(titles(search("station")))
+                .containsExactlyInAnyOrder("Sunny apartments near the station", "Quiet studio");
+        assertThat(titles(search("apartment"))).containsExactly("Sunny apartments near the station");
+        assertThat(search("bathtub").getProperties()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Korean keywords should match whole words and longer words containing them")
+    void should_MatchKoreanSubstrings() {
+        insert("강남역 도보 5분 원룸", "채광 좋은 방", "ACTIVE", 2);
+        insert("Chatswood 원룸", "역세권", "ACTIVE", 1);
+        insert("Burwood house", "Close to shops", "ACTIVE", 1);
+
+        assertThat(titles(search("강남"))).containsExactly("강남역 도보 5분 원룸");
+        assertThat(titles(search("원룸"))).containsExactlyInAnyOrder("강남역 도보 5분 원룸", "Chatswood 원룸");
+    }
+
+    @Test
+    @DisplayName("Relevance sorting should rank title matches above description-only matches")
+    void should_OrderByRelevance() {
+        insert("Renovated studio in Surry Hills", "Bright and quiet", "ACTIVE", 5);
+        insert("One bedroom flat", "Converted from a studio, furnished", "ACTIVE", 1);
+
+        PropertySearchRequest byRelevance = request("studio");
+        byRelevance.setSortBy("relevance");
+
+        assertThat(titles(searchService.searchProperties(byRelevance)))
+                .containsExactly("Renovated studio in Surry Hills", "One bedroom flat");
+        assertThat(titles(search("studio")))
+                .containsExactly("One bedroom flat", "Renovated studio in Surry Hills");
+    }
+
+    @Test
+    @DisplayName("The status filter should reach PostgreSQL as a literal matching the partial search indexes")
+    void should_RenderStatusAsLiteral() {
+        insert("Sunny apartments near the station", "Renovated kitchen", "ACTIVE", 1);
+
+        search("station");
+
+        assertThat(statements).filteredOn(sql -> sql.contains("search_vector"))
+                .isNotEmpty()
+                .allSatisfy(sql -> assertThat(sql)
+                        .containsPattern("status\\s*=\\s*'ACTIVE'")
+                        .doesNotContainPattern("status\\s*=\\s*\\?"));
+    }
+
+    private void insert(String title, String description, String status, int daysAgo) {
+        LocalDateTime createdDate = LocalDateTime.now().minusDays(daysAgo);
+        jdbcTemplate.update("""
+                INSERT INTO properties (title, description, address, city, property_type, rental_type, status,
+                                        landlord_id, monthly_rent, created_date, modified_date)
+                VALUES (?, ?, '1 George St', 'Sydney', 'APARTMENT', 'MONTHLY', ?, 1, 650, ?, ?)
+                """, title, description, status, createdDate, createdDate);
+    }
+
+    private PropertySearchResponse search(String keyword) {
+        return searchService.searchProperties(request(keyword));
+    }
+
+    private static PropertySearchRequest request(String keyword) {
+        PropertySearchRequest request = new PropertySearchRequest();
+        request.setKeyword(keyword);
+        return request;
+    }
+
+    private static List<String> titles(PropertySearchResponse response) {
+        return response.getProperties().stream().map(PropertyResponseDto::getTitle).toList();
+    }
+}
@@ -72,6 +72,8 @@ public abstract class BaseIntegrationTest {
         // Rate limiting configuration
         registry.add("rate-limit.requests-per-minute", () -> "500");
         registry.add("rate-limit.burst-size", () -> "50");
+        registry.add("rate-limit.search.requests-per-minute", () -> "500");
+        registry.add("rate-limit.search.burst-size", () -> "50");
     }
 
     @BeforeEach
@@ -0,0 +1,202 @@
+-- Baseline schema for PostgreSQL integration tests, as of V20250105_003
+-- The migrations up to that version cannot run on an empty database: V1 grants to a hanihome_user role,
+-- V20250104_001/002 index search_history and property_favorites that no migration creates,
+-- V20250104_004 references users(id) while V2 keys users by user_id, and V20250105_001/002 reference
+-- auth.users and property.properties. Deployed databases already have them applied, so they are left
+-- untouched; tests load this file as the container init script and set spring.flyway.baseline-version
+-- to 20250105.003, so Flyway applies the V20250106_* migrations on top of it
+-- Only the tables the later migrations and the tests touch are created, in their state at that version
+
+CREATE SCHEMA IF NOT EXISTS auth;
+CREATE SCHEMA IF NOT EXISTS property;
+CREATE SCHEMA IF NOT EXISTS transaction;
+CREATE SCHEMA IF NOT EXISTS review;
+
+-- V4
+CREATE TABLE properties (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    address VARCHAR(500) NOT NULL,
+    detail_address VARCHAR(100),
+    zip_code VARCHAR(10),
+    city VARCHAR(50),
+    district VARCHAR(50),
+    property_type VARCHAR(50) NOT NULL,
+    rental_type VARCHAR(50) NOT NULL,
+    deposit DECIMAL(12,0),
+    monthly_rent DECIMAL(10,0),
+    maintenance_fee DECIMAL(12,0),
+    area DECIMAL(8,2),
+    rooms INT,
+    bathrooms INT,
+    floor INT,
+    total_floors INT,
+    available_date DATE,
+    status VARCHAR(50) NOT NULL DEFAULT 'PENDING_APPROVAL',
+    landlord_id BIGINT NOT NULL,
+    agent_id BIGINT,
+    latitude DECIMAL(10,7),
+    longitude DECIMAL(10,7),
+    parking_available BOOLEAN,
+    pet_allowed BOOLEAN,
+    furnished BOOLEAN,
+    short_term_available BOOLEAN,
+    admin_notes TEXT,
+    approved_at TIMESTAMP,
+    approved_by BIGINT,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    modified_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0
+);
+
+CREATE TABLE property_options (
+    property_id BIGINT NOT NULL REFERENCES properties(id) ON DELETE CASCADE,
+    option_name VARCHAR(100) NOT NULL,
+    PRIMARY KEY (property_id, option_name)
+);
+
+CREATE TABLE property_images (
+    id BIGSERIAL PRIMARY KEY,
+    property_id BIGINT NOT NULL REFERENCES properties(id) ON DELETE CASCADE,
+    image_url VARCHAR(500) NOT NULL,
+    thumbnail_url VARCHAR(500),
+    image_order INT NOT NULL DEFAULT 0,
+    description VARCHAR(200),
+    is_main BOOLEAN NOT NULL DEFAULT FALSE,
+    file_size BIGINT,
+    content_type VARCHAR(50),
+    original_file_name VARCHAR(100),
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- V20250104_001 (partial index later replaced by V20250106_009)
+CREATE INDEX idx_properties_fulltext_search
+ON properties USING gin(to_tsvector('english', title || ' ' || description))
+WHERE status = 'ACTIVE';
+
+-- Pre-Flyway search_history with its per-criterion columns and element-collection tables
+CREATE TABLE search_history (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    search_name VARCHAR(100),
+    keyword VARCHAR(255),
+    min_rent_price NUMERIC(19,2),
+    max_rent_price NUMERIC(19,2),
+    min_deposit NUMERIC(19,2),
+    max_deposit NUMERIC(19,2),
+    min_bedrooms INTEGER,
+    max_bedrooms INTEGER,
+    min_bathrooms INTEGER,
+    max_bathrooms INTEGER,
+    min_floor_area NUMERIC(19,2),
+    max_floor_area NUMERIC(19,2),
+    city VARCHAR(255),
+    state VARCHAR(255),
+    country VARCHAR(255),
+    postal_code VARCHAR(255),
+    latitude NUMERIC(19,10),
+    longitude NUMERIC(19,10),
+    max_distance NUMERIC(19,2),
+    parking_required BOOLEAN,
+    pet_allowed_required BOOLEAN,
+    furnished_required BOOLEAN,
+    short_term_available_required BOOLEAN,
+    sort_by VARCHAR(255),
+    sort_direction VARCHAR(255),
+    available_from VARCHAR(255),
+    available_to VARCHAR(255),
+    recent_days INTEGER,
+    is_saved BOOLEAN,
+    search_count INTEGER,
+    last_used_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE search_history_property_types (
+    search_history_id BIGINT NOT NULL REFERENCES search_history(id),
+    property_type VARCHAR(255)
+);
+
+CREATE TABLE search_history_rental_types (
+    search_history_id BIGINT NOT NULL REFERENCES search_history(id),
+    rental_type VARCHAR(255)
+);
+
+CREATE TABLE search_history_required_options (
+    search_history_id BIGINT NOT NULL REFERENCES search_history(id),
+    required_option VARCHAR(255)
+);
+
+-- V20250104_003
+CREATE TABLE viewings (
+    id BIGSERIAL PRIMARY KEY,
+    property_id BIGINT NOT NULL REFERENCES properties(id) ON DELETE CASCADE,
+    tenant_user_id BIGINT NOT NULL,
+    landlord_user_id BIGINT NOT NULL,
+    agent_user_id BIGINT,
+    scheduled_at TIMESTAMP NOT NULL,
+    duration_minutes INTEGER NOT NULL DEFAULT 60,
+    status VARCHAR(20) NOT NULL DEFAULT 'REQUESTED',
+    tenant_notes TEXT,
+    landlord_notes TEXT,
+    agent_notes TEXT,
+    contact_phone VARCHAR(20),
+    contact_email VARCHAR(255),
+    confirmed_at TIMESTAMP,
+    cancelled_at TIMESTAMP,
+    cancellation_reason VARCHAR(500),
+    cancelled_by_user_id BIGINT,
+    completed_at TIMESTAMP,
+    feedback_rating INTEGER,
+    feedback_comment TEXT,
+    rescheduled_from_viewing_id BIGINT REFERENCES viewings(id) ON DELETE SET NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- V20250105_001 (user foreign keys to auth.users left out)
+CREATE TABLE transaction.transaction_activities (
+    id BIGSERIAL PRIMARY KEY,
+    transaction_id BIGINT NOT NULL,
+    activity_type VARCHAR(100) NOT NULL,
+    description TEXT NOT NULL,
+    user_id BIGINT NOT NULL,
+    metadata TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_transaction_activities_transaction_id ON transaction.transaction_activities(transaction_id);
+
+-- V20250105_003
+CREATE TABLE reports (
+    id BIGSERIAL PRIMARY KEY,
+    reporter_id BIGINT NOT NULL,
+    report_type VARCHAR(50) NOT NULL,
+    description TEXT NOT NULL,
+    target_type VARCHAR(50) NOT NULL,
+    target_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+    assigned_admin_id BIGINT,
+    admin_notes TEXT,
+    resolution TEXT,
+    resolved_at TIMESTAMP,
+    assigned_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    priority INTEGER DEFAULT 1,
+    auto_moderated BOOLEAN DEFAULT FALSE,
+    evidence_urls TEXT
+);
+
+CREATE TABLE report_actions (
+    id BIGSERIAL PRIMARY KEY,
+    report_id BIGINT NOT NULL REFERENCES reports(id) ON DELETE CASCADE,
+    action_type VARCHAR(50) NOT NULL,
+    description TEXT NOT NULL,
+    performed_by BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    additional_details TEXT
+);
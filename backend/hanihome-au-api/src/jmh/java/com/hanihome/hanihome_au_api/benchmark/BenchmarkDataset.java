@@ -0,0 +1,128 @@
+package com.hanihome.hanihome_au_api.benchmark;
+
+import com.hanihome.hanihome_au_api.application.property.dto.PropertyResponseDto;
+import com.hanihome.hanihome_au_api.application.property.service.PropertyApplicationService;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchResponse;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Synthetic listings shared by the benchmarks
+ * Values follow the defaults of the test PropertyTestDataBuilder (Sydney, 2 bed / 1 bath, parking)
+ * varied with a fixed seed, so every run and every commit measures the same data.
+ */
+final class BenchmarkDataset {
+
+    private static final String[] SUBURBS = {"Strathfield", "Eastwood", "Chatswood", "Burwood", "Campsie"};
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 6, 10, 0);
+
+    private BenchmarkDataset() {
+    }
+
+    static List<PropertyJpaEntity> entities(int count) {
+        Random random = new Random(42);
+        PropertyJpaEntity.PropertyTypeEnum[] types = PropertyJpaEntity.PropertyTypeEnum.values();
+        PropertyJpaEntity.RentalTypeEnum[] rentalTypes = PropertyJpaEntity.RentalTypeEnum.values();
+
+        List<PropertyJpaEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String suburb = SUBURBS[i % SUBURBS.length];
+            PropertyJpaEntity entity = newEntity();
+            entity.setId(1000L + i);
+            entity.setLandlordId(10L + i % 7);
+            entity.setTitle("Bright " + (1 + i % 4) + " bedroom apartment in " + suburb);
+            entity.setDescription("Renovated apartment close to the station, shops and schools. Built-in wardrobes, "
+                    + "air conditioning and a secure car space. Available for a 12 month lease.");
+            entity.setAddress((10 + i) + " George Street, " + suburb + " NSW 2135");
+            entity.setZipCode("2135");
+            entity.setCity(suburb);
+            entity.setDistrict("Inner West");
+            entity.setPropertyType(types[random.nextInt(types.length)]);
+            entity.setRentalType(rentalTypes[random.nextInt(rentalTypes.length)]);
+            entity.setStatus(PropertyJpaEntity.PropertyStatusEnum.ACTIVE);
+            entity.setMonthlyRent(BigDecimal.valueOf(500 + random.nextInt(60) * 50L));
+            entity.setDeposit(BigDecimal.valueOf(2000 + random.nextInt(40) * 100L));
+            entity.setMaintenanceFee(BigDecimal.valueOf(50));
+            entity.setArea(BigDecimal.valueOf(80 + random.nextInt(60)));
+            entity.setRooms(1 + random.nextInt(4));
+            entity.setBathrooms(1 + random.nextInt(2));
+            entity.setFloor(1 + random.nextInt(12));
+            entity.setTotalFloors(12);
+            entity.setLatitude(BigDecimal.valueOf(-33.8688 + random.nextDouble() * 0.1));
+            entity.setLongitude(BigDecimal.valueOf(151.2093 + random.nextDouble() * 0.1));
+            entity.setParkingAvailable(random.nextBoolean());
+            entity.setPetAllowed(random.nextBoolean());
+            entity.setFurnished(random.nextBoolean());
+            entity.setShortTermAvailable(random.nextBoolean());
+            entity.setAvailableDate(LocalDate.of(2025, 2, 1).plusDays(i % 30));
+            entity.setCreatedDate(NOW.minusDays(i % 60));
+            entity.setModifiedDate(NOW.minusDays(i % 3));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Application service for its entity-to-DTO conversion, which uses none of the collaborators
+     */
+    static PropertyApplicationService applicationService() {
+        return new PropertyApplicationService(null, null, null, null, null, null, null, 0.8);
+    }
+
+    private static PropertyJpaEntity newEntity() {
+        // The no-arg constructor is protected for JPA
+        try {
+            Constructor<PropertyJpaEntity> constructor = PropertyJpaEntity.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A result page as PropertySearchService returns it, with facet counts
+     */
+    static PropertySearchResponse searchPage(int size) {
+        PropertyApplicationService converter = applicationService();
+        List<PropertyResponseDto> properties = entities(size).stream().map(converter::convertToDto).toList();
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        Map<String, Long> propertyTypes = new LinkedHashMap<>();
+        for (PropertyJpaEntity.PropertyTypeEnum type : PropertyJpaEntity.PropertyTypeEnum.values()) {
+            propertyTypes.put(type.name(), 10L + type.ordinal() * 7);
+        }
+        facets.put("propertyType", propertyTypes);
+        facets.put("bedrooms", new LinkedHashMap<>(Map.of("1", 60L, "2", 95L, "3", 64L, "4+", 21L)));
+
+        return PropertySearchResponse.builder()
+                .properties(new ArrayList<>(properties))
+                .currentPage(0)
+                .totalPages(12)
+                .totalElements(240)
+                .numberOfElements(size)
+                .size(size)
+                .first(true)
+                .last(false)
+                .hasNext(true)
+                .hasPrevious(false)
+                .filterSummary(PropertySearchResponse.SearchFilterSummary.builder()
+                        .keyword("apartment")
+                        .priceRange("$600 - $900")
+                        .locationSummary("Inner West")
+                        .amenitiesSummary("Parking")
+                        .totalFiltersApplied(3)
+                        .build())
+                .facets(facets)
+                .build();
+    }
+}
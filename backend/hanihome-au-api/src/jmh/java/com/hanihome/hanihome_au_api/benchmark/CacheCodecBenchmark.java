@@ -0,0 +1,58 @@
+package com.hanihome.hanihome_au_api.benchmark;
+
+import com.hanihome.hanihome_au_api.infrastructure.cache.CacheValueCodec;
+import com.hanihome.hanihome_au_api.infrastructure.cache.JsonCacheValueCodec;
+import com.hanihome.hanihome_au_api.infrastructure.cache.SmileCacheValueCodec;
+import com.hanihome.hanihome_au_api.infrastructure.cache.VersionedCacheValueSerializer;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost and payload size of a cached search page for each cache codec
+ * Payload sizes are printed once per trial so they land next to the timings in the JMH log.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheCodecBenchmark {
+
+    @Param({"json", "smile", "smile-lz4"})
+    public String codec;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private VersionedCacheValueSerializer serializer;
+    private PropertySearchResponse response;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CacheValueCodec valueCodec = "json".equals(codec) ? new JsonCacheValueCodec() : new SmileCacheValueCodec();
+        int threshold = codec.endsWith("lz4") ? 256 : 0;
+        serializer = new VersionedCacheValueSerializer(valueCodec, 1, threshold);
+        response = BenchmarkDataset.searchPage(pageSize);
+        encoded = serializer.serialize(response);
+        System.out.printf("%n[%s] payload for %d properties: %d bytes%n", codec, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(response);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+}
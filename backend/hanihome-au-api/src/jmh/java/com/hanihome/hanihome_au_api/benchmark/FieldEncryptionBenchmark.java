@@ -0,0 +1,69 @@
+package com.hanihome.hanihome_au_api.benchmark;
+
+import com.hanihome.hanihome_au_api.infrastructure.crypto.FieldEncryptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-field encrypt/decrypt cost of a bank account number
+ * "legacy" repeats what TransactionFinancialService did before FieldEncryptor:
+ * a new SecretKeySpec and Cipher.getInstance("AES") (ECB) on every call.
+ * "gcm" is FieldEncryptor with its derived key and per-thread Cipher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FieldEncryptionBenchmark {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final String BANK_ACCOUNT = "BSB 062-000 Account 12345678 J CITIZEN";
+
+    @Param({"legacy", "gcm"})
+    public String impl;
+
+    private FieldEncryptor fieldEncryptor;
+    private String encrypted;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        fieldEncryptor = new FieldEncryptor(Map.of(1, FieldEncryptor.deriveKey(SECRET, 1)), 1, null);
+        encrypted = "legacy".equals(impl) ? legacyEncrypt(BANK_ACCOUNT) : fieldEncryptor.encrypt(BANK_ACCOUNT);
+    }
+
+    @Benchmark
+    public String encrypt() throws Exception {
+        return "legacy".equals(impl) ? legacyEncrypt(BANK_ACCOUNT) : fieldEncryptor.encrypt(BANK_ACCOUNT);
+    }
+
+    @Benchmark
+    public String decrypt() throws Exception {
+        return "legacy".equals(impl) ? legacyDecrypt(encrypted) : fieldEncryptor.decrypt(encrypted);
+    }
+
+    private static String legacyEncrypt(String data) throws Exception {
+        SecretKeySpec secretKey = new SecretKeySpec(SECRET.getBytes(), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+        return Base64.getEncoder().encodeToString(cipher.doFinal(data.getBytes()));
+    }
+
+    private static String legacyDecrypt(String encryptedData) throws Exception {
+        SecretKeySpec secretKey = new SecretKeySpec(SECRET.getBytes(), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(encryptedData)));
+    }
+}
@@ -0,0 +1,49 @@
+package com.hanihome.hanihome_au_api.benchmark;
+
+import com.hanihome.hanihome_au_api.security.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token validation done by JwtAuthenticationFilter on every authenticated request
+ * The blacklist lookup answers from memory, so the numbers are parsing and HS512 verification only;
+ * add the Redis round trip of the deployment on top.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-0123456789abcdef0123456789abcdef0123456789";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 7_200_000L, new EmptyBlacklistRedisTemplate());
+        token = tokenProvider.createAccessToken(42L, "TENANT");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    private static final class EmptyBlacklistRedisTemplate extends RedisTemplate<String, String> {
+
+        @Override
+        public Boolean hasKey(String key) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.hanihome.hanihome_au_api.benchmark;
+
+import com.hanihome.hanihome_au_api.application.property.service.PropertyApplicationService;
+import com.hanihome.hanihome_au_api.domain.property.valueobject.PropertyId;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaRepository;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one result page of JPA rows into domain objects and response DTOs
+ * "mapToDomain" goes through PropertyRepositoryImpl.findById over an in-memory PropertyJpaRepository,
+ * so it includes a map lookup per row on top of the mapping itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropertyMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private List<PropertyJpaEntity> entities;
+    private List<PropertyId> ids;
+    private PropertyRepositoryImpl repository;
+    private PropertyApplicationService applicationService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = BenchmarkDataset.entities(pageSize);
+        ids = entities.stream().map(entity -> PropertyId.of(entity.getId())).toList();
+
+        Map<Long, PropertyJpaEntity> rows = new HashMap<>();
+        entities.forEach(entity -> rows.put(entity.getId(), entity));
+        repository = new PropertyRepositoryImpl(inMemoryRepository(rows));
+        applicationService = BenchmarkDataset.applicationService();
+    }
+
+    @Benchmark
+    public void mapToDomain(Blackhole blackhole) {
+        for (PropertyId id : ids) {
+            blackhole.consume(repository.findById(id));
+        }
+    }
+
+    @Benchmark
+    public void convertToDto(Blackhole blackhole) {
+        for (PropertyJpaEntity entity : entities) {
+            blackhole.consume(applicationService.convertToDto(entity));
+        }
+    }
+
+    private static PropertyJpaRepository inMemoryRepository(Map<Long, PropertyJpaEntity> rows) {
+        return (PropertyJpaRepository) Proxy.newProxyInstance(
+                PropertyJpaRepository.class.getClassLoader(),
+                new Class<?>[]{PropertyJpaRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return Optional.ofNullable(rows.get((Long) args[0]));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
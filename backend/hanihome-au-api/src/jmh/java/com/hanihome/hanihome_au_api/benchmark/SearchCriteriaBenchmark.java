@@ -0,0 +1,108 @@
+package com.hanihome.hanihome_au_api.benchmark;
+
+import com.hanihome.hanihome_au_api.application.property.service.PropertySearchService;
+import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
+import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTracing;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.QPropertyJpaEntity;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchRequest;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the QueryDSL predicate of a property search, and rendering it to JPQL as Hibernate receives it
+ * buildSearchCriteria is private, so it is called through a method handle; the search service needs no
+ * collaborators for it. "keyword" is a keyword-only search, "full" sets every filter of the search form.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchCriteriaBenchmark {
+
+    @Param({"keyword", "full"})
+    public String criteria;
+
+    @Param({"false", "true"})
+    public boolean fullText;
+
+    private final QPropertyJpaEntity property = QPropertyJpaEntity.propertyJpaEntity;
+
+    private PropertySearchService searchService;
+    private MethodHandle buildSearchCriteria;
+    private PropertySearchRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        searchService = new PropertySearchService(null, null, SearchTracing.noop());
+        Field fullTextEnabled = PropertySearchService.class.getDeclaredField("fullTextEnabled");
+        fullTextEnabled.setAccessible(true);
+        fullTextEnabled.setBoolean(searchService, fullText);
+
+        Method method = PropertySearchService.class.getDeclaredMethod(
+                "buildSearchCriteria", PropertySearchRequest.class, QPropertyJpaEntity.class);
+        method.setAccessible(true);
+        buildSearchCriteria = MethodHandles.lookup().unreflect(method);
+
+        request = "full".equals(criteria) ? fullRequest() : keywordRequest();
+    }
+
+    @Benchmark
+    public BooleanBuilder build() throws Throwable {
+        return (BooleanBuilder) buildSearchCriteria.invoke(searchService, request, property);
+    }
+
+    @Benchmark
+    public String buildAndRender() throws Throwable {
+        BooleanBuilder where = (BooleanBuilder) buildSearchCriteria.invoke(searchService, request, property);
+        return new JPAQuery<>().select(property).from(property).where(where).toString();
+    }
+
+    private static PropertySearchRequest keywordRequest() {
+        PropertySearchRequest request = new PropertySearchRequest();
+        request.setKeyword("sunny apartment near station");
+        return request;
+    }
+
+    private static PropertySearchRequest fullRequest() {
+        PropertySearchRequest request = keywordRequest();
+        request.setPropertyTypes(List.of(PropertyType.APARTMENT, PropertyType.STUDIO, PropertyType.TWO_ROOM));
+        request.setRentalTypes(List.of(RentalType.MONTHLY));
+        request.setMinRentPrice(BigDecimal.valueOf(1500));
+        request.setMaxRentPrice(BigDecimal.valueOf(3000));
+        request.setMinDeposit(BigDecimal.valueOf(2000));
+        request.setMaxDeposit(BigDecimal.valueOf(10000));
+        request.setMinBedrooms(1);
+        request.setMaxBedrooms(3);
+        request.setMinBathrooms(1);
+        request.setMaxBathrooms(2);
+        request.setMinFloorArea(BigDecimal.valueOf(40));
+        request.setMaxFloorArea(BigDecimal.valueOf(120));
+        request.setCity("Strathfield");
+        request.setLatitude(BigDecimal.valueOf(-33.8688));
+        request.setLongitude(BigDecimal.valueOf(151.2093));
+        request.setMaxDistance(BigDecimal.valueOf(5));
+        request.setParkingRequired(true);
+        request.setPetAllowedRequired(true);
+        request.setFurnishedRequired(true);
+        request.setShortTermAvailableRequired(true);
+        request.setRecentDays(30);
+        return request;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hanihome.hanihome_au_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a search result page as the HTTP response body
+ * The mapper is built with Spring's Jackson2ObjectMapperBuilder defaults, as the MVC message converter is.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchResponseJsonBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PropertySearchResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = BenchmarkDataset.searchPage(pageSize);
+        System.out.printf("%n[json] response body for %d properties: %d bytes%n",
+                pageSize, objectMapper.writeValueAsBytes(response).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,389 @@
+package com.hanihome.hanihome_au_api.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanihome.hanihome_au_api.domain.entity.SearchHistory;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 결정적 합성 데이터 생성기
+ * - 같은 seed 와 규모면 항상 같은 행을 생성하므로 커밋 간 결과를 비교할 수 있음
+ * - 도시별 매물 비중, 도심 중심의 정규분포 좌표, 도시별 중위 임대료 기준 로그정규 가격
+ * - 관심 매물과 뷰잉은 인기 매물에 몰리도록 앞쪽 id 에 치우친 분포로 매물을 선택
+ * - 행은 CSV 로 PostgreSQL COPY 에 스트리밍하고, 검색 인덱스(마이그레이션 스크립트)는 적재 후 생성
+ * - 테스트 팩토리(PropertyTestDataFactory 등)는 객체 단위·비결정적(faker)이라 수백만 행에는 쓰지 않음
+ */
+final class LoadTestDataGenerator {
+
+    /** Migrations that only add search indexes and the search_vector column; applied after the bulk load */
+    private static final String[] INDEX_SCRIPTS = {
+            "db/migration/V20250104_001__Create_Search_Performance_Indexes.sql",
+            "db/migration/V20250106_009__Add_properties_search_vector.sql"
+    };
+
+    private static final int FLUSH_BYTES = 1 << 16;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 6, 10, 0);
+    private static final ObjectMapper FILTERS_MAPPER = new ObjectMapper();
+
+    static final City[] CITIES = {
+            new City("Sydney", 0.30, -33.8688, 151.2093, 2800,
+                    new String[]{"Strathfield", "Eastwood", "Chatswood", "Burwood", "Parramatta", "Surry Hills"}),
+            new City("Melbourne", 0.27, -37.8136, 144.9631, 2300,
+                    new String[]{"Carlton", "Box Hill", "Glen Waverley", "Southbank", "Clayton", "Docklands"}),
+            new City("Brisbane", 0.15, -27.4698, 153.0251, 2200,
+                    new String[]{"Sunnybank", "South Brisbane", "Toowong", "Fortitude Valley"}),
+            new City("Perth", 0.10, -31.9505, 115.8605, 2100,
+                    new String[]{"Northbridge", "Subiaco", "Victoria Park", "Applecross"}),
+            new City("Adelaide", 0.07, -34.9285, 138.6007, 1900,
+                    new String[]{"North Adelaide", "Norwood", "Glenelg", "Prospect"}),
+            new City("Canberra", 0.04, -35.2809, 149.1300, 2500,
+                    new String[]{"Belconnen", "Braddon", "Woden", "Gungahlin"}),
+            new City("Gold Coast", 0.04, -28.0167, 153.4000, 2300,
+                    new String[]{"Surfers Paradise", "Southport", "Broadbeach", "Robina"}),
+            new City("Hobart", 0.03, -42.8821, 147.3272, 1900,
+                    new String[]{"Sandy Bay", "Battery Point", "North Hobart", "Glenorchy"})
+    };
+
+    private static final String[] PROPERTY_TYPES = {"APARTMENT", "VILLA", "STUDIO", "TWO_ROOM", "THREE_ROOM", "OFFICETEL", "HOUSE"};
+    private static final double[] PROPERTY_TYPE_WEIGHTS = {0.38, 0.06, 0.16, 0.14, 0.08, 0.06, 0.12};
+    private static final String[] RENTAL_TYPES = {"MONTHLY", "JEONSE", "SALE"};
+    private static final double[] RENTAL_TYPE_WEIGHTS = {0.85, 0.10, 0.05};
+    private static final String[] STATUSES = {"ACTIVE", "INACTIVE", "PENDING_APPROVAL", "COMPLETED"};
+    private static final double[] STATUS_WEIGHTS = {0.85, 0.06, 0.05, 0.04};
+    private static final String[] VIEWING_STATUSES = {"REQUESTED", "CONFIRMED", "COMPLETED", "CANCELLED", "NO_SHOW"};
+    private static final double[] VIEWING_STATUS_WEIGHTS = {0.25, 0.25, 0.35, 0.12, 0.03};
+    private static final String[] ADJECTIVES = {"Bright", "Sunny", "Renovated", "Spacious", "Modern", "Quiet", "Cosy"};
+    private static final String[] FAVORITE_CATEGORIES = {"shortlist", "maybe", "inspect", null};
+
+    private final Scale scale;
+
+    LoadTestDataGenerator(Scale scale) {
+        this.scale = scale;
+    }
+
+    /**
+     * Dataset size and seed, from -Dloadtest.* system properties
+     * Users, favorites, viewings and searches scale with the number of properties.
+     */
+    record Scale(long seed, int properties) {
+
+        static Scale fromSystemProperties() {
+            return new Scale(Long.getLong("loadtest.seed", 20250106L),
+                    Integer.getInteger("loadtest.properties", 100_000));
+        }
+
+        int landlords() {
+            return Math.max(1, properties / 8);
+        }
+
+        int tenants() {
+            return Math.max(1, properties / 2);
+        }
+
+        long firstTenantId() {
+            return landlords() + 1L;
+        }
+
+        long landlordOf(long propertyId) {
+            return 1 + (propertyId - 1) % landlords();
+        }
+    }
+
+    record City(String name, double weight, double latitude, double longitude, int medianRent, String[] districts) {
+    }
+
+    record LoadSummary(long users, long properties, long favorites, long viewings, long searchHistories, long millis) {
+    }
+
+    LoadSummary load(DataSource dataSource) throws SQLException, IOException {
+        long started = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            long users = copyUsers(copyManager);
+            long properties = copyProperties(copyManager);
+            long favorites = copyFavorites(copyManager);
+            long viewings = copyViewings(copyManager);
+            long searches = copySearchHistories(copyManager);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('users', 'user_id'), " + users + ")");
+                statement.execute("SELECT setval(pg_get_serial_sequence('properties', 'id'), " + properties + ")");
+                for (String script : INDEX_SCRIPTS) {
+                    // CONCURRENTLY cannot run inside the implicit transaction of a multi-statement script
+                    statement.execute(readScript(script).replace("CONCURRENTLY ", ""));
+                }
+                statement.execute("ANALYZE");
+            }
+            return new LoadSummary(users, properties, favorites, viewings, searches,
+                    System.currentTimeMillis() - started);
+        }
+    }
+
+    private long copyUsers(CopyManager copyManager) throws SQLException {
+        SplittableRandom random = new SplittableRandom(scale.seed());
+        long total = (long) scale.landlords() + scale.tenants();
+        try (CsvCopy copy = new CsvCopy(copyManager, "users", "user_id, email, name, role, oauth_provider, "
+                + "oauth_provider_id, is_active, is_email_verified, created_at, updated_at")) {
+            for (long id = 1; id <= total; id++) {
+                String role = id < scale.firstTenantId() ? (random.nextInt(10) == 0 ? "AGENT" : "LANDLORD") : "TENANT";
+                LocalDateTime createdAt = NOW.minusDays(random.nextInt(720));
+                copy.row(id, "user" + id + "@loadtest.hanihome.com.au", "Load Test User " + id, role,
+                        random.nextBoolean() ? "GOOGLE" : "KAKAO", "lt-" + id, true, random.nextInt(5) != 0,
+                        createdAt, createdAt);
+            }
+            return copy.finish();
+        }
+    }
+
+    private long copyProperties(CopyManager copyManager) throws SQLException {
+        SplittableRandom random = new SplittableRandom(scale.seed() + 1);
+        try (CsvCopy copy = new CsvCopy(copyManager, "properties", "id, title, description, address, zip_code, "
+                + "city, district, property_type, rental_type, deposit, monthly_rent, maintenance_fee, area, rooms, "
+                + "bathrooms, floor, total_floors, available_date, status, landlord_id, latitude, longitude, "
+                + "parking_available, pet_allowed, furnished, short_term_available, created_date, modified_date, "
+                + "version")) {
+            for (long id = 1; id <= scale.properties(); id++) {
+                City city = pickCity(random);
+                String district = city.districts()[random.nextInt(city.districts().length)];
+                String type = pick(random, PROPERTY_TYPES, PROPERTY_TYPE_WEIGHTS);
+                int rooms = "STUDIO".equals(type) ? 0 : 1 + Math.min(4, (int) Math.abs(random.nextGaussian() * 1.4));
+                // Rent rises with bedrooms and is log-normally spread around the city median
+                long rent = Math.round(city.medianRent() * (0.7 + 0.25 * rooms)
+                        * Math.exp(0.3 * random.nextGaussian()) / 10) * 10;
+                boolean korean = random.nextInt(7) == 0;
+                String title = korean
+                        ? district + " 역세권 " + (rooms == 0 ? "원룸" : rooms + "룸") + " " + koreanType(type)
+                        : ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + rooms + " bedroom "
+                          + type.toLowerCase().replace('_', ' ') + " in " + district;
+                String description = korean
+                        ? district + " 역에서 도보 " + (3 + random.nextInt(15)) + "분, 풀옵션, 즉시 입주 가능"
+                        : "Close to " + district + " station, shops and schools. "
+                          + (random.nextBoolean() ? "Built-in wardrobes and air conditioning. " : "")
+                          + "Available for a " + (6 + 6 * random.nextInt(2)) + " month lease.";
+                // Listings cluster around the CBD and thin out with distance
+                double latitude = city.latitude() + random.nextGaussian() * 0.08;
+                double longitude = city.longitude() + random.nextGaussian() * 0.08;
+                LocalDateTime createdAt = NOW.minusMinutes(random.nextLong(365L * 24 * 60));
+
+                copy.row(id, title, description, (1 + random.nextInt(400)) + " Main Street, " + district,
+                        String.valueOf(2000 + random.nextInt(6000)), city.name(), district, type,
+                        pick(random, RENTAL_TYPES, RENTAL_TYPE_WEIGHTS), rent * 4, rent,
+                        random.nextInt(3) == 0 ? 50 + random.nextInt(150) : null,
+                        Math.max(18, 35 + rooms * 22 + (int) (random.nextGaussian() * 10)), rooms,
+                        1 + (rooms > 2 ? 1 : 0) + (random.nextInt(4) == 0 ? 1 : 0),
+                        1 + random.nextInt(20), 20,
+                        LocalDate.from(NOW).plusDays(random.nextInt(90)),
+                        pick(random, STATUSES, STATUS_WEIGHTS), scale.landlordOf(id),
+                        coordinate(latitude), coordinate(longitude),
+                        random.nextInt(10) < 6, random.nextInt(10) < 3, random.nextInt(10) < 4,
+                        random.nextInt(10) < 2, createdAt, createdAt, 0);
+            }
+            return copy.finish();
+        }
+    }
+
+    private long copyFavorites(CopyManager copyManager) throws SQLException {
+        SplittableRandom random = new SplittableRandom(scale.seed() + 2);
+        try (CsvCopy copy = new CsvCopy(copyManager, "property_favorites",
+                "user_id, property_id, category, notes, created_at, notification_enabled")) {
+            long[] chosen = new long[12];
+            for (long tenant = scale.firstTenantId(); tenant < scale.firstTenantId() + scale.tenants(); tenant++) {
+                int count = Math.min(chosen.length, (int) Math.abs(random.nextGaussian() * 4));
+                int picked = 0;
+                while (picked < count) {
+                    long propertyId = popularProperty(random);
+                    if (!contains(chosen, picked, propertyId)) {
+                        chosen[picked++] = propertyId;
+                        copy.row(tenant, propertyId,
+                                FAVORITE_CATEGORIES[random.nextInt(FAVORITE_CATEGORIES.length)], null,
+                                NOW.minusMinutes(random.nextLong(90L * 24 * 60)), random.nextInt(4) != 0);
+                    }
+                }
+            }
+            return copy.finish();
+        }
+    }
+
+    private long copyViewings(CopyManager copyManager) throws SQLException {
+        SplittableRandom random = new SplittableRandom(scale.seed() + 3);
+        long viewings = scale.properties() / 2L;
+        try (CsvCopy copy = new CsvCopy(copyManager, "viewings", "property_id, tenant_user_id, landlord_user_id, "
+                + "scheduled_at, duration_minutes, status, created_at, updated_at, version")) {
+            for (long i = 0; i < viewings; i++) {
+                long propertyId = popularProperty(random);
+                // Half-hour slots within 30 days either side of now
+                LocalDateTime scheduledAt = NOW.plusMinutes(30L * (random.nextInt(2880) - 1440));
+                copy.row(propertyId, scale.firstTenantId() + random.nextInt(scale.tenants()),
+                        scale.landlordOf(propertyId), scheduledAt, random.nextBoolean() ? 30 : 60,
+                        pick(random, VIEWING_STATUSES, VIEWING_STATUS_WEIGHTS),
+                        scheduledAt.minusDays(1 + random.nextInt(10)), scheduledAt.minusDays(1), 0);
+            }
+            return copy.finish();
+        }
+    }
+
+    private long copySearchHistories(CopyManager copyManager) throws SQLException, JsonProcessingException {
+        SplittableRandom random = new SplittableRandom(scale.seed() + 4);
+        try (CsvCopy copy = new CsvCopy(copyManager, "search_history", "user_id, search_name, filters, criteria_hash, "
+                + "is_saved, search_count, last_used_at, created_at, updated_at")) {
+            for (long tenant = scale.firstTenantId(); tenant < scale.firstTenantId() + scale.tenants(); tenant++) {
+                int count = random.nextInt(6);
+                for (int i = 0; i < count; i++) {
+                    City city = pickCity(random);
+                    boolean saved = random.nextInt(10) == 0;
+                    LocalDateTime lastUsed = NOW.minusMinutes(random.nextLong(60L * 24 * 60));
+                    SearchFilters filters = searchFilters(random, city);
+                    // Same hash the write-behind buffer computes, so repeat searches merge into these rows
+                    String criteriaHash = SearchHistory.builder().userId(tenant).filters(filters).build()
+                            .computeCriteriaHash();
+                    copy.row(tenant, saved ? "My " + city.name() + " search" : null,
+                            FILTERS_MAPPER.writeValueAsString(filters), criteriaHash, saved,
+                            1 + (int) Math.abs(random.nextGaussian() * 3),
+                            lastUsed, lastUsed.minusDays(random.nextInt(30)), lastUsed);
+                }
+            }
+            return copy.finish();
+        }
+    }
+
+    /**
+     * Search criteria as a tenant would enter them; written as the SearchFilters JSONB document
+     */
+    static SearchFilters searchFilters(SplittableRandom random, City city) {
+        SearchFilters.SearchFiltersBuilder filters = SearchFilters.builder().city(city.name());
+        if (random.nextInt(3) == 0) {
+            filters.keyword(city.districts()[random.nextInt(city.districts().length)]);
+        }
+        filters.maxRentPrice(BigDecimal.valueOf(city.medianRent() + 250L * random.nextInt(6)));
+        if (random.nextBoolean()) {
+            filters.minBedrooms(1 + random.nextInt(3));
+        }
+        return filters.sortBy("createdAt").sortDirection("desc").build();
+    }
+
+    static City pickCity(SplittableRandom random) {
+        double r = random.nextDouble();
+        for (City city : CITIES) {
+            r -= city.weight();
+            if (r < 0) {
+                return city;
+            }
+        }
+        return CITIES[CITIES.length - 1];
+    }
+
+    /**
+     * Property ids skewed towards the low end, so a small set of listings draws most interest
+     */
+    long popularProperty(SplittableRandom random) {
+        double u = random.nextDouble();
+        return 1 + (long) (scale.properties() * u * u * u);
+    }
+
+    private static String pick(SplittableRandom random, String[] values, double[] weights) {
+        double r = random.nextDouble();
+        for (int i = 0; i < values.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static BigDecimal coordinate(double degrees) {
+        return BigDecimal.valueOf(degrees).setScale(7, RoundingMode.HALF_UP);
+    }
+
+    private static String koreanType(String type) {
+        return switch (type) {
+            case "APARTMENT" -> "아파트";
+            case "VILLA" -> "빌라";
+            case "OFFICETEL" -> "오피스텔";
+            case "HOUSE" -> "주택";
+            default -> "원룸";
+        };
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String readScript(String location) throws IOException {
+        return StreamUtils.copyToString(new ClassPathResource(location).getInputStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Streams CSV rows into COPY ... FROM STDIN in 64 KB chunks
+     */
+    private static final class CsvCopy implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 1024);
+
+        private CsvCopy(CopyManager copyManager, String table, String columns) throws SQLException {
+            this.copyIn = copyManager.copyIn("COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                Object value = values[i];
+                if (value instanceof String text) {
+                    buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    // Unquoted empty field is NULL in CSV format
+                    buffer.append(value);
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= FLUSH_BYTES) {
+                flush();
+            }
+        }
+
+        long finish() throws SQLException {
+            flush();
+            return copyIn.endCopy();
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
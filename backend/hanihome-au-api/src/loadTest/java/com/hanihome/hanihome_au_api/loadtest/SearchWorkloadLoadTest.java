@@ -0,0 +1,202 @@
+package com.hanihome.hanihome_au_api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hanihome.hanihome_au_api.application.property.dto.AddToFavoritesCommand;
+import com.hanihome.hanihome_au_api.application.property.service.PropertyAutocompleteService;
+import com.hanihome.hanihome_au_api.application.property.service.PropertyFavoriteService;
+import com.hanihome.hanihome_au_api.application.property.service.PropertySearchService;
+import com.hanihome.hanihome_au_api.application.viewing.dto.CreateViewingCommand;
+import com.hanihome.hanihome_au_api.application.viewing.service.ViewingService;
+import com.hanihome.hanihome_au_api.loadtest.LoadTestDataGenerator.City;
+import com.hanihome.hanihome_au_api.loadtest.LoadTestDataGenerator.LoadSummary;
+import com.hanihome.hanihome_au_api.loadtest.LoadTestDataGenerator.Scale;
+import com.hanihome.hanihome_au_api.loadtest.WorkloadDriver.ScenarioResult;
+import com.hanihome.hanihome_au_api.presentation.dto.AutocompleteRequest;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색·자동완성·뷰잉 예약·관심 매물 워크로드 부하 테스트
+ * - PostgreSQL/Redis 는 Testcontainers 로 띄우고, LoadTestDataGenerator 로 seed 기반 데이터를 적재
+ * - 시나리오는 컨트롤러 바로 아래 서비스 계층을 호출 (인증·직렬화 비용은 JMH 벤치마크에서 따로 측정)
+ * - 시나리오마다 처리량, p50/p95/p99 지연, 작업당 쿼리 수, 예외 종류별 오류 수를 기록
+ * - 결과는 build/reports/loadtest/results-<commit>.json 으로 저장해 커밋 간 비교
+ * - 실행: ./gradlew loadTest -Ploadtest.properties=1000000 -Ploadtest.threads=16 -Ploadtest.operations=5000
+ */
+@SpringBootTest
+@ActiveProfiles("load-test")
+@Testcontainers
+@Tag("load")
+class SearchWorkloadLoadTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:15-alpine")
+                    .withDatabaseName("loadtest")
+                    .withUsername("loadtest")
+                    .withPassword("loadtest")
+                    .withCommand("postgres", "-c", "max_connections=100", "-c", "shared_buffers=256MB");
+
+    @Container
+    static final GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    private static final String[] KEYWORDS = {"apartment", "studio", "sunny", "renovated", "station", "아파트", "원룸"};
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PropertySearchService searchService;
+
+    @Autowired
+    private PropertyAutocompleteService autocompleteService;
+
+    @Autowired
+    private ViewingService viewingService;
+
+    @Autowired
+    private PropertyFavoriteService favoriteService;
+
+    @Test
+    void runWorkload() throws Exception {
+        Scale scale = Scale.fromSystemProperties();
+        int threads = Integer.getInteger("loadtest.threads", 8);
+        int operations = Integer.getInteger("loadtest.operations", 2_000);
+
+        LoadTestDataGenerator generator = new LoadTestDataGenerator(scale);
+        LoadSummary loaded = generator.load(dataSource);
+        System.out.printf("%n[loadtest] loaded %s%n", loaded);
+        autocompleteService.rebuild();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        WorkloadDriver driver = new WorkloadDriver(statistics::getPrepareStatementCount);
+
+        List<ScenarioResult> results = new ArrayList<>();
+        results.add(driver.run("search", threads, operations, scale.seed() + 1,
+                random -> searchService.searchProperties(searchRequest(random))));
+        results.add(driver.run("autocomplete", threads, operations, scale.seed() + 2,
+                random -> autocompleteService.getAutocompleteSuggestions(autocompleteRequest(random))));
+        results.add(driver.run("booking", threads, operations, scale.seed() + 3,
+                random -> viewingService.createViewing(viewingCommand(random, scale, generator))));
+        results.add(driver.run("favorites", threads, operations, scale.seed() + 4,
+                random -> favorite(random, scale, generator)));
+
+        System.out.printf("%n[loadtest] seed %d, %d properties, %d threads%n", scale.seed(), scale.properties(), threads);
+        results.forEach(result -> System.out.println("[loadtest] " + result.summary()));
+        writeReport(scale, loaded, results);
+
+        // Booking and favorite conflicts are business errors; reads must not fail
+        assertThat(results.get(0).errors()).isZero();
+        assertThat(results.get(1).errors()).isZero();
+    }
+
+    private static PropertySearchRequest searchRequest(SplittableRandom random) {
+        City city = LoadTestDataGenerator.pickCity(random);
+        PropertySearchRequest request = new PropertySearchRequest();
+        request.setCity(city.name());
+        request.setMaxRentPrice(BigDecimal.valueOf(city.medianRent() + 250L * random.nextInt(6)));
+        if (random.nextInt(3) == 0) {
+            request.setKeyword(KEYWORDS[random.nextInt(KEYWORDS.length)]);
+            request.setSortBy(random.nextBoolean() ? "relevance" : "createdAt");
+        }
+        if (random.nextBoolean()) {
+            request.setMinBedrooms(1 + random.nextInt(3));
+        }
+        if (random.nextInt(5) == 0) {
+            request.setFacets(List.of("propertyType", "bedrooms", "priceBand"));
+        }
+        request.setPage(random.nextInt(10) == 0 ? 1 + random.nextInt(4) : 0);
+        return request;
+    }
+
+    private static AutocompleteRequest autocompleteRequest(SplittableRandom random) {
+        City city = LoadTestDataGenerator.pickCity(random);
+        String source = random.nextBoolean()
+                ? city.name()
+                : city.districts()[random.nextInt(city.districts().length)];
+        String query = source.substring(0, Math.min(source.length(), 2 + random.nextInt(4)));
+        return new AutocompleteRequest(query, "all", 10);
+    }
+
+    private static CreateViewingCommand viewingCommand(SplittableRandom random, Scale scale,
+                                                       LoadTestDataGenerator generator) {
+        long propertyId = generator.popularProperty(random);
+        return CreateViewingCommand.builder()
+                .propertyId(propertyId)
+                .tenantUserId(scale.firstTenantId() + random.nextInt(scale.tenants()))
+                .landlordUserId(scale.landlordOf(propertyId))
+                .scheduledAt(LocalDate.now().plusDays(2 + random.nextInt(60)).atTime(9 + random.nextInt(9), 0))
+                .durationMinutes(30)
+                .contactEmail("loadtest@example.com")
+                .build();
+    }
+
+    private void favorite(SplittableRandom random, Scale scale, LoadTestDataGenerator generator) {
+        long userId = scale.firstTenantId() + random.nextInt(scale.tenants());
+        if (random.nextInt(4) == 0) {
+            favoriteService.addToFavorites(
+                    new AddToFavoritesCommand(userId, generator.popularProperty(random), null, null, true));
+        }
+        favoriteService.getUserFavorites(userId, PageRequest.of(0, 20));
+    }
+
+    private static void writeReport(Scale scale, LoadSummary loaded, List<ScenarioResult> results) throws Exception {
+        String commit = System.getProperty("loadtest.commit", "local");
+        Path directory = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        Files.createDirectories(directory);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commit", commit);
+        report.put("scale", scale);
+        report.put("threads", results.get(0).threads());
+        report.put("dataset", loaded);
+        report.put("scenarios", results);
+
+        Path file = directory.resolve("results-" + commit + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        System.out.printf("[loadtest] results written to %s%n", file);
+    }
+}
@@ -0,0 +1,114 @@
+package com.hanihome.hanihome_au_api.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시나리오별 부하 실행기
+ * - 고정 스레드 수로 정해진 횟수만큼 작업을 실행하고, 작업마다 지연 시간을 기록해 백분위를 계산
+ * - 워밍업(작업 수의 10%)은 기록하지 않음
+ * - 시나리오 전후의 JDBC 문장 수(Hibernate 통계) 차이로 작업당 쿼리 수를 계산하므로 시나리오는 순서대로 실행
+ * - 각 스레드의 난수는 시나리오 seed 에서 갈라져 나오므로 같은 seed 면 같은 요청 조합을 만듦
+ */
+final class WorkloadDriver {
+
+    private final LongSupplier statementCount;
+
+    WorkloadDriver(LongSupplier statementCount) {
+        this.statementCount = statementCount;
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        void execute(SplittableRandom random) throws Exception;
+    }
+
+    record ScenarioResult(String scenario, int threads, int operations, long errors, Map<String, Long> errorTypes,
+                          double throughputPerSecond, double p50Millis, double p95Millis, double p99Millis,
+                          double maxMillis, double statementsPerOperation) {
+
+        String summary() {
+            return String.format("%-12s %3d threads %8d ops %7.1f ops/s  p50 %7.2f ms  p95 %7.2f ms  p99 %7.2f ms"
+                            + "  max %8.2f ms  %5.2f queries/op  %d errors %s",
+                    scenario, threads, operations, throughputPerSecond, p50Millis, p95Millis, p99Millis, maxMillis,
+                    statementsPerOperation, errors, errorTypes.isEmpty() ? "" : errorTypes);
+        }
+    }
+
+    ScenarioResult run(String scenario, int threads, int operations, long seed, Operation operation)
+            throws InterruptedException {
+        execute(threads, Math.max(1, operations / 10), new SplittableRandom(seed ^ 0x5DEECE66DL), operation, null,
+                new AtomicLong(), new ConcurrentHashMap<>());
+
+        long[] latencies = new long[operations];
+        AtomicLong errors = new AtomicLong();
+        Map<String, AtomicLong> errorTypes = new ConcurrentHashMap<>();
+        long statementsBefore = statementCount.getAsLong();
+        long started = System.nanoTime();
+        execute(threads, operations, new SplittableRandom(seed), operation, latencies, errors, errorTypes);
+        long elapsed = System.nanoTime() - started;
+        long statements = statementCount.getAsLong() - statementsBefore;
+
+        Arrays.sort(latencies);
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errorTypes.forEach((type, count) -> errorCounts.put(type, count.get()));
+        return new ScenarioResult(scenario, threads, operations, errors.get(), errorCounts,
+                operations / (elapsed / 1e9),
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                latencies[operations - 1] / 1e6,
+                (double) statements / operations);
+    }
+
+    private void execute(int threads, int operations, SplittableRandom seedRandom, Operation operation,
+                         long[] latencies, AtomicLong errors, Map<String, AtomicLong> errorTypes)
+            throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] workers = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                SplittableRandom random = seedRandom.split();
+                workers[t] = executor.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < operations) {
+                        long start = System.nanoTime();
+                        try {
+                            operation.execute(random);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            errorTypes.computeIfAbsent(e.getClass().getSimpleName(), type -> new AtomicLong())
+                                    .incrementAndGet();
+                        }
+                        if (latencies != null) {
+                            latencies[index] = System.nanoTime() - start;
+                        }
+                    }
+                });
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+}
@@ -0,0 +1,55 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QAdminStatDelta is a Querydsl query type for AdminStatDelta
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QAdminStatDelta extends EntityPathBase<AdminStatDelta> {
+
+    private static final long serialVersionUID = -1863805897L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QAdminStatDelta adminStatDelta = new QAdminStatDelta("adminStatDelta");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> delta = createNumber("delta", Long.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final QAdminStatRollup_Key key;
+
+    public QAdminStatDelta(String variable) {
+        this(AdminStatDelta.class, forVariable(variable), INITS);
+    }
+
+    public QAdminStatDelta(Path<? extends AdminStatDelta> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QAdminStatDelta(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QAdminStatDelta(PathMetadata metadata, PathInits inits) {
+        this(AdminStatDelta.class, metadata, inits);
+    }
+
+    public QAdminStatDelta(Class<? extends AdminStatDelta> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.key = inits.isInitialized("key") ? new QAdminStatRollup_Key(forProperty("key")) : null;
+    }
+
+}
+
@@ -0,0 +1,53 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QAdminStatRollup is a Querydsl query type for AdminStatRollup
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QAdminStatRollup extends EntityPathBase<AdminStatRollup> {
+
+    private static final long serialVersionUID = -1533371591L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QAdminStatRollup adminStatRollup = new QAdminStatRollup("adminStatRollup");
+
+    public final QAdminStatRollup_Key id;
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> value = createNumber("value", Long.class);
+
+    public QAdminStatRollup(String variable) {
+        this(AdminStatRollup.class, forVariable(variable), INITS);
+    }
+
+    public QAdminStatRollup(Path<? extends AdminStatRollup> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QAdminStatRollup(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QAdminStatRollup(PathMetadata metadata, PathInits inits) {
+        this(AdminStatRollup.class, metadata, inits);
+    }
+
+    public QAdminStatRollup(Class<? extends AdminStatRollup> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.id = inits.isInitialized("id") ? new QAdminStatRollup_Key(forProperty("id")) : null;
+    }
+
+}
+
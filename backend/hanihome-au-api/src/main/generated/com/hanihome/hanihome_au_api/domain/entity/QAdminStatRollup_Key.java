@@ -0,0 +1,45 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QAdminStatRollup_Key is a Querydsl query type for Key
+ */
+@Generated("com.querydsl.codegen.DefaultEmbeddableSerializer")
+public class QAdminStatRollup_Key extends BeanPath<AdminStatRollup.Key> {
+
+    private static final long serialVersionUID = 1393452554L;
+
+    public static final QAdminStatRollup_Key key = new QAdminStatRollup_Key("key1");
+
+    public final DateTimePath<java.time.LocalDateTime> bucketStart = createDateTime("bucketStart", java.time.LocalDateTime.class);
+
+    public final EnumPath<AdminStatRollup.Dimension> dimension = createEnum("dimension", AdminStatRollup.Dimension.class);
+
+    public final StringPath dimensionValue = createString("dimensionValue");
+
+    public final EnumPath<AdminStatRollup.Granularity> granularity = createEnum("granularity", AdminStatRollup.Granularity.class);
+
+    public final EnumPath<AdminStatRollup.Metric> metric = createEnum("metric", AdminStatRollup.Metric.class);
+
+    public QAdminStatRollup_Key(String variable) {
+        super(AdminStatRollup.Key.class, forVariable(variable));
+    }
+
+    public QAdminStatRollup_Key(Path<? extends AdminStatRollup.Key> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QAdminStatRollup_Key(PathMetadata metadata) {
+        super(AdminStatRollup.Key.class, metadata);
+    }
+
+}
+
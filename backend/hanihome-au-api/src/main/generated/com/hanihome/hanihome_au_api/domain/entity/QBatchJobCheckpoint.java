@@ -0,0 +1,51 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QBatchJobCheckpoint is a Querydsl query type for BatchJobCheckpoint
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QBatchJobCheckpoint extends EntityPathBase<BatchJobCheckpoint> {
+
+    private static final long serialVersionUID = -709513203L;
+
+    public static final QBatchJobCheckpoint batchJobCheckpoint = new QBatchJobCheckpoint("batchJobCheckpoint");
+
+    public final DateTimePath<java.time.LocalDateTime> completedAt = createDateTime("completedAt", java.time.LocalDateTime.class);
+
+    public final StringPath jobName = createString("jobName");
+
+    public final NumberPath<Long> lastProcessedId = createNumber("lastProcessedId", Long.class);
+
+    public final StringPath lockedBy = createString("lockedBy");
+
+    public final DateTimePath<java.time.LocalDateTime> lockedUntil = createDateTime("lockedUntil", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> processedCount = createNumber("processedCount", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> runStartedAt = createDateTime("runStartedAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public QBatchJobCheckpoint(String variable) {
+        super(BatchJobCheckpoint.class, forVariable(variable));
+    }
+
+    public QBatchJobCheckpoint(Path<? extends BatchJobCheckpoint> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QBatchJobCheckpoint(PathMetadata metadata) {
+        super(BatchJobCheckpoint.class, metadata);
+    }
+
+}
+
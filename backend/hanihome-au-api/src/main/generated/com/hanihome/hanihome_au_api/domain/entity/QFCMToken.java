@@ -0,0 +1,55 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QFCMToken is a Querydsl query type for FCMToken
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QFCMToken extends EntityPathBase<FCMToken> {
+
+    private static final long serialVersionUID = -572828917L;
+
+    public static final QFCMToken fCMToken = new QFCMToken("fCMToken");
+
+    public final BooleanPath active = createBoolean("active");
+
+    public final StringPath appVersion = createString("appVersion");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final StringPath deviceId = createString("deviceId");
+
+    public final StringPath deviceType = createString("deviceType");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> lastUsed = createDateTime("lastUsed", java.time.LocalDateTime.class);
+
+    public final StringPath token = createString("token");
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> userId = createNumber("userId", Long.class);
+
+    public QFCMToken(String variable) {
+        super(FCMToken.class, forVariable(variable));
+    }
+
+    public QFCMToken(Path<? extends FCMToken> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QFCMToken(PathMetadata metadata) {
+        super(FCMToken.class, metadata);
+    }
+
+}
+
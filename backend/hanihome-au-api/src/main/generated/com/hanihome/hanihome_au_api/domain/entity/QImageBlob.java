@@ -0,0 +1,59 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QImageBlob is a Querydsl query type for ImageBlob
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QImageBlob extends EntityPathBase<ImageBlob> {
+
+    private static final long serialVersionUID = -417924778L;
+
+    public static final QImageBlob imageBlob = new QImageBlob("imageBlob");
+
+    public final StringPath cardUrl = createString("cardUrl");
+
+    public final StringPath contentHash = createString("contentHash");
+
+    public final StringPath contentType = createString("contentType");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> fileSize = createNumber("fileSize", Long.class);
+
+    public final StringPath fullUrl = createString("fullUrl");
+
+    public final DateTimePath<java.time.LocalDateTime> lastReleasedAt = createDateTime("lastReleasedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Integer> refCount = createNumber("refCount", Integer.class);
+
+    public final StringPath relativePath = createString("relativePath");
+
+    public final BooleanPath renditionsReady = createBoolean("renditionsReady");
+
+    public final StringPath thumbnailUrl = createString("thumbnailUrl");
+
+    public final StringPath webpUrl = createString("webpUrl");
+
+    public QImageBlob(String variable) {
+        super(ImageBlob.class, forVariable(variable));
+    }
+
+    public QImageBlob(Path<? extends ImageBlob> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QImageBlob(PathMetadata metadata) {
+        super(ImageBlob.class, metadata);
+    }
+
+}
+
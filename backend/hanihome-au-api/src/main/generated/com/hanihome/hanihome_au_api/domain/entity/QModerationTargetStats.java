@@ -0,0 +1,43 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QModerationTargetStats is a Querydsl query type for ModerationTargetStats
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QModerationTargetStats extends EntityPathBase<ModerationTargetStats> {
+
+    private static final long serialVersionUID = -1486878394L;
+
+    public static final QModerationTargetStats moderationTargetStats = new QModerationTargetStats("moderationTargetStats");
+
+    public final NumberPath<Integer> activeReports = createNumber("activeReports", Integer.class);
+
+    public final DateTimePath<java.time.LocalDateTime> lastReportAt = createDateTime("lastReportAt", java.time.LocalDateTime.class);
+
+    public final StringPath targetKey = createString("targetKey");
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public QModerationTargetStats(String variable) {
+        super(ModerationTargetStats.class, forVariable(variable));
+    }
+
+    public QModerationTargetStats(Path<? extends ModerationTargetStats> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QModerationTargetStats(PathMetadata metadata) {
+        super(ModerationTargetStats.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,49 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPropertyFavorite is a Querydsl query type for PropertyFavorite
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPropertyFavorite extends EntityPathBase<PropertyFavorite> {
+
+    private static final long serialVersionUID = 2107163411L;
+
+    public static final QPropertyFavorite propertyFavorite = new QPropertyFavorite("propertyFavorite");
+
+    public final StringPath category = createString("category");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath notes = createString("notes");
+
+    public final BooleanPath notificationEnabled = createBoolean("notificationEnabled");
+
+    public final NumberPath<Long> propertyId = createNumber("propertyId", Long.class);
+
+    public final NumberPath<Long> userId = createNumber("userId", Long.class);
+
+    public QPropertyFavorite(String variable) {
+        super(PropertyFavorite.class, forVariable(variable));
+    }
+
+    public QPropertyFavorite(Path<? extends PropertyFavorite> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPropertyFavorite(PathMetadata metadata) {
+        super(PropertyFavorite.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,67 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPropertyImage is a Querydsl query type for PropertyImage
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPropertyImage extends EntityPathBase<PropertyImage> {
+
+    private static final long serialVersionUID = -1105200316L;
+
+    public static final QPropertyImage propertyImage = new QPropertyImage("propertyImage");
+
+    public final StringPath cardUrl = createString("cardUrl");
+
+    public final StringPath contentHash = createString("contentHash");
+
+    public final StringPath contentType = createString("contentType");
+
+    public final DateTimePath<java.time.LocalDateTime> createdDate = createDateTime("createdDate", java.time.LocalDateTime.class);
+
+    public final StringPath description = createString("description");
+
+    public final NumberPath<Long> fileSize = createNumber("fileSize", Long.class);
+
+    public final StringPath fullUrl = createString("fullUrl");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Integer> imageOrder = createNumber("imageOrder", Integer.class);
+
+    public final StringPath imageUrl = createString("imageUrl");
+
+    public final BooleanPath isMain = createBoolean("isMain");
+
+    public final StringPath originalFileName = createString("originalFileName");
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.ImageProcessingStatus> processingStatus = createEnum("processingStatus", com.hanihome.hanihome_au_api.domain.enums.ImageProcessingStatus.class);
+
+    public final NumberPath<Long> propertyId = createNumber("propertyId", Long.class);
+
+    public final StringPath thumbnailUrl = createString("thumbnailUrl");
+
+    public final StringPath webpUrl = createString("webpUrl");
+
+    public QPropertyImage(String variable) {
+        super(PropertyImage.class, forVariable(variable));
+    }
+
+    public QPropertyImage(Path<? extends PropertyImage> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPropertyImage(PathMetadata metadata) {
+        super(PropertyImage.class, metadata);
+    }
+
+}
+
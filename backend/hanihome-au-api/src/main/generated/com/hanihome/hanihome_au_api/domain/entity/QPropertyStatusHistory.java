@@ -0,0 +1,51 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPropertyStatusHistory is a Querydsl query type for PropertyStatusHistory
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPropertyStatusHistory extends EntityPathBase<PropertyStatusHistory> {
+
+    private static final long serialVersionUID = 566071595L;
+
+    public static final QPropertyStatusHistory propertyStatusHistory = new QPropertyStatusHistory("propertyStatusHistory");
+
+    public final NumberPath<Long> changedBy = createNumber("changedBy", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> createdDate = createDateTime("createdDate", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.PropertyStatus> newStatus = createEnum("newStatus", com.hanihome.hanihome_au_api.domain.enums.PropertyStatus.class);
+
+    public final StringPath notes = createString("notes");
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.PropertyStatus> previousStatus = createEnum("previousStatus", com.hanihome.hanihome_au_api.domain.enums.PropertyStatus.class);
+
+    public final NumberPath<Long> propertyId = createNumber("propertyId", Long.class);
+
+    public final StringPath reason = createString("reason");
+
+    public QPropertyStatusHistory(String variable) {
+        super(PropertyStatusHistory.class, forVariable(variable));
+    }
+
+    public QPropertyStatusHistory(Path<? extends PropertyStatusHistory> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPropertyStatusHistory(PathMetadata metadata) {
+        super(PropertyStatusHistory.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,72 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QReport is a Querydsl query type for Report
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QReport extends EntityPathBase<Report> {
+
+    private static final long serialVersionUID = 1439108150L;
+
+    public static final QReport report = new QReport("report");
+
+    public final ListPath<ReportAction, QReportAction> actions = this.<ReportAction, QReportAction>createList("actions", ReportAction.class, QReportAction.class, PathInits.DIRECT2);
+
+    public final StringPath adminNotes = createString("adminNotes");
+
+    public final NumberPath<Long> assignedAdminId = createNumber("assignedAdminId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> assignedAt = createDateTime("assignedAt", java.time.LocalDateTime.class);
+
+    public final BooleanPath autoModerated = createBoolean("autoModerated");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final StringPath description = createString("description");
+
+    public final StringPath evidenceUrls = createString("evidenceUrls");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Integer> priority = createNumber("priority", Integer.class);
+
+    public final NumberPath<Long> reporterId = createNumber("reporterId", Long.class);
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.ReportType> reportType = createEnum("reportType", com.hanihome.hanihome_au_api.domain.enums.ReportType.class);
+
+    public final StringPath resolution = createString("resolution");
+
+    public final DateTimePath<java.time.LocalDateTime> resolvedAt = createDateTime("resolvedAt", java.time.LocalDateTime.class);
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.ReportStatus> status = createEnum("status", com.hanihome.hanihome_au_api.domain.enums.ReportStatus.class);
+
+    public final NumberPath<Long> targetId = createNumber("targetId", Long.class);
+
+    public final StringPath targetType = createString("targetType");
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public QReport(String variable) {
+        super(Report.class, forVariable(variable));
+    }
+
+    public QReport(Path<? extends Report> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QReport(PathMetadata metadata) {
+        super(Report.class, metadata);
+    }
+
+}
+
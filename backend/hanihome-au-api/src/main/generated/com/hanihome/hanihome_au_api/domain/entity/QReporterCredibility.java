@@ -0,0 +1,43 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QReporterCredibility is a Querydsl query type for ReporterCredibility
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QReporterCredibility extends EntityPathBase<ReporterCredibility> {
+
+    private static final long serialVersionUID = 1237990081L;
+
+    public static final QReporterCredibility reporterCredibility = new QReporterCredibility("reporterCredibility");
+
+    public final NumberPath<Integer> rejectedReports = createNumber("rejectedReports", Integer.class);
+
+    public final NumberPath<Long> reporterId = createNumber("reporterId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Integer> upheldReports = createNumber("upheldReports", Integer.class);
+
+    public QReporterCredibility(String variable) {
+        super(ReporterCredibility.class, forVariable(variable));
+    }
+
+    public QReporterCredibility(Path<? extends ReporterCredibility> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QReporterCredibility(PathMetadata metadata) {
+        super(ReporterCredibility.class, metadata);
+    }
+
+}
+
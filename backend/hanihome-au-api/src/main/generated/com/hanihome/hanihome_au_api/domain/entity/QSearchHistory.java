@@ -0,0 +1,55 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QSearchHistory is a Querydsl query type for SearchHistory
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QSearchHistory extends EntityPathBase<SearchHistory> {
+
+    private static final long serialVersionUID = -2116834166L;
+
+    public static final QSearchHistory searchHistory = new QSearchHistory("searchHistory");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final StringPath criteriaHash = createString("criteriaHash");
+
+    public final SimplePath<com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters> filters = createSimple("filters", com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final BooleanPath isSaved = createBoolean("isSaved");
+
+    public final DateTimePath<java.time.LocalDateTime> lastUsedAt = createDateTime("lastUsedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Integer> searchCount = createNumber("searchCount", Integer.class);
+
+    public final StringPath searchName = createString("searchName");
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> userId = createNumber("userId", Long.class);
+
+    public QSearchHistory(String variable) {
+        super(SearchHistory.class, forVariable(variable));
+    }
+
+    public QSearchHistory(Path<? extends SearchHistory> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QSearchHistory(PathMetadata metadata) {
+        super(SearchHistory.class, metadata);
+    }
+
+}
+
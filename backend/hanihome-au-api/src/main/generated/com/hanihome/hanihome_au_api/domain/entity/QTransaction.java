@@ -0,0 +1,86 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QTransaction is a Querydsl query type for Transaction
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QTransaction extends EntityPathBase<Transaction> {
+
+    private static final long serialVersionUID = -1733677796L;
+
+    public static final QTransaction transaction = new QTransaction("transaction");
+
+    public final ListPath<TransactionActivity, QTransactionActivity> activities = this.<TransactionActivity, QTransactionActivity>createList("activities", TransactionActivity.class, QTransactionActivity.class, PathInits.DIRECT2);
+
+    public final NumberPath<Long> agentUserId = createNumber("agentUserId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> contractCompletedAt = createDateTime("contractCompletedAt", java.time.LocalDateTime.class);
+
+    public final StringPath contractDocumentUrl = createString("contractDocumentUrl");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> createdBy = createNumber("createdBy", Long.class);
+
+    public final StringPath docusignEnvelopeId = createString("docusignEnvelopeId");
+
+    public final NumberPath<java.math.BigDecimal> finalBondAmount = createNumber("finalBondAmount", java.math.BigDecimal.class);
+
+    public final DateTimePath<java.time.LocalDateTime> finalLeaseEndDate = createDateTime("finalLeaseEndDate", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> finalLeaseStartDate = createDateTime("finalLeaseStartDate", java.time.LocalDateTime.class);
+
+    public final NumberPath<java.math.BigDecimal> finalRentAmount = createNumber("finalRentAmount", java.math.BigDecimal.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> landlordSignedAt = createDateTime("landlordSignedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> landlordUserId = createNumber("landlordUserId", Long.class);
+
+    public final NumberPath<Long> propertyId = createNumber("propertyId", Long.class);
+
+    public final NumberPath<java.math.BigDecimal> proposedBondAmount = createNumber("proposedBondAmount", java.math.BigDecimal.class);
+
+    public final DateTimePath<java.time.LocalDateTime> proposedLeaseEndDate = createDateTime("proposedLeaseEndDate", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> proposedLeaseStartDate = createDateTime("proposedLeaseStartDate", java.time.LocalDateTime.class);
+
+    public final NumberPath<java.math.BigDecimal> proposedRentAmount = createNumber("proposedRentAmount", java.math.BigDecimal.class);
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.TransactionStatus> status = createEnum("status", com.hanihome.hanihome_au_api.domain.enums.TransactionStatus.class);
+
+    public final DateTimePath<java.time.LocalDateTime> tenantSignedAt = createDateTime("tenantSignedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> tenantUserId = createNumber("tenantUserId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> updatedBy = createNumber("updatedBy", Long.class);
+
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
+    public QTransaction(String variable) {
+        super(Transaction.class, forVariable(variable));
+    }
+
+    public QTransaction(Path<? extends Transaction> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QTransaction(PathMetadata metadata) {
+        super(Transaction.class, metadata);
+    }
+
+}
+
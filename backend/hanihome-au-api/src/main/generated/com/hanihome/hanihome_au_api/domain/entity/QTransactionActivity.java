@@ -0,0 +1,61 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QTransactionActivity is a Querydsl query type for TransactionActivity
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QTransactionActivity extends EntityPathBase<TransactionActivity> {
+
+    private static final long serialVersionUID = 785360971L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QTransactionActivity transactionActivity = new QTransactionActivity("transactionActivity");
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType> activityType = createEnum("activityType", com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType.class);
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final StringPath description = createString("description");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath metadata = createString("metadata");
+
+    public final QTransaction transaction;
+
+    public final NumberPath<Long> userId = createNumber("userId", Long.class);
+
+    public QTransactionActivity(String variable) {
+        this(TransactionActivity.class, forVariable(variable), INITS);
+    }
+
+    public QTransactionActivity(Path<? extends TransactionActivity> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QTransactionActivity(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QTransactionActivity(PathMetadata metadata, PathInits inits) {
+        this(TransactionActivity.class, metadata, inits);
+    }
+
+    public QTransactionActivity(Class<? extends TransactionActivity> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.transaction = inits.isInitialized("transaction") ? new QTransaction(forProperty("transaction")) : null;
+    }
+
+}
+
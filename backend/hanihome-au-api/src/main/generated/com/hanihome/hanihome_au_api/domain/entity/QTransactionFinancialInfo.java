@@ -0,0 +1,103 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QTransactionFinancialInfo is a Querydsl query type for TransactionFinancialInfo
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QTransactionFinancialInfo extends EntityPathBase<TransactionFinancialInfo> {
+
+    private static final long serialVersionUID = 630683931L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QTransactionFinancialInfo transactionFinancialInfo = new QTransactionFinancialInfo("transactionFinancialInfo");
+
+    public final NumberPath<java.math.BigDecimal> applicationFee = createNumber("applicationFee", java.math.BigDecimal.class);
+
+    public final NumberPath<java.math.BigDecimal> bondAmount = createNumber("bondAmount", java.math.BigDecimal.class);
+
+    public final DateTimePath<java.time.LocalDateTime> bondPaidAt = createDateTime("bondPaidAt", java.time.LocalDateTime.class);
+
+    public final StringPath bondPaymentReference = createString("bondPaymentReference");
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.PaymentStatus> bondPaymentStatus = createEnum("bondPaymentStatus", com.hanihome.hanihome_au_api.domain.enums.PaymentStatus.class);
+
+    public final NumberPath<java.math.BigDecimal> bondWeeksEquivalent = createNumber("bondWeeksEquivalent", java.math.BigDecimal.class);
+
+    public final StringPath calculationNotes = createString("calculationNotes");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> createdBy = createNumber("createdBy", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> firstRentPaidAt = createDateTime("firstRentPaidAt", java.time.LocalDateTime.class);
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.PaymentStatus> firstRentPaymentStatus = createEnum("firstRentPaymentStatus", com.hanihome.hanihome_au_api.domain.enums.PaymentStatus.class);
+
+    public final NumberPath<java.math.BigDecimal> gstAmount = createNumber("gstAmount", java.math.BigDecimal.class);
+
+    public final BooleanPath gstApplicable = createBoolean("gstApplicable");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<java.math.BigDecimal> keyMoneyAmount = createNumber("keyMoneyAmount", java.math.BigDecimal.class);
+
+    public final StringPath landlordBankAccountEncrypted = createString("landlordBankAccountEncrypted");
+
+    public final NumberPath<java.math.BigDecimal> monthlyRentAmount = createNumber("monthlyRentAmount", java.math.BigDecimal.class);
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.PaymentFrequency> paymentFrequency = createEnum("paymentFrequency", com.hanihome.hanihome_au_api.domain.enums.PaymentFrequency.class);
+
+    public final NumberPath<java.math.BigDecimal> petBondAmount = createNumber("petBondAmount", java.math.BigDecimal.class);
+
+    public final StringPath rentPaymentReference = createString("rentPaymentReference");
+
+    public final StringPath tenantBankAccountEncrypted = createString("tenantBankAccountEncrypted");
+
+    public final NumberPath<java.math.BigDecimal> totalAmountIncludingGst = createNumber("totalAmountIncludingGst", java.math.BigDecimal.class);
+
+    public final QTransaction transaction;
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> updatedBy = createNumber("updatedBy", Long.class);
+
+    public final BooleanPath utilitiesIncluded = createBoolean("utilitiesIncluded");
+
+    public final StringPath validationErrors = createString("validationErrors");
+
+    public final NumberPath<java.math.BigDecimal> weeklyRentAmount = createNumber("weeklyRentAmount", java.math.BigDecimal.class);
+
+    public QTransactionFinancialInfo(String variable) {
+        this(TransactionFinancialInfo.class, forVariable(variable), INITS);
+    }
+
+    public QTransactionFinancialInfo(Path<? extends TransactionFinancialInfo> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QTransactionFinancialInfo(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QTransactionFinancialInfo(PathMetadata metadata, PathInits inits) {
+        this(TransactionFinancialInfo.class, metadata, inits);
+    }
+
+    public QTransactionFinancialInfo(Class<? extends TransactionFinancialInfo> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.transaction = inits.isInitialized("transaction") ? new QTransaction(forProperty("transaction")) : null;
+    }
+
+}
+
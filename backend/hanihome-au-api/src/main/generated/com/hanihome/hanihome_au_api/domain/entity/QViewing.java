@@ -0,0 +1,85 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QViewing is a Querydsl query type for Viewing
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QViewing extends EntityPathBase<Viewing> {
+
+    private static final long serialVersionUID = 1022314587L;
+
+    public static final QViewing viewing = new QViewing("viewing");
+
+    public final StringPath agentNotes = createString("agentNotes");
+
+    public final NumberPath<Long> agentUserId = createNumber("agentUserId", Long.class);
+
+    public final StringPath cancellationReason = createString("cancellationReason");
+
+    public final DateTimePath<java.time.LocalDateTime> cancelledAt = createDateTime("cancelledAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> cancelledByUserId = createNumber("cancelledByUserId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> completedAt = createDateTime("completedAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> confirmedAt = createDateTime("confirmedAt", java.time.LocalDateTime.class);
+
+    public final StringPath contactEmail = createString("contactEmail");
+
+    public final StringPath contactPhone = createString("contactPhone");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Integer> durationMinutes = createNumber("durationMinutes", Integer.class);
+
+    public final StringPath feedbackComment = createString("feedbackComment");
+
+    public final NumberPath<Integer> feedbackRating = createNumber("feedbackRating", Integer.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath landlordNotes = createString("landlordNotes");
+
+    public final NumberPath<Long> landlordUserId = createNumber("landlordUserId", Long.class);
+
+    public final NumberPath<Long> propertyId = createNumber("propertyId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> reminderSentAt = createDateTime("reminderSentAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> rescheduledFromViewingId = createNumber("rescheduledFromViewingId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> scheduledAt = createDateTime("scheduledAt", java.time.LocalDateTime.class);
+
+    public final EnumPath<com.hanihome.hanihome_au_api.domain.enums.ViewingStatus> status = createEnum("status", com.hanihome.hanihome_au_api.domain.enums.ViewingStatus.class);
+
+    public final StringPath tenantNotes = createString("tenantNotes");
+
+    public final NumberPath<Long> tenantUserId = createNumber("tenantUserId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
+    public QViewing(String variable) {
+        super(Viewing.class, forVariable(variable));
+    }
+
+    public QViewing(Path<? extends Viewing> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QViewing(PathMetadata metadata) {
+        super(Viewing.class, metadata);
+    }
+
+}
+
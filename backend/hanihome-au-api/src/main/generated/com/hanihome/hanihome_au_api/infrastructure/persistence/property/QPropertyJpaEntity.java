@@ -0,0 +1,109 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.property;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPropertyJpaEntity is a Querydsl query type for PropertyJpaEntity
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPropertyJpaEntity extends EntityPathBase<PropertyJpaEntity> {
+
+    private static final long serialVersionUID = 869318313L;
+
+    public static final QPropertyJpaEntity propertyJpaEntity = new QPropertyJpaEntity("propertyJpaEntity");
+
+    public final StringPath address = createString("address");
+
+    public final StringPath adminNotes = createString("adminNotes");
+
+    public final NumberPath<Long> agentId = createNumber("agentId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> approvedAt = createDateTime("approvedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> approvedBy = createNumber("approvedBy", Long.class);
+
+    public final NumberPath<java.math.BigDecimal> area = createNumber("area", java.math.BigDecimal.class);
+
+    public final DatePath<java.time.LocalDate> availableDate = createDate("availableDate", java.time.LocalDate.class);
+
+    public final NumberPath<Integer> bathrooms = createNumber("bathrooms", Integer.class);
+
+    public final NumberPath<Integer> bedrooms = createNumber("bedrooms", Integer.class);
+
+    public final StringPath city = createString("city");
+
+    public final DateTimePath<java.time.LocalDateTime> createdDate = createDateTime("createdDate", java.time.LocalDateTime.class);
+
+    public final NumberPath<java.math.BigDecimal> deposit = createNumber("deposit", java.math.BigDecimal.class);
+
+    public final StringPath description = createString("description");
+
+    public final StringPath detailAddress = createString("detailAddress");
+
+    public final StringPath district = createString("district");
+
+    public final NumberPath<Integer> floor = createNumber("floor", Integer.class);
+
+    public final NumberPath<Double> floorArea = createNumber("floorArea", Double.class);
+
+    public final BooleanPath furnished = createBoolean("furnished");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Long> landlordId = createNumber("landlordId", Long.class);
+
+    public final NumberPath<java.math.BigDecimal> latitude = createNumber("latitude", java.math.BigDecimal.class);
+
+    public final NumberPath<java.math.BigDecimal> longitude = createNumber("longitude", java.math.BigDecimal.class);
+
+    public final NumberPath<java.math.BigDecimal> maintenanceFee = createNumber("maintenanceFee", java.math.BigDecimal.class);
+
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = createDateTime("modifiedDate", java.time.LocalDateTime.class);
+
+    public final NumberPath<java.math.BigDecimal> monthlyRent = createNumber("monthlyRent", java.math.BigDecimal.class);
+
+    public final BooleanPath parkingAvailable = createBoolean("parkingAvailable");
+
+    public final BooleanPath petAllowed = createBoolean("petAllowed");
+
+    public final EnumPath<PropertyJpaEntity.PropertyTypeEnum> propertyType = createEnum("propertyType", PropertyJpaEntity.PropertyTypeEnum.class);
+
+    public final EnumPath<PropertyJpaEntity.RentalTypeEnum> rentalType = createEnum("rentalType", PropertyJpaEntity.RentalTypeEnum.class);
+
+    public final NumberPath<java.math.BigDecimal> rentPrice = createNumber("rentPrice", java.math.BigDecimal.class);
+
+    public final NumberPath<Integer> rooms = createNumber("rooms", Integer.class);
+
+    public final BooleanPath shortTermAvailable = createBoolean("shortTermAvailable");
+
+    public final EnumPath<PropertyJpaEntity.PropertyStatusEnum> status = createEnum("status", PropertyJpaEntity.PropertyStatusEnum.class);
+
+    public final StringPath title = createString("title");
+
+    public final NumberPath<Integer> totalFloors = createNumber("totalFloors", Integer.class);
+
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
+    public final StringPath zipCode = createString("zipCode");
+
+    public QPropertyJpaEntity(String variable) {
+        super(PropertyJpaEntity.class, forVariable(variable));
+    }
+
+    public QPropertyJpaEntity(Path<? extends PropertyJpaEntity> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPropertyJpaEntity(PathMetadata metadata) {
+        super(PropertyJpaEntity.class, metadata);
+    }
+
+}
+
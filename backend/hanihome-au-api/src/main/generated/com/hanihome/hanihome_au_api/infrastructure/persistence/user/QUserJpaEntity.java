@@ -0,0 +1,67 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.user;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QUserJpaEntity is a Querydsl query type for UserJpaEntity
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QUserJpaEntity extends EntityPathBase<UserJpaEntity> {
+
+    private static final long serialVersionUID = 1240199529L;
+
+    public static final QUserJpaEntity userJpaEntity = new QUserJpaEntity("userJpaEntity");
+
+    public final StringPath address = createString("address");
+
+    public final StringPath bio = createString("bio");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final StringPath email = createString("email");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final BooleanPath isActive = createBoolean("isActive");
+
+    public final BooleanPath isEmailVerified = createBoolean("isEmailVerified");
+
+    public final DateTimePath<java.time.LocalDateTime> lastLoginAt = createDateTime("lastLoginAt", java.time.LocalDateTime.class);
+
+    public final StringPath name = createString("name");
+
+    public final EnumPath<UserJpaEntity.OAuthProviderEnum> oauthProvider = createEnum("oauthProvider", UserJpaEntity.OAuthProviderEnum.class);
+
+    public final StringPath oauthProviderId = createString("oauthProviderId");
+
+    public final StringPath password = createString("password");
+
+    public final StringPath phone = createString("phone");
+
+    public final StringPath profileImageUrl = createString("profileImageUrl");
+
+    public final EnumPath<UserJpaEntity.UserRoleEnum> role = createEnum("role", UserJpaEntity.UserRoleEnum.class);
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public QUserJpaEntity(String variable) {
+        super(UserJpaEntity.class, forVariable(variable));
+    }
+
+    public QUserJpaEntity(Path<? extends UserJpaEntity> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QUserJpaEntity(PathMetadata metadata) {
+        super(UserJpaEntity.class, metadata);
+    }
+
+}
+
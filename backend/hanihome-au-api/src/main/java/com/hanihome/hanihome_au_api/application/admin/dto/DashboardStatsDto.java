@@ -1,7 +1,9 @@
 package com.hanihome.hanihome_au_api.application.admin.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -56,6 +58,8 @@ public class DashboardStatsDto {
     
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class TimeSeriesData {
         private String period;
         private Long value;
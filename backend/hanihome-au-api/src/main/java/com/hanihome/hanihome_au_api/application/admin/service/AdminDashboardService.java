@@ -3,11 +3,15 @@ package com.hanihome.hanihome_au_api.application.admin.service;
 import com.hanihome.hanihome_au_api.application.admin.dto.DashboardStatsDto;
 import com.hanihome.hanihome_au_api.application.admin.dto.PropertyManagementDto;
 import com.hanihome.hanihome_au_api.application.admin.dto.UserManagementDto;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Dimension;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Granularity;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Metric;
 import com.hanihome.hanihome_au_api.domain.enums.PropertyStatus;
+import com.hanihome.hanihome_au_api.domain.enums.TransactionStatus;
 import com.hanihome.hanihome_au_api.domain.enums.UserRole;
-import com.hanihome.hanihome_au_api.domain.property.repository.PropertyRepository;
-import com.hanihome.hanihome_au_api.domain.user.repository.UserRepository;
-import com.hanihome.hanihome_au_api.repository.*;
+import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
+import com.hanihome.hanihome_au_api.repository.AdminStatRollupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -15,10 +19,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,57 +29,65 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AdminDashboardService {
 
-    private final UserRepository userRepository;
-    private final PropertyRepository propertyRepository;
-    private final TransactionRepository transactionRepository;
-    private final ViewingRepository viewingRepository;
-    private final PropertyFavoriteRepository propertyFavoriteRepository;
+    private static final int GROWTH_DAYS = 30;
 
+    private final AdminStatRollupRepository rollupRepository;
+
+    /**
+     * Dashboard statistics from the materialized rollups
+     * One primary-key range read of the TOTAL gauges and recent DAY buckets, assembled in memory,
+     * so latency does not depend on the size of the source tables
+     */
     public DashboardStatsDto getDashboardStats() {
-        log.info("Generating dashboard statistics");
-        
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfToday = now.truncatedTo(ChronoUnit.DAYS);
-        LocalDateTime startOfWeek = now.minusDays(now.getDayOfWeek().getValue() - 1).truncatedTo(ChronoUnit.DAYS);
-        LocalDateTime startOfMonth = now.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+        LocalDate today = now.toLocalDate();
+        LocalDate startOfWeek = today.minusDays(today.getDayOfWeek().getValue() - 1);
+        LocalDate startOfMonth = today.withDayOfMonth(1);
+        LocalDate growthStart = today.minusDays(GROWTH_DAYS - 1);
+        LocalDate since = startOfMonth.isBefore(growthStart) ? startOfMonth : growthStart;
+
+        RollupView view = new RollupView(rollupRepository.findDashboardRows(since.atStartOfDay()));
 
         return DashboardStatsDto.builder()
-                .totalUsers(userRepository.count())
-                .activeUsers(countActiveUsers())
-                .newUsersToday(countUsersCreatedAfter(startOfToday))
-                .newUsersThisWeek(countUsersCreatedAfter(startOfWeek))
-                .newUsersThisMonth(countUsersCreatedAfter(startOfMonth))
-                .usersByRole(getUsersByRole())
-                .userGrowthData(generateUserGrowthData())
-                
-                .totalProperties(propertyRepository.count())
-                .activeProperties(countPropertiesByStatus(PropertyStatus.ACTIVE))
-                .newPropertiesToday(countPropertiesCreatedAfter(startOfToday))
-                .newPropertiesThisWeek(countPropertiesCreatedAfter(startOfWeek))
-                .newPropertiesThisMonth(countPropertiesCreatedAfter(startOfMonth))
-                .propertiesByStatus(getPropertiesByStatus())
-                .propertiesByType(getPropertiesByType())
-                .propertyGrowthData(generatePropertyGrowthData())
-                
-                .totalTransactions(transactionRepository.count())
-                .completedTransactions(countCompletedTransactions())
-                .pendingTransactions(countPendingTransactions())
-                .transactionsToday(countTransactionsCreatedAfter(startOfToday))
-                .transactionsThisWeek(countTransactionsCreatedAfter(startOfWeek))
-                .transactionsThisMonth(countTransactionsCreatedAfter(startOfMonth))
-                .transactionsByStatus(getTransactionsByStatus())
-                .transactionGrowthData(generateTransactionGrowthData())
-                
-                .totalViewings(viewingRepository.count())
-                .scheduledViewings(countScheduledViewings())
-                .completedViewings(countCompletedViewings())
-                .viewingsToday(countViewingsCreatedAfter(startOfToday))
-                .viewingsThisWeek(countViewingsCreatedAfter(startOfWeek))
-                .viewingsThisMonth(countViewingsCreatedAfter(startOfMonth))
-                .viewingsByStatus(getViewingsByStatus())
-                .viewingGrowthData(generateViewingGrowthData())
-                
-                .lastUpdated(now)
+                .totalUsers(view.total(Metric.USER))
+                .activeUsers(view.gauge(Metric.USER, Dimension.ACTIVE, ""))
+                .newUsersToday(view.createdSince(Metric.USER, today))
+                .newUsersThisWeek(view.createdSince(Metric.USER, startOfWeek))
+                .newUsersThisMonth(view.createdSince(Metric.USER, startOfMonth))
+                .usersByRole(view.breakdown(Metric.USER, Dimension.ROLE, enumNames(UserRole.values())))
+                .userGrowthData(view.growth(Metric.USER, growthStart, today))
+
+                .totalProperties(view.total(Metric.PROPERTY))
+                .activeProperties(view.gauge(Metric.PROPERTY, Dimension.STATUS, PropertyStatus.ACTIVE.name()))
+                .newPropertiesToday(view.createdSince(Metric.PROPERTY, today))
+                .newPropertiesThisWeek(view.createdSince(Metric.PROPERTY, startOfWeek))
+                .newPropertiesThisMonth(view.createdSince(Metric.PROPERTY, startOfMonth))
+                .propertiesByStatus(view.breakdown(Metric.PROPERTY, Dimension.STATUS, enumNames(PropertyStatus.values())))
+                .propertiesByType(view.breakdown(Metric.PROPERTY, Dimension.TYPE, List.of()))
+                .propertyGrowthData(view.growth(Metric.PROPERTY, growthStart, today))
+
+                .totalTransactions(view.total(Metric.TRANSACTION))
+                .completedTransactions(view.gauge(Metric.TRANSACTION, Dimension.STATUS, TransactionStatus.COMPLETED.name()))
+                .pendingTransactions(view.gauges(Metric.TRANSACTION, Dimension.STATUS, TransactionStatus.PROPOSED.name(),
+                        TransactionStatus.NEGOTIATING.name(), TransactionStatus.APPROVED.name(),
+                        TransactionStatus.CONTRACT_PENDING.name()))
+                .transactionsToday(view.createdSince(Metric.TRANSACTION, today))
+                .transactionsThisWeek(view.createdSince(Metric.TRANSACTION, startOfWeek))
+                .transactionsThisMonth(view.createdSince(Metric.TRANSACTION, startOfMonth))
+                .transactionsByStatus(view.breakdown(Metric.TRANSACTION, Dimension.STATUS, enumNames(TransactionStatus.values())))
+                .transactionGrowthData(view.growth(Metric.TRANSACTION, growthStart, today))
+
+                .totalViewings(view.total(Metric.VIEWING))
+                .scheduledViewings(view.gauges(Metric.VIEWING, Dimension.STATUS,
+                        ViewingStatus.REQUESTED.name(), ViewingStatus.CONFIRMED.name()))
+                .completedViewings(view.gauge(Metric.VIEWING, Dimension.STATUS, ViewingStatus.COMPLETED.name()))
+                .viewingsToday(view.createdSince(Metric.VIEWING, today))
+                .viewingsThisWeek(view.createdSince(Metric.VIEWING, startOfWeek))
+                .viewingsThisMonth(view.createdSince(Metric.VIEWING, startOfMonth))
+                .viewingsByStatus(view.breakdown(Metric.VIEWING, Dimension.STATUS, enumNames(ViewingStatus.values())))
+                .viewingGrowthData(view.growth(Metric.VIEWING, growthStart, today))
+
+                .lastUpdated(view.lastUpdated() != null ? view.lastUpdated() : now)
                 .systemMetrics(getSystemMetrics())
                 .build();
     }
@@ -131,173 +142,97 @@ public class AdminDashboardService {
         // Placeholder for now
     }
 
-    // Helper methods for statistics calculation
-    
-    private Long countActiveUsers() {
-        // Count users who have logged in within the last 30 days
-        // Placeholder implementation
-        return 0L;
+    private List<String> enumNames(Enum<?>[] values) {
+        return Arrays.stream(values).map(Enum::name).toList();
     }
 
-    private Long countUsersCreatedAfter(LocalDateTime date) {
-        // Count users created after the specified date
-        // Placeholder implementation
-        return 0L;
+    private Map<String, Object> getSystemMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("systemUptime", "00:00:00"); // Placeholder
+        metrics.put("memoryUsage", "0%"); // Placeholder
+        metrics.put("cpuUsage", "0%"); // Placeholder
+        metrics.put("diskUsage", "0%"); // Placeholder
+        metrics.put("activeConnections", 0); // Placeholder
+        return metrics;
     }
 
-    private Map<String, Long> getUsersByRole() {
-        Map<String, Long> usersByRole = new HashMap<>();
-        for (UserRole role : UserRole.values()) {
-            usersByRole.put(role.toString(), 0L); // Placeholder count
+    /**
+     * In-memory index over the rows returned by one dashboard read
+     */
+    private static class RollupView {
+
+        private final Map<AdminStatRollup.Key, Long> totals = new HashMap<>();
+        private final Map<Metric, Map<LocalDate, Long>> createdPerDay = new EnumMap<>(Metric.class);
+        private LocalDateTime lastUpdated;
+
+        RollupView(List<AdminStatRollup> rows) {
+            for (AdminStatRollup row : rows) {
+                AdminStatRollup.Key key = row.getId();
+                if (key.getGranularity() == Granularity.TOTAL) {
+                    totals.put(key, row.getValue());
+                } else if (key.getGranularity() == Granularity.DAY && key.getDimension() == Dimension.ALL) {
+                    createdPerDay.computeIfAbsent(key.getMetric(), metric -> new HashMap<>())
+                            .merge(key.getBucketStart().toLocalDate(), row.getValue(), Long::sum);
+                }
+                if (lastUpdated == null || row.getUpdatedAt().isAfter(lastUpdated)) {
+                    lastUpdated = row.getUpdatedAt();
+                }
+            }
         }
-        return usersByRole;
-    }
 
-    private List<DashboardStatsDto.TimeSeriesData> generateUserGrowthData() {
-        List<DashboardStatsDto.TimeSeriesData> growthData = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Generate last 30 days of user growth data
-        for (int i = 29; i >= 0; i--) {
-            LocalDateTime date = now.minusDays(i);
-            growthData.add(DashboardStatsDto.TimeSeriesData.builder()
-                    .period(date.toLocalDate().toString())
-                    .value(0L) // Placeholder value
-                    .timestamp(date)
-                    .build());
+        long total(Metric metric) {
+            return gauge(metric, Dimension.ALL, "");
         }
-        return growthData;
-    }
-
-    private Long countPropertiesByStatus(PropertyStatus status) {
-        // Count properties by status
-        // Placeholder implementation
-        return 0L;
-    }
 
-    private Long countPropertiesCreatedAfter(LocalDateTime date) {
-        // Count properties created after the specified date
-        // Placeholder implementation
-        return 0L;
-    }
-
-    private Map<String, Long> getPropertiesByStatus() {
-        Map<String, Long> propertiesByStatus = new HashMap<>();
-        for (PropertyStatus status : PropertyStatus.values()) {
-            propertiesByStatus.put(status.toString(), 0L); // Placeholder count
+        long gauge(Metric metric, Dimension dimension, String value) {
+            return Math.max(0L, totals.getOrDefault(
+                    new AdminStatRollup.Key(Granularity.TOTAL, AdminStatRollup.EPOCH, metric, dimension, value), 0L));
         }
-        return propertiesByStatus;
-    }
-
-    private Map<String, Long> getPropertiesByType() {
-        // Return properties grouped by type
-        // Placeholder implementation
-        return new HashMap<>();
-    }
 
-    private List<DashboardStatsDto.TimeSeriesData> generatePropertyGrowthData() {
-        List<DashboardStatsDto.TimeSeriesData> growthData = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Generate last 30 days of property growth data
-        for (int i = 29; i >= 0; i--) {
-            LocalDateTime date = now.minusDays(i);
-            growthData.add(DashboardStatsDto.TimeSeriesData.builder()
-                    .period(date.toLocalDate().toString())
-                    .value(0L) // Placeholder value
-                    .timestamp(date)
-                    .build());
+        long gauges(Metric metric, Dimension dimension, String... values) {
+            long sum = 0;
+            for (String value : values) {
+                sum += gauge(metric, dimension, value);
+            }
+            return sum;
         }
-        return growthData;
-    }
-
-    private Long countCompletedTransactions() {
-        // Count completed transactions
-        // Placeholder implementation
-        return 0L;
-    }
-
-    private Long countPendingTransactions() {
-        // Count pending transactions
-        // Placeholder implementation
-        return 0L;
-    }
-
-    private Long countTransactionsCreatedAfter(LocalDateTime date) {
-        // Count transactions created after the specified date
-        // Placeholder implementation
-        return 0L;
-    }
 
-    private Map<String, Long> getTransactionsByStatus() {
-        // Return transactions grouped by status
-        // Placeholder implementation
-        return new HashMap<>();
-    }
-
-    private List<DashboardStatsDto.TimeSeriesData> generateTransactionGrowthData() {
-        List<DashboardStatsDto.TimeSeriesData> growthData = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Generate last 30 days of transaction growth data
-        for (int i = 29; i >= 0; i--) {
-            LocalDateTime date = now.minusDays(i);
-            growthData.add(DashboardStatsDto.TimeSeriesData.builder()
-                    .period(date.toLocalDate().toString())
-                    .value(0L) // Placeholder value
-                    .timestamp(date)
-                    .build());
+        /**
+         * Counts per dimension value; known values are always present so the chart keeps a stable shape
+         */
+        Map<String, Long> breakdown(Metric metric, Dimension dimension, List<String> knownValues) {
+            Map<String, Long> result = new LinkedHashMap<>();
+            knownValues.forEach(value -> result.put(value, 0L));
+            totals.forEach((key, value) -> {
+                if (key.getMetric() == metric && key.getDimension() == dimension) {
+                    result.put(key.getDimensionValue(), Math.max(0L, value));
+                }
+            });
+            return result;
         }
-        return growthData;
-    }
-
-    private Long countScheduledViewings() {
-        // Count scheduled viewings
-        // Placeholder implementation
-        return 0L;
-    }
-
-    private Long countCompletedViewings() {
-        // Count completed viewings
-        // Placeholder implementation
-        return 0L;
-    }
-
-    private Long countViewingsCreatedAfter(LocalDateTime date) {
-        // Count viewings created after the specified date
-        // Placeholder implementation
-        return 0L;
-    }
 
-    private Map<String, Long> getViewingsByStatus() {
-        // Return viewings grouped by status
-        // Placeholder implementation
-        return new HashMap<>();
-    }
+        long createdSince(Metric metric, LocalDate from) {
+            return createdPerDay.getOrDefault(metric, Map.of()).entrySet().stream()
+                    .filter(entry -> !entry.getKey().isBefore(from))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+        }
 
-    private List<DashboardStatsDto.TimeSeriesData> generateViewingGrowthData() {
-        List<DashboardStatsDto.TimeSeriesData> growthData = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Generate last 30 days of viewing growth data
-        for (int i = 29; i >= 0; i--) {
-            LocalDateTime date = now.minusDays(i);
-            growthData.add(DashboardStatsDto.TimeSeriesData.builder()
-                    .period(date.toLocalDate().toString())
-                    .value(0L) // Placeholder value
-                    .timestamp(date)
-                    .build());
+        List<DashboardStatsDto.TimeSeriesData> growth(Metric metric, LocalDate from, LocalDate to) {
+            Map<LocalDate, Long> perDay = createdPerDay.getOrDefault(metric, Map.of());
+            List<DashboardStatsDto.TimeSeriesData> series = new ArrayList<>();
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                series.add(DashboardStatsDto.TimeSeriesData.builder()
+                        .period(day.toString())
+                        .value(perDay.getOrDefault(day, 0L))
+                        .timestamp(day.atStartOfDay())
+                        .build());
+            }
+            return series;
         }
-        return growthData;
-    }
 
-    private Map<String, Object> getSystemMetrics() {
-        Map<String, Object> metrics = new HashMap<>();
-        metrics.put("systemUptime", "00:00:00"); // Placeholder
-        metrics.put("memoryUsage", "0%"); // Placeholder
-        metrics.put("cpuUsage", "0%"); // Placeholder
-        metrics.put("diskUsage", "0%"); // Placeholder
-        metrics.put("activeConnections", 0); // Placeholder
-        return metrics;
+        LocalDateTime lastUpdated() {
+            return lastUpdated;
+        }
     }
-}
\ No newline at end of file
+}
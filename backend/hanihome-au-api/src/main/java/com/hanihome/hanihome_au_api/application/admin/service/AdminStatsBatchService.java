@@ -1,23 +1,56 @@
 package com.hanihome.hanihome_au_api.application.admin.service;
 
-import lombok.RequiredArgsConstructor;
+import com.hanihome.hanihome_au_api.application.admin.dto.DashboardStatsDto;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Granularity;
+import com.hanihome.hanihome_au_api.repository.AdminStatRollupRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AdminStatsBatchService {
 
     private final AdminDashboardService adminDashboardService;
+    private final AdminStatsRecorder adminStatsRecorder;
+    private final AdminStatRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.admin-stats.reconcile-hours:48}")
+    private int reconcileHours;
+
+    @Value("${app.admin-stats.reconcile-days:35}")
+    private int reconcileDays;
+
+    @Value("${app.admin-stats.active-user-days:30}")
+    private int activeUserDays;
+
+    @Value("${app.admin-stats.hourly-retention-days:14}")
+    private int hourlyRetentionDays;
+
+    @Value("${app.admin-stats.daily-retention-days:730}")
+    private int dailyRetentionDays;
+
+    public AdminStatsBatchService(AdminDashboardService adminDashboardService,
+                                  AdminStatsRecorder adminStatsRecorder,
+                                  AdminStatRollupRepository rollupRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.adminDashboardService = adminDashboardService;
+        this.adminStatsRecorder = adminStatsRecorder;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 매시간마다 실행되는 통계 캐시 갱신 작업
@@ -45,27 +78,30 @@ public class AdminStatsBatchService {
     }
 
     /**
-     * 매일 새벽 3시에 실행되는 일일 통계 배치 작업
+     * 매일 새벽 3시에 실행되는 일일 통계 재집계 작업
+     * 이벤트 기반 증분 값은 누락/중복과 이벤트가 없는 값(활성 사용자, 역할이 바뀐 사용자의 가입 버킷)이 있으므로
+     * 원본 테이블 기준의 값과 기록된 값의 차이를 보정 증분으로 추가함
+     * - TOTAL 게이지 전체와 최근 reconcile-hours 시간의 HOUR, reconcile-days 일의 DAY 버킷이 대상
+     * - 증분 반영과 같은 advisory lock 을 배타로 잡은 한 트랜잭션에서 수행하여 반영 중인 증분과 겹치지 않도록 함
      */
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
-    @Transactional
+    @CacheEvict(value = {"growthSeriesDaily", "growthSeriesWeekly", "growthSeriesMonthly"}, allEntries = true)
     public void generateDailyStatistics() {
-        log.info("Starting daily statistics generation");
+        log.info("Starting daily statistics reconciliation");
         
         try {
-            // 일일 통계 생성
-            generateDailyUserStats();
-            generateDailyPropertyStats();
-            generateDailyTransactionStats();
-            generateDailyViewingStats();
-            
-            // 주간/월간 통계 업데이트
-            updateWeeklyStats();
-            updateMonthlyStats();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime hourSince = now.truncatedTo(ChronoUnit.HOURS).minusHours(reconcileHours);
+            LocalDateTime daySince = now.truncatedTo(ChronoUnit.DAYS).minusDays(reconcileDays);
+
+            Integer corrected = transactionTemplate.execute(status ->
+                    reconcile(hourSince, daySince, now.minusDays(activeUserDays)));
+            // 보정 증분도 일반 증분과 같은 경로로 롤업에 반영
+            adminStatsRecorder.compact();
             
-            log.info("Daily statistics generation completed successfully");
+            log.info("Daily statistics reconciliation completed successfully: {} rollup rows corrected", corrected);
         } catch (Exception e) {
-            log.error("Error during daily statistics generation", e);
+            log.error("Error during daily statistics reconciliation", e);
         }
     }
 
@@ -137,11 +173,12 @@ public class AdminStatsBatchService {
         Map<String, Object> stats = new HashMap<>();
         
         try {
-            // 기본 카운트 통계
-            stats.put("userCount", 0L); // Placeholder - would call actual repository
-            stats.put("propertyCount", 0L); // Placeholder
-            stats.put("transactionCount", 0L); // Placeholder
-            stats.put("viewingCount", 0L); // Placeholder
+            // 기본 카운트 통계 (롤업 테이블 조회)
+            DashboardStatsDto dashboard = adminDashboardService.getDashboardStats();
+            stats.put("userCount", dashboard.getTotalUsers());
+            stats.put("propertyCount", dashboard.getTotalProperties());
+            stats.put("transactionCount", dashboard.getTotalTransactions());
+            stats.put("viewingCount", dashboard.getTotalViewings());
             stats.put("generatedAt", LocalDateTime.now());
             
         } catch (Exception e) {
@@ -173,44 +210,18 @@ public class AdminStatsBatchService {
         return stats;
     }
 
-    private void generateDailyUserStats() {
-        log.info("Generating daily user statistics");
-        
-        // 일일 사용자 통계 생성 로직
-        // 새로운 사용자 수, 활성 사용자 수, 로그인 통계 등
-    }
-
-    private void generateDailyPropertyStats() {
-        log.info("Generating daily property statistics");
-        
-        // 일일 매물 통계 생성 로직
-        // 새로운 매물 수, 매물 조회 수, 즐겨찾기 추가 수 등
-    }
+    private int reconcile(LocalDateTime hourSince, LocalDateTime daySince, LocalDateTime activeSince) {
+        rollupRepository.lockForReconciliation();
 
-    private void generateDailyTransactionStats() {
-        log.info("Generating daily transaction statistics");
-        
-        // 일일 거래 통계 생성 로직
-        // 새로운 거래 수, 완료된 거래 수, 평균 거래 금액 등
-    }
-
-    private void generateDailyViewingStats() {
-        log.info("Generating daily viewing statistics");
-        
-        // 일일 뷰잉 통계 생성 로직
-        // 새로운 뷰잉 예약 수, 완료된 뷰잉 수, 취소된 뷰잉 수 등
-    }
-
-    private void updateWeeklyStats() {
-        log.info("Updating weekly statistics");
-        
-        // 주간 통계 업데이트 로직
-    }
-
-    private void updateMonthlyStats() {
-        log.info("Updating monthly statistics");
-        
-        // 월간 통계 업데이트 로직
+        // 전체/역할별/활성 사용자 수, 시간별·일별 가입자 수
+        int corrected = rollupRepository.correctUserCounts(hourSince, daySince, activeSince);
+        // 전체/상태별/유형별 매물 수, 시간별·일별 신규 매물 수
+        corrected += rollupRepository.correctPropertyCounts(hourSince, daySince);
+        // 전체/상태별 거래 수, 시간별·일별 신규/완료 거래 수
+        corrected += rollupRepository.correctTransactionCounts(hourSince, daySince);
+        // 전체/상태별 뷰잉 수, 시간별·일별 신규/완료 뷰잉 수
+        corrected += rollupRepository.correctViewingCounts(hourSince, daySince);
+        return corrected;
     }
 
     private void generateWeeklyReports() {
@@ -230,8 +241,11 @@ public class AdminStatsBatchService {
     private void cleanupOldStatistics() {
         log.info("Cleaning up old statistics");
         
-        // 오래된 통계 데이터 정리
-        // 90일 이전의 일일 통계 삭제 등
+        // 보존 기간이 지난 시간별/일별 롤업 버킷 삭제
+        LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        int hourly = rollupRepository.deleteBucketsBefore(Granularity.HOUR.name(), today.minusDays(hourlyRetentionDays));
+        int daily = rollupRepository.deleteBucketsBefore(Granularity.DAY.name(), today.minusDays(dailyRetentionDays));
+        log.info("Deleted {} hourly and {} daily rollup buckets", hourly, daily);
     }
 
     private void archiveOldData() {
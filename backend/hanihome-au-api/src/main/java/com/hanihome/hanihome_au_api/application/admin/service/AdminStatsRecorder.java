@@ -0,0 +1,208 @@
+package com.hanihome.hanihome_au_api.application.admin.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Dimension;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Granularity;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Metric;
+import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyCreatedEvent;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyStatusChangedEvent;
+import com.hanihome.hanihome_au_api.domain.transaction.event.TransactionCompletedEvent;
+import com.hanihome.hanihome_au_api.domain.transaction.event.TransactionCreatedEvent;
+import com.hanihome.hanihome_au_api.domain.transaction.event.TransactionStatusChangedEvent;
+import com.hanihome.hanihome_au_api.domain.user.event.UserRegisteredEvent;
+import com.hanihome.hanihome_au_api.domain.user.event.UserRoleChangedEvent;
+import com.hanihome.hanihome_au_api.domain.viewing.event.ViewingBookedEvent;
+import com.hanihome.hanihome_au_api.domain.viewing.event.ViewingStatusChangedEvent;
+import com.hanihome.hanihome_au_api.repository.AdminStatRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관리자 대시보드 통계 증분 기록기
+ * - 사용자 가입/역할 변경, 매물 등록/상태 변경, 거래 생성/상태 변경/완료, 뷰잉 예약/상태 변경 이벤트를
+ *   admin_stat_rollups 의 TOTAL 게이지와 HOUR/DAY 버킷 증감으로 변환
+ * - 증감은 원본 변경과 같은 트랜잭션에서 admin_stat_deltas 에 추가만 하므로 같은 행에 대한 쓰기 경합이 없고
+ *   커밋된 변경의 증감이 노드 장애로 유실되지 않음
+ * - flush-interval 마다 쌓인 증감을 키별로 합산해 롤업에 반영 (공유 advisory lock)
+ * - 역할이 바뀐 사용자의 가입 버킷, 활성 사용자 수와 누락/중복은 AdminStatsBatchService 의 야간 재집계가 보정 (배타 lock)
+ */
+@Slf4j
+@Component
+public class AdminStatsRecorder {
+
+    private final AdminStatRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    // Starts set so deltas left by a previous run or a stopped node are folded in after startup
+    private final AtomicBoolean pendingCompaction = new AtomicBoolean(true);
+
+    @Value("${app.admin-stats.compact-batch-size:5000}")
+    private int compactBatchSize;
+
+    public AdminStatsRecorder(AdminStatRollupRepository rollupRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        String role = event.getRole().name();
+        record(new Deltas()
+                .created(Metric.USER, event.getOccurredAt())
+                .total(Metric.USER, Dimension.ROLE, role, 1)
+                .buckets(Metric.USER, event.getOccurredAt(), Dimension.ROLE, role));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserRoleChanged(UserRoleChangedEvent event) {
+        record(new Deltas().move(Metric.USER, Dimension.ROLE, event.getOldRole().name(), event.getNewRole().name()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPropertyCreated(PropertyCreatedEvent event) {
+        String type = event.getType().name();
+        record(new Deltas()
+                .created(Metric.PROPERTY, event.getOccurredAt())
+                .total(Metric.PROPERTY, Dimension.STATUS, event.getStatus().name(), 1)
+                .total(Metric.PROPERTY, Dimension.TYPE, type, 1)
+                .buckets(Metric.PROPERTY, event.getOccurredAt(), Dimension.TYPE, type));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPropertyStatusChanged(PropertyStatusChangedEvent event) {
+        record(new Deltas().move(Metric.PROPERTY, Dimension.STATUS,
+                event.getOldStatus().name(), event.getNewStatus().name()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        record(new Deltas()
+                .created(Metric.TRANSACTION, event.occurredAt())
+                .total(Metric.TRANSACTION, Dimension.STATUS, event.getStatus().name(), 1));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTransactionStatusChanged(TransactionStatusChangedEvent event) {
+        record(new Deltas().move(Metric.TRANSACTION, Dimension.STATUS,
+                event.getOldStatus().name(), event.getNewStatus().name()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        record(new Deltas().buckets(Metric.TRANSACTION, event.getCompletedAt(), Dimension.STATUS, "COMPLETED"));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onViewingBooked(ViewingBookedEvent event) {
+        record(new Deltas()
+                .created(Metric.VIEWING, event.occurredAt())
+                .total(Metric.VIEWING, Dimension.STATUS, event.getStatus().name(), 1));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onViewingStatusChanged(ViewingStatusChangedEvent event) {
+        Deltas deltas = new Deltas().move(Metric.VIEWING, Dimension.STATUS,
+                event.getOldStatus().name(), event.getNewStatus().name());
+        if (event.getNewStatus() == ViewingStatus.COMPLETED) {
+            deltas.buckets(Metric.VIEWING, event.occurredAt(), Dimension.STATUS, ViewingStatus.COMPLETED.name());
+        }
+        record(deltas);
+    }
+
+    /**
+     * 쌓인 증감이 있을 때만 롤업에 반영
+     */
+    @Scheduled(fixedDelayString = "${app.admin-stats.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingCompaction.getAndSet(false)) {
+            compact();
+        }
+    }
+
+    /**
+     * 쌓인 증감을 compact-batch-size 단위로 롤업에 반영
+     * 실패하면 다음 주기에 다시 시도하며, 증감 행은 반영과 같은 트랜잭션에서만 삭제되므로 유실되지 않음
+     */
+    public void compact() {
+        try {
+            int written = 0;
+            int batch;
+            do {
+                Integer result = transactionTemplate.execute(status -> {
+                    rollupRepository.lockForCompaction();
+                    return rollupRepository.compactDeltas(compactBatchSize);
+                });
+                batch = result == null ? 0 : result;
+                written += batch;
+            } while (batch > 0);
+            log.debug("Compacted admin stat deltas into {} rollup rows", written);
+        } catch (Exception e) {
+            log.error("Failed to compact admin stat deltas: {}", e.getMessage(), e);
+            pendingCompaction.set(true);
+        }
+    }
+
+    private void record(Deltas deltas) {
+        if (deltas.keys.isEmpty()) {
+            return;
+        }
+        // Joins the transaction that raised the event, so the deltas commit or roll back with the change itself
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < deltas.keys.size(); i++) {
+                AdminStatRollup.Key key = deltas.keys.get(i);
+                rollupRepository.insertDelta(key.getGranularity().name(), key.getBucketStart(), key.getMetric().name(),
+                        key.getDimension().name(), key.getDimensionValue(), deltas.values.get(i));
+            }
+        });
+        pendingCompaction.set(true);
+    }
+
+    /**
+     * 한 이벤트가 만드는 롤업 증감 목록
+     */
+    private static final class Deltas {
+
+        private final List<AdminStatRollup.Key> keys = new ArrayList<>();
+        private final List<Long> values = new ArrayList<>();
+
+        /** 전체 게이지 +1 과 생성 시각의 HOUR/DAY 전체 버킷 +1 */
+        Deltas created(Metric metric, LocalDateTime at) {
+            return total(metric, Dimension.ALL, "", 1).buckets(metric, at, Dimension.ALL, "");
+        }
+
+        Deltas total(Metric metric, Dimension dimension, String value, long delta) {
+            return add(new AdminStatRollup.Key(Granularity.TOTAL, AdminStatRollup.EPOCH, metric, dimension, value), delta);
+        }
+
+        Deltas buckets(Metric metric, LocalDateTime at, Dimension dimension, String value) {
+            add(new AdminStatRollup.Key(Granularity.HOUR, at.truncatedTo(ChronoUnit.HOURS), metric, dimension, value), 1);
+            return add(new AdminStatRollup.Key(Granularity.DAY, at.truncatedTo(ChronoUnit.DAYS), metric, dimension, value), 1);
+        }
+
+        Deltas move(Metric metric, Dimension dimension, String from, String to) {
+            if (from.equals(to)) {
+                return this;
+            }
+            return total(metric, dimension, from, -1).total(metric, dimension, to, 1);
+        }
+
+        private Deltas add(AdminStatRollup.Key key, long delta) {
+            keys.add(key);
+            values.add(delta);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.hanihome.hanihome_au_api.application.admin.service;
+
+import com.hanihome.hanihome_au_api.application.admin.dto.DashboardStatsDto;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Dimension;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Metric;
+import com.hanihome.hanihome_au_api.repository.AdminStatRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시계열 통계 집계기
+ * - 임의 지표의 생성/완료 건수를 일/주/월 버킷으로 반환
+ * - admin_stat_rollups 의 일별 버킷을 date_trunc 로 묶는 GROUP BY 한 번으로 계산하므로
+ *   기간 길이와 관계없이 시리즈당 쿼리 한 번
+ * - 결과는 버킷 단위별 캐시(growthSeriesDaily/Weekly/Monthly)에 저장되어 반복 조회 시 쿼리 없음
+ * - 일별 버킷은 마이그레이션 백필 이후 daily-retention-days 만큼만 보존되므로 그보다 이전을 포함하는 기간은 거부
+ */
+@Slf4j
+@Component
+public class TimeSeriesAggregator {
+
+    private final AdminStatRollupRepository rollupRepository;
+    private final CacheManager cacheManager;
+
+    @Value("${app.admin-stats.daily-retention-days:730}")
+    private int dailyRetentionDays;
+
+    public TimeSeriesAggregator(AdminStatRollupRepository rollupRepository, CacheManager cacheManager) {
+        this.rollupRepository = rollupRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    public enum Bucket {
+        DAY("day", "growthSeriesDaily", 365),
+        WEEK("week", "growthSeriesWeekly", 104),
+        MONTH("month", "growthSeriesMonthly", 24);
+
+        private final String sqlUnit;
+        private final String cacheName;
+        private final int maxPeriods;
+
+        Bucket(String sqlUnit, String cacheName, int maxPeriods) {
+            this.sqlUnit = sqlUnit;
+            this.cacheName = cacheName;
+            this.maxPeriods = maxPeriods;
+        }
+
+        /**
+         * Same boundaries as Postgres date_trunc (ISO weeks start on Monday)
+         */
+        LocalDate truncate(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+
+        LocalDate plus(LocalDate bucketStart, long periods) {
+            return switch (this) {
+                case DAY -> bucketStart.plusDays(periods);
+                case WEEK -> bucketStart.plusWeeks(periods);
+                case MONTH -> bucketStart.plusMonths(periods);
+            };
+        }
+
+        String label(LocalDate bucketStart) {
+            return this == MONTH ? YearMonth.from(bucketStart).toString() : bucketStart.toString();
+        }
+    }
+
+    public enum Series {
+        CREATED,
+        /** Transactions and viewings only: counted at contract completion / viewing completion */
+        COMPLETED
+    }
+
+    /**
+     * @param periods number of buckets ending with the current (partial) one
+     */
+    public List<DashboardStatsDto.TimeSeriesData> getSeries(Metric metric, Series series, Bucket bucket, int periods) {
+        if (periods < 1 || periods > bucket.maxPeriods) {
+            throw new IllegalArgumentException("periods must be between 1 and " + bucket.maxPeriods + " for " + bucket);
+        }
+        if (series == Series.COMPLETED && metric != Metric.TRANSACTION && metric != Metric.VIEWING) {
+            throw new IllegalArgumentException("Completion series is only available for transactions and viewings");
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate current = bucket.truncate(today);
+        if (bucket.plus(current, -(periods - 1)).isBefore(today.minusDays(dailyRetentionDays))) {
+            throw new IllegalArgumentException("Series would start before the " + dailyRetentionDays
+                    + " days of retained daily statistics; request fewer periods");
+        }
+        String key = metric + ":" + series + ":" + periods + ":" + current;
+
+        Cache cache = cacheManager.getCache(bucket.cacheName);
+        if (cache == null) {
+            return load(metric, series, bucket, current, periods);
+        }
+        return cache.get(key, () -> load(metric, series, bucket, current, periods));
+    }
+
+    private List<DashboardStatsDto.TimeSeriesData> load(Metric metric, Series series, Bucket bucket,
+                                                        LocalDate current, int periods) {
+        LocalDate from = bucket.plus(current, -(periods - 1));
+        Dimension dimension = series == Series.CREATED ? Dimension.ALL : Dimension.STATUS;
+        String dimensionValue = series == Series.CREATED ? "" : Series.COMPLETED.name();
+
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (Object[] row : rollupRepository.sumDailyBuckets(
+                bucket.sqlUnit, metric.name(), dimension.name(), dimensionValue, from.atStartOfDay())) {
+            LocalDateTime bucketStart = row[0] instanceof Timestamp timestamp
+                    ? timestamp.toLocalDateTime() : (LocalDateTime) row[0];
+            counts.put(bucketStart.toLocalDate(), ((Number) row[1]).longValue());
+        }
+
+        List<DashboardStatsDto.TimeSeriesData> result = new ArrayList<>(periods);
+        for (int i = 0; i < periods; i++) {
+            LocalDate start = bucket.plus(from, i);
+            result.add(DashboardStatsDto.TimeSeriesData.builder()
+                    .period(bucket.label(start))
+                    .value(counts.getOrDefault(start, 0L))
+                    .timestamp(start.atStartOfDay())
+                    .build());
+        }
+        log.debug("Loaded {} {} {} buckets for {}", periods, series, bucket, metric);
+        return result;
+    }
+}
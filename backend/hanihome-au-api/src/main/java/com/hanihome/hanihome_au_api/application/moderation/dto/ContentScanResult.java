@@ -0,0 +1,78 @@
+package com.hanihome.hanihome_au_api.application.moderation.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 콘텐츠 검사 결과
+ * 같은 금칙어가 여러 번 등장해도 점수는 한 번만 가산
+ */
+public class ContentScanResult {
+
+    public static final ContentScanResult EMPTY = new ContentScanResult(List.of());
+
+    private final List<Match> matches;
+    private final Map<String, Double> categoryScores;
+    private final double score;
+
+    public ContentScanResult(List<Match> matches) {
+        this.matches = List.copyOf(matches);
+
+        Map<String, Double> scores = new LinkedHashMap<>();
+        Set<String> counted = new LinkedHashSet<>();
+        double total = 0.0;
+        for (Match match : matches) {
+            if (counted.add(match.category() + ":" + match.term())) {
+                scores.merge(match.category(), match.weight(), Double::sum);
+                total += match.weight();
+            }
+        }
+        this.categoryScores = Collections.unmodifiableMap(scores);
+        this.score = total;
+    }
+
+    public boolean hasMatches() {
+        return !matches.isEmpty();
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public double getCategoryScore(String category) {
+        return categoryScores.getOrDefault(category, 0.0);
+    }
+
+    /**
+     * 지정한 분류를 제외한 나머지 분류의 점수 합
+     */
+    public double getScoreExcluding(String category) {
+        return score - getCategoryScore(category);
+    }
+
+    public Map<String, Double> getCategoryScores() {
+        return categoryScores;
+    }
+
+    public List<Match> getMatches() {
+        return matches;
+    }
+
+    public List<String> getMatchedTerms(String category) {
+        return matches.stream()
+                .filter(match -> match.category().equals(category))
+                .map(Match::term)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * @param start NFC 정규화된 원문 기준 시작 오프셋 (포함)
+     * @param end   종료 오프셋 (제외)
+     */
+    public record Match(String term, String category, double weight, int start, int end) {}
+}
@@ -0,0 +1,225 @@
+package com.hanihome.hanihome_au_api.application.moderation.service;
+
+import com.hanihome.hanihome_au_api.application.moderation.dto.ContentScanResult;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick 다중 패턴 매칭 오토마톤
+ * - 규칙 수와 무관하게 입력 길이에 비례하는 단일 패스로 모든 금칙어를 탐색
+ * - 생성 후 불변이므로 여러 스레드에서 동시에 사용 가능하며, 규칙 변경 시 새 인스턴스로 교체
+ *
+ * 정규화 규칙 (규칙과 입력에 동일하게 적용)
+ * - NFC 로 조합하여 분리된 한글 자모(NFD) 입력도 완성형과 동일하게 비교
+ * - 전각 영숫자는 반각으로, 영문은 소문자로 변환
+ * - 공백, 구두점 등 구분 문자와 zero-width 문자는 무시 ("무 료", "f.r.e.e" 우회 방지)
+ * - 영숫자로 시작/끝나는 규칙은 원문 기준 단어 경계에서만 매칭 ("free" 가 "carefree" 에 매칭되지 않음)
+ */
+public final class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_RULES = new int[0];
+
+    private final List<ContentRule> rules;
+    private final int[] ruleLengths;
+
+    // 노드별 전이: 정렬된 문자 배열과 대상 노드 배열 (이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 이 노드에서 끝나는 규칙과, 실패 링크를 따라 가장 가까운 출력 노드
+    private final int[][] outputs;
+    private final int[] outputLink;
+
+    private AhoCorasickAutomaton(List<ContentRule> rules, int[] ruleLengths, char[][] edgeChars, int[][] edgeTargets,
+                                 int[] failure, int[][] outputs, int[] outputLink) {
+        this.rules = rules;
+        this.ruleLengths = ruleLengths;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+        this.outputLink = outputLink;
+    }
+
+    public static AhoCorasickAutomaton compile(List<ContentRule> rules) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(new ArrayList<>());
+
+        List<ContentRule> compiled = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        for (ContentRule rule : rules) {
+            char[] term = normalize(rule.term()).chars();
+            if (term.length == 0) {
+                continue;
+            }
+            int state = ROOT;
+            for (char c : term) {
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            terminal.get(state).add(compiled.size());
+            compiled.add(rule);
+            lengths.add(term.length);
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        int[][] outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+            List<Integer> ends = terminal.get(node);
+            outputs[node] = ends.isEmpty() ? NO_RULES : ends.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // BFS 로 실패 링크와 출력 링크 계산
+        int[] failure = new int[size];
+        int[] outputLink = new int[size];
+        Arrays.fill(outputLink, -1);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int fallback = failure[node];
+                int target;
+                while ((target = step(edgeChars, edgeTargets, fallback, c)) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target < 0 ? ROOT : target;
+
+                int suffix = failure[child];
+                outputLink[child] = outputs[suffix].length > 0 ? suffix : outputLink[suffix];
+                queue.add(child);
+            }
+        }
+
+        return new AhoCorasickAutomaton(List.copyOf(compiled),
+                lengths.stream().mapToInt(Integer::intValue).toArray(), edgeChars, edgeTargets, failure, outputs, outputLink);
+    }
+
+    public int getRuleCount() {
+        return rules.size();
+    }
+
+    /**
+     * 텍스트에서 모든 규칙 매칭 위치를 탐색
+     * 반환되는 위치는 NFC 정규화된 입력 기준 [start, end) 오프셋
+     */
+    public List<ContentScanResult.Match> findMatches(String text) {
+        if (text == null || text.isEmpty() || rules.isEmpty()) {
+            return List.of();
+        }
+
+        NormalizedText normalized = normalize(text);
+        char[] chars = normalized.chars();
+        int[] offsets = normalized.offsets();
+        String source = normalized.source();
+
+        List<ContentScanResult.Match> matches = new ArrayList<>();
+        int state = ROOT;
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            int next;
+            while ((next = step(edgeChars, edgeTargets, state, c)) < 0 && state != ROOT) {
+                state = failure[state];
+            }
+            state = next < 0 ? ROOT : next;
+
+            for (int node = outputs[state].length > 0 ? state : outputLink[state]; node > 0; node = outputLink[node]) {
+                for (int ruleIndex : outputs[node]) {
+                    ContentRule rule = rules.get(ruleIndex);
+                    int start = offsets[i - ruleLengths[ruleIndex] + 1];
+                    int end = offsets[i] + 1;
+                    if (atWordBoundary(source, start, end)) {
+                        matches.add(new ContentScanResult.Match(rule.term(), rule.category(), rule.weight(), start, end));
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index < 0 ? -1 : edgeTargets[state][index];
+    }
+
+    private static boolean atWordBoundary(String source, int start, int end) {
+        if (isAsciiWordChar(source.charAt(start)) && start > 0 && isAsciiWordChar(source.charAt(start - 1))) {
+            return false;
+        }
+        return !(isAsciiWordChar(source.charAt(end - 1)) && end < source.length() && isAsciiWordChar(source.charAt(end)));
+    }
+
+    private static boolean isAsciiWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    static NormalizedText normalize(String text) {
+        String source = Normalizer.normalize(text, Normalizer.Form.NFC);
+        char[] chars = new char[source.length()];
+        int[] offsets = new int[source.length()];
+        int length = 0;
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c >= '\uFF01' && c <= '\uFF5E') {
+                c = (char) (c - 0xFEE0);
+            }
+            if (isIgnorable(c)) {
+                continue;
+            }
+            chars[length] = Character.toLowerCase(c);
+            offsets[length] = i;
+            length++;
+        }
+        return new NormalizedText(source, Arrays.copyOf(chars, length), Arrays.copyOf(offsets, length));
+    }
+
+    private static boolean isIgnorable(char c) {
+        if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+            return true;
+        }
+        if (c == '\u200B' || c == '\u200C' || c == '\u200D' || c == '\uFEFF') {
+            return true;
+        }
+        return switch (Character.getType(c)) {
+            case Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.OTHER_PUNCTUATION,
+                 Character.START_PUNCTUATION, Character.END_PUNCTUATION -> c != '%';
+            default -> false;
+        };
+    }
+
+    record NormalizedText(String source, char[] chars, int[] offsets) {}
+}
@@ -1,21 +1,27 @@
 package com.hanihome.hanihome_au_api.application.moderation.service;
 
+import com.hanihome.hanihome_au_api.application.moderation.dto.ContentScanResult;
 import com.hanihome.hanihome_au_api.domain.entity.Report;
 import com.hanihome.hanihome_au_api.domain.entity.ReportAction;
 import com.hanihome.hanihome_au_api.domain.enums.ReportStatus;
 import com.hanihome.hanihome_au_api.domain.enums.ReportType;
+import com.hanihome.hanihome_au_api.domain.moderation.event.ReportClosedEvent;
+import com.hanihome.hanihome_au_api.domain.moderation.event.ReportSubmittedEvent;
 import com.hanihome.hanihome_au_api.repository.ReportActionRepository;
 import com.hanihome.hanihome_au_api.repository.ReportRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -23,19 +29,22 @@ import java.util.regex.Pattern;
 public class AutoModerationService {
 
     private final ReportRepository reportRepository;
-    private final ReportActionRepository reportActionRepository;
     private final ModerationActionService moderationActionService;
+    private final ContentScanner contentScanner;
+    private final ReportSignalTracker signalTracker;
+    private final ReportActionRepository reportActionRepository;
 
-    // Auto-moderation rules and patterns
-    private static final List<String> SPAM_KEYWORDS = Arrays.asList(
-        "무료", "공짜", "돈벌기", "투자", "수익", "클릭", "즉시", "보장", "100%", "급매"
-    );
+    @Value("${app.moderation.mass-report-threshold:10}")
+    private int massReportThreshold;
 
-    private static final List<Pattern> INAPPROPRIATE_PATTERNS = Arrays.asList(
-        Pattern.compile("(?i)\\b(욕설|비방|모욕|차별|혐오)\\b"),
-        Pattern.compile("(?i)\\b(사기|가짜|속임|거짓)\\b"),
-        Pattern.compile("(?i)\\b(개인정보|연락처|전화번호|카카오톡)\\b")
-    );
+    @Value("${app.moderation.sweep-batch-size:200}")
+    private int sweepBatchSize;
+
+    private static final int SWEEP_GRACE_MINUTES = 10;
+
+    // Upper bounds on how much matched content can add to the confidence score
+    private static final double MAX_SPAM_CONTENT_SCORE = 0.3;
+    private static final double MAX_INAPPROPRIATE_CONTENT_SCORE = 0.4;
 
     private static final Map<ReportType, Integer> AUTO_ACTION_THRESHOLDS = Map.of(
         ReportType.SPAM_USER, 3,
@@ -44,20 +53,39 @@ public class AutoModerationService {
         ReportType.SPAM_REVIEW, 3
     );
 
-    @Async
-    @Transactional
-    public void processReportForAutoModeration(Report report) {
+    private static final List<ReportType> AUTO_MODERATED_TYPES = List.copyOf(AUTO_ACTION_THRESHOLDS.keySet());
+
+    /**
+     * Evaluates a report as soon as its creating transaction commits.
+     * Target counters and reporter credibility come from the in-memory tracker, so the
+     * evaluation itself does not query other reports.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReportSubmitted(ReportSubmittedEvent event) {
+        ReportSignalTracker.TargetSignal signal = signalTracker.recordReport(
+                event.getTargetType(), event.getTargetId(), event.getOccurredAt());
+
+        if (!isAutoModerationEligible(event.getReportType())) {
+            log.debug("Report type {} not eligible for auto-moderation", event.getReportType());
+            return;
+        }
+
+        reportRepository.findById(event.getReportId())
+                .ifPresent(report -> processReportForAutoModeration(report, signal));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportClosed(ReportClosedEvent event) {
+        signalTracker.onReportClosed(event);
+    }
+
+    private void processReportForAutoModeration(Report report, ReportSignalTracker.TargetSignal signal) {
         log.info("Processing report {} for auto-moderation", report.getId());
 
         try {
-            // Check if report type is eligible for auto-moderation
-            if (!isAutoModerationEligible(report.getReportType())) {
-                log.debug("Report type {} not eligible for auto-moderation", report.getReportType());
-                return;
-            }
-
             // Analyze report content
-            ModerationDecision decision = analyzeReportContent(report);
+            ModerationDecision decision = analyzeReportContent(report, signal);
 
             // Apply auto-moderation rules
             if (decision.isAutoActionRequired()) {
@@ -65,7 +93,7 @@ public class AutoModerationService {
             }
 
             // Check for mass reporting patterns
-            checkMassReportingPattern(report);
+            checkMassReportingPattern(report, signal);
 
             report.markAsAutoModerated();
             reportRepository.save(report);
@@ -75,29 +103,30 @@ public class AutoModerationService {
         }
     }
 
-    @Scheduled(fixedRate = 300000) // Run every 5 minutes
+    /**
+     * Safety net for reports whose commit-time evaluation never ran (e.g. the node stopped
+     * between commit and evaluation). Only picks up reports older than the grace period.
+     */
+    @Scheduled(fixedDelayString = "${app.moderation.sweep-interval-ms:3600000}")
     @Transactional
-    public void runScheduledAutoModeration() {
-        log.info("Running scheduled auto-moderation");
-
+    public void sweepMissedReports() {
         try {
-            List<ReportType> autoModeratedTypes = Arrays.asList(
-                ReportType.SPAM_USER, ReportType.FAKE_LISTING, 
-                ReportType.INAPPROPRIATE_CONTENT, ReportType.SPAM_REVIEW
-            );
-
-            List<Report> candidates = reportRepository.findCandidatesForAutoModeration(
-                autoModeratedTypes, ReportStatus.PENDING
+            List<Report> candidates = reportRepository.findMissedAutoModerationCandidates(
+                AUTO_MODERATED_TYPES, ReportStatus.PENDING,
+                LocalDateTime.now().minusMinutes(SWEEP_GRACE_MINUTES), PageRequest.of(0, sweepBatchSize)
             );
 
-            log.info("Found {} reports for auto-moderation", candidates.size());
+            if (!candidates.isEmpty()) {
+                log.info("Found {} reports missed by auto-moderation", candidates.size());
+            }
 
             for (Report report : candidates) {
-                processReportForAutoModeration(report);
+                processReportForAutoModeration(report,
+                        signalTracker.currentSignal(report.getTargetType(), report.getTargetId()));
             }
 
         } catch (Exception e) {
-            log.error("Error during scheduled auto-moderation", e);
+            log.error("Error during auto-moderation sweep", e);
         }
     }
 
@@ -105,7 +134,7 @@ public class AutoModerationService {
         return AUTO_ACTION_THRESHOLDS.containsKey(reportType);
     }
 
-    private ModerationDecision analyzeReportContent(Report report) {
+    private ModerationDecision analyzeReportContent(Report report, ReportSignalTracker.TargetSignal signal) {
         ModerationDecision.ModerationDecisionBuilder decision = ModerationDecision.builder()
                 .reportId(report.getId())
                 .confidence(0.0);
@@ -113,26 +142,30 @@ public class AutoModerationService {
         double confidence = 0.0;
         List<String> reasons = new ArrayList<>();
 
-        // Content analysis
-        if (containsSpamKeywords(report.getDescription())) {
-            confidence += 0.3;
-            reasons.add("Contains spam keywords");
+        // Content analysis - single pass over the description for all rule categories
+        ContentScanResult scan = contentScanner.scan(report.getDescription());
+
+        double spamScore = scan.getCategoryScore(ContentRule.SPAM);
+        if (spamScore > 0) {
+            confidence += Math.min(spamScore, MAX_SPAM_CONTENT_SCORE);
+            reasons.add("Contains spam keywords: " + String.join(", ", scan.getMatchedTerms(ContentRule.SPAM)));
         }
 
-        if (containsInappropriateContent(report.getDescription())) {
-            confidence += 0.4;
+        double inappropriateScore = scan.getScoreExcluding(ContentRule.SPAM);
+        if (inappropriateScore > 0) {
+            confidence += Math.min(inappropriateScore, MAX_INAPPROPRIATE_CONTENT_SCORE);
             reasons.add("Contains inappropriate content");
         }
 
         // Historical analysis
-        Long reportCount = getReportCountForTarget(report.getTargetType(), report.getTargetId());
+        int reportCount = signal.activeReports();
         if (reportCount >= AUTO_ACTION_THRESHOLDS.getOrDefault(report.getReportType(), 5)) {
             confidence += 0.5;
             reasons.add(String.format("Target has %d reports", reportCount));
         }
 
         // Reporter credibility
-        double reporterCredibility = calculateReporterCredibility(report.getReporterId());
+        double reporterCredibility = signalTracker.credibility(report.getReporterId());
         confidence += reporterCredibility * 0.2;
 
         decision.confidence(confidence)
@@ -143,33 +176,6 @@ public class AutoModerationService {
         return decision.build();
     }
 
-    private boolean containsSpamKeywords(String content) {
-        if (content == null) return false;
-        String lowerContent = content.toLowerCase();
-        return SPAM_KEYWORDS.stream().anyMatch(lowerContent::contains);
-    }
-
-    private boolean containsInappropriateContent(String content) {
-        if (content == null) return false;
-        return INAPPROPRIATE_PATTERNS.stream().anyMatch(pattern -> pattern.matcher(content).find());
-    }
-
-    private Long getReportCountForTarget(String targetType, Long targetId) {
-        List<com.hanihome.hanihome_au_api.domain.enums.ReportStatus> excludeStatuses = Arrays.asList(
-            ReportStatus.DISMISSED, ReportStatus.DUPLICATE
-        );
-        return reportRepository.countReportsForTarget(targetType, targetId, excludeStatuses);
-    }
-
-    private double calculateReporterCredibility(Long reporterId) {
-        // Calculate reporter credibility based on their reporting history
-        // Higher credibility for users with accurate reports
-        // Lower credibility for users with frequently dismissed reports
-        
-        // Placeholder implementation
-        return 0.5; // Neutral credibility
-    }
-
     private RecommendedAction determineRecommendedAction(Report report, double confidence) {
         if (confidence >= 0.9) {
             return RecommendedAction.IMMEDIATE_ACTION;
@@ -241,24 +247,21 @@ public class AutoModerationService {
                                                 String.join(", ", decision.getReasons())))
                 .build();
 
+        // Same transaction as the action itself, so an applied action always has its audit row
         reportActionRepository.save(action);
         reportRepository.save(report);
 
         log.info("Auto-moderation action applied successfully for report {}", report.getId());
     }
 
-    private void checkMassReportingPattern(Report report) {
-        // Check if the same target is being mass-reported
-        LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
-        Long recentReportsCount = reportRepository.countByCreatedAtBetween(last24Hours, LocalDateTime.now());
-
-        if (recentReportsCount >= 10) { // Threshold for mass reporting
-            log.warn("Mass reporting pattern detected for target {}:{}", 
-                     report.getTargetType(), report.getTargetId());
+    private void checkMassReportingPattern(Report report, ReportSignalTracker.TargetSignal signal) {
+        // Check if the same target is being mass-reported within the sliding window
+        if (signal.reportsInWindow() >= massReportThreshold) {
+            log.warn("Mass reporting pattern detected for target {}:{} ({} reports in window)",
+                     report.getTargetType(), report.getTargetId(), signal.reportsInWindow());
             
             // Escalate to human moderator
             report.escalate(null, "Mass reporting pattern detected");
-            reportRepository.save(report);
         }
     }
 
@@ -0,0 +1,15 @@
+package com.hanihome.hanihome_au_api.application.moderation.service;
+
+/**
+ * 콘텐츠 검사 규칙
+ * @param term     금칙어 (정규화 후 비교)
+ * @param category 규칙 분류 (SPAM, ABUSE, FRAUD, PERSONAL_INFO ...)
+ * @param weight   매칭 시 가산되는 점수
+ */
+public record ContentRule(String term, String category, double weight) {
+
+    public static final String SPAM = "SPAM";
+    public static final String ABUSE = "ABUSE";
+    public static final String FRAUD = "FRAUD";
+    public static final String PERSONAL_INFO = "PERSONAL_INFO";
+}
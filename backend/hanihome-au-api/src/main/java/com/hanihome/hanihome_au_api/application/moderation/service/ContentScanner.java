@@ -0,0 +1,131 @@
+package com.hanihome.hanihome_au_api.application.moderation.service;
+
+import com.hanihome.hanihome_au_api.application.moderation.dto.ContentScanResult;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 금칙어 기반 콘텐츠 검사기
+ * - app.moderation.rules-location 의 규칙 파일을 Aho-Corasick 오토마톤으로 컴파일하여 단일 패스로 검사
+ * - 규칙 파일이 변경되면 주기적으로 다시 컴파일하여 원자적으로 교체 (검사 중인 요청은 이전 오토마톤을 계속 사용)
+ *
+ * 규칙 파일 형식: 한 줄에 하나, "분류|가중치|금칙어", '#' 으로 시작하는 줄은 주석
+ */
+@Slf4j
+@Component
+public class ContentScanner {
+
+    private final ResourceLoader resourceLoader;
+    private final AtomicReference<AhoCorasickAutomaton> automaton =
+            new AtomicReference<>(AhoCorasickAutomaton.compile(List.of()));
+
+    @Value("${app.moderation.rules-location:classpath:moderation/content-rules.txt}")
+    private String rulesLocation;
+
+    private volatile long loadedLastModified = -1;
+
+    public ContentScanner(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    /**
+     * 하나 이상의 텍스트를 검사하여 매칭 결과를 합산
+     * 텍스트 사이에서는 매칭이 이어지지 않도록 각각 따로 검사
+     */
+    public ContentScanResult scan(String... texts) {
+        AhoCorasickAutomaton current = automaton.get();
+        List<ContentScanResult.Match> matches = new ArrayList<>();
+        for (String text : texts) {
+            matches.addAll(current.findMatches(text));
+        }
+        return matches.isEmpty() ? ContentScanResult.EMPTY : new ContentScanResult(matches);
+    }
+
+    /**
+     * 규칙 파일을 다시 읽어 오토마톤 교체
+     * @return 적용된 규칙 수
+     */
+    public int reload() {
+        Resource resource = resourceLoader.getResource(rulesLocation);
+        try {
+            List<ContentRule> rules = parseRules(resource);
+            automaton.set(AhoCorasickAutomaton.compile(rules));
+            loadedLastModified = lastModified(resource);
+            log.info("Loaded {} content rules from {}", rules.size(), rulesLocation);
+            return rules.size();
+        } catch (IOException e) {
+            log.error("Failed to load content rules from {}, keeping {} previous rules: {}",
+                    rulesLocation, automaton.get().getRuleCount(), e.getMessage());
+            return automaton.get().getRuleCount();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.moderation.rules-reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        Resource resource = resourceLoader.getResource(rulesLocation);
+        long lastModified = lastModified(resource);
+        if (lastModified > 0 && lastModified != loadedLastModified) {
+            reload();
+        }
+    }
+
+    public int getRuleCount() {
+        return automaton.get().getRuleCount();
+    }
+
+    private List<ContentRule> parseRules(Resource resource) throws IOException {
+        List<ContentRule> rules = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split("\\|", 3);
+                if (parts.length != 3 || parts[2].isBlank()) {
+                    log.warn("Skipping malformed content rule at line {}: {}", lineNumber, line);
+                    continue;
+                }
+                try {
+                    rules.add(new ContentRule(parts[2].strip(), parts[0].strip().toUpperCase(Locale.ROOT),
+                            Double.parseDouble(parts[1].strip())));
+                } catch (NumberFormatException e) {
+                    log.warn("Skipping content rule with invalid weight at line {}: {}", lineNumber, line);
+                }
+            }
+        }
+        return rules;
+    }
+
+    private long lastModified(Resource resource) {
+        try {
+            return resource.isFile() ? resource.lastModified() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
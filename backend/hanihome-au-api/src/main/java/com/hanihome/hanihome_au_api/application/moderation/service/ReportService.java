@@ -4,6 +4,9 @@ import com.hanihome.hanihome_au_api.domain.entity.Report;
 import com.hanihome.hanihome_au_api.domain.entity.ReportAction;
 import com.hanihome.hanihome_au_api.domain.enums.ReportStatus;
 import com.hanihome.hanihome_au_api.domain.enums.ReportType;
+import com.hanihome.hanihome_au_api.domain.moderation.event.ReportClosedEvent;
+import com.hanihome.hanihome_au_api.domain.moderation.event.ReportSubmittedEvent;
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEventPublisher;
 import com.hanihome.hanihome_au_api.repository.ReportActionRepository;
 import com.hanihome.hanihome_au_api.repository.ReportRepository;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +29,7 @@ public class ReportService {
 
     private final ReportRepository reportRepository;
     private final ReportActionRepository reportActionRepository;
-    private final AutoModerationService autoModerationService;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public Report createReport(Long reporterId, ReportType reportType, String description, 
@@ -65,13 +68,33 @@ public class ReportService {
         
         reportActionRepository.save(initialAction);
 
-        // Trigger auto-moderation if applicable
-        autoModerationService.processReportForAutoModeration(savedReport);
+        // Auto-moderation evaluates the report once this transaction commits
+        domainEventPublisher.publish(new ReportSubmittedEvent(savedReport.getId(), reporterId, reportType, targetType, targetId));
 
         log.info("Report created successfully with ID: {}", savedReport.getId());
         return savedReport;
     }
 
+    /**
+     * Queue a target for moderator review on behalf of an automated check
+     * Runs in the caller's transaction; no ReportSubmittedEvent, so auto-moderation and the
+     * reporter signals do not act on it
+     */
+    @Transactional
+    public Report flagForReview(ReportType reportType, String description, String targetType, Long targetId,
+                                Integer priority) {
+        Report report = reportRepository.save(Report.systemFlag(reportType, description, targetType, targetId, priority));
+
+        reportActionRepository.save(ReportAction.builder()
+                .report(report)
+                .actionType(ReportAction.ActionType.CREATED)
+                .description("Flagged by automated check")
+                .build());
+
+        log.info("Flagged {}:{} for review as report {}", targetType, targetId, report.getId());
+        return report;
+    }
+
     public Page<Report> getReports(ReportType reportType, ReportStatus status, Long assignedAdminId, 
                                   String targetType, LocalDateTime startDate, LocalDateTime endDate, 
                                   Pageable pageable) {
@@ -138,8 +161,10 @@ public class ReportService {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new IllegalArgumentException("Report not found: " + reportId));
         
+        ReportStatus previousStatus = report.getStatus();
         report.updateStatus(newStatus);
         reportRepository.save(report);
+        publishIfClosed(report, previousStatus);
         
         log.info("Report {} status updated to {} successfully", reportId, newStatus);
     }
@@ -164,8 +189,10 @@ public class ReportService {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new IllegalArgumentException("Report not found: " + reportId));
         
+        ReportStatus previousStatus = report.getStatus();
         report.resolve(resolution, adminId);
         reportRepository.save(report);
+        publishIfClosed(report, previousStatus);
         
         log.info("Report {} resolved successfully", reportId);
     }
@@ -177,8 +204,10 @@ public class ReportService {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new IllegalArgumentException("Report not found: " + reportId));
         
+        ReportStatus previousStatus = report.getStatus();
         report.dismiss(reason, adminId);
         reportRepository.save(report);
+        publishIfClosed(report, previousStatus);
         
         log.info("Report {} dismissed successfully", reportId);
     }
@@ -196,6 +225,14 @@ public class ReportService {
         log.info("Report {} escalated successfully", reportId);
     }
 
+    private void publishIfClosed(Report report, ReportStatus previousStatus) {
+        ReportStatus status = report.getStatus();
+        if (status != previousStatus && (status.isCompleted() || status == ReportStatus.DUPLICATE)) {
+            domainEventPublisher.publish(new ReportClosedEvent(report.getId(), report.getReporterId(),
+                    report.getTargetType(), report.getTargetId(), previousStatus, status));
+        }
+    }
+
     public List<ReportAction> getReportActions(Long reportId) {
         return reportActionRepository.findByReportIdOrderByCreatedAtDesc(reportId);
     }
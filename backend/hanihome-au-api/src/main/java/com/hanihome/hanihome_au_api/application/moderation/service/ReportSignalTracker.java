@@ -0,0 +1,527 @@
+package com.hanihome.hanihome_au_api.application.moderation.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.ModerationTargetStats;
+import com.hanihome.hanihome_au_api.domain.entity.ReporterCredibility;
+import com.hanihome.hanihome_au_api.domain.enums.ReportStatus;
+import com.hanihome.hanihome_au_api.domain.moderation.event.ReportClosedEvent;
+import com.hanihome.hanihome_au_api.repository.ModerationTargetStatsRepository;
+import com.hanihome.hanihome_au_api.repository.ReportRepository;
+import com.hanihome.hanihome_au_api.repository.ReporterCredibilityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신고 신호 추적기
+ * - 대상별 유효 신고 수와 시간 단위 버킷 슬라이딩 윈도우(기본 24시간) 신고 수를 메모리에 유지
+ * - 신고자별 처리 결과(인용/기각)로 신뢰도를 계산
+ * - 신고 한 건당 상수 시간으로 갱신/조회하며, 노드별 변경분(delta)을 주기적으로 DB 체크포인트에 누적 upsert
+ * - 슬라이딩 윈도우의 시간 버킷도 노드별 변경분을 moderation_target_windows 에 누적하므로
+ *   다른 노드가 받은 신고까지 체크포인트 주기 안에 윈도우에 반영됨
+ * - 여러 인스턴스가 같은 대상을 갱신해도 서로의 변경분을 덮어쓰지 않으며, 반영 후에는 합산된 값을 다시 적재
+ * - reports 테이블 기준 재계산(reconcile)을 주기적으로 실행하여 누락/중복 반영을 보정
+ *
+ * 메모리에 없는 대상/신고자는 최초 접근 시 체크포인트(없으면 reports 테이블)에서 한 번 적재하고,
+ * 윈도우 기간 동안 활동이 없으면 체크포인트 후 메모리에서 제거
+ */
+@Slf4j
+@Component
+public class ReportSignalTracker {
+
+    private static final List<ReportStatus> INACTIVE_STATUSES = List.of(ReportStatus.DISMISSED, ReportStatus.DUPLICATE);
+    private static final List<ReportStatus> UPHELD_STATUSES = List.of(ReportStatus.RESOLVED, ReportStatus.WARNING_ISSUED,
+            ReportStatus.CONTENT_REMOVED, ReportStatus.USER_SUSPENDED, ReportStatus.ACCOUNT_BANNED);
+
+    private final ReportRepository reportRepository;
+    private final ModerationTargetStatsRepository targetStatsRepository;
+    private final ReporterCredibilityRepository reporterCredibilityRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, TargetState> targets = new ConcurrentHashMap<>();
+    private final Map<Long, ReporterState> reporters = new ConcurrentHashMap<>();
+
+    @Value("${app.moderation.window-hours:24}")
+    private int windowHours;
+
+    @Value("${app.moderation.checkpoint-interval-ms:30000}")
+    private long checkpointIntervalMs;
+
+    public ReportSignalTracker(ReportRepository reportRepository,
+                               ModerationTargetStatsRepository targetStatsRepository,
+                               ReporterCredibilityRepository reporterCredibilityRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.reportRepository = reportRepository;
+        this.targetStatsRepository = targetStatsRepository;
+        this.reporterCredibilityRepository = reporterCredibilityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 새 신고 반영 후 대상의 현재 신호 반환
+     */
+    public TargetSignal recordReport(String targetType, Long targetId, LocalDateTime reportedAt) {
+        String key = targetKey(targetType, targetId);
+        while (true) {
+            TargetState state = targets.computeIfAbsent(key, k -> new TargetState(windowHours));
+            synchronized (state) {
+                if (state.evicted) {
+                    continue;
+                }
+                // 체크포인트가 없으면 reports 테이블 기준 값이며, 이미 커밋된 이번 신고가 포함되어 있음
+                if (state.activeReports >= 0 || !loadActiveReports(state, targetType, targetId)) {
+                    state.activeReports++;
+                    state.pendingDelta++;
+                }
+                long epochHour = toEpochHour(reportedAt);
+                state.addToBucket(epochHour, 1);
+                state.pendingBuckets.merge(epochHour, 1, Integer::sum);
+                state.lastReportAt = reportedAt;
+                state.dirty = true;
+                state.touch();
+                return state.signal(currentEpochHour());
+            }
+        }
+    }
+
+    /**
+     * 대상의 현재 신호 조회 (신고를 추가하지 않음)
+     */
+    public TargetSignal currentSignal(String targetType, Long targetId) {
+        String key = targetKey(targetType, targetId);
+        while (true) {
+            TargetState state = targets.computeIfAbsent(key, k -> new TargetState(windowHours));
+            synchronized (state) {
+                if (state.evicted) {
+                    continue;
+                }
+                if (state.activeReports < 0) {
+                    loadActiveReports(state, targetType, targetId);
+                }
+                state.touch();
+                return state.signal(currentEpochHour());
+            }
+        }
+    }
+
+    /**
+     * 신고자 신뢰도 (0~1, 이력이 없으면 0.5)
+     * 라플라스 평활화: (인용 + 1) / (인용 + 기각 + 2)
+     */
+    public double credibility(Long reporterId) {
+        while (true) {
+            ReporterState state = reporters.computeIfAbsent(reporterId, id -> new ReporterState());
+            synchronized (state) {
+                if (state.evicted) {
+                    continue;
+                }
+                if (state.upheld < 0) {
+                    loadReporter(reporterId, state);
+                }
+                state.touch();
+                return (state.upheld + 1.0) / (state.upheld + state.rejected + 2.0);
+            }
+        }
+    }
+
+    /**
+     * 관리자 처리 결과 반영
+     * 최초 종료 시에만 신고자 이력에 반영하고, 기각/중복 전환 시 대상의 유효 신고 수 감소
+     */
+    public void onReportClosed(ReportClosedEvent event) {
+        boolean wasRejected = INACTIVE_STATUSES.contains(event.getPreviousStatus());
+        boolean firstClosure = !event.getPreviousStatus().isCompleted() && !wasRejected;
+
+        if (event.isRejected() != wasRejected) {
+            String key = targetKey(event.getTargetType(), event.getTargetId());
+            TargetState state;
+            do {
+                state = targets.computeIfAbsent(key, k -> new TargetState(windowHours));
+            } while (!adjustActiveReports(state, event, event.isRejected() ? -1 : 1));
+        }
+
+        if (firstClosure && (event.isUpheld() || event.isRejected())) {
+            ReporterState state;
+            do {
+                state = reporters.computeIfAbsent(event.getReporterId(), id -> new ReporterState());
+            } while (!recordOutcome(state, event));
+        }
+    }
+
+    private boolean adjustActiveReports(TargetState state, ReportClosedEvent event, int delta) {
+        synchronized (state) {
+            if (state.evicted) {
+                return false;
+            }
+            // reports 테이블에서 적재했다면 이번 상태 변경이 이미 반영되어 있음
+            if (state.activeReports >= 0 || !loadActiveReports(state, event.getTargetType(), event.getTargetId())) {
+                state.activeReports = Math.max(0, state.activeReports + delta);
+                state.pendingDelta += delta;
+                state.dirty = true;
+            }
+            state.touch();
+            return true;
+        }
+    }
+
+    private boolean recordOutcome(ReporterState state, ReportClosedEvent event) {
+        synchronized (state) {
+            if (state.evicted) {
+                return false;
+            }
+            if (state.upheld < 0 && loadReporter(event.getReporterId(), state)) {
+                state.touch();
+                return true;
+            }
+            if (event.isUpheld()) {
+                state.upheld++;
+                state.pendingUpheld++;
+            } else {
+                state.rejected++;
+                state.pendingRejected++;
+            }
+            state.dirty = true;
+            state.touch();
+            return true;
+        }
+    }
+
+    /**
+     * 변경분을 체크포인트 테이블에 누적 upsert 하고, 오래 활동이 없는 항목을 메모리에서 제거
+     * 반영에 실패하면 변경분을 되돌려 다음 체크포인트에서 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${app.moderation.checkpoint-interval-ms:30000}")
+    public void checkpoint() {
+        long idleCutoff = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(windowHours);
+
+        List<TargetFlush> targetFlushes = drainTargets();
+        List<ReporterFlush> reporterFlushes = drainReporters();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                targetFlushes.forEach(flush -> {
+                    targetStatsRepository.upsertDelta(
+                            flush.key(), flush.initialReports(), flush.delta(), flush.lastReportAt());
+                    flush.bucketDeltas().forEach((epochHour, delta) ->
+                            targetStatsRepository.upsertWindowDelta(flush.key(), fromEpochHour(epochHour), delta));
+                });
+                reporterFlushes.forEach(flush -> reporterCredibilityRepository.upsertDelta(
+                        flush.reporterId(), flush.initialUpheld(), flush.initialRejected(),
+                        flush.upheldDelta(), flush.rejectedDelta()));
+            });
+        } catch (Exception e) {
+            log.error("Failed to checkpoint moderation counters: {}", e.getMessage(), e);
+            targetFlushes.forEach(TargetFlush::restore);
+            reporterFlushes.forEach(ReporterFlush::restore);
+            return;
+        }
+
+        // 다른 노드의 변경분이 합산된 값을 다음 접근 시 다시 적재
+        // 대상은 이 노드에 새 신고가 없어도 다른 노드의 윈도우 버킷이 늘 수 있어 모두 무효화
+        targets.values().forEach(this::invalidate);
+        reporterFlushes.forEach(flush -> invalidate(flush.state()));
+
+        targets.forEach((key, state) -> {
+            synchronized (state) {
+                if (!state.dirty && state.lastTouched < idleCutoff) {
+                    state.evicted = true;
+                    targets.remove(key, state);
+                }
+            }
+        });
+        reporters.forEach((id, state) -> {
+            synchronized (state) {
+                if (!state.dirty && state.lastTouched < idleCutoff) {
+                    state.evicted = true;
+                    reporters.remove(id, state);
+                }
+            }
+        });
+
+        if (!targetFlushes.isEmpty() || !reporterFlushes.isEmpty()) {
+            log.debug("Checkpointed {} targets and {} reporters", targetFlushes.size(), reporterFlushes.size());
+        }
+    }
+
+    /**
+     * 체크포인트를 reports 테이블 기준으로 재계산
+     * 노드 장애로 유실되었거나 적재 시점 차이로 중복 반영된 변경분을 보정
+     */
+    @Scheduled(fixedDelayString = "${app.moderation.reconcile-interval-ms:3600000}",
+               initialDelayString = "${app.moderation.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        LocalDateTime quietBefore = LocalDateTime.now().minus(Duration.ofMillis(checkpointIntervalMs * 2));
+        LocalDateTime windowStart = fromEpochHour(currentEpochHour() - windowHours + 1);
+        try {
+            int targetRows = targetStatsRepository.reconcileFromReports(quietBefore, names(INACTIVE_STATUSES));
+            int reporterRows = reporterCredibilityRepository.reconcileFromReports(quietBefore,
+                    names(UPHELD_STATUSES), names(INACTIVE_STATUSES));
+            // Only hours that ended before quietBefore; later buckets may still have deltas on their way
+            targetRows += targetStatsRepository.reconcileWindowsFromReports(windowStart,
+                    quietBefore.truncatedTo(ChronoUnit.HOURS));
+            targetStatsRepository.deleteWindowsBefore(windowStart);
+
+            targets.values().forEach(this::invalidate);
+            reporters.values().forEach(this::invalidate);
+            if (targetRows + reporterRows > 0) {
+                log.info("Reconciled {} target and {} reporter checkpoints from reports", targetRows, reporterRows);
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile moderation counters: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        checkpoint();
+    }
+
+    private List<TargetFlush> drainTargets() {
+        List<TargetFlush> flushes = new ArrayList<>();
+        for (Map.Entry<String, TargetState> entry : targets.entrySet()) {
+            TargetState state = entry.getValue();
+            synchronized (state) {
+                if (!state.dirty || state.activeReports < 0) {
+                    continue;
+                }
+                flushes.add(new TargetFlush(entry.getKey(), state, state.activeReports, state.pendingDelta,
+                        state.lastReportAt, state.pendingBuckets));
+                state.pendingDelta = 0;
+                state.pendingBuckets = new HashMap<>();
+                state.dirty = false;
+            }
+        }
+        return flushes;
+    }
+
+    private List<ReporterFlush> drainReporters() {
+        List<ReporterFlush> flushes = new ArrayList<>();
+        for (Map.Entry<Long, ReporterState> entry : reporters.entrySet()) {
+            ReporterState state = entry.getValue();
+            synchronized (state) {
+                if (!state.dirty || state.upheld < 0) {
+                    continue;
+                }
+                flushes.add(new ReporterFlush(entry.getKey(), state, state.upheld, state.rejected,
+                        state.pendingUpheld, state.pendingRejected));
+                state.pendingUpheld = 0;
+                state.pendingRejected = 0;
+                state.dirty = false;
+            }
+        }
+        return flushes;
+    }
+
+    private void invalidate(TargetState state) {
+        synchronized (state) {
+            if (!state.dirty) {
+                state.activeReports = -1;
+            }
+        }
+    }
+
+    private void invalidate(ReporterState state) {
+        synchronized (state) {
+            if (!state.dirty) {
+                state.upheld = -1;
+                state.rejected = 0;
+            }
+        }
+    }
+
+    /**
+     * @return reports 테이블에서 집계했으면 true (처리 중인 변경이 이미 포함됨)
+     */
+    private boolean loadActiveReports(TargetState state, String targetType, Long targetId) {
+        loadWindow(state, targetKey(targetType, targetId));
+        Optional<ModerationTargetStats> checkpoint = targetStatsRepository.findById(targetKey(targetType, targetId));
+        if (checkpoint.isPresent()) {
+            state.activeReports = checkpoint.get().getActiveReports();
+            return false;
+        }
+        Long count = reportRepository.countReportsForTarget(targetType, targetId, INACTIVE_STATUSES);
+        state.activeReports = count != null ? count.intValue() : 0;
+        state.dirty = true;
+        return true;
+    }
+
+    /**
+     * 모든 노드가 체크포인트한 시간 버킷에 이 노드의 미반영 변경분을 더해 윈도우를 다시 채움
+     */
+    private void loadWindow(TargetState state, String key) {
+        long nowEpochHour = currentEpochHour();
+        state.clearBuckets();
+        for (Object[] row : targetStatsRepository.findWindowBuckets(key, fromEpochHour(nowEpochHour - windowHours + 1))) {
+            Object bucket = row[0];
+            LocalDateTime bucketHour = bucket instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) bucket;
+            state.addToBucket(toEpochHour(bucketHour), ((Number) row[1]).intValue());
+        }
+        state.pendingBuckets.forEach(state::addToBucket);
+    }
+
+    /**
+     * @return reports 테이블에서 집계했으면 true (처리 중인 결과가 이미 포함됨)
+     */
+    private boolean loadReporter(Long reporterId, ReporterState state) {
+        Optional<ReporterCredibility> checkpoint = reporterCredibilityRepository.findById(reporterId);
+        if (checkpoint.isPresent()) {
+            state.upheld = checkpoint.get().getUpheldReports();
+            state.rejected = checkpoint.get().getRejectedReports();
+            return false;
+        }
+
+        int upheld = 0;
+        int rejected = 0;
+        for (Object[] row : reportRepository.getStatusCountsByReporter(reporterId)) {
+            ReportStatus status = (ReportStatus) row[0];
+            int count = ((Number) row[1]).intValue();
+            if (status.isActionTaken() || status == ReportStatus.RESOLVED) {
+                upheld += count;
+            } else if (INACTIVE_STATUSES.contains(status)) {
+                rejected += count;
+            }
+        }
+        state.upheld = upheld;
+        state.rejected = rejected;
+        state.dirty = true;
+        return true;
+    }
+
+    private static List<String> names(List<ReportStatus> statuses) {
+        return statuses.stream().map(Enum::name).toList();
+    }
+
+    private static String targetKey(String targetType, Long targetId) {
+        return targetType + ":" + targetId;
+    }
+
+    // Hours of the naive local timestamps stored in reports, matching date_trunc('hour', created_at)
+    private static long toEpochHour(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 3600);
+    }
+
+    private static LocalDateTime fromEpochHour(long epochHour) {
+        return LocalDateTime.ofEpochSecond(epochHour * 3600, 0, ZoneOffset.UTC);
+    }
+
+    private static long currentEpochHour() {
+        return toEpochHour(LocalDateTime.now());
+    }
+
+    /**
+     * @param activeReports   기각/중복을 제외한 누적 신고 수
+     * @param reportsInWindow 최근 윈도우 기간 동안 접수된 신고 수
+     */
+    public record TargetSignal(int activeReports, int reportsInWindow) {}
+
+    /**
+     * @param initialReports 체크포인트 행이 없을 때 기록할 값 (이 노드가 보는 현재 값)
+     * @param delta          이 노드에서 마지막 체크포인트 이후 발생한 변경분
+     * @param bucketDeltas   같은 기간 이 노드가 받은 신고 수 (시간 버킷별)
+     */
+    private record TargetFlush(String key, TargetState state, int initialReports, int delta,
+                               LocalDateTime lastReportAt, Map<Long, Integer> bucketDeltas) {
+
+        void restore() {
+            synchronized (state) {
+                state.pendingDelta += delta;
+                bucketDeltas.forEach((epochHour, count) -> state.pendingBuckets.merge(epochHour, count, Integer::sum));
+                state.dirty = true;
+            }
+        }
+    }
+
+    private record ReporterFlush(Long reporterId, ReporterState state, int initialUpheld, int initialRejected,
+                                 int upheldDelta, int rejectedDelta) {
+
+        void restore() {
+            synchronized (state) {
+                state.pendingUpheld += upheldDelta;
+                state.pendingRejected += rejectedDelta;
+                state.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 시간 단위 링 버퍼: 버킷 수가 윈도우 시간과 같아 갱신/합산 모두 상수 시간
+     */
+    private static final class TargetState {
+        private final long[] bucketHours;
+        private final int[] bucketCounts;
+        private int activeReports = -1;
+        private int pendingDelta;
+        // Window counts by epoch hour not yet written to moderation_target_windows
+        private Map<Long, Integer> pendingBuckets = new HashMap<>();
+        private LocalDateTime lastReportAt;
+        private long lastTouched = System.currentTimeMillis();
+        private boolean dirty;
+        private boolean evicted;
+
+        private TargetState(int windowHours) {
+            this.bucketHours = new long[windowHours];
+            this.bucketCounts = new int[windowHours];
+        }
+
+        private void addToBucket(long epochHour, int count) {
+            int index = (int) (epochHour % bucketHours.length);
+            if (bucketHours[index] != epochHour) {
+                if (bucketHours[index] > epochHour) {
+                    return; // older than the window
+                }
+                bucketHours[index] = epochHour;
+                bucketCounts[index] = 0;
+            }
+            bucketCounts[index] += count;
+        }
+
+        private void clearBuckets() {
+            Arrays.fill(bucketHours, 0);
+            Arrays.fill(bucketCounts, 0);
+        }
+
+        private TargetSignal signal(long nowEpochHour) {
+            int inWindow = 0;
+            for (int i = 0; i < bucketHours.length; i++) {
+                if (nowEpochHour - bucketHours[i] < bucketHours.length) {
+                    inWindow += bucketCounts[i];
+                }
+            }
+            return new TargetSignal(Math.max(activeReports, 0), inWindow);
+        }
+
+        private void touch() {
+            lastTouched = System.currentTimeMillis();
+        }
+    }
+
+    private static final class ReporterState {
+        private int upheld = -1;
+        private int rejected;
+        private int pendingUpheld;
+        private int pendingRejected;
+        private long lastTouched = System.currentTimeMillis();
+        private boolean dirty;
+        private boolean evicted;
+
+        private void touch() {
+            lastTouched = System.currentTimeMillis();
+        }
+    }
+}
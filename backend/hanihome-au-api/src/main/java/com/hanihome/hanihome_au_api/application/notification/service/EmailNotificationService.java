@@ -4,16 +4,20 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.Builder;
+import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
+import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
@@ -21,8 +25,10 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class EmailNotificationService {
 
-    private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private static final DateTimeFormatter SCHEDULE_FORMATTER = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm");
+
+    private final EmailTemplateRenderer templateRenderer;
+    private final SmtpBatchSender smtpBatchSender;
 
     @Value("${app.mail.from:noreply@hanihome.com.au}")
     private String fromEmail;
@@ -33,9 +39,6 @@ public class EmailNotificationService {
     @Value("${app.mail.enabled:true}")
     private boolean emailEnabled;
 
-    @Value("${app.frontend.url:http://localhost:3000}")
-    private String frontendUrl;
-
     /**
      * 뷰잉 예약 확인 이메일 전송
      */
@@ -56,17 +59,16 @@ public class EmailNotificationService {
         }
 
         try {
-            Context context = new Context();
-            context.setVariable("recipientName", recipientName);
-            context.setVariable("propertyTitle", propertyTitle);
-            context.setVariable("scheduledAt", scheduledAt.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm")));
-            context.setVariable("durationMinutes", durationMinutes);
-            context.setVariable("landlordName", landlordName);
-            context.setVariable("contactPhone", contactPhone);
-            context.setVariable("frontendUrl", frontendUrl);
-            context.setVariable("viewingId", viewingId);
-
-            String htmlContent = templateEngine.process("email/viewing-confirmation", context);
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("recipientName", recipientName);
+            variables.put("propertyTitle", propertyTitle);
+            variables.put("scheduledAt", scheduledAt.format(SCHEDULE_FORMATTER));
+            variables.put("durationMinutes", durationMinutes);
+            variables.put("landlordName", landlordName);
+            variables.put("contactPhone", contactPhone);
+            variables.put("viewingId", viewingId);
+
+            String htmlContent = templateRenderer.render(EmailTemplateRenderer.VIEWING_CONFIRMATION, variables);
 
             return sendEmail(
                 toEmail,
@@ -98,15 +100,14 @@ public class EmailNotificationService {
         }
 
         try {
-            Context context = new Context();
-            context.setVariable("recipientName", recipientName);
-            context.setVariable("propertyTitle", propertyTitle);
-            context.setVariable("scheduledAt", scheduledAt.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm")));
-            context.setVariable("cancellationReason", cancellationReason);
-            context.setVariable("cancelledByName", cancelledByName);
-            context.setVariable("frontendUrl", frontendUrl);
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("recipientName", recipientName);
+            variables.put("propertyTitle", propertyTitle);
+            variables.put("scheduledAt", scheduledAt.format(SCHEDULE_FORMATTER));
+            variables.put("cancellationReason", cancellationReason);
+            variables.put("cancelledByName", cancelledByName);
 
-            String htmlContent = templateEngine.process("email/viewing-cancellation", context);
+            String htmlContent = templateRenderer.render(EmailTemplateRenderer.VIEWING_CANCELLATION, variables);
 
             return sendEmail(
                 toEmail,
@@ -138,21 +139,18 @@ public class EmailNotificationService {
         }
 
         try {
-            Context context = new Context();
-            context.setVariable("recipientName", recipientName);
-            context.setVariable("propertyTitle", propertyTitle);
-            context.setVariable("scheduledAt", scheduledAt.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm")));
-            context.setVariable("contactPhone", contactPhone);
-            context.setVariable("address", address);
-            context.setVariable("frontendUrl", frontendUrl);
+            ReminderEmail reminder = ReminderEmail.builder()
+                    .toEmail(toEmail)
+                    .recipientName(recipientName)
+                    .propertyTitle(propertyTitle)
+                    .scheduledAt(scheduledAt)
+                    .contactPhone(contactPhone)
+                    .address(address)
+                    .build();
 
-            String htmlContent = templateEngine.process("email/viewing-reminder", context);
+            String htmlContent = templateRenderer.render(EmailTemplateRenderer.VIEWING_REMINDER, reminderVariables(reminder));
 
-            return sendEmail(
-                toEmail,
-                "뷰잉 예약 알림 - " + propertyTitle + " (내일 예정)",
-                htmlContent
-            );
+            return sendEmail(toEmail, reminderSubject(reminder), htmlContent);
 
         } catch (Exception e) {
             log.error("Failed to send viewing reminder email to {}: {}", toEmail, e.getMessage(), e);
@@ -180,17 +178,16 @@ public class EmailNotificationService {
         }
 
         try {
-            Context context = new Context();
-            context.setVariable("recipientName", recipientName);
-            context.setVariable("propertyTitle", propertyTitle);
-            context.setVariable("scheduledAt", scheduledAt.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm")));
-            context.setVariable("tenantName", tenantName);
-            context.setVariable("tenantPhone", tenantPhone);
-            context.setVariable("tenantNotes", tenantNotes);
-            context.setVariable("frontendUrl", frontendUrl);
-            context.setVariable("viewingId", viewingId);
-
-            String htmlContent = templateEngine.process("email/new-viewing-request", context);
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("recipientName", recipientName);
+            variables.put("propertyTitle", propertyTitle);
+            variables.put("scheduledAt", scheduledAt.format(SCHEDULE_FORMATTER));
+            variables.put("tenantName", tenantName);
+            variables.put("tenantPhone", tenantPhone);
+            variables.put("tenantNotes", tenantNotes);
+            variables.put("viewingId", viewingId);
+
+            String htmlContent = templateRenderer.render(EmailTemplateRenderer.NEW_VIEWING_REQUEST, variables);
 
             return sendEmail(
                 toEmail,
@@ -204,25 +201,59 @@ public class EmailNotificationService {
         }
     }
 
+    /**
+     * 뷰잉 리마인더 이메일 일괄 전송
+     * 모든 메시지를 먼저 렌더링한 뒤 SMTP 연결 하나당 batch-size 개씩 묶어 전송
+     * @return 전송에 성공한 이메일 수
+     */
+    public int sendViewingReminderEmails(List<ReminderEmail> reminders) {
+        if (!emailEnabled) {
+            log.info("Email notifications are disabled. Skipping {} reminder emails.", reminders.size());
+            return 0;
+        }
+
+        List<MimeMessage> messages = new ArrayList<>(reminders.size());
+        for (ReminderEmail reminder : reminders) {
+            try {
+                String htmlContent = templateRenderer.render(EmailTemplateRenderer.VIEWING_REMINDER, reminderVariables(reminder));
+                messages.add(createMessage(reminder.getToEmail(), reminderSubject(reminder), htmlContent));
+            } catch (Exception e) {
+                log.error("Failed to prepare viewing reminder email to {}: {}", reminder.getToEmail(), e.getMessage(), e);
+            }
+        }
+
+        int sent = smtpBatchSender.sendAll(messages);
+        log.info("Sent {}/{} viewing reminder emails", sent, reminders.size());
+        return sent;
+    }
+
+    private Map<String, Object> reminderVariables(ReminderEmail reminder) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("recipientName", reminder.getRecipientName());
+        variables.put("propertyTitle", reminder.getPropertyTitle());
+        variables.put("scheduledAt", reminder.getScheduledAt().format(SCHEDULE_FORMATTER));
+        variables.put("contactPhone", reminder.getContactPhone());
+        variables.put("address", reminder.getAddress());
+        return variables;
+    }
+
+    private String reminderSubject(ReminderEmail reminder) {
+        return "뷰잉 예약 알림 - " + reminder.getPropertyTitle() + " (내일 예정)";
+    }
+
     /**
      * 일반적인 이메일 전송 메서드
      */
     private CompletableFuture<Boolean> sendEmail(String toEmail, String subject, String htmlContent) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                MimeMessage message = mailSender.createMimeMessage();
-                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+                boolean sent = smtpBatchSender.send(createMessage(toEmail, subject, htmlContent));
+                if (sent) {
+                    log.info("Email sent successfully to: {}, subject: {}", toEmail, subject);
+                }
+                return sent;
 
-                helper.setFrom(fromEmail, fromName);
-                helper.setTo(toEmail);
-                helper.setSubject(subject);
-                helper.setText(htmlContent, true);
-
-                mailSender.send(message);
-                log.info("Email sent successfully to: {}, subject: {}", toEmail, subject);
-                return true;
-
-            } catch (MessagingException e) {
+            } catch (MessagingException | UnsupportedEncodingException e) {
                 log.error("Failed to send email to {}: {}", toEmail, e.getMessage(), e);
                 return false;
             } catch (Exception e) {
@@ -232,10 +263,33 @@ public class EmailNotificationService {
         });
     }
 
+    private MimeMessage createMessage(String toEmail, String subject, String htmlContent)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = smtpBatchSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(fromEmail, fromName);
+        helper.setTo(toEmail);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);
+        return message;
+    }
+
     /**
      * 이메일 발송 상태 확인
      */
     public boolean isEmailEnabled() {
         return emailEnabled;
     }
+
+    @Getter
+    @Builder
+    public static class ReminderEmail {
+        private final String toEmail;
+        private final String recipientName;
+        private final String propertyTitle;
+        private final LocalDateTime scheduledAt;
+        private final String contactPhone;
+        private final String address;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.hanihome.hanihome_au_api.application.notification.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이메일 템플릿 렌더러
+ * - 애플리케이션 기동 시 모든 이메일 템플릿을 한 번씩 렌더링하여 Thymeleaf 파싱 캐시를 예열
+ * - 템플릿별 렌더링 시간을 SMTP 전송 시간과 분리하여 측정
+ */
+@Slf4j
+@Component
+public class EmailTemplateRenderer {
+
+    public static final String VIEWING_CONFIRMATION = "email/viewing-confirmation";
+    public static final String VIEWING_CANCELLATION = "email/viewing-cancellation";
+    public static final String VIEWING_REMINDER = "email/viewing-reminder";
+    public static final String NEW_VIEWING_REQUEST = "email/new-viewing-request";
+
+    private static final List<String> TEMPLATES = List.of(
+            VIEWING_CONFIRMATION, VIEWING_CANCELLATION, VIEWING_REMINDER, NEW_VIEWING_REQUEST);
+
+    private final TemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> renderTimers = new ConcurrentHashMap<>();
+
+    @Value("${app.frontend.url:http://localhost:3000}")
+    private String frontendUrl;
+
+    public EmailTemplateRenderer(TemplateEngine templateEngine, MeterRegistry meterRegistry) {
+        this.templateEngine = templateEngine;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 템플릿 캐시 예열
+     * 최초 발송 요청이 템플릿 파싱 비용을 부담하지 않도록 기동 직후 파싱 결과를 캐시에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        int warmed = 0;
+        for (String template : TEMPLATES) {
+            try {
+                Context context = new Context();
+                context.setVariable("frontendUrl", frontendUrl);
+                templateEngine.process(template, context);
+                warmed++;
+            } catch (Exception e) {
+                log.warn("Failed to warm up email template {}: {}", template, e.getMessage());
+            }
+        }
+        log.info("Warmed up {}/{} email templates in {}ms",
+                warmed, TEMPLATES.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 템플릿 렌더링
+     * frontendUrl 은 모든 템플릿에서 공통으로 사용하므로 여기서 주입
+     */
+    public String render(String template, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        context.setVariable("frontendUrl", frontendUrl);
+
+        return renderTimers.computeIfAbsent(template, this::createRenderTimer)
+                .record(() -> templateEngine.process(template, context));
+    }
+
+    private Timer createRenderTimer(String template) {
+        return Timer.builder("email.render")
+                .description("Thymeleaf email template render time")
+                .tag("template", template)
+                .register(meterRegistry);
+    }
+}
@@ -127,6 +127,23 @@ public class SSENotificationService {
         sendToUser(userId, notification);
     }
     
+    /**
+     * Send a system notification that refers to another record (e.g. a transaction)
+     */
+    public boolean sendNotification(Long userId, String title, String message,
+                                    String subType, String referenceId) {
+        NotificationMessage notification = NotificationMessage.builder()
+                .type(NotificationType.SYSTEM)
+                .subType(subType)
+                .title(title)
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .data(Map.of("referenceId", referenceId))
+                .build();
+
+        return sendToUser(userId, notification);
+    }
+    
     /**
      * Broadcast notification to multiple users
      */
@@ -235,7 +252,7 @@ public class SSENotificationService {
     
     // Notification types
     public enum NotificationType {
-        CONNECTION, HEARTBEAT, VIEWING, SYSTEM
+        CONNECTION, HEARTBEAT, VIEWING, IMAGE, SEARCH_ALERT, SYSTEM
     }
     
     public enum ViewingNotificationType {
@@ -0,0 +1,34 @@
+package com.hanihome.hanihome_au_api.application.property.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of favorites as stored in the userFavorites cache
+ * PageImpl itself has no Jackson creator, so the cache keeps the content and the total
+ * and the page is rebuilt from the request's Pageable
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFavoritePageDto {
+    private List<PropertyFavoriteResponseDto> content;
+    private long totalElements;
+
+    public static PropertyFavoritePageDto from(Page<PropertyFavoriteResponseDto> page) {
+        return new PropertyFavoritePageDto(new ArrayList<>(page.getContent()), page.getTotalElements());
+    }
+
+    public Page<PropertyFavoriteResponseDto> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
@@ -0,0 +1,626 @@
+package com.hanihome.hanihome_au_api.application.property.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성용 압축 접두사 트라이 (radix trie)
+ * - 항목 텍스트의 각 단어 시작 위치를 키로 등록하므로 "near central" 로도 "Studio near Central" 이 검색됨
+ * - 노드마다 하위 항목 중 순위 상위 topK 개를 미리 계산해 두어 조회는 접두사 길이만큼의 탐색으로 끝남
+ * - 키는 SearchText 정규형(한글은 자모 단위)이므로 조합 중인 음절도 접두사로 일치
+ * - 정확한 접두사 결과가 limit 에 못 미치면 입력 길이에 따라 편집 거리 1~2 까지 허용하는 Levenshtein 탐색
+ *   (인접 문자 전치 포함)으로 나머지를 채움. 첫 글자는 정확히 일치해야 하고, 거리 안에 남을 수 없는 가지는
+ *   바로 잘라내므로 트라이 일부만 방문
+ * - 노드는 불변이므로 잠금 없이 동시 조회 가능. update 는 바뀐 키의 경로에 있는 노드만 새로 만들고
+ *   (상위 topK 는 그 노드의 포스팅과 자식들의 상위 topK 로 다시 계산) 나머지 노드는 공유하는 새 인스턴스를 반환
+ */
+public final class AutocompleteTrie {
+
+    /** Keys registered per entry: the full text and the suffixes starting at its next words */
+    private static final int MAX_KEYS_PER_ENTRY = 8;
+    /** Query lengths (in search-form characters) from which one and two edits are tolerated */
+    private static final int ONE_EDIT_MIN_LENGTH = 4;
+    private static final int TWO_EDITS_MIN_LENGTH = 8;
+    private static final Posting[] NONE = new Posting[0];
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    /** Rank order: heavier entries first, then by text, then in insertion order */
+    private static final Comparator<Ranked> RANK = Comparator.comparingLong((Ranked ranked) -> ranked.entry().weight())
+            .reversed()
+            .thenComparing(ranked -> ranked.entry().text())
+            .thenComparingLong(Ranked::serial);
+    /** Postings by entry rank, the earliest-starting key of an entry first */
+    private static final Comparator<Posting> POSTING_ORDER = Comparator.comparing(Posting::ranked, RANK)
+            .thenComparingInt(Posting::start);
+
+    public record Entry(String text, String type, String context, long weight) {}
+
+    /**
+     * A suggestion with the matched range of its text, ready for highlighting
+     *
+     * @param highlightStart start of the matched range in {@code entry.text()}
+     * @param highlightEnd   end (exclusive) of the matched range
+     * @param distance       edits between the query and the matched text; 0 for exact prefixes
+     */
+    public record Match(Entry entry, int highlightStart, int highlightEnd, int distance) {
+
+        public boolean startsAtBeginning() {
+            return highlightStart == 0;
+        }
+
+        public boolean coversText() {
+            return highlightStart == 0 && highlightEnd == entry.text().length();
+        }
+    }
+
+    /** An indexed entry with its search form; the serial makes the rank order total */
+    private record Ranked(Entry entry, SearchText text, long serial) {}
+
+    /** One registered key: the entry's search form from {@code start} on */
+    private record Posting(Ranked ranked, int start) {}
+
+    /**
+     * @param label    edge label leading into the node
+     * @param chars    first characters of the child edges, sorted
+     * @param terminal postings whose key ends at this node
+     * @param top      best postings at or below the node in rank order, one per entry
+     */
+    private record Node(String label, char[] chars, Node[] children, Posting[] terminal, Posting[] top) {}
+
+    private final Node root;
+    private final int topK;
+    private final int size;
+    private final long nextSerial;
+
+    private AutocompleteTrie(Node root, int topK, int size, long nextSerial) {
+        this.root = root;
+        this.topK = topK;
+        this.size = size;
+        this.nextSerial = nextSerial;
+    }
+
+    public static AutocompleteTrie empty() {
+        return compile(List.of(), 1);
+    }
+
+    /**
+     * @param topK suggestions precomputed per node; lookups return at most this many
+     */
+    public static AutocompleteTrie compile(List<Entry> source, int topK) {
+        List<String> keys = new ArrayList<>();
+        List<Posting> postings = new ArrayList<>();
+        int size = 0;
+        for (Entry entry : source) {
+            Ranked ranked = rank(entry, size);
+            if (ranked == null) {
+                continue;
+            }
+            size++;
+            String form = ranked.text().form();
+            for (int start : keyStarts(form)) {
+                keys.add(form.substring(start));
+                postings.add(new Posting(ranked, start));
+            }
+        }
+
+        Integer[] order = new Integer[keys.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(keys::get));
+        String[] sortedKeys = new String[order.length];
+        Posting[] sortedPostings = new Posting[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys.get(order[i]);
+            sortedPostings[i] = postings.get(order[i]);
+        }
+
+        int k = Math.max(1, topK);
+        Builder builder = new Builder(sortedKeys, sortedPostings, k);
+        return new AutocompleteTrie(builder.build(0, sortedKeys.length, 0, ""), k, size, size);
+    }
+
+    /**
+     * Copy of this trie with {@code removed} taken out and {@code added} put in.
+     * Only the nodes on the paths of the changed keys are rebuilt; the rest are shared with this instance.
+     * Entries are removed by value, and entries that are not indexed are ignored.
+     */
+    public AutocompleteTrie update(Collection<Entry> removed, Collection<Entry> added) {
+        Node updated = root;
+        int updatedSize = size;
+        long serial = nextSerial;
+
+        for (Entry entry : removed) {
+            SearchText text = SearchText.of(entry.text());
+            String form = text.form();
+            Ranked target = form.isEmpty() ? null : find(updated, form, stored(entry, text));
+            if (target == null) {
+                continue;
+            }
+            for (int start : keyStarts(form)) {
+                updated = remove(updated, form.substring(start), 0, target);
+            }
+            updatedSize--;
+        }
+
+        for (Entry entry : added) {
+            Ranked ranked = rank(entry, serial++);
+            if (ranked == null) {
+                continue;
+            }
+            String form = ranked.text().form();
+            for (int start : keyStarts(form)) {
+                updated = insert(updated, form.substring(start), 0, new Posting(ranked, start));
+            }
+            updatedSize++;
+        }
+        return new AutocompleteTrie(updated, topK, updatedSize, serial);
+    }
+
+    /**
+     * Highest weighted entries having a word that starts with the prefix, best first,
+     * followed by near misses within the edit distance allowed for the query length
+     */
+    public List<Match> suggest(String prefix, int limit) {
+        char[] query = SearchText.normalize(prefix).toCharArray();
+        List<Match> result = new ArrayList<>(Math.min(limit, 16));
+        Set<Ranked> exactEntries = new HashSet<>();
+
+        Node node = findPrefix(query);
+        if (node != null) {
+            for (Posting posting : node.top()) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                exactEntries.add(posting.ranked());
+                result.add(toMatch(posting, query.length, 0));
+            }
+        }
+
+        int maxEdits = maxEdits(query.length);
+        if (result.size() >= limit || maxEdits == 0) {
+            return result;
+        }
+
+        FuzzyWalk walk = new FuzzyWalk(query, maxEdits);
+        walk.walk();
+
+        walk.candidates.values().stream()
+                .filter(candidate -> !exactEntries.contains(candidate.posting().ranked()))
+                .sorted(Comparator.comparingInt(Candidate::distance)
+                        .thenComparing(candidate -> candidate.posting().ranked(), RANK))
+                .limit(limit - result.size())
+                .forEach(candidate -> result.add(
+                        toMatch(candidate.posting(), candidate.matchedLength(), candidate.distance())));
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int nodeCount() {
+        return count(root);
+    }
+
+    /**
+     * Grouping key for texts that should count as the same suggestion
+     */
+    public static String normalize(String text) {
+        return SearchText.normalize(text);
+    }
+
+    static int maxEdits(int queryLength) {
+        if (queryLength >= TWO_EDITS_MIN_LENGTH) {
+            return 2;
+        }
+        return queryLength >= ONE_EDIT_MIN_LENGTH ? 1 : 0;
+    }
+
+    private static Ranked rank(Entry entry, long serial) {
+        SearchText text = SearchText.of(entry.text());
+        // Entries without search characters have no keys and could never be suggested
+        return text.form().isEmpty() ? null : new Ranked(stored(entry, text), text, serial);
+    }
+
+    /**
+     * The entry as indexed: highlight offsets refer to the NFC text
+     */
+    private static Entry stored(Entry entry, SearchText text) {
+        return text.text().equals(entry.text())
+                ? entry
+                : new Entry(text.text(), entry.type(), entry.context(), entry.weight());
+    }
+
+    private static int[] keyStarts(String form) {
+        int[] starts = new int[MAX_KEYS_PER_ENTRY];
+        int count = 0;
+        for (int start = 0; start < form.length() && count < MAX_KEYS_PER_ENTRY; ) {
+            starts[count++] = start;
+            int space = form.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * The indexed instance of the entry, looked up through its full-text key
+     */
+    private static Ranked find(Node root, String key, Entry entry) {
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node child = child(node, key.charAt(depth));
+            if (child == null || !key.startsWith(child.label(), depth)) {
+                return null;
+            }
+            depth += child.label().length();
+            node = child;
+        }
+        for (Posting posting : node.terminal()) {
+            if (posting.start() == 0 && posting.ranked().entry().equals(entry)) {
+                return posting.ranked();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copy of the path to the key with the posting added; {@code depth} characters are matched by {@code node}
+     */
+    private Node insert(Node node, String key, int depth, Posting posting) {
+        if (depth == key.length()) {
+            Posting[] terminal = Arrays.copyOf(node.terminal(), node.terminal().length + 1);
+            terminal[terminal.length - 1] = posting;
+            return node(node.label(), node.chars(), node.children(), terminal, topK);
+        }
+
+        char c = key.charAt(depth);
+        int index = Arrays.binarySearch(node.chars(), c);
+        if (index < 0) {
+            int at = -index - 1;
+            Node leaf = node(key.substring(depth), NO_CHARS, NO_NODES, new Posting[]{posting}, topK);
+            return node(node.label(), insertAt(node.chars(), at, c), insertAt(node.children(), at, leaf),
+                    node.terminal(), topK);
+        }
+
+        Node child = node.children()[index];
+        String label = child.label();
+        int common = commonPrefixLength(label, key, depth);
+        Node replacement;
+        if (common == label.length()) {
+            replacement = insert(child, key, depth + common, posting);
+        } else {
+            // The key leaves the edge part way: split it there
+            Node tail = new Node(label.substring(common), child.chars(), child.children(), child.terminal(),
+                    child.top());
+            Node split = new Node(label.substring(0, common), new char[]{label.charAt(common)}, new Node[]{tail},
+                    NONE, tail.top());
+            replacement = insert(split, key, depth + common, posting);
+        }
+        Node[] children = node.children().clone();
+        children[index] = replacement;
+        return node(node.label(), node.chars(), children, node.terminal(), topK);
+    }
+
+    /**
+     * Copy of the path to the key without the target's posting, pruning emptied nodes and merging
+     * single-child chains back into one edge. Returns null when nothing is left below a non-root node.
+     */
+    private Node remove(Node node, String key, int depth, Ranked target) {
+        char[] chars = node.chars();
+        Node[] children = node.children();
+        Posting[] terminal = node.terminal();
+
+        if (depth == key.length()) {
+            terminal = Arrays.stream(terminal).filter(posting -> posting.ranked() != target).toArray(Posting[]::new);
+            if (terminal.length == node.terminal().length) {
+                return node;
+            }
+        } else {
+            int index = Arrays.binarySearch(chars, key.charAt(depth));
+            if (index < 0 || !key.startsWith(children[index].label(), depth)) {
+                return node;
+            }
+            Node child = children[index];
+            Node replacement = remove(child, key, depth + child.label().length(), target);
+            if (replacement == child) {
+                return node;
+            }
+            if (replacement == null) {
+                chars = removeAt(chars, index);
+                children = removeAt(children, index);
+            } else {
+                children = children.clone();
+                children[index] = replacement;
+            }
+        }
+
+        // Only the root has an empty label, and it stays even when the trie empties
+        if (!node.label().isEmpty() && terminal.length == 0) {
+            if (children.length == 0) {
+                return null;
+            }
+            if (children.length == 1) {
+                Node only = children[0];
+                return new Node(node.label() + only.label(), only.chars(), only.children(), only.terminal(),
+                        only.top());
+            }
+        }
+        return node(node.label(), chars, children, terminal, topK);
+    }
+
+    /**
+     * A node whose top-k is merged from its own postings and its children's top-k: an entry among the
+     * best k below the node is necessarily among the best k of the child it sits under
+     */
+    private static Node node(String label, char[] chars, Node[] children, Posting[] terminal, int topK) {
+        List<Posting> candidates = new ArrayList<>(terminal.length + children.length * topK);
+        candidates.addAll(Arrays.asList(terminal));
+        for (Node child : children) {
+            candidates.addAll(Arrays.asList(child.top()));
+        }
+        return new Node(label, chars, children, terminal, top(candidates, topK));
+    }
+
+    /**
+     * Best postings by entry rank, keeping the earliest-starting key of each entry
+     */
+    private static Posting[] top(List<Posting> candidates, int topK) {
+        if (candidates.isEmpty()) {
+            return NONE;
+        }
+        candidates.sort(POSTING_ORDER);
+        Posting[] top = new Posting[Math.min(topK, candidates.size())];
+        int count = 0;
+        Ranked last = null;
+        for (Posting posting : candidates) {
+            if (count == top.length) {
+                break;
+            }
+            if (posting.ranked() != last) {
+                top[count++] = posting;
+                last = posting.ranked();
+            }
+        }
+        return count == top.length ? top : Arrays.copyOf(top, count);
+    }
+
+    private Node findPrefix(char[] query) {
+        Node node = root;
+        int position = 0;
+        while (position < query.length) {
+            Node child = child(node, query[position]);
+            if (child == null) {
+                return null;
+            }
+            String label = child.label();
+            int length = Math.min(label.length(), query.length - position);
+            for (int i = 0; i < length; i++) {
+                if (label.charAt(i) != query[position + i]) {
+                    return null;
+                }
+            }
+            position += length;
+            node = child;
+        }
+        return node;
+    }
+
+    private static Match toMatch(Posting posting, int matchedLength, int distance) {
+        SearchText text = posting.ranked().text();
+        int start = posting.start();
+        int end = Math.min(start + matchedLength, text.form().length());
+        return new Match(posting.ranked().entry(), text.textStart(start), text.textEnd(end), distance);
+    }
+
+    private static Node child(Node node, char c) {
+        int index = Arrays.binarySearch(node.chars(), c);
+        return index < 0 ? null : node.children()[index];
+    }
+
+    private static int count(Node node) {
+        int count = 1;
+        for (Node child : node.children()) {
+            count += count(child);
+        }
+        return count;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static char[] insertAt(char[] array, int index, char value) {
+        char[] copy = new char[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = value;
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        return copy;
+    }
+
+    private static Node[] insertAt(Node[] array, int index, Node value) {
+        Node[] copy = new Node[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = value;
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        return copy;
+    }
+
+    private static char[] removeAt(char[] array, int index) {
+        char[] copy = new char[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    private static Node[] removeAt(Node[] array, int index) {
+        Node[] copy = new Node[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    private record Candidate(Posting posting, int matchedLength, int distance) {}
+
+    /**
+     * Depth-first walk carrying one Levenshtein row (optimal string alignment) per key character.
+     * Rows are reused per depth and only the diagonal band of width 2 * maxEdits + 1 is computed.
+     */
+    private final class FuzzyWalk {
+        private final char[] query;
+        private final int maxEdits;
+        private final int outside;
+        // rows[k] / keyChars[k]: Levenshtein row and key character after k key characters
+        private final int[][] rows;
+        private final char[] keyChars;
+        private final Map<Ranked, Candidate> candidates = new HashMap<>();
+
+        FuzzyWalk(char[] query, int maxEdits) {
+            this.query = query;
+            this.maxEdits = maxEdits;
+            this.outside = maxEdits + 1;
+            // Past query.length + maxEdits key characters every cell exceeds maxEdits
+            this.rows = new int[query.length + maxEdits + 2][query.length + 1];
+            this.keyChars = new char[rows.length];
+            for (int j = 0; j <= query.length; j++) {
+                rows[0][j] = j;
+            }
+        }
+
+        void walk() {
+            // Typos in the first character are rare and tolerating them multiplies the search space
+            Node first = child(root, query[0]);
+            if (first != null) {
+                visit(first, 0);
+            }
+        }
+
+        private void visit(Node node, int depth) {
+            String label = node.label();
+            int keyDepth = depth;
+            for (int i = 0; i < label.length(); i++) {
+                keyDepth++;
+                keyChars[keyDepth] = label.charAt(i);
+                int min = step(keyDepth);
+                if (min > maxEdits) {
+                    return;
+                }
+                if (keyDepth >= query.length - maxEdits && rows[keyDepth][query.length] <= maxEdits) {
+                    accept(node, keyDepth, rows[keyDepth][query.length]);
+                }
+            }
+            for (Node child : node.children()) {
+                visit(child, keyDepth);
+            }
+        }
+
+        /**
+         * Fills rows[k] inside the band and returns its smallest cell
+         */
+        private int step(int k) {
+            int[] row = rows[k];
+            int[] previous = rows[k - 1];
+            char keyChar = keyChars[k];
+            int lo = Math.max(1, k - maxEdits);
+            int hi = Math.min(query.length, k + maxEdits);
+            row[0] = k;
+            if (lo > 1) {
+                row[lo - 1] = outside;
+            }
+            int min = k <= maxEdits ? k : outside;
+            for (int j = lo; j <= hi; j++) {
+                int value = Math.min(previous[j - 1] + (query[j - 1] == keyChar ? 0 : 1),
+                        Math.min(previous[j], row[j - 1]) + 1);
+                if (k > 1 && j > 1 && query[j - 1] == keyChars[k - 1] && query[j - 2] == keyChar) {
+                    value = Math.min(value, rows[k - 2][j - 2] + 1);
+                }
+                row[j] = Math.min(value, outside);
+                min = Math.min(min, row[j]);
+            }
+            if (hi < query.length) {
+                row[hi + 1] = outside;
+            }
+            return min;
+        }
+
+        private void accept(Node node, int matchedLength, int distance) {
+            for (Posting posting : node.top()) {
+                Candidate known = candidates.get(posting.ranked());
+                if (known == null || distance < known.distance()) {
+                    candidates.put(posting.ranked(), new Candidate(posting, matchedLength, distance));
+                }
+            }
+        }
+    }
+
+    private static final class Builder {
+        private final String[] keys;
+        private final Posting[] postings;
+        private final int topK;
+
+        Builder(String[] keys, Posting[] postings, int topK) {
+            this.keys = keys;
+            this.postings = postings;
+            this.topK = topK;
+        }
+
+        /**
+         * Builds the node for keys[lo, hi), which all share their first {@code depth} characters
+         */
+        Node build(int lo, int hi, int depth, String label) {
+            int i = lo;
+            // Keys ending at this node sort before the longer ones sharing the prefix
+            while (i < hi && keys[i].length() == depth) {
+                i++;
+            }
+            Posting[] terminal = i == lo ? NONE : Arrays.copyOfRange(postings, lo, i);
+
+            List<Character> chars = new ArrayList<>();
+            List<Node> children = new ArrayList<>();
+            while (i < hi) {
+                char c = keys[i].charAt(depth);
+                int j = i + 1;
+                while (j < hi && keys[j].charAt(depth) == c) {
+                    j++;
+                }
+                // In a sorted range the common prefix of the first and last key is shared by all of them
+                int end = commonPrefixLength(keys[i], keys[j - 1]);
+                chars.add(c);
+                children.add(build(i, j, end, keys[i].substring(depth, end)));
+                i = j;
+            }
+
+            char[] charArray = new char[chars.size()];
+            for (int k = 0; k < charArray.length; k++) {
+                charArray[k] = chars.get(k);
+            }
+            return node(label, charArray, children.toArray(Node[]::new), terminal, topK);
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
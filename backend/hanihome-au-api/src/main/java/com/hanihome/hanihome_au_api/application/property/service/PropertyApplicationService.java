@@ -1,9 +1,14 @@
 package com.hanihome.hanihome_au_api.application.property.service;
 
+import com.hanihome.hanihome_au_api.application.moderation.dto.ContentScanResult;
+import com.hanihome.hanihome_au_api.application.moderation.service.ContentRule;
+import com.hanihome.hanihome_au_api.application.moderation.service.ContentScanner;
+import com.hanihome.hanihome_au_api.application.moderation.service.ReportService;
 import com.hanihome.hanihome_au_api.application.property.dto.CreatePropertyCommand;
 import com.hanihome.hanihome_au_api.application.property.dto.PropertyResponseDto;
 import com.hanihome.hanihome_au_api.application.property.dto.UpdatePropertyCommand;
 import com.hanihome.hanihome_au_api.application.property.usecase.CreatePropertyUseCase;
+import com.hanihome.hanihome_au_api.domain.enums.ReportType;
 import com.hanihome.hanihome_au_api.domain.property.entity.Property;
 import com.hanihome.hanihome_au_api.domain.property.repository.PropertyRepository;
 import com.hanihome.hanihome_au_api.domain.property.service.PropertyDomainService;
@@ -11,6 +16,7 @@ import com.hanihome.hanihome_au_api.domain.property.valueobject.PropertyId;
 import com.hanihome.hanihome_au_api.domain.shared.event.DomainEventPublisher;
 import com.hanihome.hanihome_au_api.domain.user.valueobject.UserId;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,29 +27,76 @@ import java.util.stream.Collectors;
  * Application Service for Property operations
  * Orchestrates domain objects and handles transaction boundaries
  */
+@Slf4j
 @Service
 @Transactional
 public class PropertyApplicationService {
+    /**
+     * Rule categories that can reject a listing; spam and contact-detail terms
+     * (무료 주차, 즉시 입주, 연락처 ...) are ordinary listing copy and only flag it for review
+     */
+    private static final List<String> LISTING_BLOCK_CATEGORIES = List.of(ContentRule.FRAUD, ContentRule.ABUSE);
+
     private final PropertyRepository propertyRepository;
     private final PropertyDomainService propertyDomainService;
     private final CreatePropertyUseCase createPropertyUseCase;
     private final DomainEventPublisher domainEventPublisher;
     private final SearchCacheEvictionService cacheEvictionService;
+    private final ContentScanner contentScanner;
+    private final ReportService reportService;
+    private final double listingBlockScore;
 
     public PropertyApplicationService(PropertyRepository propertyRepository,
                                     PropertyDomainService propertyDomainService,
                                     CreatePropertyUseCase createPropertyUseCase,
                                     DomainEventPublisher domainEventPublisher,
-                                    SearchCacheEvictionService cacheEvictionService) {
+                                    SearchCacheEvictionService cacheEvictionService,
+                                    ContentScanner contentScanner,
+                                    ReportService reportService,
+                                    double listingBlockScore) {
         this.propertyRepository = propertyRepository;
         this.propertyDomainService = propertyDomainService;
         this.createPropertyUseCase = createPropertyUseCase;
         this.domainEventPublisher = domainEventPublisher;
         this.cacheEvictionService = cacheEvictionService;
+        this.contentScanner = contentScanner;
+        this.reportService = reportService;
+        this.listingBlockScore = listingBlockScore;
     }
 
     public PropertyResponseDto createProperty(CreatePropertyCommand command) {
-        return createPropertyUseCase.execute(command);
+        ContentScanResult scan = screenListingContent(command);
+        PropertyResponseDto created = createPropertyUseCase.execute(command);
+        if (scan.hasMatches()) {
+            // Same transaction as the listing, so a stored listing always carries its review flag
+            reportService.flagForReview(ReportType.INAPPROPRIATE_CONTENT,
+                    "Listing content matched moderation rules " + scan.getCategoryScores()
+                            + ": " + scan.getMatches().stream().map(ContentScanResult.Match::term).distinct().toList(),
+                    "PROPERTY", created.getId(), 2);
+        }
+        return created;
+    }
+
+    /**
+     * Scans title and description against the moderation rules before the listing is stored.
+     * Only fraud and abuse terms count toward the block score; a listing with any other match is
+     * stored and flagged as a report for the reviewer, since new listings wait for approval anyway.
+     */
+    private ContentScanResult screenListingContent(CreatePropertyCommand command) {
+        ContentScanResult scan = contentScanner.scan(command.getTitle(), command.getDescription());
+        if (!scan.hasMatches()) {
+            return scan;
+        }
+
+        double blockScore = LISTING_BLOCK_CATEGORIES.stream().mapToDouble(scan::getCategoryScore).sum();
+        if (blockScore >= listingBlockScore) {
+            log.warn("Rejected listing from owner {} with content score {}: {}",
+                    command.getOwnerId(), blockScore, scan.getCategoryScores());
+            throw new IllegalArgumentException("Listing title or description violates the content policy");
+        }
+        log.info("Listing from owner {} flagged for review with content scores {}",
+                command.getOwnerId(), scan.getCategoryScores());
+        return scan;
     }
 
     public PropertyResponseDto getProperty(Long propertyId) {
@@ -90,7 +143,7 @@ public class PropertyApplicationService {
         }
 
         Property savedProperty = propertyRepository.save(property);
-        publishDomainEvents(savedProperty);
+        publishDomainEvents(property);
         
         return mapToResponseDto(savedProperty);
     }
@@ -109,8 +162,8 @@ public class PropertyApplicationService {
         // Use domain method which includes validation
         property.activate();
         
-        Property savedProperty = propertyRepository.save(property);
-        publishDomainEvents(savedProperty);
+        propertyRepository.save(property);
+        publishDomainEvents(property);
     }
 
     /**
@@ -125,8 +178,8 @@ public class PropertyApplicationService {
         }
 
         property.deactivate();
-        Property savedProperty = propertyRepository.save(property);
-        publishDomainEvents(savedProperty);
+        propertyRepository.save(property);
+        publishDomainEvents(property);
     }
 
     /**
@@ -138,8 +191,8 @@ public class PropertyApplicationService {
 
         property.approve(UserId.of(approvedById));
         
-        Property savedProperty = propertyRepository.save(property);
-        publishDomainEvents(savedProperty);
+        propertyRepository.save(property);
+        publishDomainEvents(property);
     }
 
     /**
@@ -151,8 +204,8 @@ public class PropertyApplicationService {
 
         property.reject(reason);
         
-        Property savedProperty = propertyRepository.save(property);
-        publishDomainEvents(savedProperty);
+        propertyRepository.save(property);
+        publishDomainEvents(property);
     }
 
     private PropertyResponseDto mapToResponseDto(Property property) {
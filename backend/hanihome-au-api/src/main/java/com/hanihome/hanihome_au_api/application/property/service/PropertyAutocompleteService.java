@@ -1,52 +1,218 @@
 package com.hanihome.hanihome_au_api.application.property.service;
 
-import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
-import com.hanihome.hanihome_au_api.infrastructure.persistence.property.QPropertyJpaEntity;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyCreatedEvent;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyStatusChangedEvent;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaRepository;
 import com.hanihome.hanihome_au_api.presentation.dto.AutocompleteRequest;
 import com.hanihome.hanihome_au_api.presentation.dto.AutocompleteResponse;
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.EntityManager;
-import lombok.RequiredArgsConstructor;
+import com.hanihome.hanihome_au_api.repository.SearchHistoryRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * 매물 검색 자동완성
+ * - 활성 매물의 도시/구역/제목과 검색 기록의 인기 검색어를 메모리의 AutocompleteTrie 에 올려두고 키 입력마다 DB 없이 응답
+ * - 도시 순위는 활성 매물 수 + 해당 도시로 검색된 횟수, 인기 검색어 순위는 검색 기록의 키워드별 검색 횟수
+ * - 매물 생성/상태 변경 이벤트는 매물 id 만 대기열에 넣고, refresh 주기마다 해당 매물만 다시 읽어
+ *   바뀐 제목과 도시/구역 항목만 AutocompleteTrie.update 로 반영 (해당 키의 경로만 새로 만들고 나머지 노드는 공유)
+ * - 다른 노드의 변경, 제목 수정, 검색 빈도는 rebuild-interval 마다 전체 재구성으로 반영
+ * - 오타("melborne")와 조합 중인 한글 음절은 트라이가 처리하며, 하이라이트 구간도 트라이가 계산한 위치를 사용
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class PropertyAutocompleteService {
-    
-    private final EntityManager entityManager;
-    
+
+    private static final String LOCATION = "location";
+    private static final String PROPERTY_TITLE = "property_title";
+    private static final String POPULAR_SEARCH = "popular_search";
+    private static final int REFRESH_CHUNK_SIZE = 500;
+    /** Score deducted per edit for typo-tolerant matches so exact prefixes rank first */
+    private static final int FUZZY_PENALTY = 15;
+
+    private final PropertyJpaRepository propertyJpaRepository;
+    private final SearchHistoryRepository searchHistoryRepository;
+    private final Map<Long, IndexedListing> listings = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyListings = ConcurrentHashMap.newKeySet();
+    // 활성 매물의 도시/구역별 매물 수, rebuild 와 refresh 에서만 변경 (둘 다 synchronized)
+    private final Map<String, LocationCount> cities = new HashMap<>();
+    private final Map<String, LocationCount> districts = new HashMap<>();
+
+    private volatile Map<String, Long> keywordCounts = Map.of();
+    private volatile Map<String, Long> cityCounts = Map.of();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Value("${app.autocomplete.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.autocomplete.top-k:20}")
+    private int topK;
+
+    @Value("${app.autocomplete.load-page-size:1000}")
+    private int loadPageSize;
+
+    @Value("${app.autocomplete.popular-terms:1000}")
+    private int popularTerms;
+
+    public PropertyAutocompleteService(PropertyJpaRepository propertyJpaRepository,
+                                       SearchHistoryRepository searchHistoryRepository) {
+        this.propertyJpaRepository = propertyJpaRepository;
+        this.searchHistoryRepository = searchHistoryRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 활성 매물과 검색 빈도를 전체 다시 읽어 색인 재구성
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval-ms:600000}",
+               initialDelayString = "${app.autocomplete.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Map<Long, IndexedListing> loaded = new HashMap<>();
+
+        long afterId = 0;
+        List<Object[]> page;
+        do {
+            page = propertyJpaRepository.findActiveAutocompleteRows(afterId, PageRequest.of(0, loadPageSize));
+            for (Object[] row : page) {
+                loaded.put((Long) row[0], toListing(row));
+            }
+            if (!page.isEmpty()) {
+                afterId = (Long) page.get(page.size() - 1)[0];
+            }
+        } while (page.size() == loadPageSize);
+
+        keywordCounts = toCounts(searchHistoryRepository.sumSearchCountsByKeyword(popularTerms));
+        cityCounts = toCounts(searchHistoryRepository.sumSearchCountsByCity(popularTerms));
+        listings.keySet().retainAll(loaded.keySet());
+        listings.putAll(loaded);
+        compile();
+        log.info("Indexed {} listings and {} search terms for autocomplete in {} ms",
+                loaded.size(), keywordCounts.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 이벤트로 표시된 매물만 다시 읽어 반영
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        if (!enabled || dirtyListings.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(dirtyListings);
+        dirtyListings.removeAll(ids);
+
+        List<AutocompleteTrie.Entry> removedTitles = new ArrayList<>();
+        List<AutocompleteTrie.Entry> addedTitles = new ArrayList<>();
+        // Location entries as they were before this refresh changed their counts
+        Map<LocationCount, AutocompleteTrie.Entry> touched = new HashMap<>();
+
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, ids.size()));
+            Map<Long, IndexedListing> active = new HashMap<>();
+            for (Object[] row : propertyJpaRepository.findActiveAutocompleteRowsByIdIn(chunk)) {
+                active.put((Long) row[0], toListing(row));
+            }
+            for (Long id : chunk) {
+                IndexedListing previous = listings.get(id);
+                IndexedListing listing = active.get(id);
+                if (Objects.equals(previous, listing)) {
+                    continue;
+                }
+                if (previous != null) {
+                    listings.remove(id);
+                    addTitle(removedTitles, id, previous);
+                    countLocations(previous, -1, touched);
+                }
+                if (listing != null) {
+                    listings.put(id, listing);
+                    addTitle(addedTitles, id, listing);
+                    countLocations(listing, 1, touched);
+                }
+            }
+        }
+
+        List<AutocompleteTrie.Entry> removedLocations = new ArrayList<>();
+        List<AutocompleteTrie.Entry> addedLocations = new ArrayList<>();
+        touched.forEach((location, before) -> {
+            AutocompleteTrie.Entry after = location.entry();
+            if (!Objects.equals(before, after)) {
+                if (before != null) {
+                    removedLocations.add(before);
+                }
+                if (after != null) {
+                    addedLocations.add(after);
+                }
+            }
+        });
+
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(
+                current.locations().update(removedLocations, addedLocations),
+                current.titles().update(removedTitles, addedTitles),
+                current.popularSearches());
+        log.debug("Refreshed {} listings in the autocomplete index", ids.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPropertyCreated(PropertyCreatedEvent event) {
+        markDirty(event.getPropertyId().getValue());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPropertyStatusChanged(PropertyStatusChangedEvent event) {
+        markDirty(event.getPropertyId().getValue());
+    }
+
+    private void markDirty(Long propertyId) {
+        if (enabled) {
+            dirtyListings.add(propertyId);
+        }
+    }
+
     /**
      * Generate autocomplete suggestions based on query
      */
     public AutocompleteResponse getAutocompleteSuggestions(AutocompleteRequest request) {
-        log.info("Getting autocomplete suggestions for query: {}", request.getQuery());
+        log.debug("Getting autocomplete suggestions for query: {}", request.getQuery());
         
         List<AutocompleteResponse.AutocompleteSuggestion> suggestions = new ArrayList<>();
         String query = request.getQuery().toLowerCase().trim();
+        int limit = Math.min(request.getLimit(), topK);
+        Snapshot current = snapshot;
         
         // Get suggestions based on type
         switch (request.getType().toLowerCase()) {
-            case "location" -> suggestions.addAll(getLocationSuggestions(query, request.getLimit()));
-            case "property_title" -> suggestions.addAll(getPropertyTitleSuggestions(query, request.getLimit()));
+            case "location" -> suggestions.addAll(getLocationSuggestions(current, query, limit));
+            case "property_title" -> suggestions.addAll(getPropertyTitleSuggestions(current, query, limit));
             case "all" -> {
-                suggestions.addAll(getLocationSuggestions(query, request.getLimit() / 2));
-                suggestions.addAll(getPropertyTitleSuggestions(query, request.getLimit() / 2));
-                suggestions.addAll(getPopularSearchSuggestions(query, Math.max(2, request.getLimit() / 4)));
+                suggestions.addAll(getLocationSuggestions(current, query, limit / 2));
+                suggestions.addAll(getPropertyTitleSuggestions(current, query, limit / 2));
+                suggestions.addAll(getPopularSearchSuggestions(current, query, Math.max(2, limit / 4)));
             }
         }
         
         // Sort by score and limit results
         suggestions = suggestions.stream()
                 .sorted((s1, s2) -> Integer.compare(s2.getScore(), s1.getScore()))
-                .limit(request.getLimit())
+                .limit(limit)
                 .collect(Collectors.toList());
         
         return AutocompleteResponse.builder()
@@ -57,176 +223,202 @@ public class PropertyAutocompleteService {
     }
     
     /**
-     * Get location-based suggestions
+     * Get location-based suggestions (cities by listing count and search frequency, then districts)
      */
-    private List<AutocompleteResponse.AutocompleteSuggestion> getLocationSuggestions(String query, Integer limit) {
-        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-        QPropertyJpaEntity property = QPropertyJpaEntity.propertyJpaEntity;
-        
-        // Search cities
-        List<String> cities = queryFactory
-                .select(property.city)
-                .from(property)
-                .where(property.city.isNotNull()
-                        .and(property.city.toLowerCase().contains(query))
-                        .and(property.status.eq(PropertyJpaEntity.PropertyStatusEnum.ACTIVE)))
-                .groupBy(property.city)
-                .orderBy(property.count().desc())
-                .limit(limit)
-                .fetch();
-        
-        List<AutocompleteResponse.AutocompleteSuggestion> suggestions = new ArrayList<>();
-        
-        for (String city : cities) {
-            suggestions.add(AutocompleteResponse.AutocompleteSuggestion.builder()
-                    .text(city)
-                    .type("location")
-                    .highlighted(highlightQuery(city, query))
-                    .score(calculateLocationScore(city, query))
-                    .context("City")
-                    .build());
-        }
-        
-        return suggestions;
+    private List<AutocompleteResponse.AutocompleteSuggestion> getLocationSuggestions(Snapshot current, String query,
+                                                                                     int limit) {
+        return current.locations().suggest(query, limit).stream()
+                .map(match -> toSuggestion(match, LOCATION, calculateLocationScore(match)))
+                .collect(Collectors.toList());
     }
     
     /**
-     * Get property title suggestions
+     * Get property title suggestions (newest listings first)
      */
-    private List<AutocompleteResponse.AutocompleteSuggestion> getPropertyTitleSuggestions(String query, Integer limit) {
-        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-        QPropertyJpaEntity property = QPropertyJpaEntity.propertyJpaEntity;
-        
-        List<PropertyJpaEntity> properties = queryFactory
-                .selectFrom(property)
-                .where(property.title.isNotNull()
-                        .and(property.title.toLowerCase().contains(query))
-                        .and(property.status.eq(PropertyJpaEntity.PropertyStatusEnum.ACTIVE)))
-                .orderBy(property.createdDate.desc())
-                .limit(limit)
-                .fetch();
-        
-        return properties.stream()
-                .map(p -> AutocompleteResponse.AutocompleteSuggestion.builder()
-                        .text(p.getTitle())
-                        .type("property_title")
-                        .highlighted(highlightQuery(p.getTitle(), query))
-                        .score(calculateTitleScore(p.getTitle(), query))
-                        .context(p.getCity() + " • " + p.getPropertyType().name())
-                        .build())
+    private List<AutocompleteResponse.AutocompleteSuggestion> getPropertyTitleSuggestions(Snapshot current,
+                                                                                          String query, int limit) {
+        return current.titles().suggest(query, limit).stream()
+                .map(match -> toSuggestion(match, PROPERTY_TITLE, calculateTitleScore(match)))
                 .collect(Collectors.toList());
     }
     
     /**
-     * Get popular search suggestions
+     * Get popular search suggestions from search history keywords
      */
-    private List<AutocompleteResponse.AutocompleteSuggestion> getPopularSearchSuggestions(String query, Integer limit) {
-        // Static popular searches that match the query
-        Map<String, Integer> popularSearches = Map.of(
-                "apartment", 100,
-                "studio", 90,
-                "two room", 85,
-                "villa", 80,
-                "house", 75,
-                "officetel", 70,
-                "furnished", 60,
-                "parking", 55,
-                "pet friendly", 50,
-                "short term", 45
-        );
-        
-        return popularSearches.entrySet().stream()
-                .filter(entry -> entry.getKey().toLowerCase().contains(query))
-                .map(entry -> AutocompleteResponse.AutocompleteSuggestion.builder()
-                        .text(entry.getKey())
-                        .type("popular_search")
-                        .highlighted(highlightQuery(entry.getKey(), query))
-                        .score(entry.getValue())
-                        .context("Popular search")
-                        .build())
-                .sorted((s1, s2) -> Integer.compare(s2.getScore(), s1.getScore()))
-                .limit(limit)
+    private List<AutocompleteResponse.AutocompleteSuggestion> getPopularSearchSuggestions(Snapshot current,
+                                                                                          String query, int limit) {
+        return current.popularSearches().suggest(query, limit).stream()
+                .map(match -> toSuggestion(match, POPULAR_SEARCH, calculatePopularityScore(match)))
                 .collect(Collectors.toList());
     }
-    
+
+    private AutocompleteResponse.AutocompleteSuggestion toSuggestion(AutocompleteTrie.Match match, String type,
+                                                                   int score) {
+        return AutocompleteResponse.AutocompleteSuggestion.builder()
+                .text(match.entry().text())
+                .type(type)
+                .highlighted(highlight(match))
+                .score(score)
+                .context(match.entry().context())
+                .build();
+    }
+
+    private void compile() {
+        cities.clear();
+        districts.clear();
+        List<AutocompleteTrie.Entry> titles = new ArrayList<>(listings.size());
+
+        for (Map.Entry<Long, IndexedListing> mapEntry : listings.entrySet()) {
+            IndexedListing listing = mapEntry.getValue();
+            locationCounts(listing).forEach(location -> location.count++);
+            addTitle(titles, mapEntry.getKey(), listing);
+        }
+
+        List<AutocompleteTrie.Entry> locations = new ArrayList<>(cities.size() + districts.size());
+        cities.values().forEach(city -> locations.add(city.entry()));
+        districts.values().forEach(district -> locations.add(district.entry()));
+
+        List<AutocompleteTrie.Entry> popular = keywordCounts.entrySet().stream()
+                .map(term -> new AutocompleteTrie.Entry(term.getKey(), POPULAR_SEARCH, "Popular search", term.getValue()))
+                .toList();
+
+        snapshot = new Snapshot(
+                AutocompleteTrie.compile(locations, topK),
+                AutocompleteTrie.compile(titles, topK),
+                AutocompleteTrie.compile(popular, topK));
+    }
+
+    private static void addTitle(List<AutocompleteTrie.Entry> titles, Long id, IndexedListing listing) {
+        if (listing.title() != null && !listing.title().isBlank()) {
+            // Higher ids are newer listings, matching the former created-date ordering
+            titles.add(new AutocompleteTrie.Entry(listing.title(), PROPERTY_TITLE,
+                    listing.city() + " • " + listing.propertyType(), id));
+        }
+    }
+
     /**
-     * Highlight query matches in suggestion text
+     * Moves the listing's city and district counts by delta, keeping each count's entry from before its first move
      */
-    private String highlightQuery(String text, String query) {
-        if (text == null || query == null || query.isEmpty()) {
-            return text;
+    private void countLocations(IndexedListing listing, int delta, Map<LocationCount, AutocompleteTrie.Entry> touched) {
+        for (LocationCount location : locationCounts(listing)) {
+            if (!touched.containsKey(location)) {
+                touched.put(location, location.entry());
+            }
+            location.count += delta;
         }
-        
-        String lowercaseText = text.toLowerCase();
-        String lowercaseQuery = query.toLowerCase();
-        
-        if (!lowercaseText.contains(lowercaseQuery)) {
-            return text;
+    }
+
+    private List<LocationCount> locationCounts(IndexedListing listing) {
+        List<LocationCount> counts = new ArrayList<>(2);
+        if (listing.city() != null && !listing.city().isBlank()) {
+            counts.add(cities.computeIfAbsent(AutocompleteTrie.normalize(listing.city()),
+                    key -> new LocationCount(listing.city().trim(), "City", cityCounts.getOrDefault(key, 0L))));
         }
-        
-        int startIndex = lowercaseText.indexOf(lowercaseQuery);
-        int endIndex = startIndex + query.length();
-        
-        return text.substring(0, startIndex) + 
-               "<mark>" + text.substring(startIndex, endIndex) + "</mark>" + 
-               text.substring(endIndex);
+        if (listing.district() != null && !listing.district().isBlank()) {
+            String context = listing.city() == null ? "District" : "District • " + listing.city().trim();
+            counts.add(districts.computeIfAbsent(
+                    AutocompleteTrie.normalize(listing.district()) + "|" + AutocompleteTrie.normalize(listing.city()),
+                    key -> new LocationCount(listing.district().trim(), context, 0L)));
+        }
+        return counts;
     }
-    
+
+    private static IndexedListing toListing(Object[] row) {
+        return new IndexedListing((String) row[1], (String) row[2], (String) row[3],
+                row[4] == null ? null : row[4].toString());
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counts.merge(AutocompleteTrie.normalize((String) row[0]), ((Number) row[1]).longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private record IndexedListing(String title, String city, String district, String propertyType) {}
+
+    private record Snapshot(AutocompleteTrie locations, AutocompleteTrie titles, AutocompleteTrie popularSearches) {
+        static final Snapshot EMPTY = new Snapshot(AutocompleteTrie.empty(), AutocompleteTrie.empty(),
+                AutocompleteTrie.empty());
+    }
+
     /**
-     * Calculate relevance score for location suggestions
+     * Active listings in a city or district; a city also ranks by how often it was searched.
+     * Counts that drop to zero stay in the map without an index entry until the next rebuild.
      */
-    private Integer calculateLocationScore(String location, String query) {
-        if (location == null || query == null) {
-            return 0;
+    private static final class LocationCount {
+        private final String text;
+        private final String context;
+        private final long searches;
+        private long count;
+
+        LocationCount(String text, String context, long searches) {
+            this.text = text;
+            this.context = context;
+            this.searches = searches;
         }
-        
-        String lowercaseLocation = location.toLowerCase();
-        String lowercaseQuery = query.toLowerCase();
-        
-        // Exact match gets highest score
-        if (lowercaseLocation.equals(lowercaseQuery)) {
-            return 100;
+
+        AutocompleteTrie.Entry entry() {
+            return count <= 0 ? null : new AutocompleteTrie.Entry(text, LOCATION, context, count + searches);
         }
-        
-        // Starts with query gets high score
-        if (lowercaseLocation.startsWith(lowercaseQuery)) {
-            return 80;
+    }
+    
+    /**
+     * Highlight the matched range computed by the index
+     */
+    private String highlight(AutocompleteTrie.Match match) {
+        String text = match.entry().text();
+        if (match.highlightStart() >= match.highlightEnd()) {
+            return text;
         }
-        
-        // Contains query gets medium score
-        if (lowercaseLocation.contains(lowercaseQuery)) {
-            return 60;
+        return text.substring(0, match.highlightStart()) +
+               "<mark>" + text.substring(match.highlightStart(), match.highlightEnd()) + "</mark>" +
+               text.substring(match.highlightEnd());
+    }
+    
+    /**
+     * Calculate relevance score for location suggestions
+     */
+    private int calculateLocationScore(AutocompleteTrie.Match match) {
+        int score;
+        if (match.coversText()) {
+            // Exact match gets highest score
+            score = 100;
+        } else if (match.startsAtBeginning()) {
+            // Starts with query gets high score
+            score = 80;
+        } else {
+            // Matches a later word gets medium score
+            score = 60;
         }
-        
-        return 40;
+        return score - FUZZY_PENALTY * match.distance();
     }
     
     /**
      * Calculate relevance score for title suggestions
      */
-    private Integer calculateTitleScore(String title, String query) {
-        if (title == null || query == null) {
-            return 0;
-        }
-        
-        String lowercaseTitle = title.toLowerCase();
-        String lowercaseQuery = query.toLowerCase();
-        
-        int score = 0;
+    private int calculateTitleScore(AutocompleteTrie.Match match) {
+        int score = 30;
         
         // Title starts with query
-        if (lowercaseTitle.startsWith(lowercaseQuery)) {
+        if (match.startsAtBeginning()) {
             score += 50;
         }
         
-        // Query appears in title
-        if (lowercaseTitle.contains(lowercaseQuery)) {
-            score += 30;
-        }
-        
         // Shorter titles get slight boost for relevance
-        score += Math.max(0, 100 - title.length());
+        score += Math.max(0, 100 - match.entry().text().length());
         
-        return score;
+        return score - FUZZY_PENALTY * match.distance();
+    }
+    
+    /**
+     * Map search counts to the 40-100 range used by the other suggestion scores
+     */
+    private int calculatePopularityScore(AutocompleteTrie.Match match) {
+        int score = (int) Math.min(100, 40 + Math.round(10 * Math.log10(match.entry().weight() + 1)));
+        return score - FUZZY_PENALTY * match.distance();
     }
-}
\ No newline at end of file
+}
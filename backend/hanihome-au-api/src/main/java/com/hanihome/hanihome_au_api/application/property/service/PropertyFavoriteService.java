@@ -106,7 +106,7 @@ public class PropertyFavoriteService {
     }
 
     @Cacheable(value = "userFavorites", key = "#userId + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
-    public Page<PropertyFavoriteResponseDto> getUserFavorites(Long userId, Pageable pageable) {
+    public PropertyFavoritePageDto getUserFavorites(Long userId, Pageable pageable) {
         Page<PropertyFavorite> favorites = favoriteRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
         
         // Get property IDs and fetch properties in batch
@@ -117,15 +117,15 @@ public class PropertyFavoriteService {
         Map<Long, Property> propertyMap = propertyRepository.findAllById(propertyIds).stream()
                 .collect(Collectors.toMap(property -> property.getId().getValue(), property -> property));
 
-        return favorites.map(favorite -> {
+        return PropertyFavoritePageDto.from(favorites.map(favorite -> {
             Property property = propertyMap.get(favorite.getPropertyId());
             PropertyResponseDto propertyDto = property != null ? PropertyResponseDto.from(property) : null;
             return PropertyFavoriteResponseDto.from(favorite, propertyDto);
-        });
+        }));
     }
 
     @Cacheable(value = "userFavorites", key = "#userId + '_category_' + #category + '_' + #pageable.pageNumber")
-    public Page<PropertyFavoriteResponseDto> getUserFavoritesByCategory(Long userId, String category, Pageable pageable) {
+    public PropertyFavoritePageDto getUserFavoritesByCategory(Long userId, String category, Pageable pageable) {
         Page<PropertyFavorite> favorites = favoriteRepository.findByUserIdAndCategoryOrderByCreatedAtDesc(userId, category, pageable);
         
         Set<Long> propertyIds = favorites.getContent().stream()
@@ -135,11 +135,11 @@ public class PropertyFavoriteService {
         Map<Long, Property> propertyMap = propertyRepository.findAllById(propertyIds).stream()
                 .collect(Collectors.toMap(property -> property.getId().getValue(), property -> property));
 
-        return favorites.map(favorite -> {
+        return PropertyFavoritePageDto.from(favorites.map(favorite -> {
             Property property = propertyMap.get(favorite.getPropertyId());
             PropertyResponseDto propertyDto = property != null ? PropertyResponseDto.from(property) : null;
             return PropertyFavoriteResponseDto.from(favorite, propertyDto);
-        });
+        }));
     }
 
     @Cacheable(value = "favoriteStats", key = "#userId + '_categories'")
@@ -3,14 +3,20 @@ package com.hanihome.hanihome_au_api.application.property.service;
 import com.hanihome.hanihome_au_api.application.property.dto.PropertyResponseDto;
 import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
 import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTracing;
 import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertySearchFunctionContributor;
 import com.hanihome.hanihome_au_api.infrastructure.persistence.property.QPropertyJpaEntity;
 import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchRequest;
 import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchResponse;
 import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchCursor;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
@@ -19,6 +25,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -30,7 +37,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,6 +53,11 @@ public class PropertySearchService {
     
     private final EntityManager entityManager;
     private final PropertyApplicationService propertyApplicationService;
+    private final SearchTracing searchTracing;
+
+    /** Keyword search through the stored tsvector (PostgreSQL); disabled on H2 where it falls back to LIKE */
+    @Value("${app.search.full-text.enabled:true}")
+    private boolean fullTextEnabled;
     
     /**
      * Advanced search for properties with multiple filter criteria
@@ -55,7 +72,8 @@ public class PropertySearchService {
         QPropertyJpaEntity property = QPropertyJpaEntity.propertyJpaEntity;
         
         // Build dynamic query with filters
-        BooleanBuilder whereClause = buildSearchCriteria(request, property);
+        SearchCriteria criteria = searchTracing.stage("search.criteria", () -> buildSearchCriteria(request, property));
+        BooleanBuilder whereClause = criteria.all();
         
         // Create base query
         JPAQuery<PropertyJpaEntity> baseQuery = queryFactory
@@ -73,13 +91,21 @@ public class PropertySearchService {
             applyCursorPagination(baseQuery, request.getCursor(), property, request.getSortBy());
         }
         
-        // Count total elements for pagination (skip for cursor-based to improve performance)
+        // Count total elements for pagination (skip for cursor-based to improve performance);
+        // requested facets are counted by the same aggregate query
         long totalElements = 0;
-        if (request.getCursor() == null || !Boolean.TRUE.equals(request.getCursor().getUseCursor())) {
-            totalElements = queryFactory
+        Map<String, Map<String, Long>> facetCounts = null;
+        List<SearchFacet> facets = SearchFacet.resolve(request.getFacets());
+        if (!facets.isEmpty()) {
+            FacetCounts counts = searchTracing.stage("search.count",
+                    () -> countWithFacets(queryFactory, property, criteria, facets));
+            totalElements = counts.total();
+            facetCounts = counts.facets();
+        } else if (request.getCursor() == null || !Boolean.TRUE.equals(request.getCursor().getUseCursor())) {
+            totalElements = searchTracing.stage("search.count", () -> queryFactory
                     .selectFrom(property)
                     .where(whereClause)
-                    .fetchCount();
+                    .fetchCount());
         }
         
         // Apply pagination and fetch results
@@ -88,27 +114,29 @@ public class PropertySearchService {
         
         if (request.getCursor() != null && Boolean.TRUE.equals(request.getCursor().getUseCursor())) {
             // Cursor-based pagination - fetch one extra to determine if there's a next page
-            entities = baseQuery
+            entities = searchTracing.stage("search.fetch", () -> baseQuery
                     .limit(request.getSize() + 1)
-                    .fetch();
+                    .fetch());
         } else {
             // Traditional offset-based pagination
-            pageable = PageRequest.of(request.getPage(), request.getSize());
-            entities = baseQuery
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
+            Pageable offsetPage = PageRequest.of(request.getPage(), request.getSize());
+            pageable = offsetPage;
+            entities = searchTracing.stage("search.fetch", () -> baseQuery
+                    .offset(offsetPage.getOffset())
+                    .limit(offsetPage.getPageSize())
+                    .fetch());
         }
         
         // Handle cursor-based pagination response
         if (request.getCursor() != null && Boolean.TRUE.equals(request.getCursor().getUseCursor())) {
-            return buildCursorBasedResponse(entities, request);
+            Map<String, Map<String, Long>> cursorFacets = facetCounts;
+            return searchTracing.stage("search.mapping", () -> buildCursorBasedResponse(entities, request, cursorFacets));
         }
         
         // Traditional pagination response
-        List<PropertyResponseDto> propertyDtos = entities.stream()
+        List<PropertyResponseDto> propertyDtos = searchTracing.stage("search.mapping", () -> entities.stream()
                 .map(this::convertToDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
         
         // Create page for metadata
         Page<PropertyResponseDto> page = new PageImpl<>(propertyDtos, pageable, totalElements);
@@ -126,25 +154,26 @@ public class PropertySearchService {
                 .hasNext(page.hasNext())
                 .hasPrevious(page.hasPrevious())
                 .filterSummary(buildFilterSummary(request))
+                .facets(facetCounts)
                 .build();
     }
     
     /**
-     * Build dynamic search criteria using QueryDSL BooleanBuilder
+     * Build dynamic search criteria using QueryDSL BooleanBuilder.
+     * Filters on a facet dimension are kept apart so the facet counts can leave out the dimension's own filter
      */
-    private BooleanBuilder buildSearchCriteria(PropertySearchRequest request, QPropertyJpaEntity property) {
+    private SearchCriteria buildSearchCriteria(PropertySearchRequest request, QPropertyJpaEntity property) {
         BooleanBuilder builder = new BooleanBuilder();
+        Map<SearchFacet, BooleanBuilder> facetFilters = new EnumMap<>(SearchFacet.class);
         
-        // Only show active properties by default
-        builder.and(property.status.eq(PropertyJpaEntity.PropertyStatusEnum.ACTIVE));
+        // Only show active properties by default. Written as the enum literal (HQL resolves the bare ACTIVE against
+        // the status type) so the SQL carries status = 'ACTIVE': the search indexes are partial on that predicate,
+        // which the planner cannot prove from a bound parameter once the statement switches to a generic plan
+        builder.and(Expressions.booleanTemplate("{0} = ACTIVE", property.status));
         
         // Keyword search (title and description)
         if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
-            String keyword = "%" + request.getKeyword().toLowerCase() + "%";
-            builder.and(
-                property.title.lower().like(keyword)
-                    .or(property.description.lower().like(keyword))
-            );
+            builder.and(buildKeywordFilter(request.getKeyword().trim(), property));
         }
         
         // Property types filter
@@ -159,7 +188,7 @@ public class PropertySearchService {
                 }
             }
             if (typeFilter != null) {
-                builder.and(typeFilter);
+                facetFilter(facetFilters, SearchFacet.PROPERTY_TYPE).and(typeFilter);
             }
         }
         
@@ -175,16 +204,16 @@ public class PropertySearchService {
                 }
             }
             if (rentalFilter != null) {
-                builder.and(rentalFilter);
+                facetFilter(facetFilters, SearchFacet.RENTAL_TYPE).and(rentalFilter);
             }
         }
         
         // Price range filters
         if (request.getMinRentPrice() != null) {
-            builder.and(property.monthlyRent.goe(request.getMinRentPrice()));
+            facetFilter(facetFilters, SearchFacet.PRICE_BAND).and(property.monthlyRent.goe(request.getMinRentPrice()));
         }
         if (request.getMaxRentPrice() != null) {
-            builder.and(property.monthlyRent.loe(request.getMaxRentPrice()));
+            facetFilter(facetFilters, SearchFacet.PRICE_BAND).and(property.monthlyRent.loe(request.getMaxRentPrice()));
         }
         
         // Deposit range filters
@@ -197,10 +226,10 @@ public class PropertySearchService {
         
         // Room count filters
         if (request.getMinBedrooms() != null) {
-            builder.and(property.rooms.goe(request.getMinBedrooms()));
+            facetFilter(facetFilters, SearchFacet.BEDROOMS).and(property.rooms.goe(request.getMinBedrooms()));
         }
         if (request.getMaxBedrooms() != null) {
-            builder.and(property.rooms.loe(request.getMaxBedrooms()));
+            facetFilter(facetFilters, SearchFacet.BEDROOMS).and(property.rooms.loe(request.getMaxBedrooms()));
         }
         
         // Bathroom count filters
@@ -231,16 +260,16 @@ public class PropertySearchService {
         
         // Amenity filters
         if (Boolean.TRUE.equals(request.getParkingRequired())) {
-            builder.and(property.parkingAvailable.isTrue());
+            facetFilter(facetFilters, SearchFacet.AMENITIES).and(property.parkingAvailable.isTrue());
         }
         if (Boolean.TRUE.equals(request.getPetAllowedRequired())) {
-            builder.and(property.petAllowed.isTrue());
+            facetFilter(facetFilters, SearchFacet.AMENITIES).and(property.petAllowed.isTrue());
         }
         if (Boolean.TRUE.equals(request.getFurnishedRequired())) {
-            builder.and(property.furnished.isTrue());
+            facetFilter(facetFilters, SearchFacet.AMENITIES).and(property.furnished.isTrue());
         }
         if (Boolean.TRUE.equals(request.getShortTermAvailableRequired())) {
-            builder.and(property.shortTermAvailable.isTrue());
+            facetFilter(facetFilters, SearchFacet.AMENITIES).and(property.shortTermAvailable.isTrue());
         }
         
         // Recent properties filter
@@ -249,7 +278,125 @@ public class PropertySearchService {
             builder.and(property.createdDate.goe(since));
         }
         
-        return builder;
+        return new SearchCriteria(builder, facetFilters);
+    }
+    
+    private static BooleanBuilder facetFilter(Map<SearchFacet, BooleanBuilder> facetFilters, SearchFacet facet) {
+        return facetFilters.computeIfAbsent(facet, ignored -> new BooleanBuilder());
+    }
+    
+    /**
+     * Search filters split into the facet dimensions they narrow and everything else
+     */
+    private record SearchCriteria(BooleanBuilder base, Map<SearchFacet, BooleanBuilder> facetFilters) {
+        
+        /** Every filter of the request, as applied to the result page */
+        BooleanBuilder all() {
+            return without(List.of());
+        }
+        
+        /** The filters apart from those on the given dimensions */
+        BooleanBuilder without(Collection<SearchFacet> excluded) {
+            BooleanBuilder where = new BooleanBuilder(base);
+            facetFilters.forEach((facet, filter) -> {
+                if (!excluded.contains(facet)) {
+                    where.and(filter);
+                }
+            });
+            return where;
+        }
+    }
+    
+    /**
+     * Count the matching properties and every bucket of the requested facets in one pass.
+     * A facet's buckets leave out the filter on that facet's own dimension (the usual drill-down behaviour:
+     * picking APARTMENT still shows how many VILLA listings there are), so the WHERE clause keeps only the
+     * filters of the other dimensions and each requested dimension's filter moves into the CASE of the sums
+     * that must honour it. The cost stays that of one count query regardless of how many facets are requested
+     */
+    private FacetCounts countWithFacets(JPAQueryFactory queryFactory, QPropertyJpaEntity property,
+                                        SearchCriteria criteria, List<SearchFacet> facets) {
+        List<Expression<?>> columns = new ArrayList<>();
+        Predicate totalFilter = facetFiltersExcept(criteria, facets, null);
+        columns.add(totalFilter == null ? property.id.count() : conditionalCount(totalFilter));
+        List<List<SearchFacet.Bucket>> bucketsByFacet = new ArrayList<>(facets.size());
+        for (SearchFacet facet : facets) {
+            List<SearchFacet.Bucket> buckets = facet.buckets(property);
+            bucketsByFacet.add(buckets);
+            Predicate otherFilters = facetFiltersExcept(criteria, facets, facet);
+            for (SearchFacet.Bucket bucket : buckets) {
+                columns.add(conditionalCount(otherFilters == null
+                        ? bucket.predicate()
+                        : ExpressionUtils.and(bucket.predicate(), otherFilters)));
+            }
+        }
+        
+        Tuple row = queryFactory
+                .select(columns.toArray(new Expression<?>[0]))
+                .from(property)
+                .where(criteria.without(facets))
+                .fetchOne();
+        
+        int column = 0;
+        long total = countAt(row, column++);
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        for (int i = 0; i < facets.size(); i++) {
+            Map<String, Long> bucketCounts = new LinkedHashMap<>();
+            for (SearchFacet.Bucket bucket : bucketsByFacet.get(i)) {
+                bucketCounts.put(bucket.value(), countAt(row, column++));
+            }
+            counts.put(facets.get(i).dimension(), bucketCounts);
+        }
+        return new FacetCounts(total, counts);
+    }
+    
+    /**
+     * @return the filters on the requested dimensions other than {@code excluded}, or null when there are none
+     */
+    private Predicate facetFiltersExcept(SearchCriteria criteria, List<SearchFacet> facets, SearchFacet excluded) {
+        List<Predicate> filters = new ArrayList<>();
+        for (SearchFacet facet : facets) {
+            BooleanBuilder filter = criteria.facetFilters().get(facet);
+            if (facet != excluded && filter != null) {
+                filters.add(filter.getValue());
+            }
+        }
+        return ExpressionUtils.allOf(filters);
+    }
+    
+    private NumberExpression<Long> conditionalCount(Predicate condition) {
+        return Expressions.numberTemplate(Long.class, "sum(case when {0} then 1 else 0 end)", condition);
+    }
+    
+    private long countAt(Tuple row, int column) {
+        // SUM over no rows is NULL
+        Number value = row == null ? null : row.get(column, Number.class);
+        return value == null ? 0 : value.longValue();
+    }
+    
+    private record FacetCounts(long total, Map<String, Map<String, Long>> facets) {
+    }
+    
+    /**
+     * Build keyword filter over title and description.
+     * Full-text mode matches the trigger-maintained search_vector through its GIN index; Korean keywords
+     * additionally match inside longer words ("강남" in "강남역에서") through the trigram indexes on the LIKE predicate
+     */
+    private BooleanExpression buildKeywordFilter(String keyword, QPropertyJpaEntity property) {
+        String pattern = "%" + keyword.toLowerCase() + "%";
+        BooleanExpression substringMatch = property.title.lower().like(pattern)
+                .or(property.description.lower().like(pattern));
+        if (!fullTextEnabled) {
+            return substringMatch;
+        }
+        
+        BooleanExpression fullTextMatch = Expressions.booleanTemplate(
+                PropertySearchFunctionContributor.MATCH_FUNCTION + "({0}, {1}) = true", property.title, keyword);
+        return containsHangul(keyword) ? fullTextMatch.or(substringMatch) : fullTextMatch;
+    }
+    
+    private boolean containsHangul(String keyword) {
+        return keyword.codePoints().anyMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL);
     }
     
     /**
@@ -284,10 +431,19 @@ public class PropertySearchService {
             case "createdat" -> new OrderSpecifier<>(order, property.createdDate);
             case "area" -> new OrderSpecifier<>(order, property.area);
             case "deposit" -> new OrderSpecifier<>(order, property.deposit);
+            case "relevance" -> hasFullTextKeyword(request)
+                    ? new OrderSpecifier<>(order, Expressions.numberTemplate(Double.class,
+                            PropertySearchFunctionContributor.RANK_FUNCTION + "({0}, {1})",
+                            property.title, request.getKeyword().trim()))
+                    : new OrderSpecifier<>(order, property.createdDate);
             default -> new OrderSpecifier<>(order, property.createdDate);
         };
     }
     
+    private boolean hasFullTextKeyword(PropertySearchRequest request) {
+        return fullTextEnabled && request.getKeyword() != null && !request.getKeyword().trim().isEmpty();
+    }
+    
     /**
      * Convert domain PropertyType to JPA PropertyTypeEnum
      */
@@ -395,7 +551,8 @@ public class PropertySearchService {
     /**
      * Build cursor-based pagination response
      */
-    private PropertySearchResponse buildCursorBasedResponse(List<PropertyJpaEntity> entities, PropertySearchRequest request) {
+    private PropertySearchResponse buildCursorBasedResponse(List<PropertyJpaEntity> entities, PropertySearchRequest request,
+                                                            Map<String, Map<String, Long>> facetCounts) {
         boolean hasNext = entities.size() > request.getSize();
         
         // Remove extra entity if it exists
@@ -431,6 +588,7 @@ public class PropertySearchService {
                 .hasPrevious(request.getCursor().getLastId() != null)
                 .nextCursor(nextCursor)
                 .filterSummary(buildFilterSummary(request))
+                .facets(facetCounts)
                 .build();
     }
     
@@ -0,0 +1,100 @@
+package com.hanihome.hanihome_au_api.application.property.service;
+
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.QPropertyJpaEntity;
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색 결과 옆에 표시할 패싯 차원과 구간 정의
+ * - 각 구간은 매물 조건식 하나로, PropertySearchService 가 모든 구간을 한 번의 집계 쿼리로 셈
+ * - 차원별 개수는 그 차원 자신의 검색 필터를 빼고 셈 (다른 차원의 필터와 나머지 검색 조건은 적용)
+ * - 요청의 facets 값(차원 이름)은 대소문자 무시, 알 수 없는 이름은 무시
+ */
+enum SearchFacet {
+
+    PROPERTY_TYPE("propertyType"),
+    RENTAL_TYPE("rentalType"),
+    BEDROOMS("bedrooms"),
+    PRICE_BAND("priceBand"),
+    AMENITIES("amenities");
+
+    /** Upper bounds (exclusive) of the monthly rent bands; the last band is open-ended */
+    private static final int[] PRICE_BAND_LIMITS = {1000, 2000, 3000, 5000};
+    private static final int MAX_BEDROOM_BUCKET = 4;
+
+    private final String dimension;
+
+    SearchFacet(String dimension) {
+        this.dimension = dimension;
+    }
+
+    String dimension() {
+        return dimension;
+    }
+
+    /**
+     * @return requested facets in declaration order, without duplicates
+     */
+    static List<SearchFacet> resolve(List<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return List.of();
+        }
+        Set<SearchFacet> facets = EnumSet.noneOf(SearchFacet.class);
+        for (String name : requested) {
+            Arrays.stream(values())
+                    .filter(facet -> facet.dimension.equalsIgnoreCase(name == null ? "" : name.trim()))
+                    .findFirst()
+                    .ifPresent(facets::add);
+        }
+        return List.copyOf(facets);
+    }
+
+    List<Bucket> buckets(QPropertyJpaEntity property) {
+        List<Bucket> buckets = new ArrayList<>();
+        switch (this) {
+            case PROPERTY_TYPE -> {
+                for (PropertyJpaEntity.PropertyTypeEnum type : PropertyJpaEntity.PropertyTypeEnum.values()) {
+                    buckets.add(new Bucket(type.name(), property.propertyType.eq(type)));
+                }
+            }
+            case RENTAL_TYPE -> {
+                for (PropertyJpaEntity.RentalTypeEnum type : PropertyJpaEntity.RentalTypeEnum.values()) {
+                    buckets.add(new Bucket(type.name(), property.rentalType.eq(type)));
+                }
+            }
+            case BEDROOMS -> {
+                // Same column as the minBedrooms / maxBedrooms filters
+                for (int rooms = 0; rooms < MAX_BEDROOM_BUCKET; rooms++) {
+                    buckets.add(new Bucket(String.valueOf(rooms), property.rooms.eq(rooms)));
+                }
+                buckets.add(new Bucket(MAX_BEDROOM_BUCKET + "+", property.rooms.goe(MAX_BEDROOM_BUCKET)));
+            }
+            case PRICE_BAND -> {
+                int lower = 0;
+                for (int upper : PRICE_BAND_LIMITS) {
+                    buckets.add(new Bucket(lower + "-" + upper, property.monthlyRent.goe(BigDecimal.valueOf(lower))
+                            .and(property.monthlyRent.lt(BigDecimal.valueOf(upper)))));
+                    lower = upper;
+                }
+                buckets.add(new Bucket(lower + "+", property.monthlyRent.goe(BigDecimal.valueOf(lower))));
+            }
+            case AMENITIES -> {
+                buckets.add(new Bucket("parking", property.parkingAvailable.isTrue()));
+                buckets.add(new Bucket("petAllowed", property.petAllowed.isTrue()));
+                buckets.add(new Bucket("furnished", property.furnished.isTrue()));
+                buckets.add(new Bucket("shortTermAvailable", property.shortTermAvailable.isTrue()));
+            }
+        }
+        return buckets;
+    }
+
+    record Bucket(String value, BooleanExpression predicate) {
+    }
+}
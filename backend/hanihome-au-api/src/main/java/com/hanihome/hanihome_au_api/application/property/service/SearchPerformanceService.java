@@ -1,5 +1,11 @@
 package com.hanihome.hanihome_au_api.application.property.service;
 
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTraceRecorder;
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTracing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
@@ -8,7 +14,10 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -19,11 +28,20 @@ public class SearchPerformanceService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final SearchTraceRecorder searchTraceRecorder;
 
     private static final String SEARCH_STATS_PREFIX = "search:stats:";
     private static final String SLOW_QUERY_PREFIX = "search:slow:";
     private static final String CACHE_STATS_PREFIX = "cache:stats:";
 
+    /**
+     * Latency of one search stage over the recent window (percentiles decay over a few minutes), in milliseconds
+     */
+    public record StageLatency(String stage, long count, double meanMillis, double p50Millis, double p95Millis,
+                               double p99Millis, double maxMillis) {
+    }
+
     /**
      * Record search performance metrics
      */
@@ -164,6 +182,50 @@ public class SearchPerformanceService {
         return redisTemplate.opsForList().range(key, 0, limit - 1);
     }
 
+    /**
+     * Per-stage latency of traced search requests, whole request ("total") first, then slowest p95 first
+     * Only successful executions are included; percentiles come from management.metrics.distribution.percentiles.
+     */
+    public List<StageLatency> getStageLatencies() {
+        List<StageLatency> stages = new ArrayList<>();
+        for (Timer timer : meterRegistry.find(SearchTracing.REQUEST).tag("error", "none").timers()) {
+            stages.add(toStageLatency("total", timer));
+        }
+        List<StageLatency> byStage = new ArrayList<>();
+        for (Timer timer : meterRegistry.find(SearchTracing.STAGE).tag("error", "none").timers()) {
+            byStage.add(toStageLatency(timer.getId().getTag(SearchTracing.STAGE_KEY), timer));
+        }
+        byStage.sort(Comparator.comparingDouble(StageLatency::p95Millis).reversed());
+        stages.addAll(byStage);
+        return stages;
+    }
+
+    /**
+     * Stage breakdown of the most recent slow search requests, kept in memory on this node
+     */
+    public List<SearchTraceRecorder.SlowTrace> getSlowTraces(int limit) {
+        return searchTraceRecorder.getSlowTraces(limit);
+    }
+
+    private static StageLatency toStageLatency(String stage, Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        double p50 = Double.NaN;
+        double p95 = Double.NaN;
+        double p99 = Double.NaN;
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            double millis = value.value(TimeUnit.MILLISECONDS);
+            if (value.percentile() == 0.5) {
+                p50 = millis;
+            } else if (value.percentile() == 0.95) {
+                p95 = millis;
+            } else if (value.percentile() == 0.99) {
+                p99 = millis;
+            }
+        }
+        return new StageLatency(stage, timer.count(), timer.mean(TimeUnit.MILLISECONDS), p50, p95, p99,
+                timer.max(TimeUnit.MILLISECONDS));
+    }
+
     /**
      * Clear old cache entries manually
      */
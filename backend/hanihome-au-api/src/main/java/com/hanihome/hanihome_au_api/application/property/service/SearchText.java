@@ -0,0 +1,128 @@
+package com.hanihome.hanihome_au_api.application.property.service;
+
+import java.text.Normalizer;
+
+/**
+ * 자동완성 검색용 정규형과 원문 위치 매핑
+ * - NFC 조합 후 소문자 변환, 앞뒤 공백 제거, 연속 공백을 하나로 축약
+ * - 한글 음절과 겹자모를 기본 자모 단위로 분해 ("과" → ㄱㅗㅏ, "닭" → ㄷㅏㄹㄱ) 하여
+ *   조합 중인 입력("가" 까지 친 "강남", "고" 까지 친 "과천")도 접두사로 일치
+ * - 정규형의 각 문자가 원문의 몇 번째 문자에서 왔는지 기록하여 하이라이트 구간을 원문 기준으로 되돌림
+ */
+final class SearchText {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+    private static final int COMPAT_JAMO_BASE = 0x3131;
+    private static final int COMPAT_JAMO_LAST = 0x3163;
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+
+    /** Basic jamo of each compatibility jamo U+3131..U+3163, compound ones split in typing order */
+    private static final String[] COMPAT_JAMO = new String[COMPAT_JAMO_LAST - COMPAT_JAMO_BASE + 1];
+
+    static {
+        for (int i = 0; i < COMPAT_JAMO.length; i++) {
+            COMPAT_JAMO[i] = String.valueOf((char) (COMPAT_JAMO_BASE + i));
+        }
+        for (int i = 0; i < COMPOUND_JAMO.length(); i++) {
+            COMPAT_JAMO[COMPOUND_JAMO.charAt(i) - COMPAT_JAMO_BASE] = COMPOUND_JAMO_PARTS[i];
+        }
+    }
+
+    private final String text;
+    private final String form;
+    private final int[] sourceIndex;
+
+    private SearchText(String text, String form, int[] sourceIndex) {
+        this.text = text;
+        this.form = form;
+        this.sourceIndex = sourceIndex;
+    }
+
+    static SearchText of(String raw) {
+        String text = raw == null ? "" : Normalizer.normalize(raw, Normalizer.Form.NFC);
+        StringBuilder form = new StringBuilder(text.length() + 8);
+        // A syllable expands to at most five jamo
+        int[] sources = new int[text.length() * 5 + 1];
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = form.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sources[form.length()] = i - 1;
+                form.append(' ');
+                pendingSpace = false;
+            }
+            int before = form.length();
+            appendSearchForm(Character.toLowerCase(c), form);
+            for (int k = before; k < form.length(); k++) {
+                sources[k] = i;
+            }
+        }
+
+        int[] sourceIndex = new int[form.length() + 1];
+        System.arraycopy(sources, 0, sourceIndex, 0, form.length());
+        sourceIndex[form.length()] = text.length();
+        return new SearchText(text, form.toString(), sourceIndex);
+    }
+
+    static String normalize(String raw) {
+        return of(raw).form;
+    }
+
+    /**
+     * NFC form of the original text; highlight offsets refer to it
+     */
+    String text() {
+        return text;
+    }
+
+    String form() {
+        return form;
+    }
+
+    /**
+     * Start of the original text range covering form[formStart, formEnd)
+     */
+    int textStart(int formStart) {
+        return sourceIndex[formStart];
+    }
+
+    /**
+     * End of that range; a partially typed syllable highlights the whole syllable
+     */
+    int textEnd(int formEnd) {
+        return formEnd == 0 ? 0 : sourceIndex[formEnd - 1] + 1;
+    }
+
+    private static void appendSearchForm(char c, StringBuilder form) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int offset = c - SYLLABLE_BASE;
+            form.append(INITIALS.charAt(offset / (MEDIAL_COUNT * FINAL_COUNT)));
+            form.append(MEDIALS[(offset / FINAL_COUNT) % MEDIAL_COUNT]);
+            form.append(FINALS[offset % FINAL_COUNT]);
+        } else if (c >= COMPAT_JAMO_BASE && c <= COMPAT_JAMO_LAST) {
+            form.append(COMPAT_JAMO[c - COMPAT_JAMO_BASE]);
+        } else {
+            form.append(c);
+        }
+    }
+}
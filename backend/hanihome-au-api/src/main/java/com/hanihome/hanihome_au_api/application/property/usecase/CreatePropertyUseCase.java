@@ -7,15 +7,18 @@ import com.hanihome.hanihome_au_api.domain.property.repository.PropertyRepositor
 import com.hanihome.hanihome_au_api.domain.property.valueobject.*;
 import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
 import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEventPublisher;
 import com.hanihome.hanihome_au_api.domain.shared.valueobject.Address;
 import com.hanihome.hanihome_au_api.domain.shared.valueobject.Money;
 import com.hanihome.hanihome_au_api.domain.user.valueobject.UserId;
 
 public class CreatePropertyUseCase {
     private final PropertyRepository propertyRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
-    public CreatePropertyUseCase(PropertyRepository propertyRepository) {
+    public CreatePropertyUseCase(PropertyRepository propertyRepository, DomainEventPublisher domainEventPublisher) {
         this.propertyRepository = propertyRepository;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     public PropertyResponseDto execute(CreatePropertyCommand command) {
@@ -63,6 +66,8 @@ public class CreatePropertyUseCase {
         );
 
         Property savedProperty = propertyRepository.save(property);
+        property.getDomainEvents().forEach(domainEventPublisher::publish);
+        property.clearDomainEvents();
 
         return mapToResponseDto(savedProperty);
     }
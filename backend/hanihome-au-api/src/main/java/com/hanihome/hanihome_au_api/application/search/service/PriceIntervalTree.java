@@ -0,0 +1,130 @@
+package com.hanihome.hanihome_au_api.application.search.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Immutable centered interval tree over closed [low, high] ranges
+ * - Stabbing query (all intervals containing a point) in O(log n + k)
+ * - Rebuilt only after its partition has buffered enough changes; readers never see a partially built tree
+ */
+final class PriceIntervalTree<T> {
+
+    record Interval<T>(long low, long high, T value) {}
+
+    private static final PriceIntervalTree<?> EMPTY = new PriceIntervalTree<>(null, 0);
+
+    private final Node<T> root;
+    private final int size;
+
+    private PriceIntervalTree(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PriceIntervalTree<T> empty() {
+        return (PriceIntervalTree<T>) EMPTY;
+    }
+
+    static <T> PriceIntervalTree<T> build(List<Interval<T>> intervals) {
+        if (intervals.isEmpty()) {
+            return empty();
+        }
+        return new PriceIntervalTree<>(buildNode(intervals), intervals.size());
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Visit every interval with low &lt;= point &lt;= high
+     */
+    void stab(long point, Consumer<T> visitor) {
+        Node<T> node = root;
+        while (node != null) {
+            if (point < node.center) {
+                // Every interval here ends at or after center, so only the start bound matters
+                for (Interval<T> interval : node.byLow) {
+                    if (interval.low() > point) {
+                        break;
+                    }
+                    visitor.accept(interval.value());
+                }
+                node = node.left;
+            } else if (point > node.center) {
+                for (Interval<T> interval : node.byHighDesc) {
+                    if (interval.high() < point) {
+                        break;
+                    }
+                    visitor.accept(interval.value());
+                }
+                node = node.right;
+            } else {
+                for (Interval<T> interval : node.byLow) {
+                    visitor.accept(interval.value());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Visit every interval once, in no particular order
+     */
+    void forEach(Consumer<T> visitor) {
+        forEach(root, visitor);
+    }
+
+    private static <T> void forEach(Node<T> node, Consumer<T> visitor) {
+        while (node != null) {
+            for (Interval<T> interval : node.byLow) {
+                visitor.accept(interval.value());
+            }
+            forEach(node.left, visitor);
+            node = node.right;
+        }
+    }
+
+    private static <T> Node<T> buildNode(List<Interval<T>> intervals) {
+        if (intervals.isEmpty()) {
+            return null;
+        }
+
+        // Median endpoint keeps the tree balanced regardless of how intervals cluster
+        long[] endpoints = new long[intervals.size() * 2];
+        for (int i = 0; i < intervals.size(); i++) {
+            endpoints[2 * i] = intervals.get(i).low();
+            endpoints[2 * i + 1] = intervals.get(i).high();
+        }
+        Arrays.sort(endpoints);
+        long center = endpoints[intervals.size()];
+
+        List<Interval<T>> left = new ArrayList<>();
+        List<Interval<T>> right = new ArrayList<>();
+        List<Interval<T>> overlapping = new ArrayList<>();
+        for (Interval<T> interval : intervals) {
+            if (interval.high() < center) {
+                left.add(interval);
+            } else if (interval.low() > center) {
+                right.add(interval);
+            } else {
+                overlapping.add(interval);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Interval<T>[] byLow = overlapping.toArray(new Interval[0]);
+        Arrays.sort(byLow, Comparator.comparingLong(Interval::low));
+        Interval<T>[] byHighDesc = byLow.clone();
+        Arrays.sort(byHighDesc, Comparator.comparingLong((Interval<T> interval) -> interval.high()).reversed());
+
+        return new Node<>(center, byLow, byHighDesc, buildNode(left), buildNode(right));
+    }
+
+    private record Node<T>(long center, Interval<T>[] byLow, Interval<T>[] byHighDesc, Node<T> left, Node<T> right) {}
+}
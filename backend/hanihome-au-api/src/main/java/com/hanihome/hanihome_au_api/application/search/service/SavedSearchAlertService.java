@@ -0,0 +1,268 @@
+package com.hanihome.hanihome_au_api.application.search.service;
+
+import com.hanihome.hanihome_au_api.application.notification.service.SSENotificationService;
+import com.hanihome.hanihome_au_api.domain.entity.SearchHistory;
+import com.hanihome.hanihome_au_api.domain.enums.PropertyStatus;
+import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
+import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyCreatedEvent;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyPriceChangedEvent;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyStatusChangedEvent;
+import com.hanihome.hanihome_au_api.domain.search.event.SavedSearchDeletedEvent;
+import com.hanihome.hanihome_au_api.domain.search.event.SearchSavedEvent;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaRepository;
+import com.hanihome.hanihome_au_api.repository.SearchHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 저장된 검색 알림
+ * - 저장된 검색 전체를 SavedSearchIndex 에 올려두고, 매물이 활성화되거나 가격이 바뀌면 조건이 맞는 사용자를 찾아 알림
+ * - 커밋 후 이벤트 리스너는 매물 id 만 대기열에 넣으므로 매물 쓰기 경로에는 부담이 없음
+ * - dispatch 주기마다 대기 매물을 한 번에 조회해 매칭하고, 사용자별로 묶어 알림 한 건씩 전송
+ * - 이 노드에서 저장/삭제된 검색은 커밋 후 이벤트로 색인에 바로 반영, 롤백된 저장은 색인에 들어가지 않음
+ * - 다른 노드에서 저장/삭제된 검색은 rebuild-interval 마다 전체 재구성으로 반영
+ */
+@Slf4j
+@Component
+public class SavedSearchAlertService {
+
+    private final SearchHistoryRepository searchHistoryRepository;
+    private final PropertyJpaRepository propertyJpaRepository;
+    private final SSENotificationService notificationService;
+    private final Map<Long, PendingListing> pendingListings = new ConcurrentHashMap<>();
+    private final Object indexLock = new Object();
+
+    private volatile SavedSearchIndex index = new SavedSearchIndex();
+
+    /** Changes committed while a rebuild reads the table, replayed onto the rebuilt index; null when idle */
+    private List<Consumer<SavedSearchIndex>> changesDuringRebuild;
+
+    @Value("${app.saved-search-alerts.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.saved-search-alerts.load-page-size:1000}")
+    private int loadPageSize;
+
+    @Value("${app.saved-search-alerts.max-listings-per-dispatch:500}")
+    private int maxListingsPerDispatch;
+
+    public SavedSearchAlertService(SearchHistoryRepository searchHistoryRepository,
+                                   PropertyJpaRepository propertyJpaRepository,
+                                   SSENotificationService notificationService) {
+        this.searchHistoryRepository = searchHistoryRepository;
+        this.propertyJpaRepository = propertyJpaRepository;
+        this.notificationService = notificationService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 저장된 검색 전체를 읽어 새 색인을 만든 뒤 교체
+     * 재구성 중에 커밋된 저장/삭제는 새 색인에 다시 적용한 뒤 교체
+     */
+    @Scheduled(fixedDelayString = "${app.saved-search-alerts.rebuild-interval-ms:1800000}",
+               initialDelayString = "${app.saved-search-alerts.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        SavedSearchIndex rebuilt = new SavedSearchIndex();
+        synchronized (indexLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            load(rebuilt);
+            synchronized (indexLock) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                index = rebuilt;
+            }
+        } finally {
+            synchronized (indexLock) {
+                changesDuringRebuild = null;
+            }
+        }
+        log.info("Indexed {} saved searches in {} ms", rebuilt.size(), System.currentTimeMillis() - started);
+    }
+
+    private void load(SavedSearchIndex target) {
+        long afterId = 0;
+        List<SearchHistory> page;
+        do {
+            page = searchHistoryRepository.findByIsSavedTrueAndIdGreaterThanOrderByIdAsc(
+                    afterId, PageRequest.of(0, loadPageSize));
+            target.putAll(page.stream()
+                    .map(saved -> new SavedSearchIndex.SavedSearch(
+                            saved.getId(), saved.getUserId(), saved.getSearchName(), saved.getFilters()))
+                    .toList());
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == loadPageSize);
+    }
+
+    /**
+     * Searches saved on this node start alerting without waiting for the next rebuild
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSearchSaved(SearchSavedEvent event) {
+        apply(current -> current.put(event.getSearchHistoryId(), event.getUserId(),
+                event.getSearchName(), event.getFilters()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSavedSearchDeleted(SavedSearchDeletedEvent event) {
+        apply(current -> current.remove(event.getSearchHistoryId()));
+    }
+
+    public int getIndexedSearchCount() {
+        return index.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPropertyCreated(PropertyCreatedEvent event) {
+        // New listings start in PENDING_APPROVAL; dispatch skips them until they are activated
+        enqueue(event.getPropertyId().getValue(), null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPropertyStatusChanged(PropertyStatusChangedEvent event) {
+        if (event.getNewStatus() == PropertyStatus.ACTIVE) {
+            enqueue(event.getPropertyId().getValue(), null);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPropertyPriceChanged(PropertyPriceChangedEvent event) {
+        enqueue(event.getPropertyId().getValue(), event.getOldPrice().getAmount());
+    }
+
+    /**
+     * 대기 중인 매물을 매칭하여 사용자별로 묶어 알림 전송
+     */
+    @Scheduled(fixedDelayString = "${app.saved-search-alerts.dispatch-interval-ms:2000}")
+    public void dispatch() {
+        if (!enabled || pendingListings.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PendingListing> batch = drain();
+        SavedSearchIndex current = index;
+        Map<Long, List<Alert>> alertsByUser = new LinkedHashMap<>();
+
+        for (PropertyJpaEntity property : propertyJpaRepository.findAllById(batch.keySet())) {
+            if (property.getStatus() != PropertyJpaEntity.PropertyStatusEnum.ACTIVE) {
+                continue;
+            }
+            BigDecimal previousRent = batch.get(property.getId()).previousRent();
+            for (SavedSearchIndex.Match match : current.match(toListing(property), previousRent)) {
+                alertsByUser.computeIfAbsent(match.userId(), userId -> new ArrayList<>())
+                        .add(new Alert(match.searchId(), match.searchName(), property.getId(), property.getTitle()));
+            }
+        }
+
+        alertsByUser.forEach(this::notifyUser);
+        log.debug("Matched {} listings against {} saved searches, alerted {} users",
+                batch.size(), current.size(), alertsByUser.size());
+    }
+
+    private void apply(Consumer<SavedSearchIndex> change) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (indexLock) {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private void enqueue(Long propertyId, BigDecimal previousRent) {
+        if (!enabled) {
+            return;
+        }
+        // A pending activation (no previous rent) covers any later price change in the same window
+        pendingListings.merge(propertyId, new PendingListing(previousRent),
+                (queued, added) -> queued.previousRent() == null || added.previousRent() == null
+                        ? new PendingListing(null) : queued);
+    }
+
+    private Map<Long, PendingListing> drain() {
+        Map<Long, PendingListing> batch = new LinkedHashMap<>();
+        for (Long propertyId : pendingListings.keySet()) {
+            if (batch.size() >= maxListingsPerDispatch) {
+                break;
+            }
+            PendingListing pending = pendingListings.remove(propertyId);
+            if (pending != null) {
+                batch.put(propertyId, pending);
+            }
+        }
+        return batch;
+    }
+
+    private void notifyUser(Long userId, List<Alert> alerts) {
+        Alert first = alerts.get(0);
+        String message = alerts.size() == 1
+                ? "\"" + first.propertyTitle() + "\" matches your saved search \"" + first.searchName() + "\""
+                : alerts.size() + " listings match your saved searches";
+
+        notificationService.sendToUser(userId, SSENotificationService.NotificationMessage.builder()
+                .type(SSENotificationService.NotificationType.SEARCH_ALERT)
+                .subType("SAVED_SEARCH_MATCH")
+                .title("New listings for your saved searches")
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .data(Map.of(
+                        "searchIds", alerts.stream().map(Alert::searchId).distinct().toList(),
+                        "propertyIds", alerts.stream().map(Alert::propertyId).distinct().toList()))
+                .build());
+    }
+
+    private SavedSearchIndex.Listing toListing(PropertyJpaEntity property) {
+        return new SavedSearchIndex.Listing(
+                property.getId(),
+                property.getPropertyType() == null ? null : PropertyType.valueOf(property.getPropertyType().name()),
+                property.getRentalType() == null ? null : RentalType.valueOf(property.getRentalType().name()),
+                property.getMonthlyRent(),
+                property.getDeposit(),
+                property.getRooms(),
+                property.getBathrooms(),
+                property.getArea(),
+                property.getCity(),
+                property.getLatitude(),
+                property.getLongitude(),
+                property.getParkingAvailable(),
+                property.getPetAllowed(),
+                property.getFurnished(),
+                property.getShortTermAvailable(),
+                property.getTitle(),
+                property.getDescription());
+    }
+
+    private record PendingListing(BigDecimal previousRent) {}
+
+    private record Alert(Long searchId, String searchName, Long propertyId, String propertyTitle) {}
+}
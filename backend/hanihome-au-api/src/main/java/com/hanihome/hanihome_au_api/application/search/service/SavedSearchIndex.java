@@ -0,0 +1,371 @@
+package com.hanihome.hanihome_au_api.application.search.service;
+
+import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
+import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 저장된 검색 역색인 (매물 → 조건이 맞는 저장 검색)
+ * - 각 저장 검색은 가장 선택적인 조건 하나로 파티션에 등록: 위치 반경이면 격자 셀, 아니면 도시,
+ *   아니면 매물 유형, 조건이 없으면 전체(*) 파티션
+ * - 파티션 안에서는 임대료 구간 트리로 가격 범위를 먼저 거르고, 남은 후보만 전체 조건으로 확인
+ * - 매물 하나의 매칭은 (격자 레벨 수 + 3)개 파티션 조회로 끝나므로 저장 검색 수에 선형이 아님
+ * - 저장/삭제는 파티션의 작은 추가 목록과 삭제 표시에만 쌓고, 트리 크기에 비례한 양이 쌓이면 트리를 한 번 재구성
+ *   (검색 하나 저장에 파티션 전체를 다시 만들지 않음)
+ * - 파티션은 불변 객체로 교체하므로 조회는 잠금 없이 진행
+ *
+ * Matching follows PropertySearchService except that the city must match exactly (case-insensitive)
+ * instead of by substring, which is what lets cities be used as an inverted index key.
+ */
+public class SavedSearchIndex {
+
+    /** Grid cell sizes in degrees, finest first; a radius search registers on the finest level covering it in at most 4x4 cells */
+    private static final double[] CELL_DEGREES = {0.02, 0.08, 0.32, 1.28, 5.12, 20.48};
+    private static final int MAX_CELLS_PER_AXIS = 4;
+    private static final double KM_PER_DEGREE = 111.0;
+    private static final String ANY = "*";
+    /** Buffered additions plus removals a partition holds before rebuilding its tree, at least this many */
+    private static final int MIN_BUFFERED_CHANGES = 32;
+    /** ... and at most tree size / this, so rebuild work stays amortized O(log n) per change */
+    private static final int BUFFERED_CHANGES_DIVISOR = 8;
+
+    public record Listing(Long propertyId, PropertyType type, RentalType rentalType, BigDecimal rent,
+                          BigDecimal deposit, Integer bedrooms, Integer bathrooms, BigDecimal area,
+                          String city, BigDecimal latitude, BigDecimal longitude,
+                          Boolean parkingAvailable, Boolean petAllowed, Boolean furnished, Boolean shortTermAvailable,
+                          String title, String description) {}
+
+    public record Match(Long searchId, Long userId, String searchName) {}
+
+    public record SavedSearch(Long searchId, Long userId, String searchName, SearchFilters filters) {}
+
+    private record Subscription(Long searchId, Long userId, String searchName, SearchFilters filters,
+                                String keyword, long rentLow, long rentHigh, List<String> partitionKeys) {}
+
+    /**
+     * @param added   subscriptions not yet in the tree, checked linearly
+     * @param removed search ids still in the tree but no longer members
+     */
+    private record Partition(PriceIntervalTree<Subscription> tree, List<Subscription> added, Set<Long> removed) {
+
+        int size() {
+            return tree.size() - removed.size() + added.size();
+        }
+
+        void stab(long rent, Consumer<Subscription> visitor) {
+            tree.stab(rent, subscription -> {
+                if (!removed.contains(subscription.searchId())) {
+                    visitor.accept(subscription);
+                }
+            });
+            for (Subscription subscription : added) {
+                if (subscription.rentLow() <= rent && rent <= subscription.rentHigh()) {
+                    visitor.accept(subscription);
+                }
+            }
+        }
+
+        List<Subscription> members() {
+            List<Subscription> members = new ArrayList<>(size());
+            tree.forEach(subscription -> {
+                if (!removed.contains(subscription.searchId())) {
+                    members.add(subscription);
+                }
+            });
+            members.addAll(added);
+            return members;
+        }
+    }
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    public int size() {
+        return subscriptions.size();
+    }
+
+    public void put(Long searchId, Long userId, String searchName, SearchFilters filters) {
+        remove(searchId);
+        Subscription subscription = compile(searchId, userId, searchName, filters);
+        subscriptions.put(searchId, subscription);
+        for (String key : subscription.partitionKeys()) {
+            partitions.compute(key, (k, partition) -> withMember(partition, subscription));
+        }
+    }
+
+    public void remove(Long searchId) {
+        Subscription removed = subscriptions.remove(searchId);
+        if (removed == null) {
+            return;
+        }
+        for (String key : removed.partitionKeys()) {
+            partitions.computeIfPresent(key, (k, partition) -> withoutMember(partition, searchId));
+        }
+    }
+
+    /**
+     * Bulk load; each partition's tree is built once instead of once per search
+     */
+    public void putAll(Collection<SavedSearch> savedSearches) {
+        Map<String, Map<Long, Subscription>> grouped = new HashMap<>();
+        for (SavedSearch saved : savedSearches) {
+            Subscription subscription = compile(saved.searchId(), saved.userId(), saved.searchName(), saved.filters());
+            subscriptions.put(subscription.searchId(), subscription);
+            for (String key : subscription.partitionKeys()) {
+                grouped.computeIfAbsent(key, k -> new HashMap<>()).put(subscription.searchId(), subscription);
+            }
+        }
+        grouped.forEach((key, members) -> partitions.merge(key, partitionOf(members.values()), (current, added) -> {
+            Map<Long, Subscription> merged = new HashMap<>();
+            current.members().forEach(subscription -> merged.put(subscription.searchId(), subscription));
+            merged.putAll(members);
+            return partitionOf(merged.values());
+        }));
+    }
+
+    /**
+     * @param previousRent rent before a price change; searches whose range already contained it are skipped,
+     *                     null to return every match
+     */
+    public List<Match> match(Listing listing, BigDecimal previousRent) {
+        if (listing.rent() == null) {
+            return List.of();
+        }
+        long rent = toCents(listing.rent(), RoundingMode.HALF_UP);
+        Long previous = previousRent == null ? null : toCents(previousRent, RoundingMode.HALF_UP);
+
+        List<Match> matches = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (String key : probeKeys(listing)) {
+            Partition partition = partitions.get(key);
+            if (partition == null) {
+                continue;
+            }
+            partition.stab(rent, subscription -> {
+                if (previous != null && subscription.rentLow() <= previous && previous <= subscription.rentHigh()) {
+                    return;
+                }
+                if (seen.add(subscription.searchId()) && matches(subscription, listing)) {
+                    matches.add(new Match(subscription.searchId(), subscription.userId(), subscription.searchName()));
+                }
+            });
+        }
+        return matches;
+    }
+
+    private static Subscription compile(Long searchId, Long userId, String searchName, SearchFilters filters) {
+        String keyword = filters.getKeyword() == null || filters.getKeyword().isBlank()
+                ? null : filters.getKeyword().strip().toLowerCase(Locale.ROOT);
+        long rentLow = filters.getMinRentPrice() == null
+                ? Long.MIN_VALUE : toCents(filters.getMinRentPrice(), RoundingMode.CEILING);
+        long rentHigh = filters.getMaxRentPrice() == null
+                ? Long.MAX_VALUE : toCents(filters.getMaxRentPrice(), RoundingMode.FLOOR);
+        // An inverted price range can never match; keep it out of every partition
+        List<String> partitionKeys = rentLow > rentHigh ? List.of() : partitionKeys(filters);
+        return new Subscription(searchId, userId, searchName, filters, keyword, rentLow, rentHigh, partitionKeys);
+    }
+
+    private static List<String> partitionKeys(SearchFilters filters) {
+        if (hasRadius(filters)) {
+            return geoCells(filters.getLatitude().doubleValue(), filters.getLongitude().doubleValue(),
+                    filters.getMaxDistance().doubleValue());
+        }
+        String city = normalizeCity(filters.getCity());
+        if (city != null) {
+            return List.of("c:" + city);
+        }
+        if (filters.getPropertyTypes() != null && !filters.getPropertyTypes().isEmpty()) {
+            return filters.getPropertyTypes().stream().distinct().map(type -> "t:" + type.name()).toList();
+        }
+        return List.of(ANY);
+    }
+
+    private static List<String> geoCells(double latitude, double longitude, double radiusKm) {
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double lngSpan = radiusKm / (KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+
+        for (int level = 0; level < CELL_DEGREES.length; level++) {
+            double size = CELL_DEGREES[level];
+            long minLat = cell(latitude - latSpan, size);
+            long maxLat = cell(latitude + latSpan, size);
+            long minLng = cell(longitude - lngSpan, size);
+            long maxLng = cell(longitude + lngSpan, size);
+            boolean last = level == CELL_DEGREES.length - 1;
+            if (last || (maxLat - minLat < MAX_CELLS_PER_AXIS && maxLng - minLng < MAX_CELLS_PER_AXIS)) {
+                List<String> keys = new ArrayList<>();
+                for (long y = minLat; y <= maxLat; y++) {
+                    for (long x = minLng; x <= maxLng; x++) {
+                        keys.add(cellKey(level, y, x));
+                    }
+                }
+                return keys;
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private static List<String> probeKeys(Listing listing) {
+        List<String> keys = new ArrayList<>(CELL_DEGREES.length + 3);
+        if (listing.latitude() != null && listing.longitude() != null) {
+            double latitude = listing.latitude().doubleValue();
+            double longitude = listing.longitude().doubleValue();
+            for (int level = 0; level < CELL_DEGREES.length; level++) {
+                keys.add(cellKey(level, cell(latitude, CELL_DEGREES[level]), cell(longitude, CELL_DEGREES[level])));
+            }
+        }
+        String city = normalizeCity(listing.city());
+        if (city != null) {
+            keys.add("c:" + city);
+        }
+        if (listing.type() != null) {
+            keys.add("t:" + listing.type().name());
+        }
+        keys.add(ANY);
+        return keys;
+    }
+
+    /**
+     * Full predicate check, same conditions as PropertySearchService.buildSearchCriteria
+     */
+    private static boolean matches(Subscription subscription, Listing listing) {
+        SearchFilters filters = subscription.filters();
+
+        if (subscription.keyword() != null
+                && !containsIgnoreCase(listing.title(), subscription.keyword())
+                && !containsIgnoreCase(listing.description(), subscription.keyword())) {
+            return false;
+        }
+        if (filters.getPropertyTypes() != null && !filters.getPropertyTypes().isEmpty()
+                && !filters.getPropertyTypes().contains(listing.type())) {
+            return false;
+        }
+        if (filters.getRentalTypes() != null && !filters.getRentalTypes().isEmpty()
+                && !filters.getRentalTypes().contains(listing.rentalType())) {
+            return false;
+        }
+        if (!inRange(listing.deposit(), filters.getMinDeposit(), filters.getMaxDeposit())
+                || !inRange(listing.bedrooms(), filters.getMinBedrooms(), filters.getMaxBedrooms())
+                || !inRange(listing.bathrooms(), filters.getMinBathrooms(), filters.getMaxBathrooms())
+                || !inRange(listing.area(), filters.getMinFloorArea(), filters.getMaxFloorArea())) {
+            return false;
+        }
+        String city = normalizeCity(filters.getCity());
+        if (city != null && !city.equals(normalizeCity(listing.city()))) {
+            return false;
+        }
+        if (hasRadius(filters) && !withinBoundingBox(filters, listing)) {
+            return false;
+        }
+        return required(filters.getParkingRequired(), listing.parkingAvailable())
+                && required(filters.getPetAllowedRequired(), listing.petAllowed())
+                && required(filters.getFurnishedRequired(), listing.furnished())
+                && required(filters.getShortTermAvailableRequired(), listing.shortTermAvailable());
+    }
+
+    /**
+     * Rectangular approximation used by the search query itself
+     */
+    private static boolean withinBoundingBox(SearchFilters filters, Listing listing) {
+        if (listing.latitude() == null || listing.longitude() == null) {
+            return false;
+        }
+        double centerLat = filters.getLatitude().doubleValue();
+        double centerLng = filters.getLongitude().doubleValue();
+        double distance = filters.getMaxDistance().doubleValue();
+        double latDiff = distance / KM_PER_DEGREE;
+        double lngDiff = distance / (KM_PER_DEGREE * Math.cos(Math.toRadians(centerLat)));
+        return Math.abs(listing.latitude().doubleValue() - centerLat) <= latDiff
+                && Math.abs(listing.longitude().doubleValue() - centerLng) <= lngDiff;
+    }
+
+    private static boolean hasRadius(SearchFilters filters) {
+        return filters.getLatitude() != null && filters.getLongitude() != null && filters.getMaxDistance() != null;
+    }
+
+    private static <N extends Comparable<N>> boolean inRange(N value, N min, N max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        return (min == null || value.compareTo(min) >= 0) && (max == null || value.compareTo(max) <= 0);
+    }
+
+    private static boolean required(Boolean required, Boolean actual) {
+        return !Boolean.TRUE.equals(required) || Boolean.TRUE.equals(actual);
+    }
+
+    private static boolean containsIgnoreCase(String text, String lowerCaseNeedle) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(lowerCaseNeedle);
+    }
+
+    private static String normalizeCity(String city) {
+        return city == null || city.isBlank() ? null : city.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static long cell(double degrees, double size) {
+        return (long) Math.floor(degrees / size);
+    }
+
+    private static String cellKey(int level, long latCell, long lngCell) {
+        return "g" + level + ":" + latCell + ":" + lngCell;
+    }
+
+    private static long toCents(BigDecimal amount, RoundingMode roundingMode) {
+        return amount.movePointRight(2).setScale(0, roundingMode).longValue();
+    }
+
+    private static Partition withMember(Partition partition, Subscription subscription) {
+        if (partition == null) {
+            return partitionOf(List.of(subscription));
+        }
+        List<Subscription> added = new ArrayList<>(partition.added().size() + 1);
+        added.addAll(partition.added());
+        added.add(subscription);
+        return compacted(new Partition(partition.tree(), added, partition.removed()));
+    }
+
+    private static Partition withoutMember(Partition partition, Long searchId) {
+        List<Subscription> added = partition.added().stream()
+                .filter(subscription -> !subscription.searchId().equals(searchId))
+                .toList();
+        Set<Long> removed = partition.removed();
+        if (added.size() == partition.added().size()) {
+            // Not buffered, so it is in the tree
+            Set<Long> marked = new HashSet<>(removed);
+            marked.add(searchId);
+            removed = Set.copyOf(marked);
+        }
+        Partition updated = new Partition(partition.tree(), added, removed);
+        // Returning null drops the partition from the map
+        return updated.size() == 0 ? null : compacted(updated);
+    }
+
+    private static Partition compacted(Partition partition) {
+        int buffered = partition.added().size() + partition.removed().size();
+        int allowed = Math.max(MIN_BUFFERED_CHANGES, partition.tree().size() / BUFFERED_CHANGES_DIVISOR);
+        return buffered > allowed ? partitionOf(partition.members()) : partition;
+    }
+
+    private static Partition partitionOf(Collection<Subscription> members) {
+        List<PriceIntervalTree.Interval<Subscription>> intervals = new ArrayList<>(members.size());
+        for (Subscription subscription : members) {
+            intervals.add(new PriceIntervalTree.Interval<>(subscription.rentLow(), subscription.rentHigh(), subscription));
+        }
+        return new Partition(PriceIntervalTree.build(intervals), List.of(), Set.of());
+    }
+}
@@ -1,34 +1,55 @@
 package com.hanihome.hanihome_au_api.application.search.service;
 
+import com.hanihome.hanihome_au_api.domain.entity.SearchHistory;
 import com.hanihome.hanihome_au_api.repository.SearchHistoryRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class SearchHistoryCleanupService {
 
     private final SearchHistoryRepository searchHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${app.search-history.retention-days:90}")
     private int retentionDays;
 
+    @Value("${app.search-history.max-history-per-user:100}")
+    private int maxHistoryPerUser;
+
+    @Value("${app.search-history.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    public SearchHistoryCleanupService(SearchHistoryRepository searchHistoryRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.searchHistoryRepository = searchHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     @Value("${app.search-history.cleanup.enabled:true}")
     private boolean cleanupEnabled;
 
     /**
      * Scheduled task to clean up old search history
      * Runs every day at 2 AM
+     * Deletes in chunks of batch-size, each in its own short transaction
      */
     @Scheduled(cron = "0 0 2 * * ?")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupOldSearchHistory() {
         if (!cleanupEnabled) {
             log.debug("Search history cleanup is disabled");
@@ -39,18 +60,63 @@ public class SearchHistoryCleanupService {
         
         try {
             LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
-            
-            // Get all unique user IDs to clean up their history individually
-            // This approach is more memory efficient for large datasets
-            cleanupOldSearchHistoryBatch(cutoffDate);
-            
-            log.info("Completed scheduled cleanup of old search history");
+
+            int expired = cleanupOldSearchHistoryBatch(cutoffDate);
+            int overCap = enforcePerUserCap();
+
+            log.info("Completed scheduled cleanup of old search history: {} expired, {} over the per-user cap",
+                    expired, overCap);
             
         } catch (Exception e) {
             log.error("Error during scheduled search history cleanup", e);
         }
     }
 
+    /**
+     * Backfill criteria_hash for rows recorded before the write-behind buffer
+     * The hash is SearchFilters.canonicalForm() based, so it is computed here rather than in SQL.
+     * Without it those rows never match a repeated search and the buffer inserts duplicates.
+     * Idempotent: only rows still missing a hash are read and updated, one keyset chunk per transaction.
+     * An unsaved row whose criteria the user already has a hashed row for is merged into that row.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillCriteriaHashes() {
+        try {
+            long afterId = 0;
+            int total = 0;
+            List<SearchHistory> chunk;
+            do {
+                chunk = searchHistoryRepository.findByCriteriaHashIsNullAndIdGreaterThanOrderByIdAsc(
+                        afterId, PageRequest.of(0, batchSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                List<SearchHistory> rows = chunk;
+                total += transactionTemplate.execute(status -> {
+                    int updated = 0;
+                    for (SearchHistory row : rows) {
+                        String criteriaHash = row.computeCriteriaHash();
+                        if (searchHistoryRepository.setCriteriaHashIfMissing(row.getId(), criteriaHash) == 1) {
+                            updated++;
+                        } else if (!Boolean.TRUE.equals(row.getIsSaved())) {
+                            // The user already has an unsaved row for these criteria; one row per criteria is kept
+                            updated += searchHistoryRepository.mergeIntoHashedRow(row.getId(), criteriaHash);
+                        }
+                    }
+                    return updated;
+                });
+                afterId = chunk.get(chunk.size() - 1).getId();
+            } while (chunk.size() == batchSize);
+
+            if (total > 0) {
+                log.info("Backfilled criteria hash for {} search history entries", total);
+            }
+        } catch (Exception e) {
+            log.error("Error during search history criteria hash backfill", e);
+        }
+    }
+
     /**
      * Manual cleanup for specific user
      */
@@ -75,33 +141,49 @@ public class SearchHistoryCleanupService {
         
         return CleanupStats.builder()
                 .retentionDays(retentionDays)
+                .maxHistoryPerUser(maxHistoryPerUser)
                 .cutoffDate(cutoffDate)
                 .totalSearchHistory(totalSearchHistory)
                 .cleanupEnabled(cleanupEnabled)
                 .build();
     }
 
-    private void cleanupOldSearchHistoryBatch(LocalDateTime cutoffDate) {
-        // For now, we'll use a simpler approach
-        // In production, you might want to implement batch processing for very large datasets
-        
+    /**
+     * Unsaved entries not used within the retention period, oldest ids first
+     */
+    private int cleanupOldSearchHistoryBatch(LocalDateTime cutoffDate) {
         log.debug("Cleaning up search history older than: {}", cutoffDate);
-        
-        // This query will clean up old history for all users
-        // Note: This is a simplified version. For production, consider implementing
-        // batch processing to handle large datasets more efficiently
-        
+
         int totalDeleted = 0;
-        int batchSize = 1000;
-        
-        // Process in batches to avoid memory issues
-        while (true) {
-            // Use a native query or custom repository method for batch deletion
-            // For simplicity, we'll process all at once for now
-            break; // Exit the loop - actual implementation would do batch processing
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = searchHistoryRepository.findExpiredIds(cutoffDate, PageRequest.of(0, batchSize));
+                return ids.isEmpty() ? 0 : searchHistoryRepository.deleteByIdIn(ids);
+            });
+            totalDeleted += deleted;
+        } while (deleted == batchSize);
+
+        return totalDeleted;
+    }
+
+    /**
+     * Keep only the most recent max-history-per-user unsaved entries of each user
+     * Users over the cap are found with one grouped scan, then trimmed a chunk of users at a time
+     */
+    private int enforcePerUserCap() {
+        List<Long> userIds = searchHistoryRepository.findUserIdsOverCap(maxHistoryPerUser);
+        int usersPerChunk = Math.max(1, batchSize / Math.max(1, maxHistoryPerUser));
+
+        int totalDeleted = 0;
+        for (int from = 0; from < userIds.size(); from += usersPerChunk) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + usersPerChunk, userIds.size()));
+            totalDeleted += transactionTemplate.execute(status -> {
+                List<Long> ids = searchHistoryRepository.findIdsOverCap(chunk, maxHistoryPerUser);
+                return ids.isEmpty() ? 0 : searchHistoryRepository.deleteByIdIn(ids);
+            });
         }
-        
-        log.info("Batch cleanup completed. Total records processed in this session.");
+        return totalDeleted;
     }
 
     @lombok.Data
@@ -110,6 +192,7 @@ public class SearchHistoryCleanupService {
     @lombok.AllArgsConstructor
     public static class CleanupStats {
         private int retentionDays;
+        private int maxHistoryPerUser;
         private LocalDateTime cutoffDate;
         private long totalSearchHistory;
         private boolean cleanupEnabled;
@@ -5,21 +5,19 @@ import com.hanihome.hanihome_au_api.application.search.dto.SaveSearchCommand;
 import com.hanihome.hanihome_au_api.application.search.dto.SearchHistoryResponseDto;
 import com.hanihome.hanihome_au_api.domain.entity.SearchHistory;
 import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
-import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
 import com.hanihome.hanihome_au_api.repository.SearchHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,40 +27,16 @@ import java.util.stream.Collectors;
 public class SearchHistoryService {
 
     private final SearchHistoryRepository searchHistoryRepository;
-
-    @Value("${app.search-history.retention-days:90}")
-    private int retentionDays;
-
-    @Value("${app.search-history.max-history-per-user:100}")
-    private int maxHistoryPerUser;
+    private final SearchHistoryWriteBuffer searchHistoryWriteBuffer;
 
     /**
-     * Record a new search or update existing similar search
+     * Record a search
+     * Buffered in memory and merged with identical searches; written by SearchHistoryWriteBuffer.
+     * Retention and the per-user cap are enforced by the nightly SearchHistoryCleanupService sweep.
      */
-    public SearchHistoryResponseDto recordSearch(CreateSearchHistoryCommand command) {
-        log.info("Recording search for user: {}", command.getUserId());
-
-        // Check for similar existing search
-        Optional<SearchHistory> existingSearch = findSimilarSearch(command);
-
-        SearchHistory searchHistory;
-        if (existingSearch.isPresent()) {
-            // Update existing search
-            searchHistory = existingSearch.get();
-            searchHistory.incrementSearchCount();
-            log.debug("Updated existing search count: {}", searchHistory.getSearchCount());
-        } else {
-            // Create new search history
-            searchHistory = createNewSearchHistory(command);
-            log.debug("Created new search history: {}", searchHistory.getId());
-        }
-
-        searchHistory = searchHistoryRepository.save(searchHistory);
-
-        // Clean up old history if necessary
-        cleanupOldHistory(command.getUserId());
-
-        return convertToDto(searchHistory);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordSearch(CreateSearchHistoryCommand command) {
+        searchHistoryWriteBuffer.record(createNewSearchHistory(command));
     }
 
     /**
@@ -85,6 +59,7 @@ public class SearchHistoryService {
         }
 
         searchHistory.saveSearch(command.getSearchName());
+        // SavedSearchAlertService indexes the search once this transaction commits
         searchHistory = searchHistoryRepository.save(searchHistory);
 
         return convertToDto(searchHistory);
@@ -135,6 +110,7 @@ public class SearchHistoryService {
             throw new IllegalArgumentException("Search history does not belong to user");
         }
 
+        searchHistory.markDeleted();
         searchHistoryRepository.delete(searchHistory);
     }
 
@@ -167,135 +143,58 @@ public class SearchHistoryService {
     public CreateSearchHistoryCommand fromSearchRequest(com.hanihome.hanihome_au_api.presentation.dto.PropertySearchRequest request, Long userId) {
         return CreateSearchHistoryCommand.builder()
                 .userId(userId)
-                .keyword(request.getKeyword())
-                .propertyTypes(request.getPropertyTypes())
-                .rentalTypes(request.getRentalTypes())
-                .minRentPrice(request.getMinRentPrice())
-                .maxRentPrice(request.getMaxRentPrice())
-                .minDeposit(request.getMinDeposit())
-                .maxDeposit(request.getMaxDeposit())
-                .minBedrooms(request.getMinBedrooms())
-                .maxBedrooms(request.getMaxBedrooms())
-                .minBathrooms(request.getMinBathrooms())
-                .maxBathrooms(request.getMaxBathrooms())
-                .minFloorArea(request.getMinFloorArea())
-                .maxFloorArea(request.getMaxFloorArea())
-                .city(request.getCity())
-                .state(request.getState())
-                .country(request.getCountry())
-                .postalCode(request.getPostalCode())
-                .latitude(request.getLatitude())
-                .longitude(request.getLongitude())
-                .maxDistance(request.getMaxDistance())
-                .parkingRequired(request.getParkingRequired())
-                .petAllowedRequired(request.getPetAllowedRequired())
-                .furnishedRequired(request.getFurnishedRequired())
-                .shortTermAvailableRequired(request.getShortTermAvailableRequired())
-                .requiredOptions(request.getRequiredOptions())
-                .sortBy(request.getSortBy())
-                .sortDirection(request.getSortDirection())
-                .availableFrom(request.getAvailableFrom())
-                .availableTo(request.getAvailableTo())
-                .recentDays(request.getRecentDays())
+                .filters(request.toFilters())
                 .build();
     }
 
-    private Optional<SearchHistory> findSimilarSearch(CreateSearchHistoryCommand command) {
-        return searchHistoryRepository.findSimilarSearch(
-                command.getUserId(),
-                command.getKeyword(),
-                command.getCity(),
-                command.getMinRentPrice(),
-                command.getMaxRentPrice()
-        );
-    }
-
     private SearchHistory createNewSearchHistory(CreateSearchHistoryCommand command) {
         return SearchHistory.builder()
                 .userId(command.getUserId())
-                .keyword(command.getKeyword())
-                .propertyTypes(command.getPropertyTypes())
-                .rentalTypes(command.getRentalTypes())
-                .minRentPrice(command.getMinRentPrice())
-                .maxRentPrice(command.getMaxRentPrice())
-                .minDeposit(command.getMinDeposit())
-                .maxDeposit(command.getMaxDeposit())
-                .minBedrooms(command.getMinBedrooms())
-                .maxBedrooms(command.getMaxBedrooms())
-                .minBathrooms(command.getMinBathrooms())
-                .maxBathrooms(command.getMaxBathrooms())
-                .minFloorArea(command.getMinFloorArea())
-                .maxFloorArea(command.getMaxFloorArea())
-                .city(command.getCity())
-                .state(command.getState())
-                .country(command.getCountry())
-                .postalCode(command.getPostalCode())
-                .latitude(command.getLatitude())
-                .longitude(command.getLongitude())
-                .maxDistance(command.getMaxDistance())
-                .parkingRequired(command.getParkingRequired())
-                .petAllowedRequired(command.getPetAllowedRequired())
-                .furnishedRequired(command.getFurnishedRequired())
-                .shortTermAvailableRequired(command.getShortTermAvailableRequired())
-                .requiredOptions(command.getRequiredOptions())
-                .sortBy(command.getSortBy())
-                .sortDirection(command.getSortDirection())
-                .availableFrom(command.getAvailableFrom())
-                .availableTo(command.getAvailableTo())
-                .recentDays(command.getRecentDays())
+                .filters(command.getFilters())
                 .isSaved(false)
                 .searchCount(1)
                 .lastUsedAt(LocalDateTime.now())
                 .build();
     }
 
-    private void cleanupOldHistory(Long userId) {
-        // Delete old non-saved history based on retention policy
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
-        int deletedCount = searchHistoryRepository.deleteOldSearchHistory(userId, cutoffDate);
-        
-        if (deletedCount > 0) {
-            log.debug("Cleaned up {} old search history entries for user: {}", deletedCount, userId);
-        }
-    }
-
     private SearchHistoryResponseDto convertToDto(SearchHistory searchHistory) {
-        SearchHistoryResponseDto.SearchSummary summary = buildSearchSummary(searchHistory);
+        SearchFilters filters = searchHistory.getFilters();
+        SearchHistoryResponseDto.SearchSummary summary = buildSearchSummary(filters);
 
         return SearchHistoryResponseDto.builder()
                 .id(searchHistory.getId())
                 .userId(searchHistory.getUserId())
                 .searchName(searchHistory.getSearchName())
-                .keyword(searchHistory.getKeyword())
-                .propertyTypes(searchHistory.getPropertyTypes())
-                .rentalTypes(searchHistory.getRentalTypes())
-                .minRentPrice(searchHistory.getMinRentPrice())
-                .maxRentPrice(searchHistory.getMaxRentPrice())
-                .minDeposit(searchHistory.getMinDeposit())
-                .maxDeposit(searchHistory.getMaxDeposit())
-                .minBedrooms(searchHistory.getMinBedrooms())
-                .maxBedrooms(searchHistory.getMaxBedrooms())
-                .minBathrooms(searchHistory.getMinBathrooms())
-                .maxBathrooms(searchHistory.getMaxBathrooms())
-                .minFloorArea(searchHistory.getMinFloorArea())
-                .maxFloorArea(searchHistory.getMaxFloorArea())
-                .city(searchHistory.getCity())
-                .state(searchHistory.getState())
-                .country(searchHistory.getCountry())
-                .postalCode(searchHistory.getPostalCode())
-                .latitude(searchHistory.getLatitude())
-                .longitude(searchHistory.getLongitude())
-                .maxDistance(searchHistory.getMaxDistance())
-                .parkingRequired(searchHistory.getParkingRequired())
-                .petAllowedRequired(searchHistory.getPetAllowedRequired())
-                .furnishedRequired(searchHistory.getFurnishedRequired())
-                .shortTermAvailableRequired(searchHistory.getShortTermAvailableRequired())
-                .requiredOptions(searchHistory.getRequiredOptions())
-                .sortBy(searchHistory.getSortBy())
-                .sortDirection(searchHistory.getSortDirection())
-                .availableFrom(searchHistory.getAvailableFrom())
-                .availableTo(searchHistory.getAvailableTo())
-                .recentDays(searchHistory.getRecentDays())
+                .keyword(filters.getKeyword())
+                .propertyTypes(filters.getPropertyTypes())
+                .rentalTypes(filters.getRentalTypes())
+                .minRentPrice(filters.getMinRentPrice())
+                .maxRentPrice(filters.getMaxRentPrice())
+                .minDeposit(filters.getMinDeposit())
+                .maxDeposit(filters.getMaxDeposit())
+                .minBedrooms(filters.getMinBedrooms())
+                .maxBedrooms(filters.getMaxBedrooms())
+                .minBathrooms(filters.getMinBathrooms())
+                .maxBathrooms(filters.getMaxBathrooms())
+                .minFloorArea(filters.getMinFloorArea())
+                .maxFloorArea(filters.getMaxFloorArea())
+                .city(filters.getCity())
+                .state(filters.getState())
+                .country(filters.getCountry())
+                .postalCode(filters.getPostalCode())
+                .latitude(filters.getLatitude())
+                .longitude(filters.getLongitude())
+                .maxDistance(filters.getMaxDistance())
+                .parkingRequired(filters.getParkingRequired())
+                .petAllowedRequired(filters.getPetAllowedRequired())
+                .furnishedRequired(filters.getFurnishedRequired())
+                .shortTermAvailableRequired(filters.getShortTermAvailableRequired())
+                .requiredOptions(filters.getRequiredOptions())
+                .sortBy(filters.getSortBy())
+                .sortDirection(filters.getSortDirection())
+                .availableFrom(filters.getAvailableFrom())
+                .availableTo(filters.getAvailableTo())
+                .recentDays(filters.getRecentDays())
                 .isSaved(searchHistory.getIsSaved())
                 .searchCount(searchHistory.getSearchCount())
                 .lastUsedAt(searchHistory.getLastUsedAt())
@@ -306,40 +205,40 @@ public class SearchHistoryService {
                 .build();
     }
 
-    private SearchHistoryResponseDto.SearchSummary buildSearchSummary(SearchHistory searchHistory) {
+    private SearchHistoryResponseDto.SearchSummary buildSearchSummary(SearchFilters filters) {
         StringBuilder location = new StringBuilder();
-        if (searchHistory.getCity() != null) location.append(searchHistory.getCity());
-        if (searchHistory.getState() != null) {
+        if (filters.getCity() != null) location.append(filters.getCity());
+        if (filters.getState() != null) {
             if (location.length() > 0) location.append(", ");
-            location.append(searchHistory.getState());
+            location.append(filters.getState());
         }
 
         String priceRange = null;
-        if (searchHistory.getMinRentPrice() != null || searchHistory.getMaxRentPrice() != null) {
+        if (filters.getMinRentPrice() != null || filters.getMaxRentPrice() != null) {
             priceRange = String.format("$%s - $%s",
-                    searchHistory.getMinRentPrice() != null ? searchHistory.getMinRentPrice() : "0",
-                    searchHistory.getMaxRentPrice() != null ? searchHistory.getMaxRentPrice() : "∞");
+                    filters.getMinRentPrice() != null ? filters.getMinRentPrice() : "0",
+                    filters.getMaxRentPrice() != null ? filters.getMaxRentPrice() : "∞");
         }
 
         String propertyTypesStr = null;
-        if (searchHistory.getPropertyTypes() != null && !searchHistory.getPropertyTypes().isEmpty()) {
-            propertyTypesStr = searchHistory.getPropertyTypes().stream()
+        if (filters.getPropertyTypes() != null && !filters.getPropertyTypes().isEmpty()) {
+            propertyTypesStr = filters.getPropertyTypes().stream()
                     .map(PropertyType::name)
                     .collect(Collectors.joining(", "));
         }
 
         String amenities = null;
         int amenityCount = 0;
-        if (Boolean.TRUE.equals(searchHistory.getParkingRequired())) amenityCount++;
-        if (Boolean.TRUE.equals(searchHistory.getPetAllowedRequired())) amenityCount++;
-        if (Boolean.TRUE.equals(searchHistory.getFurnishedRequired())) amenityCount++;
-        if (Boolean.TRUE.equals(searchHistory.getShortTermAvailableRequired())) amenityCount++;
+        if (Boolean.TRUE.equals(filters.getParkingRequired())) amenityCount++;
+        if (Boolean.TRUE.equals(filters.getPetAllowedRequired())) amenityCount++;
+        if (Boolean.TRUE.equals(filters.getFurnishedRequired())) amenityCount++;
+        if (Boolean.TRUE.equals(filters.getShortTermAvailableRequired())) amenityCount++;
         if (amenityCount > 0) {
             amenities = amenityCount + " amenities required";
         }
 
         int totalFilters = 0;
-        if (searchHistory.getKeyword() != null && !searchHistory.getKeyword().trim().isEmpty()) totalFilters++;
+        if (filters.getKeyword() != null && !filters.getKeyword().trim().isEmpty()) totalFilters++;
         if (location.length() > 0) totalFilters++;
         if (priceRange != null) totalFilters++;
         if (propertyTypesStr != null) totalFilters++;
@@ -361,13 +260,15 @@ public class SearchHistoryService {
             return searchHistory.getSearchName();
         }
 
-        if (searchHistory.getKeyword() != null && !searchHistory.getKeyword().trim().isEmpty()) {
-            display.append("\"").append(searchHistory.getKeyword()).append("\"");
+        SearchFilters filters = searchHistory.getFilters();
+
+        if (filters.getKeyword() != null && !filters.getKeyword().trim().isEmpty()) {
+            display.append("\"").append(filters.getKeyword()).append("\"");
         }
 
-        if (searchHistory.getCity() != null) {
+        if (filters.getCity() != null) {
             if (display.length() > 0) display.append(" in ");
-            display.append(searchHistory.getCity());
+            display.append(filters.getCity());
         }
 
         if (display.length() == 0) {
@@ -0,0 +1,145 @@
+package com.hanihome.hanihome_au_api.application.search.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanihome.hanihome_au_api.domain.entity.SearchHistory;
+import com.hanihome.hanihome_au_api.repository.SearchHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 이력 write-behind 버퍼
+ * - 검색 요청은 조건 해시(criteria_hash) 키로 메모리에서 합산만 하고 즉시 반환
+ * - flush-interval 마다 버퍼를 비우며 (user_id, criteria_hash) 유니크 인덱스에 대한 upsert 로 검색 횟수를 더함
+ *   → 여러 노드가 같은 조건을 동시에 flush 해도 행이 중복되지 않음
+ * - 버퍼가 max-pending 에 도달하면 새 조건은 버리고(이미 있는 조건은 계속 합산) 다음 flush 를 기다림;
+ *   요청 스레드에서는 DB 에 쓰지 않음
+ * - 보존 기간/사용자별 개수 제한은 SearchHistoryCleanupService 의 야간 정리가 담당
+ */
+@Slf4j
+@Component
+public class SearchHistoryWriteBuffer {
+
+    private final SearchHistoryRepository searchHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter droppedCounter;
+    private final Map<String, PendingSearch> pending = new ConcurrentHashMap<>();
+
+    @Value("${app.search-history.buffer.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${app.search-history.buffer.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    public SearchHistoryWriteBuffer(SearchHistoryRepository searchHistoryRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.searchHistoryRepository = searchHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.droppedCounter = Counter.builder("search_history.buffer.dropped")
+                .description("Searches not recorded because the buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param search unsaved entity built from the search criteria; persisted as-is if no row matches
+     */
+    public void record(SearchHistory search) {
+        String criteriaHash = search.computeCriteriaHash();
+        LocalDateTime usedAt = LocalDateTime.now();
+        PendingSearch merged = pending.compute(criteriaHash, (hash, current) -> {
+            if (current != null) {
+                return new PendingSearch(current.search(), current.count() + 1, usedAt);
+            }
+            // Only reached when flushes fall far behind; history is best-effort, the search itself is not held up
+            return pending.size() >= maxPending ? null : new PendingSearch(search, 1, usedAt);
+        });
+        if (merged == null) {
+            droppedCounter.increment();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 버퍼를 배치 단위로 DB 에 반영
+     * 실패한 배치는 다시 합산하여 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${app.search-history.buffer.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<PendingSearch> batch;
+        while (!(batch = drain()).isEmpty()) {
+            List<PendingSearch> toWrite = batch;
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(toWrite));
+                log.debug("Flushed {} buffered searches", toWrite.size());
+            } catch (Exception e) {
+                log.error("Failed to flush {} buffered searches: {}", toWrite.size(), e.getMessage(), e);
+                toWrite.forEach(this::requeue);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void write(List<PendingSearch> batch) {
+        for (PendingSearch pendingSearch : batch) {
+            SearchHistory search = pendingSearch.search();
+            searchHistoryRepository.upsertUnsaved(search.getUserId(), toJson(search), search.getCriteriaHash(),
+                    pendingSearch.count(), pendingSearch.lastUsedAt());
+        }
+    }
+
+    private String toJson(SearchHistory search) {
+        try {
+            return objectMapper.writeValueAsString(search.getFilters());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Search filters could not be serialized", e);
+        }
+    }
+
+    private List<PendingSearch> drain() {
+        List<PendingSearch> batch = new ArrayList<>(Math.min(flushBatchSize, pending.size()));
+        for (String criteriaHash : pending.keySet()) {
+            if (batch.size() >= flushBatchSize) {
+                break;
+            }
+            // remove() is atomic with merge(), so a concurrent repeat either lands in this batch or starts a new entry
+            PendingSearch search = pending.remove(criteriaHash);
+            if (search != null) {
+                batch.add(search);
+            }
+        }
+        return batch;
+    }
+
+    private void requeue(PendingSearch failed) {
+        pending.merge(failed.search().getCriteriaHash(), failed, (current, retry) -> new PendingSearch(
+                current.search(), current.count() + retry.count(),
+                current.lastUsedAt().isAfter(retry.lastUsedAt()) ? current.lastUsedAt() : retry.lastUsedAt()));
+    }
+
+    private record PendingSearch(SearchHistory search, int count, LocalDateTime lastUsedAt) {}
+}
@@ -0,0 +1,117 @@
+package com.hanihome.hanihome_au_api.application.transaction.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.TransactionFinancialInfo;
+import com.hanihome.hanihome_au_api.infrastructure.crypto.FieldEncryptor;
+import com.hanihome.hanihome_au_api.repository.TransactionFinancialInfoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 금융 정보 암호화 필드 재암호화 작업
+ * - 키 교체(app.financial.encryption.key-version 증가) 후, 또는 헤더 없는 이전 형식(AES/ECB) 값을 새 형식으로 옮길 때 실행
+ * - id 기준 키셋으로 chunk-size 건씩 잠가 읽고, 청크마다 별도 트랜잭션에서 커밋하므로 전체 테이블을 한 번에 올리지 않음
+ * - 이미 활성 키 버전으로 저장된 값은 건너뛰므로 중단 후 다시 실행해도 안전
+ */
+@Slf4j
+@Component
+public class FinancialFieldReEncryptionJob {
+
+    private final TransactionFinancialInfoRepository financialInfoRepository;
+    private final FieldEncryptor fieldEncryptor;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.financial.encryption.re-encryption.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.financial.encryption.re-encryption.chunk-size:200}")
+    private int chunkSize;
+
+    public FinancialFieldReEncryptionJob(TransactionFinancialInfoRepository financialInfoRepository,
+                                         FieldEncryptor fieldEncryptor,
+                                         PlatformTransactionManager transactionManager) {
+        this.financialInfoRepository = financialInfoRepository;
+        this.fieldEncryptor = fieldEncryptor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.financial.encryption.re-encryption.cron:0 30 3 * * *}")
+    public void scheduledReEncryption() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    public ReEncryptionStats run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Financial field re-encryption is already running");
+            return new ReEncryptionStats(0, 0, 0);
+        }
+        try {
+            long started = System.currentTimeMillis();
+            long afterId = 0;
+            ReEncryptionStats total = new ReEncryptionStats(0, 0, 0);
+            ChunkResult chunk;
+            do {
+                long from = afterId;
+                chunk = transactionTemplate.execute(status -> reEncryptChunk(from));
+                total = total.plus(chunk.stats());
+                afterId = chunk.lastId();
+            } while (chunk.stats().scanned() == chunkSize);
+
+            log.info("Financial field re-encryption to key v{} finished in {} ms: {}",
+                    fieldEncryptor.getActiveVersion(), System.currentTimeMillis() - started, total);
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ChunkResult reEncryptChunk(long afterId) {
+        List<TransactionFinancialInfo> rows =
+                financialInfoRepository.findEncryptedChunkForUpdate(afterId, PageRequest.of(0, chunkSize));
+        int reEncrypted = 0;
+        int failed = 0;
+        for (TransactionFinancialInfo info : rows) {
+            try {
+                boolean landlord = reEncrypt(info.getLandlordBankAccountEncrypted(), info::setLandlordBankAccountEncrypted);
+                boolean tenant = reEncrypt(info.getTenantBankAccountEncrypted(), info::setTenantBankAccountEncrypted);
+                if (landlord || tenant) {
+                    reEncrypted++;
+                }
+            } catch (FieldEncryptor.FieldEncryptionException e) {
+                // Left as is; a value no configured key can read needs manual attention
+                failed++;
+                log.warn("Could not re-encrypt financial info {}: {}", info.getId(), e.getMessage());
+            }
+        }
+        // Modified rows are written by the commit flush as batched UPDATEs
+        long lastId = rows.isEmpty() ? afterId : rows.get(rows.size() - 1).getId();
+        return new ChunkResult(lastId, new ReEncryptionStats(rows.size(), reEncrypted, failed));
+    }
+
+    private boolean reEncrypt(String stored, Consumer<String> setter) {
+        if (!fieldEncryptor.needsReEncryption(stored)) {
+            return false;
+        }
+        setter.accept(fieldEncryptor.reEncrypt(stored));
+        return true;
+    }
+
+    private record ChunkResult(long lastId, ReEncryptionStats stats) {}
+
+    public record ReEncryptionStats(long scanned, long reEncrypted, long failed) {
+        ReEncryptionStats plus(ReEncryptionStats other) {
+            return new ReEncryptionStats(scanned + other.scanned, reEncrypted + other.reEncrypted, failed + other.failed);
+        }
+    }
+}
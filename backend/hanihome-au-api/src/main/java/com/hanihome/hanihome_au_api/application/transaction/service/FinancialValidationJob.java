@@ -0,0 +1,297 @@
+package com.hanihome.hanihome_au_api.application.transaction.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.BatchJobCheckpoint;
+import com.hanihome.hanihome_au_api.domain.entity.TransactionFinancialInfo;
+import com.hanihome.hanihome_au_api.repository.BatchJobCheckpointRepository;
+import com.hanihome.hanihome_au_api.repository.TransactionFinancialInfoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 금융 정보 전체 검증 배치 작업
+ * - id 키셋으로 chunk-size 건씩 행 잠금(PESSIMISTIC_WRITE)으로 읽고, 청크마다 별도 트랜잭션에서 커밋하여
+ *   검증 결과 기록이 같은 행의 동시 수정을 덮어쓰지 않도록 함
+ * - 청크 안의 검증은 parallelism 개 스레드의 고정 풀에서 나누어 수행하고, 검증 결과가 바뀐 행만 UPDATE 됨
+ * - 체크포인트(batch_job_checkpoints)를 청크와 같은 트랜잭션에서 갱신하므로 중단된 실행은 마지막 커밋 청크 다음부터 재개
+ * - 체크포인트 행의 임대(lease)를 가진 노드만 실행하며 청크마다 갱신함; 노드가 죽으면 lease-ttl 뒤 다른 노드가 이어받음
+ * - 진행 상황과 처리량은 financial.validation.* 지표로 /actuator/metrics, /actuator/prometheus 에 노출
+ */
+@Slf4j
+@Component
+public class FinancialValidationJob {
+
+    static final String JOB_NAME = "financial-validation";
+
+    private final TransactionFinancialInfoRepository financialInfoRepository;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor validationPool;
+    private final String owner;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastProcessedId = new AtomicLong();
+    private final AtomicLong runProcessed = new AtomicLong();
+    private final AtomicLong recordsPerSecond = new AtomicLong();
+    private final Counter validCounter;
+    private final Counter invalidCounter;
+    private final Counter updatedCounter;
+    private final Timer chunkTimer;
+
+    @Value("${app.financial.validation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.financial.validation.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.financial.validation.lease-ttl:PT10M}")
+    private Duration leaseTtl;
+
+    public FinancialValidationJob(TransactionFinancialInfoRepository financialInfoRepository,
+                                  BatchJobCheckpointRepository checkpointRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.financial.validation.parallelism:4}") int parallelism) {
+        this.financialInfoRepository = financialInfoRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+        // One slice per worker per chunk, so the queue never holds more than a chunk's worth of tasks
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.validationPool = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "financial-validation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.validationPool.allowCoreThreadTimeOut(true);
+
+        this.validCounter = Counter.builder("financial.validation.records")
+                .tag("outcome", "valid")
+                .register(meterRegistry);
+        this.invalidCounter = Counter.builder("financial.validation.records")
+                .tag("outcome", "invalid")
+                .register(meterRegistry);
+        this.updatedCounter = Counter.builder("financial.validation.updated")
+                .description("Rows whose validation result changed and were written")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("financial.validation.chunk")
+                .description("Read, validate and commit time per chunk")
+                .register(meterRegistry);
+        Gauge.builder("financial.validation.running", running, flag -> flag.get() ? 1 : 0)
+                .register(meterRegistry);
+        Gauge.builder("financial.validation.last.id", lastProcessedId, AtomicLong::get)
+                .description("Checkpoint of the current or last run")
+                .register(meterRegistry);
+        Gauge.builder("financial.validation.run.processed", runProcessed, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("financial.validation.throughput", recordsPerSecond, AtomicLong::get)
+                .baseUnit("records/s")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.financial.validation.cron:0 0 4 * * *}")
+    public void scheduledValidation() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * Validate every financial record, resuming an interrupted run from its checkpoint
+     * @return records validated by this invocation; 0 when another node holds the lease
+     */
+    public long run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Financial validation is already running");
+            return 0;
+        }
+        try {
+            BatchJobCheckpoint start = acquire();
+            if (start == null) {
+                log.info("Financial validation is running on another node");
+                return 0;
+            }
+            try {
+                return validateFrom(start);
+            } finally {
+                release();
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long validateFrom(BatchJobCheckpoint start) {
+        long afterId = start.getLastProcessedId();
+        runProcessed.set(start.getProcessedCount());
+        lastProcessedId.set(afterId);
+        if (afterId > 0) {
+            log.info("Resuming financial validation after id {} ({} already processed)",
+                    afterId, start.getProcessedCount());
+        }
+
+        long started = System.nanoTime();
+        long processed = 0;
+        int chunkCount;
+        do {
+            long from = afterId;
+            ChunkResult chunk = chunkTimer.record(() -> transactionTemplate.execute(status -> validateChunk(from)));
+            chunkCount = chunk.count();
+            afterId = chunk.lastId();
+            processed += chunkCount;
+
+            lastProcessedId.set(afterId);
+            runProcessed.addAndGet(chunkCount);
+            long elapsedNanos = Math.max(System.nanoTime() - started, 1);
+            recordsPerSecond.set(processed * 1_000_000_000L / elapsedNanos);
+        } while (chunkCount == chunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> leasedCheckpoint().complete());
+        log.info("Validated {} financial records in {} ms ({} records/s)", processed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), recordsPerSecond.get());
+        return processed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationPool.shutdownNow();
+    }
+
+    /**
+     * Takes the lease and starts a new run or resumes the interrupted one
+     * @return the checkpoint to start from, or null when another node holds the lease
+     */
+    private BatchJobCheckpoint acquire() {
+        try {
+            return transactionTemplate.execute(status -> {
+                BatchJobCheckpoint checkpoint = checkpointRepository.findForUpdate(JOB_NAME)
+                        .orElseGet(() -> checkpointRepository.saveAndFlush(new BatchJobCheckpoint(JOB_NAME)));
+                if (!checkpoint.lease(owner, leaseTtl)) {
+                    return null;
+                }
+                if (!checkpoint.isInProgress()) {
+                    checkpoint.restart();
+                }
+                return checkpoint;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the checkpoint first and took the lease with it
+            return null;
+        }
+    }
+
+    private void release() {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    checkpointRepository.findForUpdate(JOB_NAME).ifPresent(checkpoint -> checkpoint.release(owner)));
+        } catch (Exception e) {
+            log.warn("Failed to release the financial validation lease, it expires after {}: {}", leaseTtl, e.getMessage());
+        }
+    }
+
+    /**
+     * The checkpoint row, locked until the current transaction ends
+     * Fails when the lease expired and another node took the job over, so this node stops without writing
+     */
+    private BatchJobCheckpoint leasedCheckpoint() {
+        return checkpointRepository.findForUpdate(JOB_NAME)
+                .filter(checkpoint -> checkpoint.isLeasedTo(owner))
+                .orElseThrow(() -> new IllegalStateException("Financial validation lease was lost"));
+    }
+
+    private ChunkResult validateChunk(long afterId) {
+        BatchJobCheckpoint checkpoint = leasedCheckpoint();
+        List<TransactionFinancialInfo> chunk =
+                financialInfoRepository.findChunkForUpdate(afterId, PageRequest.of(0, chunkSize));
+        if (chunk.isEmpty()) {
+            return new ChunkResult(afterId, 0);
+        }
+
+        // Workers only read and set plain fields of their own rows; the session stays on this thread,
+        // whose commit flush writes the rows that became dirty
+        int workers = validationPool.getMaximumPoolSize();
+        int sliceSize = (chunk.size() + workers - 1) / workers;
+        List<Future<SliceResult>> slices = new ArrayList<>(workers);
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<TransactionFinancialInfo> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            slices.add(validationPool.submit(() -> validateSlice(slice)));
+        }
+
+        int invalid = 0;
+        int changed = 0;
+        for (Future<SliceResult> slice : slices) {
+            SliceResult result = await(slice);
+            invalid += result.invalid();
+            changed += result.changed();
+        }
+
+        long lastId = chunk.get(chunk.size() - 1).getId();
+        checkpoint.advance(lastId, chunk.size());
+        checkpoint.lease(owner, leaseTtl);
+
+        validCounter.increment(chunk.size() - invalid);
+        invalidCounter.increment(invalid);
+        updatedCounter.increment(changed);
+        return new ChunkResult(lastId, chunk.size());
+    }
+
+    private SliceResult validateSlice(List<TransactionFinancialInfo> slice) {
+        int invalid = 0;
+        int changed = 0;
+        for (TransactionFinancialInfo info : slice) {
+            String previous = info.getValidationErrors();
+            String result = info.validateFinancialInfo();
+            if (!result.isEmpty()) {
+                invalid++;
+                log.debug("Validation errors for transaction {}: {}", info.getTransaction().getId(), result);
+            }
+            if (!Objects.equals(previous, info.getValidationErrors())) {
+                changed++;
+            }
+        }
+        return new SliceResult(invalid, changed);
+    }
+
+    private static SliceResult await(Future<SliceResult> slice) {
+        try {
+            return slice.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Financial validation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Financial validation failed", e.getCause());
+        }
+    }
+
+    private record ChunkResult(long lastId, int count) {}
+
+    private record SliceResult(int invalid, int changed) {}
+}
@@ -0,0 +1,105 @@
+package com.hanihome.hanihome_au_api.application.transaction.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.TransactionActivity;
+import com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType;
+import com.hanihome.hanihome_au_api.repository.TransactionActivityRepository;
+import com.hanihome.hanihome_au_api.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 활동 이력(TransactionActivity) 추가 전용 저장기
+ * - 거래는 getReferenceById 프록시로만 참조하므로 이력 한 건마다 거래를 SELECT 하지 않음
+ * - 쓰기 트랜잭션 안에서 기록된 이력은 트랜잭션별로 모았다가 커밋 직전에 한 번에 저장 (같은 트랜잭션, JDBC 배치)
+ * - 트랜잭션 밖이나 읽기 전용 트랜잭션에서 기록된 이력은 REQUIRES_NEW 트랜잭션으로 즉시 저장
+ * - 감사 이력이므로 메모리에 보류하지 않으며, 저장 실패(제약 조건 위반 포함)는 호출자에게 그대로 전달
+ */
+@Slf4j
+@Component
+public class TransactionActivityWriter {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionActivityRepository activityRepository;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public TransactionActivityWriter(TransactionRepository transactionRepository,
+                                     TransactionActivityRepository activityRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.activityRepository = activityRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void append(Long transactionId, TransactionActivityType activityType,
+                       String description, Long userId, String metadata) {
+        if (transactionId == null) {
+            throw new IllegalArgumentException("Transaction id is required for an activity");
+        }
+        PendingActivity activity = new PendingActivity(transactionId, activityType, description, userId,
+                metadata, LocalDateTime.now());
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            currentBatch().add(activity);
+            return;
+        }
+
+        // No read-write transaction to join: the row commits (or fails) before append returns
+        requiresNewTemplate.executeWithoutResult(status -> persist(List.of(activity)));
+        log.debug("Persisted transaction activity {} for transaction {} in its own transaction",
+                activityType, transactionId);
+    }
+
+    private void persist(List<PendingActivity> activities) {
+        List<TransactionActivity> rows = new ArrayList<>(activities.size());
+        for (PendingActivity activity : activities) {
+            rows.add(new TransactionActivity(transactionRepository.getReferenceById(activity.transactionId()),
+                    activity.activityType(), activity.description(), activity.userId(),
+                    activity.metadata(), activity.createdAt()));
+        }
+        activityRepository.saveAll(rows);
+    }
+
+    /**
+     * Activities of the current transaction, registered as a synchronization so a REQUIRES_NEW
+     * transaction (whose synchronizations are suspended separately) gets its own batch
+     */
+    private List<PendingActivity> currentBatch() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof CommitBatch batch) {
+                return batch.activities;
+            }
+        }
+        CommitBatch batch = new CommitBatch();
+        TransactionSynchronizationManager.registerSynchronization(batch);
+        return batch.activities;
+    }
+
+    private final class CommitBatch implements TransactionSynchronization {
+
+        private final List<PendingActivity> activities = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Rows are inserted by the commit flush together with the rest of the unit of work;
+            // a failure here rolls the whole transaction back
+            if (!activities.isEmpty()) {
+                persist(activities);
+            }
+        }
+    }
+
+    private record PendingActivity(Long transactionId, TransactionActivityType activityType, String description,
+                                   Long userId, String metadata, LocalDateTime createdAt) {}
+}
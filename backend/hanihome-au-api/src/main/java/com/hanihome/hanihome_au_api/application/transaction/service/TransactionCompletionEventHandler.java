@@ -9,10 +9,12 @@ import com.hanihome.hanihome_au_api.application.notification.service.SSENotifica
 import com.hanihome.hanihome_au_api.application.property.service.SearchCacheEvictionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Event handler for transaction completion events
@@ -39,9 +41,10 @@ public class TransactionCompletionEventHandler {
     
     /**
      * Handles transaction completion events by updating related property status
-     * and sending notifications
+     * and sending notifications, once the completed transaction has been committed
      */
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Async
     public void handleTransactionCompleted(TransactionCompletedEvent event) {
         try {
@@ -4,20 +4,16 @@ import com.hanihome.hanihome_au_api.domain.entity.Transaction;
 import com.hanihome.hanihome_au_api.domain.entity.TransactionFinancialInfo;
 import com.hanihome.hanihome_au_api.domain.enums.PaymentFrequency;
 import com.hanihome.hanihome_au_api.domain.enums.PaymentStatus;
+import com.hanihome.hanihome_au_api.infrastructure.crypto.FieldEncryptor;
 import com.hanihome.hanihome_au_api.repository.TransactionFinancialInfoRepository;
 import com.hanihome.hanihome_au_api.repository.TransactionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.Cipher;
-import javax.crypto.KeyGenerator;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
-import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,21 +22,23 @@ import java.util.Optional;
 public class TransactionFinancialService {
     
     private static final Logger logger = LoggerFactory.getLogger(TransactionFinancialService.class);
-    private static final String ENCRYPTION_ALGORITHM = "AES";
-    
-    @Value("${app.financial.encryption.key:defaultEncryptionKey1234567890}")
-    private String encryptionKey;
     
     private final TransactionFinancialInfoRepository financialInfoRepository;
     private final TransactionRepository transactionRepository;
     private final TransactionHistoryService historyService;
+    private final FieldEncryptor fieldEncryptor;
+    private final FinancialValidationJob financialValidationJob;
     
     public TransactionFinancialService(TransactionFinancialInfoRepository financialInfoRepository,
                                      TransactionRepository transactionRepository,
-                                     TransactionHistoryService historyService) {
+                                     TransactionHistoryService historyService,
+                                     FieldEncryptor fieldEncryptor,
+                                     FinancialValidationJob financialValidationJob) {
         this.financialInfoRepository = financialInfoRepository;
         this.transactionRepository = transactionRepository;
         this.historyService = historyService;
+        this.fieldEncryptor = fieldEncryptor;
+        this.financialValidationJob = financialValidationJob;
     }
     
     /**
@@ -352,26 +350,13 @@ public class TransactionFinancialService {
     
     /**
      * Validate all financial information
+     * Runs as the chunked FinancialValidationJob; each chunk commits on its own, so no outer transaction here
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void validateAllFinancialInfo() {
         logger.info("Validating all financial information");
-        
-        List<TransactionFinancialInfo> allFinancialInfo = financialInfoRepository.findAll();
-        int validatedCount = 0;
-        int errorsFound = 0;
-        
-        for (TransactionFinancialInfo info : allFinancialInfo) {
-            String validationResult = info.validateFinancialInfo();
-            if (!validationResult.isEmpty()) {
-                errorsFound++;
-                logger.warn("Validation errors for transaction {}: {}", 
-                           info.getTransaction().getId(), validationResult);
-            }
-            financialInfoRepository.save(info);
-            validatedCount++;
-        }
-        
-        logger.info("Validated {} financial records, found {} with errors", validatedCount, errorsFound);
+        long validatedCount = financialValidationJob.run();
+        logger.info("Validated {} financial records", validatedCount);
     }
     
     // Helper methods
@@ -381,21 +366,12 @@ public class TransactionFinancialService {
                (transaction.getAgentUserId() != null && userId.equals(transaction.getAgentUserId()));
     }
     
-    private String encryptSensitiveData(String data) throws Exception {
-        SecretKeySpec secretKey = new SecretKeySpec(encryptionKey.getBytes(), ENCRYPTION_ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-        byte[] encryptedData = cipher.doFinal(data.getBytes());
-        return Base64.getEncoder().encodeToString(encryptedData);
+    private String encryptSensitiveData(String data) {
+        return fieldEncryptor.encrypt(data);
     }
     
-    private String decryptSensitiveData(String encryptedData) throws Exception {
-        SecretKeySpec secretKey = new SecretKeySpec(encryptionKey.getBytes(), ENCRYPTION_ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, secretKey);
-        byte[] decodedData = Base64.getDecoder().decode(encryptedData);
-        byte[] decryptedData = cipher.doFinal(decodedData);
-        return new String(decryptedData);
+    private String decryptSensitiveData(String encryptedData) {
+        return fieldEncryptor.decrypt(encryptedData);
     }
     
     // DTOs
@@ -9,6 +9,7 @@ import com.hanihome.hanihome_au_api.repository.TransactionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,13 +25,30 @@ public class TransactionHistoryService {
     
     private static final Logger logger = LoggerFactory.getLogger(TransactionHistoryService.class);
     
+    private static final List<TransactionActivityType> TIMELINE_TYPES = List.of(
+        TransactionActivityType.TRANSACTION_CREATED,
+        TransactionActivityType.OFFER_MADE,
+        TransactionActivityType.COUNTER_OFFER_MADE,
+        TransactionActivityType.OFFER_ACCEPTED,
+        TransactionActivityType.CONTRACT_REQUESTED,
+        TransactionActivityType.CONTRACT_SIGNED,
+        TransactionActivityType.CONTRACT_COMPLETED,
+        TransactionActivityType.TRANSACTION_CANCELLED,
+        TransactionActivityType.STATUS_CHANGED
+    );
+    
+    private static final int MAX_TIMELINE_PAGE_SIZE = 200;
+    
     private final TransactionRepository transactionRepository;
     private final TransactionActivityRepository activityRepository;
+    private final TransactionActivityWriter activityWriter;
     
     public TransactionHistoryService(TransactionRepository transactionRepository,
-                                   TransactionActivityRepository activityRepository) {
+                                   TransactionActivityRepository activityRepository,
+                                   TransactionActivityWriter activityWriter) {
         this.transactionRepository = transactionRepository;
         this.activityRepository = activityRepository;
+        this.activityWriter = activityWriter;
     }
     
     /**
@@ -64,23 +82,14 @@ public class TransactionHistoryService {
     
     /**
      * Log transaction activity
+     * Inside a read-write transaction the row is written in the same commit, batched with the
+     * transaction's other activities; otherwise it is written in its own transaction before returning.
+     * The transaction is referenced by id only, so an unknown id fails on the foreign key at write time.
      */
     public void logActivity(Long transactionId, TransactionActivityType activityType, 
                           String description, Long userId, String metadata) {
         logger.debug("Logging activity {} for transaction {}", activityType, transactionId);
-        
-        Optional<Transaction> transactionOpt = transactionRepository.findById(transactionId);
-        if (transactionOpt.isEmpty()) {
-            logger.error("Transaction {} not found when logging activity", transactionId);
-            throw new IllegalArgumentException("Transaction not found: " + transactionId);
-        }
-        
-        Transaction transaction = transactionOpt.get();
-        TransactionActivity activity = new TransactionActivity(transaction, activityType, 
-                                                             description, userId, metadata);
-        
-        activityRepository.save(activity);
-        logger.debug("Activity logged successfully for transaction {}", transactionId);
+        activityWriter.append(transactionId, activityType, description, userId, metadata);
     }
     
     /**
@@ -92,11 +101,33 @@ public class TransactionHistoryService {
     }
     
     /**
-     * Get transaction activity timeline
+     * Get transaction activity timeline (first page, oldest first)
      */
     @Transactional(readOnly = true)
-    public List<TransactionActivity> getTransactionTimeline(Long transactionId) {
-        return activityRepository.findTimelineActivities(transactionId);
+    public TimelinePage getTransactionTimeline(Long transactionId, int limit) {
+        return getTransactionTimeline(transactionId, null, null, limit);
+    }
+    
+    /**
+     * Get the timeline page following (afterCreatedAt, afterId), the cursor of the previous page
+     */
+    @Transactional(readOnly = true)
+    public TimelinePage getTransactionTimeline(Long transactionId, LocalDateTime afterCreatedAt,
+                                             Long afterId, int limit) {
+        if ((afterCreatedAt == null) != (afterId == null)) {
+            throw new IllegalArgumentException("Timeline cursor requires both createdAt and id");
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_TIMELINE_PAGE_SIZE));
+        // Fetch one extra row to know whether another page follows
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        
+        List<TransactionActivity> activities = afterId == null
+            ? activityRepository.findTimelineActivities(transactionId, TIMELINE_TYPES, page)
+            : activityRepository.findTimelineActivitiesAfter(transactionId, TIMELINE_TYPES,
+                                                             afterCreatedAt, afterId, page);
+        
+        boolean hasNext = activities.size() > pageSize;
+        return new TimelinePage(hasNext ? activities.subList(0, pageSize) : activities, hasNext);
     }
     
     /**
@@ -238,6 +269,26 @@ public class TransactionHistoryService {
         }
     }
     
+    // Keyset page of timeline activities; pass the last activity's createdAt and id to fetch the next page
+    public static class TimelinePage {
+        private final List<TransactionActivity> activities;
+        private final boolean hasNext;
+        
+        public TimelinePage(List<TransactionActivity> activities, boolean hasNext) {
+            this.activities = activities;
+            this.hasNext = hasNext;
+        }
+        
+        public List<TransactionActivity> getActivities() { return activities; }
+        public boolean hasNext() { return hasNext; }
+        public LocalDateTime getNextCreatedAt() {
+            return hasNext ? activities.get(activities.size() - 1).getCreatedAt() : null;
+        }
+        public Long getNextId() {
+            return hasNext ? activities.get(activities.size() - 1).getId() : null;
+        }
+    }
+    
     // Inner class for statistics DTO
     public static class TransactionStatistics {
         private final long totalTransactions;
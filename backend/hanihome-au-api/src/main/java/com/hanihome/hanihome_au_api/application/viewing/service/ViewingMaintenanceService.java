@@ -1,25 +1,55 @@
 package com.hanihome.hanihome_au_api.application.viewing.service;
 
+import com.hanihome.hanihome_au_api.application.notification.service.EmailNotificationService;
 import com.hanihome.hanihome_au_api.domain.entity.Viewing;
 import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaRepository;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.user.UserJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.user.UserJpaRepository;
 import com.hanihome.hanihome_au_api.repository.ViewingRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class ViewingMaintenanceService {
 
     private final ViewingRepository viewingRepository;
     private final ViewingConflictService conflictService;
+    private final EmailNotificationService emailNotificationService;
+    private final UserJpaRepository userJpaRepository;
+    private final PropertyJpaRepository propertyJpaRepository;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public ViewingMaintenanceService(ViewingRepository viewingRepository,
+                                     ViewingConflictService conflictService,
+                                     EmailNotificationService emailNotificationService,
+                                     UserJpaRepository userJpaRepository,
+                                     PropertyJpaRepository propertyJpaRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.viewingRepository = viewingRepository;
+        this.conflictService = conflictService;
+        this.emailNotificationService = emailNotificationService;
+        this.userJpaRepository = userJpaRepository;
+        this.propertyJpaRepository = propertyJpaRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
      * Process overdue viewings
@@ -65,9 +95,13 @@ public class ViewingMaintenanceService {
 
     /**
      * Send viewing reminders
-     * Runs every hour to check for viewings that need reminders
+     * Runs every hour to check for viewings that need reminders; the 23-25h window overlaps
+     * between runs, so each viewing is reminded once via reminder_sent_at
+     * Each viewing is claimed in its own committed transaction before any email goes out, so a failed
+     * claim never sends and a sent reminder is never rolled back into a resend
      */
     @Scheduled(fixedRate = 60 * 60 * 1000) // 1 hour
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendViewingReminders() {
         log.debug("Starting viewing reminder check");
         
@@ -80,8 +114,37 @@ public class ViewingMaintenanceService {
             
             log.info("Found {} viewings that need 24-hour reminders", upcomingViewings.size());
             
+            if (upcomingViewings.isEmpty()) {
+                return;
+            }
+
+            // One lookup each for tenant names and property titles of the whole batch
+            Map<Long, String> tenantNames = userJpaRepository.findAllById(upcomingViewings.stream()
+                            .map(Viewing::getTenantUserId).collect(Collectors.toSet()))
+                    .stream()
+                    .filter(user -> user.getName() != null)
+                    .collect(Collectors.toMap(UserJpaEntity::getId, UserJpaEntity::getName));
+            Map<Long, PropertyJpaEntity> properties = propertyJpaRepository.findAllById(upcomingViewings.stream()
+                            .map(Viewing::getPropertyId).collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(PropertyJpaEntity::getId, Function.identity()));
+
+            List<EmailNotificationService.ReminderEmail> reminderEmails = new ArrayList<>();
             for (Viewing viewing : upcomingViewings) {
+                if (!claimReminder(viewing)) {
+                    continue;
+                }
                 sendViewingReminder(viewing);
+                PropertyJpaEntity property = properties.get(viewing.getPropertyId());
+                if (viewing.getContactEmail() != null && property != null) {
+                    reminderEmails.add(toReminderEmail(viewing, tenantNames.get(viewing.getTenantUserId()), property));
+                }
+            }
+
+            // Deliver all reminder emails over pooled SMTP batches instead of one connection per email;
+            // a failed SMTP batch is logged and counted, not re-sent next hour
+            if (!reminderEmails.isEmpty()) {
+                emailNotificationService.sendViewingReminderEmails(reminderEmails);
             }
             
         } catch (Exception e) {
@@ -89,6 +152,19 @@ public class ViewingMaintenanceService {
         }
     }
 
+    /**
+     * Mark one viewing reminded and commit; false if another run or a reschedule got there first
+     */
+    private boolean claimReminder(Viewing viewing) {
+        try {
+            return Boolean.TRUE.equals(requiresNewTemplate.execute(status ->
+                    viewingRepository.markReminderSent(viewing.getId(), LocalDateTime.now()) == 1));
+        } catch (Exception e) {
+            log.error("Error marking reminder for viewing {}: {}", viewing.getId(), e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Cancel expired requested viewings
      * Runs daily to clean up old viewing requests that were never confirmed
@@ -127,7 +203,7 @@ public class ViewingMaintenanceService {
             
             // If viewing was scheduled to end more than 2 hours ago, mark as no-show
             if (scheduledEnd.plusHours(2).isBefore(now)) {
-                viewing.setStatus(ViewingStatus.NO_SHOW);
+                viewing.markNoShow();
                 viewingRepository.save(viewing);
                 log.info("Marked viewing {} as NO_SHOW (scheduled: {}, ended: {})", 
                         viewing.getId(), viewing.getScheduledAt(), scheduledEnd);
@@ -154,7 +230,6 @@ public class ViewingMaintenanceService {
                     viewing.getId(), viewing.getScheduledAt());
             
             // TODO: Integrate with notification service to send:
-            // - Email reminder to tenant and landlord
             // - Push notification if available
             // - SMS reminder if phone numbers are available
             
@@ -163,6 +238,21 @@ public class ViewingMaintenanceService {
         }
     }
 
+    private EmailNotificationService.ReminderEmail toReminderEmail(Viewing viewing, String tenantName,
+                                                                   PropertyJpaEntity property) {
+        String address = property.getDetailAddress() != null
+                ? property.getAddress() + " " + property.getDetailAddress()
+                : property.getAddress();
+        return EmailNotificationService.ReminderEmail.builder()
+                .toEmail(viewing.getContactEmail())
+                .recipientName(tenantName != null ? tenantName : "고객")
+                .propertyTitle(property.getTitle())
+                .scheduledAt(viewing.getScheduledAt())
+                .contactPhone(viewing.getContactPhone())
+                .address(address)
+                .build();
+    }
+
     private void notifyNoShow(Viewing viewing) {
         try {
             log.info("Sending no-show notification for viewing {} to landlord {}", 
@@ -1,5 +1,11 @@
 package com.hanihome.hanihome_au_api.config;
 
+import com.hanihome.hanihome_au_api.infrastructure.cache.CacheValueCodec;
+import com.hanihome.hanihome_au_api.infrastructure.cache.JsonCacheValueCodec;
+import com.hanihome.hanihome_au_api.infrastructure.cache.SmileCacheValueCodec;
+import com.hanihome.hanihome_au_api.infrastructure.cache.VersionedCacheValueSerializer;
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTracing;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -7,7 +13,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -19,12 +24,33 @@ import java.util.Map;
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${app.cache.codec:smile}")
+    private String codec;
+
+    @Value("${app.cache.schema-version:2}")
+    private int schemaVersion;
+
+    @Value("${app.cache.compression-threshold:1024}")
+    private int compressionThreshold;
+
+    @Bean
+    public CacheValueCodec cacheValueCodec() {
+        return "json".equalsIgnoreCase(codec) ? new JsonCacheValueCodec() : new SmileCacheValueCodec();
+    }
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, CacheValueCodec cacheValueCodec,
+                                     SearchTracing searchTracing) {
+        VersionedCacheValueSerializer valueSerializer =
+                new VersionedCacheValueSerializer(cacheValueCodec, schemaVersion, compressionThreshold);
+
+        // Keys carry the schema version too, so a new release never reads entries written by the previous one
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
+                .computePrefixWith(cacheName -> "v" + schemaVersion + ":" + cacheName + "::")
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        searchTracing.traced(valueSerializer)));
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         
@@ -55,6 +81,11 @@ public class CacheConfig {
         // Favorite statistics cache - 2 hours TTL
         cacheConfigurations.put("favoriteStats", defaultConfig.entryTtl(Duration.ofHours(2)));
 
+        // Admin growth series - TTL grows with the bucket size since only the current bucket moves
+        cacheConfigurations.put("growthSeriesDaily", defaultConfig.entryTtl(Duration.ofMinutes(5)));
+        cacheConfigurations.put("growthSeriesWeekly", defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        cacheConfigurations.put("growthSeriesMonthly", defaultConfig.entryTtl(Duration.ofHours(2)));
+
         return RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
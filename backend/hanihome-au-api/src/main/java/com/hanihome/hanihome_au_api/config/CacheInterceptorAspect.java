@@ -1,6 +1,7 @@
 package com.hanihome.hanihome_au_api.config;
 
 import com.hanihome.hanihome_au_api.application.property.service.SearchPerformanceService;
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTracing;
 import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchRequest;
 import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchResponse;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class CacheInterceptorAspect {
 
     private final CacheManager cacheManager;
     private final SearchPerformanceService searchPerformanceService;
+    private final SearchTracing searchTracing;
 
     @Around("@annotation(org.springframework.cache.annotation.Cacheable) && execution(* com.hanihome.hanihome_au_api.application.property.service.PropertySearchService.searchProperties(..))")
     public Object interceptCacheableSearch(ProceedingJoinPoint joinPoint) throws Throwable {
@@ -33,7 +35,7 @@ public class CacheInterceptorAspect {
             boolean fromCache = false;
             
             if (cache != null) {
-                fromCache = cache.get(queryHash) != null;
+                fromCache = searchTracing.stage("cache.lookup", () -> cache.get(queryHash)) != null;
             }
             
             long startTime = System.currentTimeMillis();
@@ -42,8 +44,9 @@ public class CacheInterceptorAspect {
             
             if (result instanceof PropertySearchResponse) {
                 PropertySearchResponse response = (PropertySearchResponse) result;
-                searchPerformanceService.recordSearchMetrics(queryHash, executionTime, 
-                                                           response.getNumberOfElements(), fromCache);
+                boolean cached = fromCache;
+                searchTracing.runStage("metrics.write", () -> searchPerformanceService.recordSearchMetrics(
+                        queryHash, executionTime, response.getNumberOfElements(), cached));
             }
             
             return result;
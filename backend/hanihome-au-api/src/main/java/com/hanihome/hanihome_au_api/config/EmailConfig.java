@@ -56,6 +56,8 @@ public class EmailConfig {
         props.put("mail.smtp.connectiontimeout", connectionTimeout);
         props.put("mail.smtp.timeout", timeout);
         props.put("mail.smtp.writetimeout", writeTimeout);
+        // Don't wait for the server's QUIT reply when closing a batch connection
+        props.put("mail.smtp.quitwait", false);
         props.put("mail.debug", log.isDebugEnabled());
 
         log.info("Email configuration initialized with host: {}, port: {}", mailHost, mailPort);
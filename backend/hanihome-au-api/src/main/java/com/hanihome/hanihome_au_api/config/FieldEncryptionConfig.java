@@ -0,0 +1,47 @@
+package com.hanihome.hanihome_au_api.config;
+
+import com.hanihome.hanihome_au_api.infrastructure.crypto.FieldEncryptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.crypto.SecretKey;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class FieldEncryptionConfig {
+
+    @Value("${app.financial.encryption.key:defaultEncryptionKey1234567890}")
+    private String key;
+
+    @Value("${app.financial.encryption.key-version:1}")
+    private int keyVersion;
+
+    // Retired keys still needed for reading, as "version:secret" pairs separated by commas
+    @Value("${app.financial.encryption.previous-keys:}")
+    private String previousKeys;
+
+    // Secret of values written before the versioned format; defaults to the current key
+    @Value("${app.financial.encryption.legacy-key:${app.financial.encryption.key:defaultEncryptionKey1234567890}}")
+    private String legacyKey;
+
+    @Bean
+    public FieldEncryptor fieldEncryptor() {
+        Map<Integer, SecretKey> keys = new HashMap<>();
+        for (String entry : previousKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator < 1) {
+                throw new IllegalStateException("app.financial.encryption.previous-keys entries must be version:secret");
+            }
+            int version = Integer.parseInt(entry.substring(0, separator).strip());
+            keys.put(version, FieldEncryptor.deriveKey(entry.substring(separator + 1).strip(), version));
+        }
+        keys.put(keyVersion, FieldEncryptor.deriveKey(key, keyVersion));
+
+        return new FieldEncryptor(keys, keyVersion, FieldEncryptor.legacyKey(legacyKey));
+    }
+}
@@ -1,29 +1,109 @@
 package com.hanihome.hanihome_au_api.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.hanihome.hanihome_au_api.domain.enums.Permission;
 import com.hanihome.hanihome_au_api.domain.enums.UserRole;
 import com.hanihome.hanihome_au_api.dto.response.MenuItemDto;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+/**
+ * 역할별 메뉴/기능 구성
+ * - 메뉴 트리와 기능 목록은 시작 시 역할마다 한 번 필터링하여 보관 (하위 메뉴까지 역할 기준으로 필터링)
+ * - /menu 응답 본문은 미리 UTF-8 JSON 으로 직렬화해 두고 RawValue 로 그대로 기록하여 요청마다 트리를 다시 만들거나 직렬화하지 않음
+ */
 @Component
 public class MenuConfiguration {
 
+    private final Map<UserRole, RoleMenu> menusByRole;
+
+    public MenuConfiguration(ObjectMapper objectMapper) {
+        List<MenuItemDto> allMenuItems = getAllMenuItems();
+        List<String> allFeatures = getAllFeatures();
+
+        Map<UserRole, RoleMenu> menus = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            List<MenuItemDto> menu = allMenuItems.stream()
+                    .map(menuItem -> menuItem.filterForRole(role))
+                    .filter(Objects::nonNull)
+                    .toList();
+            List<String> features = allFeatures.stream()
+                    .filter(feature -> canAccessFeature(role, feature))
+                    .toList();
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("role", role);
+            summary.put("menu", menu);
+            summary.put("features", features);
+
+            menus.put(role, new RoleMenu(menu, features, Set.copyOf(features),
+                    serialize(objectMapper, menu),
+                    serialize(objectMapper, features),
+                    serialize(objectMapper, summary)));
+        }
+        this.menusByRole = menus;
+    }
+
     public List<MenuItemDto> getMenuForRole(UserRole role) {
-        return getAllMenuItems().stream()
-                .filter(menuItem -> canAccessMenu(role, menuItem))
-                .collect(Collectors.toList());
+        return menusByRole.get(role).menu();
     }
 
     public List<String> getAvailableFeaturesForRole(UserRole role) {
-        return getAllFeatures().stream()
-                .filter(feature -> canAccessFeature(role, feature))
-                .collect(Collectors.toList());
+        return menusByRole.get(role).features();
+    }
+
+    public boolean hasFeature(UserRole role, String feature) {
+        return menusByRole.get(role).featureSet().contains(feature);
+    }
+
+    /**
+     * Pre-serialized menu tree of the role, written as-is into the response body
+     */
+    public RawValue getMenuJson(UserRole role) {
+        return menusByRole.get(role).menuJson();
+    }
+
+    /**
+     * Pre-serialized feature list of the role
+     */
+    public RawValue getFeaturesJson(UserRole role) {
+        return menusByRole.get(role).featuresJson();
     }
 
+    /**
+     * Pre-serialized {"role", "menu", "features"} object of the role
+     */
+    public RawValue getRoleSummaryJson(UserRole role) {
+        return menusByRole.get(role).summaryJson();
+    }
+
+    private static RawValue serialize(ObjectMapper objectMapper, Object value) {
+        try {
+            SerializedString json = new SerializedString(objectMapper.writeValueAsString(value));
+            // Encode once so every response copies the cached UTF-8 bytes
+            json.asUnquotedUTF8();
+            return new RawValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu configuration", e);
+        }
+    }
+
+    private record RoleMenu(List<MenuItemDto> menu,
+                            List<String> features,
+                            Set<String> featureSet,
+                            RawValue menuJson,
+                            RawValue featuresJson,
+                            RawValue summaryJson) {}
+
     private List<MenuItemDto> getAllMenuItems() {
         return List.of(
             // Dashboard menus
@@ -292,21 +372,6 @@ public class MenuConfiguration {
         );
     }
 
-    private boolean canAccessMenu(UserRole role, MenuItemDto menuItem) {
-        // Check if user's role is in the required roles
-        if (!menuItem.getRequiredRoles().isEmpty() && !menuItem.getRequiredRoles().contains(role)) {
-            return false;
-        }
-
-        // Check if user has all required permissions
-        if (!menuItem.getRequiredPermissions().isEmpty()) {
-            return menuItem.getRequiredPermissions().stream()
-                    .allMatch(role::hasPermission);
-        }
-
-        return true;
-    }
-
     private boolean canAccessFeature(UserRole role, String feature) {
         return switch (feature) {
             // Property features
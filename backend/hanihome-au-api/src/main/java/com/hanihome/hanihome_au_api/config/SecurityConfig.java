@@ -1,11 +1,14 @@
 package com.hanihome.hanihome_au_api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanihome.hanihome_au_api.security.CustomPermissionEvaluator;
 import com.hanihome.hanihome_au_api.security.jwt.JwtAuthenticationEntryPoint;
 import com.hanihome.hanihome_au_api.security.jwt.JwtAuthenticationFilter;
 import com.hanihome.hanihome_au_api.security.oauth2.CustomOAuth2UserService;
 import com.hanihome.hanihome_au_api.security.oauth2.OAuth2AuthenticationFailureHandler;
 import com.hanihome.hanihome_au_api.security.oauth2.OAuth2AuthenticationSuccessHandler;
+import com.hanihome.hanihome_au_api.security.ratelimit.RateLimitFilter;
+import com.hanihome.hanihome_au_api.security.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,6 +40,8 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomPermissionEvaluator customPermissionEvaluator;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -53,6 +58,7 @@ public class SecurityConfig {
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/public/**").permitAll()
+                        .requestMatchers("/files/**").permitAll()
 
                         // Role-based access control
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
@@ -80,6 +86,9 @@ public class SecurityConfig {
         // Add JWT authentication filter
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Rate limiting runs after JWT authentication so authenticated clients are limited per user
+        http.addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper), JwtAuthenticationFilter.class);
+
         return http.build();
     }
 
@@ -1,11 +1,10 @@
 package com.hanihome.hanihome_au_api.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.hanihome.hanihome_au_api.config.MenuConfiguration;
-import com.hanihome.hanihome_au_api.domain.user.entity.User;
 import com.hanihome.hanihome_au_api.domain.enums.UserRole;
 import com.hanihome.hanihome_au_api.dto.response.ApiResponse;
-import com.hanihome.hanihome_au_api.dto.response.MenuItemDto;
-import com.hanihome.hanihome_au_api.service.UserService;
+import com.hanihome.hanihome_au_api.security.RoleAuthorization;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -15,7 +14,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -24,34 +22,30 @@ import java.util.Optional;
 public class MenuController {
 
     private final MenuConfiguration menuConfiguration;
-    private final UserService userService;
+    private final RoleAuthorization roleAuthorization;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<MenuItemDto>>> getMenuForCurrentUser() {
+    public ResponseEntity<ApiResponse<RawValue>> getMenuForCurrentUser() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             if (authentication == null || !authentication.isAuthenticated()) {
                 return ResponseEntity.ok(ApiResponse.error("User not authenticated"));
             }
 
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
+            Long userId = roleAuthorization.resolveUserId(authentication);
+            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole =
+                    roleAuthorization.resolveRole(authentication);
             
-            if (userOpt.isEmpty()) {
+            if (dddRole == null) {
                 return ResponseEntity.ok(ApiResponse.error("User not found"));
             }
-            
-            User user = userOpt.get();
-            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole = user.getRole();
-            UserRole role = convertToDeprecatedRole(dddRole);
+            UserRole role = dddRole.getPermissionRole();
 
             log.info("Fetching menu for user: {} with role: {}", userId, dddRole);
 
-            List<MenuItemDto> menu = menuConfiguration.getMenuForRole(role);
-            
             return ResponseEntity.ok(ApiResponse.success(
                 "Menu retrieved successfully",
-                menu
+                menuConfiguration.getMenuJson(role)
             ));
         } catch (Exception e) {
             log.error("Error fetching menu: {}", e.getMessage());
@@ -60,31 +54,27 @@ public class MenuController {
     }
 
     @GetMapping("/features")
-    public ResponseEntity<ApiResponse<List<String>>> getAvailableFeaturesForCurrentUser() {
+    public ResponseEntity<ApiResponse<RawValue>> getAvailableFeaturesForCurrentUser() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             if (authentication == null || !authentication.isAuthenticated()) {
                 return ResponseEntity.ok(ApiResponse.error("User not authenticated"));
             }
 
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
+            Long userId = roleAuthorization.resolveUserId(authentication);
+            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole =
+                    roleAuthorization.resolveRole(authentication);
             
-            if (userOpt.isEmpty()) {
+            if (dddRole == null) {
                 return ResponseEntity.ok(ApiResponse.error("User not found"));
             }
-            
-            User user = userOpt.get();
-            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole = user.getRole();
-            UserRole role = convertToDeprecatedRole(dddRole);
+            UserRole role = dddRole.getPermissionRole();
 
             log.info("Fetching available features for user: {} with role: {}", userId, dddRole);
 
-            List<String> features = menuConfiguration.getAvailableFeaturesForRole(role);
-            
             return ResponseEntity.ok(ApiResponse.success(
                 "Available features retrieved successfully",
-                features
+                menuConfiguration.getFeaturesJson(role)
             ));
         } catch (Exception e) {
             log.error("Error fetching available features: {}", e.getMessage());
@@ -93,24 +83,15 @@ public class MenuController {
     }
 
     @GetMapping("/role/{role}")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getMenuAndFeaturesForRole(@PathVariable String role) {
+    public ResponseEntity<ApiResponse<RawValue>> getMenuAndFeaturesForRole(@PathVariable String role) {
         try {
             UserRole userRole = UserRole.valueOf(role.toUpperCase());
             
             log.info("Fetching menu and features for role: {}", userRole);
 
-            List<MenuItemDto> menu = menuConfiguration.getMenuForRole(userRole);
-            List<String> features = menuConfiguration.getAvailableFeaturesForRole(userRole);
-            
-            Map<String, Object> result = Map.of(
-                "role", userRole,
-                "menu", menu,
-                "features", features
-            );
-            
             return ResponseEntity.ok(ApiResponse.success(
                 "Menu and features retrieved successfully for role: " + userRole,
-                result
+                menuConfiguration.getRoleSummaryJson(userRole)
             ));
         } catch (IllegalArgumentException e) {
             log.error("Invalid role provided: {}", role);
@@ -129,20 +110,18 @@ public class MenuController {
                 return ResponseEntity.ok(ApiResponse.error("User not authenticated"));
             }
 
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
+            Long userId = roleAuthorization.resolveUserId(authentication);
+            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole =
+                    roleAuthorization.resolveRole(authentication);
             
-            if (userOpt.isEmpty()) {
+            if (dddRole == null) {
                 return ResponseEntity.ok(ApiResponse.error("User not found"));
             }
-            
-            User user = userOpt.get();
-            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole = user.getRole();
 
             log.info("Fetching permissions for user: {} with role: {}", userId, dddRole);
 
             Map<String, Object> permissions = Map.of(
-                "userId", user.getId().getValue(),
+                "userId", userId,
                 "role", dddRole.name(),
                 "roleName", dddRole.getDisplayName(),
                 "permissions", dddRole.getPermissions()
@@ -166,21 +145,18 @@ public class MenuController {
                 return ResponseEntity.ok(ApiResponse.error("User not authenticated"));
             }
 
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
+            Long userId = roleAuthorization.resolveUserId(authentication);
+            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole =
+                    roleAuthorization.resolveRole(authentication);
             
-            if (userOpt.isEmpty()) {
+            if (dddRole == null) {
                 return ResponseEntity.ok(ApiResponse.error("User not found"));
             }
-            
-            User user = userOpt.get();
-            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole = user.getRole();
-            UserRole role = convertToDeprecatedRole(dddRole);
+            UserRole role = dddRole.getPermissionRole();
 
             log.info("Checking feature access for user: {} with role: {} for feature: {}", userId, dddRole, feature);
 
-            List<String> availableFeatures = menuConfiguration.getAvailableFeaturesForRole(role);
-            boolean hasAccess = availableFeatures.contains(feature);
+            boolean hasAccess = menuConfiguration.hasFeature(role, feature);
             
             Map<String, Object> result = Map.of(
                 "userId", userId,
@@ -208,26 +184,23 @@ public class MenuController {
                 return ResponseEntity.ok(ApiResponse.error("User not authenticated"));
             }
 
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
+            Long userId = roleAuthorization.resolveUserId(authentication);
+            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole =
+                    roleAuthorization.resolveRole(authentication);
             
-            if (userOpt.isEmpty()) {
+            if (dddRole == null) {
                 return ResponseEntity.ok(ApiResponse.error("User not found"));
             }
-            
-            User user = userOpt.get();
-            com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole = user.getRole();
-            UserRole role = convertToDeprecatedRole(dddRole);
+            UserRole role = dddRole.getPermissionRole();
 
             log.info("Checking multiple feature access for user: {} with role: {} for features: {}", 
                     userId, dddRole, features);
 
-            List<String> availableFeatures = menuConfiguration.getAvailableFeaturesForRole(role);
-            
             Map<String, Boolean> featureAccess = features.stream()
+                .distinct()
                 .collect(java.util.stream.Collectors.toMap(
                     feature -> feature,
-                    availableFeatures::contains
+                    feature -> menuConfiguration.hasFeature(role, feature)
                 ));
             
             Map<String, Object> result = Map.of(
@@ -245,14 +218,4 @@ public class MenuController {
             return ResponseEntity.ok(ApiResponse.error("Failed to check multiple feature access"));
         }
     }
-
-    // Adapter method to convert DDD UserRole to deprecated UserRole
-    private UserRole convertToDeprecatedRole(com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole dddRole) {
-        return switch (dddRole) {
-            case TENANT -> UserRole.TENANT;
-            case LANDLORD -> UserRole.LANDLORD;
-            case AGENT -> UserRole.AGENT;
-            case ADMIN -> UserRole.ADMIN;
-        };
-    }
 }
\ No newline at end of file
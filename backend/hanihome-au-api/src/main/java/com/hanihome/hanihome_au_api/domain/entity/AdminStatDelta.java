@@ -0,0 +1,33 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One pending change to an admin dashboard counter, not yet folded into {@link AdminStatRollup}
+ * Appended through AdminStatRollupRepository native inserts in the transaction of the change it counts;
+ * mapped so the schema is known to Hibernate, never written through the entity
+ */
+@Entity
+@Table(name = "admin_stat_deltas")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AdminStatDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Embedded
+    private AdminStatRollup.Key key;
+
+    @Column(name = "delta", nullable = false)
+    private Long delta;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,73 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * One materialized admin dashboard counter
+ * - TOTAL: current gauge (bucketStart is EPOCH)
+ * - HOUR / DAY: number of records created in the bucket (ALL, TYPE, ROLE)
+ *   or completed in the bucket (STATUS = COMPLETED, transactions and viewings only)
+ * Only written by folding admin_stat_deltas rows in; AdminStatsRecorder appends deltas in the source transaction
+ * and the nightly reconciliation appends corrections
+ */
+@Entity
+@Table(name = "admin_stat_rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AdminStatRollup {
+
+    public static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "value", nullable = false)
+    private Long value;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Granularity { TOTAL, HOUR, DAY }
+
+    public enum Metric { USER, PROPERTY, TRANSACTION, VIEWING }
+
+    /**
+     * ALL is the plain count; the others break it down by dimensionValue
+     * ACTIVE is only meaningful for TOTAL USER rows (logged in within 30 days)
+     */
+    public enum Dimension { ALL, STATUS, TYPE, ROLE, ACTIVE }
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", length = 10)
+        private Granularity granularity;
+
+        @Column(name = "bucket_start")
+        private LocalDateTime bucketStart;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "metric", length = 20)
+        private Metric metric;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "dimension", length = 20)
+        private Dimension dimension;
+
+        @Column(name = "dimension_value", length = 50)
+        private String dimensionValue;
+    }
+}
@@ -0,0 +1,99 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a restartable keyset batch job
+ * Advanced in the same transaction as the chunk it describes, so a resumed run never skips or repeats a chunk
+ * Also carries the lease of the node running the job; callers read the row with a write lock before changing it
+ */
+@Entity
+@Table(name = "batch_job_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchJobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "run_started_at", nullable = false)
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    public BatchJobCheckpoint(String jobName) {
+        this.jobName = jobName;
+        restart();
+    }
+
+    public boolean isInProgress() {
+        return completedAt == null;
+    }
+
+    public void restart() {
+        this.lastProcessedId = 0L;
+        this.processedCount = 0L;
+        this.runStartedAt = LocalDateTime.now();
+        this.completedAt = null;
+        this.updatedAt = runStartedAt;
+    }
+
+    public void advance(Long lastProcessedId, int processed) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+        this.updatedAt = completedAt;
+    }
+
+    /**
+     * Takes or renews the lease unless another owner holds one that has not expired
+     * @return whether the caller holds the lease afterwards
+     */
+    public boolean lease(String owner, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        if (lockedBy != null && !lockedBy.equals(owner) && lockedUntil != null && lockedUntil.isAfter(now)) {
+            return false;
+        }
+        this.lockedBy = owner;
+        this.lockedUntil = now.plus(ttl);
+        return true;
+    }
+
+    public boolean isLeasedTo(String owner) {
+        return owner.equals(lockedBy) && lockedUntil != null && lockedUntil.isAfter(LocalDateTime.now());
+    }
+
+    public void release(String owner) {
+        if (owner.equals(lockedBy)) {
+            this.lockedBy = null;
+            this.lockedUntil = null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Content-addressed image blob shared by every PropertyImage with the same bytes
+ * Rows are created and reference-counted through native upserts in ImageBlobRepository
+ */
+@Entity
+@Table(name = "image_blobs", indexes = {
+        @Index(name = "idx_image_blobs_unreferenced", columnList = "ref_count, last_released_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageBlob {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // SHA-256 hex
+
+    @Column(name = "relative_path", nullable = false, length = 300)
+    private String relativePath;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "content_type", length = 50)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "card_url", length = 500)
+    private String cardUrl;
+
+    @Column(name = "full_url", length = 500)
+    private String fullUrl;
+
+    @Column(name = "webp_url", length = 500)
+    private String webpUrl;
+
+    @Column(name = "renditions_ready", nullable = false)
+    private Boolean renditionsReady;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_released_at")
+    private LocalDateTime lastReleasedAt;
+
+    public boolean hasRenditions() {
+        return Boolean.TRUE.equals(renditionsReady);
+    }
+}
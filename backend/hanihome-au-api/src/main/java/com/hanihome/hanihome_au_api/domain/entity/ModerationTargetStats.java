@@ -0,0 +1,32 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of the in-memory report counter for one report target
+ * Written by ReportSignalTracker through native upserts
+ */
+@Entity
+@Table(name = "moderation_target_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ModerationTargetStats {
+
+    @Id
+    @Column(name = "target_key", length = 100)
+    private String targetKey; // "{targetType}:{targetId}"
+
+    @Column(name = "active_reports", nullable = false)
+    private Integer activeReports;
+
+    @Column(name = "last_report_at")
+    private LocalDateTime lastReportAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
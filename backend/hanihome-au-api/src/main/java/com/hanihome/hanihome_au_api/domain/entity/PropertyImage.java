@@ -1,5 +1,6 @@
 package com.hanihome.hanihome_au_api.domain.entity;
 
+import com.hanihome.hanihome_au_api.domain.enums.ImageProcessingStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,6 +37,20 @@ public class PropertyImage {
     @Column(length = 500)
     private String thumbnailUrl;
 
+    @Column(length = 500)
+    private String cardUrl;
+
+    @Column(length = 500)
+    private String fullUrl;
+
+    @Column(length = 500)
+    private String webpUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ImageProcessingStatus processingStatus = ImageProcessingStatus.READY;
+
     @Column(name = "image_order", nullable = false)
     @Builder.Default
     private Integer imageOrder = 0;
@@ -56,6 +71,9 @@ public class PropertyImage {
     @Column(length = 100)
     private String originalFileName;
 
+    @Column(length = 64)
+    private String contentHash; // ImageBlob key, null for images stored before deduplication
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdDate;
@@ -67,4 +85,16 @@ public class PropertyImage {
     public void unsetAsMain() {
         this.isMain = false;
     }
+
+    public void completeProcessing(String thumbnailUrl, String cardUrl, String fullUrl, String webpUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.cardUrl = cardUrl;
+        this.fullUrl = fullUrl;
+        this.webpUrl = webpUrl;
+        this.processingStatus = ImageProcessingStatus.READY;
+    }
+
+    public void failProcessing() {
+        this.processingStatus = ImageProcessingStatus.FAILED;
+    }
 }
\ No newline at end of file
@@ -29,6 +29,9 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Report {
 
+    /** reporter_id of reports raised by automated checks rather than a user */
+    public static final Long SYSTEM_REPORTER_ID = 0L;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -183,6 +186,24 @@ public class Report {
         this.actions.add(action);
     }
 
+    /**
+     * Report raised by an automated check for a human moderator
+     * Marked auto-moderated so the auto-moderation pass leaves it to the reviewer
+     */
+    public static Report systemFlag(ReportType reportType, String description, String targetType, Long targetId,
+                                    Integer priority) {
+        Report report = Report.builder()
+                .reporterId(SYSTEM_REPORTER_ID)
+                .reportType(reportType)
+                .description(description.length() > 1000 ? description.substring(0, 1000) : description)
+                .targetType(targetType)
+                .targetId(targetId)
+                .priority(priority)
+                .build();
+        report.markAsAutoModerated();
+        return report;
+    }
+
     public void markAsAutoModerated() {
         this.autoModerated = true;
     }
@@ -0,0 +1,32 @@
+package com.hanihome.hanihome_au_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of a reporter's track record (upheld vs. rejected reports)
+ * Written by ReportSignalTracker through native upserts
+ */
+@Entity
+@Table(name = "reporter_credibility")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReporterCredibility {
+
+    @Id
+    @Column(name = "reporter_id")
+    private Long reporterId;
+
+    @Column(name = "upheld_reports", nullable = false)
+    private Integer upheldReports;
+
+    @Column(name = "rejected_reports", nullable = false)
+    private Integer rejectedReports;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,17 +1,22 @@
 package com.hanihome.hanihome_au_api.domain.entity;
 
-import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
-import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.domain.search.event.SavedSearchDeletedEvent;
+import com.hanihome.hanihome_au_api.domain.search.event.SearchSavedEvent;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
 import com.hanihome.hanihome_au_api.domain.shared.entity.AggregateRoot;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.HexFormat;
 
 @Entity
 @Table(name = "search_history")
@@ -33,106 +38,10 @@ public class SearchHistory extends AggregateRoot<Long> {
     @Column(name = "search_name", length = 100)
     private String searchName; // For saved searches
 
-    @Column(name = "keyword")
-    private String keyword;
-
-    @ElementCollection(fetch = FetchType.LAZY)
-    @Enumerated(EnumType.STRING)
-    @CollectionTable(name = "search_history_property_types", 
-                    joinColumns = @JoinColumn(name = "search_history_id"))
-    @Column(name = "property_type")
-    private List<PropertyType> propertyTypes;
-
-    @ElementCollection(fetch = FetchType.LAZY)
-    @Enumerated(EnumType.STRING)
-    @CollectionTable(name = "search_history_rental_types", 
-                    joinColumns = @JoinColumn(name = "search_history_id"))
-    @Column(name = "rental_type")
-    private List<RentalType> rentalTypes;
-
-    @Column(name = "min_rent_price", precision = 19, scale = 2)
-    private BigDecimal minRentPrice;
-
-    @Column(name = "max_rent_price", precision = 19, scale = 2)
-    private BigDecimal maxRentPrice;
-
-    @Column(name = "min_deposit", precision = 19, scale = 2)
-    private BigDecimal minDeposit;
-
-    @Column(name = "max_deposit", precision = 19, scale = 2)
-    private BigDecimal maxDeposit;
-
-    @Column(name = "min_bedrooms")
-    private Integer minBedrooms;
-
-    @Column(name = "max_bedrooms")
-    private Integer maxBedrooms;
-
-    @Column(name = "min_bathrooms")
-    private Integer minBathrooms;
-
-    @Column(name = "max_bathrooms")
-    private Integer maxBathrooms;
-
-    @Column(name = "min_floor_area", precision = 19, scale = 2)
-    private BigDecimal minFloorArea;
-
-    @Column(name = "max_floor_area", precision = 19, scale = 2)
-    private BigDecimal maxFloorArea;
-
-    @Column(name = "city")
-    private String city;
-
-    @Column(name = "state")
-    private String state;
-
-    @Column(name = "country")
-    private String country;
-
-    @Column(name = "postal_code")
-    private String postalCode;
-
-    @Column(name = "latitude", precision = 19, scale = 10)
-    private BigDecimal latitude;
-
-    @Column(name = "longitude", precision = 19, scale = 10)
-    private BigDecimal longitude;
-
-    @Column(name = "max_distance", precision = 19, scale = 2)
-    private BigDecimal maxDistance;
-
-    @Column(name = "parking_required")
-    private Boolean parkingRequired;
-
-    @Column(name = "pet_allowed_required")
-    private Boolean petAllowedRequired;
-
-    @Column(name = "furnished_required")
-    private Boolean furnishedRequired;
-
-    @Column(name = "short_term_available_required")
-    private Boolean shortTermAvailableRequired;
-
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "search_history_required_options", 
-                    joinColumns = @JoinColumn(name = "search_history_id"))
-    @Column(name = "required_option")
-    private List<String> requiredOptions;
-
-    @Column(name = "sort_by")
-    private String sortBy;
-
-    @Column(name = "sort_direction")
-    private String sortDirection;
-
-    @Column(name = "available_from")
-    private String availableFrom;
-
-    @Column(name = "available_to")
-    private String availableTo;
-
-    @Column(name = "recent_days")
-    private Integer recentDays;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "filters", columnDefinition = "jsonb", nullable = false)
+    @Builder.Default
+    private SearchFilters filters = SearchFilters.empty();
 
     @Column(name = "is_saved")
     @Builder.Default
@@ -145,6 +54,9 @@ public class SearchHistory extends AggregateRoot<Long> {
     @Column(name = "last_used_at")
     private LocalDateTime lastUsedAt;
 
+    @Column(name = "criteria_hash", length = 64)
+    private String criteriaHash; // SHA-256 hex of user id + criteria, see computeCriteriaHash()
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -170,9 +82,43 @@ public class SearchHistory extends AggregateRoot<Long> {
         this.lastUsedAt = LocalDateTime.now();
     }
 
+    /**
+     * Merge searches that were buffered in memory before being written
+     */
+    public void recordRepeatedSearches(int count, LocalDateTime usedAt) {
+        this.searchCount = (this.searchCount == null ? 0 : this.searchCount) + count;
+        if (this.lastUsedAt == null || usedAt.isAfter(this.lastUsedAt)) {
+            this.lastUsedAt = usedAt;
+        }
+    }
+
+    /**
+     * Identifies identical searches of one user, see SearchFilters.canonicalForm()
+     */
+    public String computeCriteriaHash() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((userId + filters.canonicalForm()).getBytes(StandardCharsets.UTF_8));
+            this.criteriaHash = HexFormat.of().formatHex(digest);
+            return criteriaHash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     public void saveSearch(String name) {
         this.searchName = name;
         this.isSaved = true;
+        addDomainEvent(new SearchSavedEvent(id, userId, name, filters));
+    }
+
+    /**
+     * Call before deleting through the repository so saved-search alerts stop after the delete commits
+     */
+    public void markDeleted() {
+        if (Boolean.TRUE.equals(isSaved)) {
+            addDomainEvent(new SavedSearchDeletedEvent(id));
+        }
     }
 
     public void updateLastUsed() {
@@ -116,6 +116,9 @@ public class Transaction extends AggregateRoot {
         this.createdBy = createdBy;
         this.updatedBy = createdBy;
         this.version = 0L;
+        
+        addDomainEvent(new com.hanihome.hanihome_au_api.domain.transaction.event.TransactionCreatedEvent(
+            propertyId, this.status));
     }
     
     // Business methods
@@ -127,7 +130,7 @@ public class Transaction extends AggregateRoot {
         validateStatusTransition(newStatus);
         
         TransactionStatus oldStatus = this.status;
-        this.status = newStatus;
+        changeStatus(newStatus);
         this.updatedBy = updatedBy;
         
         // Add activity log
@@ -152,7 +155,7 @@ public class Transaction extends AggregateRoot {
         this.finalBondAmount = this.proposedBondAmount;
         this.finalLeaseStartDate = this.proposedLeaseStartDate;
         this.finalLeaseEndDate = this.proposedLeaseEndDate;
-        this.status = TransactionStatus.APPROVED;
+        changeStatus(TransactionStatus.APPROVED);
         this.updatedBy = userId;
         
         addActivity(com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType.OFFER_ACCEPTED, 
@@ -162,7 +165,7 @@ public class Transaction extends AggregateRoot {
     public void setContractDetails(String contractDocumentUrl, String docusignEnvelopeId, Long userId) {
         this.contractDocumentUrl = contractDocumentUrl;
         this.docusignEnvelopeId = docusignEnvelopeId;
-        this.status = TransactionStatus.CONTRACT_PENDING;
+        changeStatus(TransactionStatus.CONTRACT_PENDING);
         this.updatedBy = userId;
         
         addActivity(com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType.CONTRACT_REQUESTED, 
@@ -183,7 +186,7 @@ public class Transaction extends AggregateRoot {
         // Check if both parties have signed
         if (this.tenantSignedAt != null && this.landlordSignedAt != null) {
             this.contractCompletedAt = LocalDateTime.now();
-            this.status = TransactionStatus.COMPLETED;
+            changeStatus(TransactionStatus.COMPLETED);
             addActivity(com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType.CONTRACT_COMPLETED, 
                        "Contract fully executed", userId);
             
@@ -197,13 +200,22 @@ public class Transaction extends AggregateRoot {
     }
     
     public void cancel(String reason, Long userId) {
-        this.status = TransactionStatus.CANCELLED;
+        changeStatus(TransactionStatus.CANCELLED);
         this.updatedBy = userId;
         
         addActivity(com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType.TRANSACTION_CANCELLED, 
                    reason != null ? reason : "Transaction cancelled", userId);
     }
     
+    private void changeStatus(TransactionStatus newStatus) {
+        if (this.status == newStatus) {
+            return;
+        }
+        addDomainEvent(new com.hanihome.hanihome_au_api.domain.transaction.event.TransactionStatusChangedEvent(
+            this.id, this.status, newStatus));
+        this.status = newStatus;
+    }
+    
     private void addActivity(com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType type, 
                            String description, Long userId) {
         TransactionActivity activity = new TransactionActivity(this, type, description, userId);
@@ -2,18 +2,18 @@ package com.hanihome.hanihome_au_api.domain.entity;
 
 import com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType;
 import jakarta.persistence.*;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "transaction_activities", schema = "transaction")
-@EntityListeners(AuditingEntityListener.class)
 public class TransactionActivity {
     
+    // Pooled sequence ids (increment 50, see V20250106_007) let activity inserts be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_activity_id_seq")
+    @SequenceGenerator(name = "transaction_activity_id_seq", schema = "transaction",
+                       sequenceName = "transaction_activities_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,7 +33,7 @@ public class TransactionActivity {
     @Column(name = "metadata", columnDefinition = "TEXT")
     private String metadata; // JSON formatted additional data
     
-    @CreatedDate
+    // Set when the activity happens, not when a buffered row is finally written
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -46,6 +46,7 @@ public class TransactionActivity {
         this.activityType = activityType;
         this.description = description;
         this.userId = userId;
+        this.createdAt = LocalDateTime.now();
     }
     
     public TransactionActivity(Transaction transaction, TransactionActivityType activityType, 
@@ -54,6 +55,12 @@ public class TransactionActivity {
         this.metadata = metadata;
     }
     
+    public TransactionActivity(Transaction transaction, TransactionActivityType activityType, 
+                             String description, Long userId, String metadata, LocalDateTime createdAt) {
+        this(transaction, activityType, description, userId, metadata);
+        this.createdAt = createdAt;
+    }
+    
     // Getters and setters
     public Long getId() { return id; }
     public Transaction getTransaction() { return transaction; }
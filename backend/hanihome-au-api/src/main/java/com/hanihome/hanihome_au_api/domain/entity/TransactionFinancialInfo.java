@@ -3,6 +3,7 @@ package com.hanihome.hanihome_au_api.domain.entity;
 import com.hanihome.hanihome_au_api.domain.enums.PaymentFrequency;
 import com.hanihome.hanihome_au_api.domain.enums.PaymentStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "transaction_financial_info", schema = "transaction")
+@DynamicUpdate // batch jobs change one or two columns of many rows; only those are written
 @EntityListeners(AuditingEntityListener.class)
 public class TransactionFinancialInfo {
     
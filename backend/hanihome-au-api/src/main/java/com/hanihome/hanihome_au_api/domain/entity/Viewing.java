@@ -2,6 +2,8 @@ package com.hanihome.hanihome_au_api.domain.entity;
 
 import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
 import com.hanihome.hanihome_au_api.domain.shared.entity.AggregateRoot;
+import com.hanihome.hanihome_au_api.domain.viewing.event.ViewingBookedEvent;
+import com.hanihome.hanihome_au_api.domain.viewing.event.ViewingStatusChangedEvent;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -78,6 +80,9 @@ public class Viewing extends AggregateRoot<Long> {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt; // Set once the 24-hour reminder has gone out
+
     @Column(name = "feedback_rating")
     private Integer feedbackRating; // 1-5 rating after viewing
 
@@ -104,12 +109,20 @@ public class Viewing extends AggregateRoot<Long> {
         return id;
     }
 
+    /**
+     * Viewings are put together with the builder, so the booking is recorded once the row has its id
+     */
+    @PostPersist
+    void onBooked() {
+        addDomainEvent(new ViewingBookedEvent(this.id, this.propertyId, this.status));
+    }
+
     // Business logic methods
     public void confirm(Long confirmedByUserId) {
         if (this.status != ViewingStatus.REQUESTED) {
             throw new IllegalStateException("Can only confirm requested viewings");
         }
-        this.status = ViewingStatus.CONFIRMED;
+        changeStatus(ViewingStatus.CONFIRMED);
         this.confirmedAt = LocalDateTime.now();
     }
 
@@ -117,7 +130,7 @@ public class Viewing extends AggregateRoot<Long> {
         if (this.status == ViewingStatus.CANCELLED || this.status == ViewingStatus.COMPLETED) {
             throw new IllegalStateException("Cannot cancel viewing with status: " + this.status);
         }
-        this.status = ViewingStatus.CANCELLED;
+        changeStatus(ViewingStatus.CANCELLED);
         this.cancelledAt = LocalDateTime.now();
         this.cancelledByUserId = cancelledByUserId;
         this.cancellationReason = reason;
@@ -127,7 +140,7 @@ public class Viewing extends AggregateRoot<Long> {
         if (this.status != ViewingStatus.CONFIRMED) {
             throw new IllegalStateException("Can only complete confirmed viewings");
         }
-        this.status = ViewingStatus.COMPLETED;
+        changeStatus(ViewingStatus.COMPLETED);
         this.completedAt = LocalDateTime.now();
     }
 
@@ -136,8 +149,17 @@ public class Viewing extends AggregateRoot<Long> {
             throw new IllegalStateException("Cannot reschedule viewing with status: " + this.status);
         }
         this.scheduledAt = newScheduledAt;
-        this.status = ViewingStatus.REQUESTED; // Reset to requested for re-confirmation
+        changeStatus(ViewingStatus.REQUESTED); // Reset to requested for re-confirmation
         this.confirmedAt = null;
+        this.reminderSentAt = null;
+    }
+
+    public void markNoShow() {
+        changeStatus(ViewingStatus.NO_SHOW);
+    }
+
+    public void markReminderSent() {
+        this.reminderSentAt = LocalDateTime.now();
     }
 
     public void addFeedback(Integer rating, String comment) {
@@ -151,6 +173,14 @@ public class Viewing extends AggregateRoot<Long> {
         this.feedbackComment = comment;
     }
 
+    private void changeStatus(ViewingStatus newStatus) {
+        if (this.status == newStatus) {
+            return;
+        }
+        addDomainEvent(new ViewingStatusChangedEvent(this.id, this.status, newStatus));
+        this.status = newStatus;
+    }
+
     public boolean isInPast() {
         return this.scheduledAt.isBefore(LocalDateTime.now());
     }
@@ -0,0 +1,7 @@
+package com.hanihome.hanihome_au_api.domain.enums;
+
+public enum ImageProcessingStatus {
+    PENDING,     // 원본 저장 완료, 리사이즈 대기
+    READY,       // 모든 렌디션 생성 완료
+    FAILED       // 렌디션 생성 실패 (원본은 사용 가능)
+}
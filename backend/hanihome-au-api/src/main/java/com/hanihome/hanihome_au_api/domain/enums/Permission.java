@@ -3,6 +3,9 @@ package com.hanihome.hanihome_au_api.domain.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter
 @RequiredArgsConstructor
 public enum Permission {
@@ -58,12 +61,39 @@ public enum Permission {
     private final String permission;
     private final String description;
 
-    public static Permission fromString(String permission) {
+    private static final Map<String, Permission> BY_CODE = new HashMap<>();
+
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("Permission masks hold at most " + Long.SIZE + " permissions");
+        }
         for (Permission p : values()) {
-            if (p.permission.equals(permission)) {
-                return p;
-            }
+            BY_CODE.put(p.permission, p);
+            BY_CODE.put(p.name(), p);
+        }
+    }
+
+    /**
+     * Bit of this permission in a role's permission mask
+     */
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Looks up a permission by code ("property:read") or constant name ("PROPERTY_READ")
+     *
+     * @return the permission, or null when unknown
+     */
+    public static Permission resolve(String permission) {
+        return permission == null ? null : BY_CODE.get(permission);
+    }
+
+    public static Permission fromString(String permission) {
+        Permission p = resolve(permission);
+        if (p == null) {
+            throw new IllegalArgumentException("Unknown permission: " + permission);
         }
-        throw new IllegalArgumentException("Unknown permission: " + permission);
+        return p;
     }
 }
\ No newline at end of file
@@ -1,16 +1,16 @@
 package com.hanihome.hanihome_au_api.domain.enums;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Getter
-@RequiredArgsConstructor
 public enum UserRole {
     TENANT("임차인", "ROLE_TENANT", "property search, rental applications, tenant services", Set.of(
         Permission.PROPERTY_READ,
@@ -78,6 +78,19 @@ public enum UserRole {
     private final String authority;
     private final String description;
     private final Set<Permission> permissions;
+    private final long permissionMask;
+
+    UserRole(String displayName, String authority, String description, Set<Permission> permissions) {
+        this.displayName = displayName;
+        this.authority = authority;
+        this.description = description;
+        this.permissions = Collections.unmodifiableSet(EnumSet.copyOf(permissions));
+        long mask = 0L;
+        for (Permission permission : permissions) {
+            mask |= permission.mask();
+        }
+        this.permissionMask = mask;
+    }
 
     public List<GrantedAuthority> getAuthorities() {
         List<GrantedAuthority> authorities = permissions.stream()
@@ -91,7 +104,7 @@ public enum UserRole {
     }
 
     public boolean hasPermission(Permission permission) {
-        return this.permissions.contains(permission);
+        return permission != null && (permissionMask & permission.mask()) != 0;
     }
 
     public boolean hasAuthority(String authority) {
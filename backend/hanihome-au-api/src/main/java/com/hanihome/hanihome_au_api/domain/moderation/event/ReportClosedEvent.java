@@ -0,0 +1,49 @@
+package com.hanihome.hanihome_au_api.domain.moderation.event;
+
+import com.hanihome.hanihome_au_api.domain.enums.ReportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a moderator moves a report into a final status
+ * Upheld reports raise the reporter's credibility, dismissed or duplicate ones lower it.
+ */
+public class ReportClosedEvent {
+    private final Long reportId;
+    private final Long reporterId;
+    private final String targetType;
+    private final Long targetId;
+    private final ReportStatus previousStatus;
+    private final ReportStatus status;
+    private final LocalDateTime occurredAt;
+
+    public ReportClosedEvent(Long reportId, Long reporterId, String targetType, Long targetId,
+                             ReportStatus previousStatus, ReportStatus status) {
+        this.reportId = reportId;
+        this.reporterId = reporterId;
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public boolean isUpheld() {
+        return status.isActionTaken() || status == ReportStatus.RESOLVED;
+    }
+
+    /**
+     * Dismissed and duplicate reports no longer count against the target
+     */
+    public boolean isRejected() {
+        return status == ReportStatus.DISMISSED || status == ReportStatus.DUPLICATE;
+    }
+
+    public Long getReportId() { return reportId; }
+    public Long getReporterId() { return reporterId; }
+    public String getTargetType() { return targetType; }
+    public Long getTargetId() { return targetId; }
+    public ReportStatus getPreviousStatus() { return previousStatus; }
+    public ReportStatus getStatus() { return status; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+}
@@ -0,0 +1,33 @@
+package com.hanihome.hanihome_au_api.domain.moderation.event;
+
+import com.hanihome.hanihome_au_api.domain.enums.ReportType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a new (non-duplicate) report has been stored
+ */
+public class ReportSubmittedEvent {
+    private final Long reportId;
+    private final Long reporterId;
+    private final ReportType reportType;
+    private final String targetType;
+    private final Long targetId;
+    private final LocalDateTime occurredAt;
+
+    public ReportSubmittedEvent(Long reportId, Long reporterId, ReportType reportType, String targetType, Long targetId) {
+        this.reportId = reportId;
+        this.reporterId = reporterId;
+        this.reportType = reportType;
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public Long getReportId() { return reportId; }
+    public Long getReporterId() { return reporterId; }
+    public ReportType getReportType() { return reportType; }
+    public String getTargetType() { return targetType; }
+    public Long getTargetId() { return targetId; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+}
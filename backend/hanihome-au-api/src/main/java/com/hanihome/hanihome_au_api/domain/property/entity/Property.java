@@ -79,7 +79,7 @@ public class Property extends AggregateRoot<PropertyId> {
         this.imageUrls = new ArrayList<>();
         this.version = 0L;
         
-        addDomainEvent(new PropertyCreatedEvent(id, ownerId, title, type));
+        addDomainEvent(new PropertyCreatedEvent(id, ownerId, title, type, status));
     }
 
     public static Property create(PropertyId id, UserId ownerId, String title, String description,
@@ -1,6 +1,7 @@
 package com.hanihome.hanihome_au_api.domain.property.event;
 
 import com.hanihome.hanihome_au_api.domain.property.valueobject.PropertyId;
+import com.hanihome.hanihome_au_api.domain.enums.PropertyStatus;
 import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
 import com.hanihome.hanihome_au_api.domain.user.valueobject.UserId;
 
@@ -11,13 +12,16 @@ public class PropertyCreatedEvent {
     private final UserId ownerId;
     private final String title;
     private final PropertyType type;
+    private final PropertyStatus status;
     private final LocalDateTime occurredAt;
 
-    public PropertyCreatedEvent(PropertyId propertyId, UserId ownerId, String title, PropertyType type) {
+    public PropertyCreatedEvent(PropertyId propertyId, UserId ownerId, String title, PropertyType type,
+                                PropertyStatus status) {
         this.propertyId = propertyId;
         this.ownerId = ownerId;
         this.title = title;
         this.type = type;
+        this.status = status;
         this.occurredAt = LocalDateTime.now();
     }
 
@@ -25,5 +29,6 @@ public class PropertyCreatedEvent {
     public UserId getOwnerId() { return ownerId; }
     public String getTitle() { return title; }
     public PropertyType getType() { return type; }
+    public PropertyStatus getStatus() { return status; }
     public LocalDateTime getOccurredAt() { return occurredAt; }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.hanihome.hanihome_au_api.domain.search.event;
+
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event triggered when a saved search is deleted
+ */
+public class SavedSearchDeletedEvent implements DomainEvent {
+
+    private final Long searchHistoryId;
+    private final LocalDateTime occurredAt;
+
+    public SavedSearchDeletedEvent(Long searchHistoryId) {
+        this.searchHistoryId = searchHistoryId;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    @Override
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+
+    public Long getSearchHistoryId() {
+        return searchHistoryId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.hanihome.hanihome_au_api.domain.search.event;
+
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event triggered when a search history entry is saved under a name
+ */
+public class SearchSavedEvent implements DomainEvent {
+
+    private final Long searchHistoryId;
+    private final Long userId;
+    private final String searchName;
+    private final SearchFilters filters;
+    private final LocalDateTime occurredAt;
+
+    public SearchSavedEvent(Long searchHistoryId, Long userId, String searchName, SearchFilters filters) {
+        this.searchHistoryId = searchHistoryId;
+        this.userId = userId;
+        this.searchName = searchName;
+        this.filters = filters;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    @Override
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+
+    public Long getSearchHistoryId() {
+        return searchHistoryId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getSearchName() {
+        return searchName;
+    }
+
+    public SearchFilters getFilters() {
+        return filters;
+    }
+}
@@ -0,0 +1,106 @@
+package com.hanihome.hanihome_au_api.domain.search.valueobject;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
+import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Property search criteria as stored in search_history.filters (JSONB)
+ * - Property names match PropertySearchRequest, which converts to and from this document
+ * - Null criteria are omitted, so a typical document holds only the handful of filters actually used
+ * - "v" is the document version; unknown properties are ignored so older nodes can read newer rows
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SearchFilters {
+
+    public static final int CURRENT_VERSION = 1;
+
+    @JsonProperty("v")
+    @Builder.Default
+    private int version = CURRENT_VERSION;
+
+    private String keyword;
+    private List<PropertyType> propertyTypes;
+    private List<RentalType> rentalTypes;
+    private BigDecimal minRentPrice;
+    private BigDecimal maxRentPrice;
+    private BigDecimal minDeposit;
+    private BigDecimal maxDeposit;
+    private Integer minBedrooms;
+    private Integer maxBedrooms;
+    private Integer minBathrooms;
+    private Integer maxBathrooms;
+    private BigDecimal minFloorArea;
+    private BigDecimal maxFloorArea;
+    private String city;
+    private String state;
+    private String country;
+    private String postalCode;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private BigDecimal maxDistance;
+    private Boolean parkingRequired;
+    private Boolean petAllowedRequired;
+    private Boolean furnishedRequired;
+    private Boolean shortTermAvailableRequired;
+    private List<String> requiredOptions;
+    private String sortBy;
+    private String sortDirection;
+    private String availableFrom;
+    private String availableTo;
+    private Integer recentDays;
+
+    public static SearchFilters empty() {
+        return new SearchFilters();
+    }
+
+    /**
+     * Stable text form used for the per-user criteria hash: every criterion takes part,
+     * lists are order-insensitive and decimals are compared by value
+     */
+    public String canonicalForm() {
+        StringBuilder canonical = new StringBuilder();
+        append(canonical, keyword == null ? null : keyword.strip(), sorted(propertyTypes), sorted(rentalTypes),
+                minRentPrice, maxRentPrice, minDeposit, maxDeposit, minBedrooms, maxBedrooms,
+                minBathrooms, maxBathrooms, minFloorArea, maxFloorArea, city, state, country, postalCode,
+                latitude, longitude, maxDistance, parkingRequired, petAllowedRequired, furnishedRequired,
+                shortTermAvailableRequired, sorted(requiredOptions), sortBy, sortDirection,
+                availableFrom, availableTo, recentDays);
+        return canonical.toString();
+    }
+
+    private static void append(StringBuilder canonical, Object... values) {
+        for (Object value : values) {
+            canonical.append('\u001f');
+            if (value instanceof BigDecimal decimal) {
+                canonical.append(decimal.stripTrailingZeros().toPlainString());
+            } else {
+                canonical.append(Objects.toString(value, ""));
+            }
+        }
+    }
+
+    private static List<String> sorted(Collection<?> values) {
+        return values == null || values.isEmpty() ? null : values.stream().map(String::valueOf).sorted().toList();
+    }
+}
@@ -1,11 +1,15 @@
 package com.hanihome.hanihome_au_api.domain.shared.entity;
 
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Base class for aggregate roots in DDD
  * Manages domain events and ensures consistency
+ * JPA entities extending this class have their events published by Spring Data on repository save and delete
  */
 public abstract class AggregateRoot<ID> {
     
@@ -21,6 +25,7 @@ public abstract class AggregateRoot<ID> {
     /**
      * Get all domain events
      */
+    @DomainEvents
     public List<Object> getDomainEvents() {
         return new ArrayList<>(domainEvents);
     }
@@ -28,6 +33,7 @@ public abstract class AggregateRoot<ID> {
     /**
      * Clear all domain events
      */
+    @AfterDomainEventPublication
     public void clearDomainEvents() {
         domainEvents.clear();
     }
@@ -0,0 +1,36 @@
+package com.hanihome.hanihome_au_api.domain.transaction.event;
+
+import com.hanihome.hanihome_au_api.domain.enums.TransactionStatus;
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event triggered when a transaction is proposed
+ * Raised before the row is inserted, so the transaction id is not known yet
+ */
+public class TransactionCreatedEvent implements DomainEvent {
+
+    private final Long propertyId;
+    private final TransactionStatus status;
+    private final LocalDateTime occurredAt;
+
+    public TransactionCreatedEvent(Long propertyId, TransactionStatus status) {
+        this.propertyId = propertyId;
+        this.status = status;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    @Override
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public TransactionStatus getStatus() {
+        return status;
+    }
+}
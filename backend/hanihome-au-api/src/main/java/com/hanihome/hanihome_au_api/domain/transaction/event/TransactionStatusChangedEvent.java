@@ -0,0 +1,41 @@
+package com.hanihome.hanihome_au_api.domain.transaction.event;
+
+import com.hanihome.hanihome_au_api.domain.enums.TransactionStatus;
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event triggered whenever a transaction moves to another status
+ */
+public class TransactionStatusChangedEvent implements DomainEvent {
+
+    private final Long transactionId;
+    private final TransactionStatus oldStatus;
+    private final TransactionStatus newStatus;
+    private final LocalDateTime occurredAt;
+
+    public TransactionStatusChangedEvent(Long transactionId, TransactionStatus oldStatus, TransactionStatus newStatus) {
+        this.transactionId = transactionId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    @Override
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    public TransactionStatus getOldStatus() {
+        return oldStatus;
+    }
+
+    public TransactionStatus getNewStatus() {
+        return newStatus;
+    }
+}
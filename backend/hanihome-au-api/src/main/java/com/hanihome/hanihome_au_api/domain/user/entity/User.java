@@ -95,7 +95,7 @@ public class User {
     }
 
     public boolean canManageProperty() {
-        return role == UserRole.LANDLORD || role == UserRole.AGENT || role == UserRole.ADMIN;
+        return role.canManageProperty();
     }
 
     private String validateName(String name) {
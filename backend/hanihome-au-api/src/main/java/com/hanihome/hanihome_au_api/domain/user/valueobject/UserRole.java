@@ -2,18 +2,30 @@ package com.hanihome.hanihome_au_api.domain.user.valueobject;
 
 import java.util.Set;
 
+/**
+ * 사용자 역할
+ * - 문자열 권한 검사(hasPermission)는 역할별 권한 이름 집합을 그대로 비교 (ADMIN 은 ALL_PERMISSIONS)
+ * - 메뉴/기능 구성은 domain.enums.UserRole 의 권한 비트마스크로 계산
+ */
 public enum UserRole {
-    TENANT("임차인", Set.of("PROPERTY_READ", "APPLICATION_CREATE", "REVIEW_CREATE")),
-    LANDLORD("임대인", Set.of("PROPERTY_CREATE", "PROPERTY_UPDATE", "APPLICATION_APPROVE")),
-    AGENT("중개인", Set.of("PROPERTY_CREATE", "PROPERTY_UPDATE", "PROPERTY_APPROVE", "CLIENT_MANAGE")),
-    ADMIN("관리자", Set.of("ALL_PERMISSIONS"));
+    TENANT("임차인", Set.of("PROPERTY_READ", "APPLICATION_CREATE", "REVIEW_CREATE"),
+            com.hanihome.hanihome_au_api.domain.enums.UserRole.TENANT),
+    LANDLORD("임대인", Set.of("PROPERTY_CREATE", "PROPERTY_UPDATE", "APPLICATION_APPROVE"),
+            com.hanihome.hanihome_au_api.domain.enums.UserRole.LANDLORD),
+    AGENT("중개인", Set.of("PROPERTY_CREATE", "PROPERTY_UPDATE", "PROPERTY_APPROVE", "CLIENT_MANAGE"),
+            com.hanihome.hanihome_au_api.domain.enums.UserRole.AGENT),
+    ADMIN("관리자", Set.of("ALL_PERMISSIONS"),
+            com.hanihome.hanihome_au_api.domain.enums.UserRole.ADMIN);
 
     private final String displayName;
     private final Set<String> permissions;
+    private final com.hanihome.hanihome_au_api.domain.enums.UserRole permissionRole;
 
-    UserRole(String displayName, Set<String> permissions) {
+    UserRole(String displayName, Set<String> permissions,
+             com.hanihome.hanihome_au_api.domain.enums.UserRole permissionRole) {
         this.displayName = displayName;
         this.permissions = permissions;
+        this.permissionRole = permissionRole;
     }
 
     public String getDisplayName() {
@@ -24,11 +36,22 @@ public enum UserRole {
         return permissions;
     }
 
+    /**
+     * Role carrying the compiled permission mask and menu/feature configuration
+     */
+    public com.hanihome.hanihome_au_api.domain.enums.UserRole getPermissionRole() {
+        return permissionRole;
+    }
+
     public boolean hasPermission(String permission) {
         return permissions.contains("ALL_PERMISSIONS") || permissions.contains(permission);
     }
 
+    public boolean canManageProperty() {
+        return this == LANDLORD || this == AGENT || this == ADMIN;
+    }
+
     public boolean isHigherThan(UserRole other) {
         return this.ordinal() > other.ordinal();
     }
-}
\ No newline at end of file
+}
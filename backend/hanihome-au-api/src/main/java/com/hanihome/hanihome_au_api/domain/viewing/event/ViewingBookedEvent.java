@@ -0,0 +1,41 @@
+package com.hanihome.hanihome_au_api.domain.viewing.event;
+
+import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event triggered when a viewing request is stored
+ */
+public class ViewingBookedEvent implements DomainEvent {
+
+    private final Long viewingId;
+    private final Long propertyId;
+    private final ViewingStatus status;
+    private final LocalDateTime occurredAt;
+
+    public ViewingBookedEvent(Long viewingId, Long propertyId, ViewingStatus status) {
+        this.viewingId = viewingId;
+        this.propertyId = propertyId;
+        this.status = status;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    @Override
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+
+    public Long getViewingId() {
+        return viewingId;
+    }
+
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public ViewingStatus getStatus() {
+        return status;
+    }
+}
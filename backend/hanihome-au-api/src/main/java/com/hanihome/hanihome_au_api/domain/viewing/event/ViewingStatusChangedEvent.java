@@ -0,0 +1,41 @@
+package com.hanihome.hanihome_au_api.domain.viewing.event;
+
+import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event triggered whenever a viewing moves to another status
+ */
+public class ViewingStatusChangedEvent implements DomainEvent {
+
+    private final Long viewingId;
+    private final ViewingStatus oldStatus;
+    private final ViewingStatus newStatus;
+    private final LocalDateTime occurredAt;
+
+    public ViewingStatusChangedEvent(Long viewingId, ViewingStatus oldStatus, ViewingStatus newStatus) {
+        this.viewingId = viewingId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    @Override
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+
+    public Long getViewingId() {
+        return viewingId;
+    }
+
+    public ViewingStatus getOldStatus() {
+        return oldStatus;
+    }
+
+    public ViewingStatus getNewStatus() {
+        return newStatus;
+    }
+}
@@ -0,0 +1,18 @@
+package com.hanihome.hanihome_au_api.infrastructure.cache;
+
+/**
+ * Encodes cache values to bytes and back
+ * Implementations are selected with app.cache.codec and identified on the wire by {@link #id()},
+ * so values written by one codec are never decoded by another.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Stable identifier written into every cache value header
+     */
+    byte id();
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes);
+}
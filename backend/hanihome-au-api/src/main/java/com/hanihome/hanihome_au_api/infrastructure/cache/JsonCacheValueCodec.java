@@ -0,0 +1,28 @@
+package com.hanihome.hanihome_au_api.infrastructure.cache;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * Original JSON format with embedded class names, kept for rollback and comparison
+ */
+public class JsonCacheValueCodec implements CacheValueCodec {
+
+    public static final byte ID = 1;
+
+    private final GenericJackson2JsonRedisSerializer delegate = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return delegate.serialize(value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return delegate.deserialize(bytes);
+    }
+}
@@ -0,0 +1,104 @@
+package com.hanihome.hanihome_au_api.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Binary JSON (Smile) codec
+ * Smile back-references repeated property names and short strings, so the class names and
+ * field names repeated across a page of results are written once instead of per element.
+ * The mapper registers the parameter-names and java.time modules, which lets immutable DTOs
+ * such as PropertyResponseDto round-trip through their constructors.
+ * Type ids are written for non-final types only and resolved through {@link #TYPE_VALIDATOR},
+ * so a tampered entry cannot make the mapper instantiate anything outside the cached DTOs.
+ */
+public class SmileCacheValueCodec implements CacheValueCodec {
+
+    public static final byte ID = 2;
+
+    /**
+     * Classes a cache entry may name: application DTOs and enums, plus the JDK/Spring value
+     * and collection types they are made of
+     * Spring Data pages are not listed; PageImpl and Sort have no creators, so paged results
+     * are cached as DTOs such as PropertyFavoritePageDto
+     */
+    static final PolymorphicTypeValidator TYPE_VALIDATOR = BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType(Pattern.compile("com\\.hanihome\\.hanihome_au_api\\.(.+\\.)?dto\\..+"))
+            .allowIfSubType(Pattern.compile("com\\.hanihome\\.hanihome_au_api\\.domain\\.enums\\..+"))
+            .allowIfSubType(Pattern.compile("java\\.util\\.(ArrayList|LinkedList|HashMap|LinkedHashMap|TreeMap"
+                    + "|HashSet|LinkedHashSet|TreeSet|Arrays\\$ArrayList|Collections\\$\\w+|ImmutableCollections\\$\\w+)"))
+            .allowIfSubType("java.time.")
+            .allowIfSubType(Long.class)
+            .allowIfSubType(Short.class)
+            .allowIfSubType(Byte.class)
+            .allowIfSubType(Float.class)
+            .allowIfSubType(BigDecimal.class)
+            .allowIfSubType(BigInteger.class)
+            .allowIfSubType(NullValue.class)
+            .allowIfSubTypeIsArray()
+            .build();
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public SmileCacheValueCodec() {
+        SmileFactory smileFactory = new SmileFactory();
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(smileFactory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        mapper.activateDefaultTyping(TYPE_VALIDATOR, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(mapper, null);
+
+        // Values are written as Object so final roots (Long, records) still carry a type id
+        this.reader = mapper.readerFor(Object.class);
+        this.writer = mapper.writerFor(Object.class);
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+}
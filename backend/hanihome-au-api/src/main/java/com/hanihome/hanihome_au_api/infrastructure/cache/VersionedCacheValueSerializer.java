@@ -0,0 +1,142 @@
+package com.hanihome.hanihome_au_api.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Redis cache value serializer with a small header in front of the codec payload
+ *
+ * <pre>
+ * [magic:1][schemaVersion:1][codecId:1][flags:1]([originalLength:4] LZ4 block | raw payload)
+ * </pre>
+ *
+ * Values written under a different schema version or codec are reported as cache misses
+ * rather than decoded, so a deploy that changes DTO shapes (bump app.cache.schema-version)
+ * or switches codec simply repopulates the cache instead of failing on stale entries.
+ * Payloads larger than the compression threshold are LZ4-compressed.
+ * A truncated or corrupt entry (bad length prefix, LZ4 block or codec payload) is also a miss.
+ */
+@Slf4j
+public class VersionedCacheValueSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC = 0x48; // 'H'
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_LENGTH = 4;
+    private static final int LENGTH_PREFIX = 4;
+    private static final int MAX_ORIGINAL_LENGTH = 64 * 1024 * 1024;
+
+    private final CacheValueCodec codec;
+    private final byte schemaVersion;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+
+    public VersionedCacheValueSerializer(CacheValueCodec codec, int schemaVersion, int compressionThreshold) {
+        this.codec = codec;
+        this.schemaVersion = (byte) schemaVersion;
+        this.compressionThreshold = compressionThreshold;
+
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.safeDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] payload = codec.encode(value);
+        if (payload == null) {
+            payload = new byte[0];
+        }
+
+        boolean compress = compressionThreshold > 0 && payload.length > compressionThreshold;
+        if (!compress) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + payload.length);
+            writeHeader(buffer, (byte) 0);
+            buffer.put(payload);
+            return buffer.array();
+        }
+
+        int maxCompressed = compressor.maxCompressedLength(payload.length);
+        byte[] out = new byte[HEADER_LENGTH + LENGTH_PREFIX + maxCompressed];
+        ByteBuffer buffer = ByteBuffer.wrap(out);
+        writeHeader(buffer, FLAG_LZ4);
+        buffer.putInt(payload.length);
+
+        int compressedLength = compressor.compress(payload, 0, payload.length, out, HEADER_LENGTH + LENGTH_PREFIX, maxCompressed);
+        return Arrays.copyOf(out, HEADER_LENGTH + LENGTH_PREFIX + compressedLength);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC) {
+            log.debug("Ignoring cache value without header ({} bytes)", bytes.length);
+            return null;
+        }
+        if (bytes[1] != schemaVersion || bytes[2] != codec.id()) {
+            log.debug("Ignoring cache value written with schema {} / codec {}", bytes[1], bytes[2]);
+            return null;
+        }
+
+        byte[] payload;
+        if ((bytes[3] & FLAG_LZ4) != 0) {
+            payload = decompress(bytes);
+            if (payload == null) {
+                return null;
+            }
+        } else {
+            payload = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        }
+
+        try {
+            return codec.decode(payload);
+        } catch (SerializationException e) {
+            log.warn("Failed to decode cache value, treating as miss: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < HEADER_LENGTH + LENGTH_PREFIX) {
+            log.warn("Ignoring truncated compressed cache value ({} bytes)", bytes.length);
+            return null;
+        }
+        int originalLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, LENGTH_PREFIX).getInt();
+        if (originalLength < 0 || originalLength > MAX_ORIGINAL_LENGTH) {
+            log.warn("Ignoring compressed cache value with invalid length {}", originalLength);
+            return null;
+        }
+
+        byte[] payload = new byte[originalLength];
+        try {
+            int offset = HEADER_LENGTH + LENGTH_PREFIX;
+            int written = decompressor.decompress(bytes, offset, bytes.length - offset, payload, 0, originalLength);
+            if (written != originalLength) {
+                log.warn("Ignoring compressed cache value that decompressed to {} of {} bytes", written, originalLength);
+                return null;
+            }
+            return payload;
+        } catch (LZ4Exception e) {
+            log.warn("Failed to decompress cache value, treating as miss: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeHeader(ByteBuffer buffer, byte flags) {
+        buffer.put(MAGIC);
+        buffer.put(schemaVersion);
+        buffer.put(codec.id());
+        buffer.put(flags);
+    }
+}
@@ -1,5 +1,7 @@
 package com.hanihome.hanihome_au_api.infrastructure.config;
 
+import com.hanihome.hanihome_au_api.application.moderation.service.ContentScanner;
+import com.hanihome.hanihome_au_api.application.moderation.service.ReportService;
 import com.hanihome.hanihome_au_api.application.property.service.PropertyApplicationService;
 import com.hanihome.hanihome_au_api.application.property.service.SearchCacheEvictionService;
 import com.hanihome.hanihome_au_api.application.property.usecase.CreatePropertyUseCase;
@@ -8,6 +10,7 @@ import com.hanihome.hanihome_au_api.domain.property.repository.PropertyRepositor
 import com.hanihome.hanihome_au_api.domain.property.service.PropertyDomainService;
 import com.hanihome.hanihome_au_api.domain.shared.event.DomainEventPublisher;
 import com.hanihome.hanihome_au_api.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -29,8 +32,9 @@ public class DddConfiguration {
     }
 
     @Bean
-    public CreatePropertyUseCase createPropertyUseCase(PropertyRepository propertyRepository) {
-        return new CreatePropertyUseCase(propertyRepository);
+    public CreatePropertyUseCase createPropertyUseCase(PropertyRepository propertyRepository,
+                                                       DomainEventPublisher domainEventPublisher) {
+        return new CreatePropertyUseCase(propertyRepository, domainEventPublisher);
     }
 
     @Bean
@@ -39,7 +43,11 @@ public class DddConfiguration {
             PropertyDomainService propertyDomainService,
             CreatePropertyUseCase createPropertyUseCase, 
             DomainEventPublisher domainEventPublisher,
-            SearchCacheEvictionService cacheEvictionService) {
-        return new PropertyApplicationService(propertyRepository, propertyDomainService, createPropertyUseCase, domainEventPublisher, cacheEvictionService);
+            SearchCacheEvictionService cacheEvictionService,
+            ContentScanner contentScanner,
+            ReportService reportService,
+            @Value("${app.moderation.listing-block-score:0.8}") double listingBlockScore) {
+        return new PropertyApplicationService(propertyRepository, propertyDomainService, createPropertyUseCase, domainEventPublisher,
+                cacheEvictionService, contentScanner, reportService, listingBlockScore);
     }
 }
\ No newline at end of file
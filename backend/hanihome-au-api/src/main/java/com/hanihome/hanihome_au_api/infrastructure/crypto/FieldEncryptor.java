@@ -0,0 +1,208 @@
+package com.hanihome.hanihome_au_api.infrastructure.crypto;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * AES-GCM encryption of single text fields (bank accounts and other sensitive columns)
+ *
+ * <pre>
+ * v{keyVersion}:{base64(iv[12] || ciphertext || tag[16])}
+ * </pre>
+ *
+ * The version header selects the key on decrypt, so a rotation only adds a new active key
+ * while rows written under older versions stay readable until they are re-encrypted.
+ * The header is also bound as associated data, so a value cannot be replayed under another version.
+ * Keys are derived once from the configured secrets; each thread reuses its own Cipher,
+ * which avoids the provider lookup of Cipher.getInstance on every field.
+ * Values without a header are the pre-GCM format (AES/ECB with the raw secret bytes) and are
+ * decrypted with the legacy key when one is configured.
+ */
+public class FieldEncryptor {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String LEGACY_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final int KEY_BITS = 256;
+    private static final int DERIVATION_ITERATIONS = 100_000;
+    private static final String DERIVATION_SALT_PREFIX = "hanihome:field-encryption:v";
+
+    private final Map<Integer, SecretKey> keys;
+    private final int activeVersion;
+    private final SecretKey activeKey;
+    private final byte[] activeHeader;
+    private final SecretKey legacyKey;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(() -> newCipher(TRANSFORMATION));
+
+    /**
+     * @param keys      keys by version; must contain activeVersion
+     * @param legacyKey key of headerless (pre-GCM) values, or null when there are none
+     */
+    public FieldEncryptor(Map<Integer, SecretKey> keys, int activeVersion, SecretKey legacyKey) {
+        if (!keys.containsKey(activeVersion)) {
+            throw new IllegalArgumentException("No key configured for active version " + activeVersion);
+        }
+        this.keys = Map.copyOf(keys);
+        this.activeVersion = activeVersion;
+        this.activeKey = keys.get(activeVersion);
+        this.activeHeader = header(activeVersion);
+        this.legacyKey = legacyKey;
+    }
+
+    /**
+     * Derive a 256-bit AES key from a configured secret; run once per key at startup
+     */
+    public static SecretKey deriveKey(String secret, int version) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Encryption secret for key version " + version + " is empty");
+        }
+        PBEKeySpec spec = new PBEKeySpec(secret.toCharArray(),
+                (DERIVATION_SALT_PREFIX + version).getBytes(StandardCharsets.UTF_8), DERIVATION_ITERATIONS, KEY_BITS);
+        try {
+            byte[] key = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+            return new SecretKeySpec(key, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive field encryption key", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    /**
+     * The pre-GCM format used the secret's bytes directly; only 16/24/32 byte secrets ever worked
+     */
+    public static SecretKey legacyKey(String secret) {
+        if (secret == null) {
+            return null;
+        }
+        byte[] raw = secret.getBytes(StandardCharsets.UTF_8);
+        return raw.length == 16 || raw.length == 24 || raw.length == 32 ? new SecretKeySpec(raw, "AES") : null;
+    }
+
+    public int getActiveVersion() {
+        return activeVersion;
+    }
+
+    public String encrypt(String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, activeKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(activeHeader);
+            byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer output = ByteBuffer.allocate(IV_LENGTH + cipher.getOutputSize(input.length));
+            output.put(iv);
+            cipher.doFinal(ByteBuffer.wrap(input), output);
+            return new String(activeHeader, StandardCharsets.US_ASCII) + ":"
+                    + Base64.getEncoder().encodeToString(output.array());
+        } catch (GeneralSecurityException e) {
+            throw new FieldEncryptionException("Failed to encrypt field", e);
+        }
+    }
+
+    public String decrypt(String stored) {
+        if (stored == null) {
+            return null;
+        }
+        int separator = stored.indexOf(':');
+        if (separator < 0) {
+            return decryptLegacy(stored);
+        }
+
+        int version = parseVersion(stored, separator);
+        SecretKey key = keys.get(version);
+        if (key == null) {
+            throw new FieldEncryptionException("No key configured for version " + version);
+        }
+        try {
+            byte[] payload = Base64.getDecoder().decode(stored.substring(separator + 1));
+            if (payload.length < IV_LENGTH + TAG_BITS / 8) {
+                throw new FieldEncryptionException("Encrypted field is truncated");
+            }
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, IV_LENGTH));
+            cipher.updateAAD(stored.substring(0, separator).getBytes(StandardCharsets.US_ASCII));
+            byte[] plaintext = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new FieldEncryptionException("Failed to decrypt field", e);
+        }
+    }
+
+    /**
+     * True when the value is headerless or written under a key other than the active one
+     */
+    public boolean needsReEncryption(String stored) {
+        if (stored == null) {
+            return false;
+        }
+        int separator = stored.indexOf(':');
+        return separator < 0 || parseVersion(stored, separator) != activeVersion;
+    }
+
+    public String reEncrypt(String stored) {
+        return needsReEncryption(stored) ? encrypt(decrypt(stored)) : stored;
+    }
+
+    private String decryptLegacy(String stored) {
+        if (legacyKey == null) {
+            throw new FieldEncryptionException("Field has no key version header and no legacy key is configured");
+        }
+        try {
+            Cipher cipher = Cipher.getInstance(LEGACY_TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+            return new String(cipher.doFinal(Base64.getDecoder().decode(stored)), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new FieldEncryptionException("Failed to decrypt legacy field", e);
+        }
+    }
+
+    private static int parseVersion(String stored, int separator) {
+        if (separator < 2 || stored.charAt(0) != 'v') {
+            throw new FieldEncryptionException("Malformed key version header");
+        }
+        try {
+            return Integer.parseInt(stored, 1, separator, 10);
+        } catch (NumberFormatException e) {
+            throw new FieldEncryptionException("Malformed key version header", e);
+        }
+    }
+
+    private static byte[] header(int version) {
+        return ("v" + version).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(transformation + " is not available", e);
+        }
+    }
+
+    public static class FieldEncryptionException extends RuntimeException {
+        public FieldEncryptionException(String message) {
+            super(message);
+        }
+
+        public FieldEncryptionException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
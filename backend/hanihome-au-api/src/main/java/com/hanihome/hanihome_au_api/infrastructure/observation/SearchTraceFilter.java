@@ -0,0 +1,44 @@
+package com.hanihome.hanihome_au_api.infrastructure.observation;
+
+import io.micrometer.observation.Observation;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens the search.request observation around a search request, ahead of the security chain
+ * so that token validation and the user lookup are traced as stages of the same request.
+ */
+public class SearchTraceFilter extends OncePerRequestFilter {
+
+    private final SearchTracing tracing;
+    private final boolean enabled;
+
+    public SearchTraceFilter(SearchTracing tracing, boolean enabled) {
+        this.tracing = tracing;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Observation observation = tracing.startRequest(request.getMethod() + ' ' + request.getRequestURI());
+        try (Observation.Scope ignored = observation.openScope()) {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
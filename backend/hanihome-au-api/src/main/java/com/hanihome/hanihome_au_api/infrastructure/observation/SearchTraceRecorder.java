@@ -0,0 +1,108 @@
+package com.hanihome.hanihome_au_api.infrastructure.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 느린 검색 요청의 구간별 시간을 메모리에 보관하는 관찰 핸들러 (인메모리 트레이스 익스포터)
+ * - 구간이 끝날 때마다 소속 search.request 의 구간 표에 누적 (같은 구간이 여러 번이면 합산)
+ * - 요청 전체 시간이 slow-threshold-ms 이상이면 최근 capacity 개까지 보관하고 오래된 것부터 버림
+ * - 구간은 중첩될 수 있으므로(cache.deserialize 는 cache.lookup 안) 구간 합이 전체 시간과 같지 않음
+ */
+@Component
+public class SearchTraceRecorder implements ObservationHandler<Observation.Context> {
+
+    private final Deque<SlowTrace> slowTraces = new ArrayDeque<>();
+
+    @Value("${app.search.tracing.slow-threshold-ms:500}")
+    private long slowThresholdMs;
+
+    @Value("${app.search.tracing.slow-trace-capacity:100}")
+    private int capacity;
+
+    /**
+     * Stage times of one search request, in milliseconds in the order the stages finished
+     */
+    public record SlowTrace(Instant finishedAt, String endpoint, double totalMillis, boolean failed,
+                            Map<String, Double> stageMillis) {
+    }
+
+    private static final class Timing {
+        private final long startedNanos = System.nanoTime();
+        private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return SearchTracing.REQUEST.equals(context.getName()) || SearchTracing.STAGE.equals(context.getName());
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(Timing.class, new Timing());
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Timing timing = context.get(Timing.class);
+        if (timing == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - timing.startedNanos;
+
+        if (SearchTracing.STAGE.equals(context.getName())) {
+            Timing request = requestTiming(context);
+            KeyValue stage = context.getLowCardinalityKeyValue(SearchTracing.STAGE_KEY);
+            if (request != null && stage != null) {
+                request.stageNanos.merge(stage.getValue(), elapsed, Long::sum);
+            }
+            return;
+        }
+
+        if (elapsed < slowThresholdMs * 1_000_000) {
+            return;
+        }
+        Map<String, Double> stageMillis = new LinkedHashMap<>();
+        timing.stageNanos.forEach((stage, nanos) -> stageMillis.put(stage, nanos / 1e6));
+        KeyValue endpoint = context.getLowCardinalityKeyValue("endpoint");
+        SlowTrace trace = new SlowTrace(Instant.now(), endpoint != null ? endpoint.getValue() : null,
+                elapsed / 1e6, context.getError() != null, stageMillis);
+        synchronized (slowTraces) {
+            slowTraces.addFirst(trace);
+            while (slowTraces.size() > capacity) {
+                slowTraces.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Most recent slow search requests first
+     */
+    public List<SlowTrace> getSlowTraces(int limit) {
+        synchronized (slowTraces) {
+            return new ArrayList<>(slowTraces).subList(0, Math.min(Math.max(limit, 0), slowTraces.size()));
+        }
+    }
+
+    private static Timing requestTiming(Observation.Context context) {
+        for (ObservationView parent = context.getParentObservation(); parent != null;
+             parent = parent.getContextView().getParentObservation()) {
+            if (SearchTracing.REQUEST.equals(parent.getContextView().getName())) {
+                return parent.getContextView().get(Timing.class);
+            }
+        }
+        return null;
+    }
+}
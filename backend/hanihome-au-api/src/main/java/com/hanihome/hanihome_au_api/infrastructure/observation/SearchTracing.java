@@ -0,0 +1,91 @@
+package com.hanihome.hanihome_au_api.infrastructure.observation;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.ObservationView;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 요청 구간(stage) 계측
+ * - SearchTraceFilter 가 검색 요청마다 search.request 관찰(Observation)을 열고, 그 안에서 실행된 구간을 search.stage{stage=...} 로 기록
+ * - 구간은 Micrometer 타이머(백분위)와 SearchTraceRecorder(느린 요청의 구간별 시간)로 집계
+ * - 검색 요청 밖에서 호출되면 계측 없이 바로 실행 (JWT 필터, 캐시 직렬화처럼 모든 요청이 지나는 경로도 부담 없음)
+ * - 트레이싱 브리지(micrometer-tracing)를 추가하면 같은 관찰이 스팬으로도 내보내짐
+ */
+@Component
+public class SearchTracing {
+
+    public static final String REQUEST = "search.request";
+    public static final String STAGE = "search.stage";
+    public static final String STAGE_KEY = "stage";
+
+    private final ObservationRegistry registry;
+
+    public SearchTracing(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Tracing that never records, for code built outside the application context
+     */
+    public static SearchTracing noop() {
+        return new SearchTracing(ObservationRegistry.NOOP);
+    }
+
+    Observation startRequest(String endpoint) {
+        return Observation.createNotStarted(REQUEST, registry)
+                .lowCardinalityKeyValue("endpoint", endpoint)
+                .start();
+    }
+
+    /**
+     * Whether the current thread is inside a traced search request
+     */
+    public boolean isActive() {
+        for (ObservationView observation = registry.getCurrentObservation(); observation != null;
+             observation = observation.getContextView().getParentObservation()) {
+            if (REQUEST.equals(observation.getContextView().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public <T, E extends Throwable> T stage(String stage, Observation.CheckedCallable<T, E> work) throws E {
+        if (!isActive()) {
+            return work.call();
+        }
+        return Observation.createNotStarted(STAGE, registry)
+                .lowCardinalityKeyValue(STAGE_KEY, stage)
+                .observeChecked(work);
+    }
+
+    public <E extends Throwable> void runStage(String stage, Observation.CheckedRunnable<E> work) throws E {
+        if (!isActive()) {
+            work.run();
+            return;
+        }
+        Observation.createNotStarted(STAGE, registry)
+                .lowCardinalityKeyValue(STAGE_KEY, stage)
+                .observeChecked(work);
+    }
+
+    /**
+     * Wraps a Redis value serializer so cache reads and writes of a search show up as their own stages
+     */
+    public <T> RedisSerializer<T> traced(RedisSerializer<T> serializer) {
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(T value) throws SerializationException {
+                return stage("cache.serialize", () -> serializer.serialize(value));
+            }
+
+            @Override
+            public T deserialize(byte[] bytes) throws SerializationException {
+                return stage("cache.deserialize", () -> serializer.deserialize(bytes));
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.hanihome.hanihome_au_api.infrastructure.observation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 검색 요청 구간 계측 설정
+ * - SearchTraceFilter 는 검색 경로에만, 보안 필터 체인보다 앞에 등록
+ * - JSON 응답 변환기를 감싸 응답 본문 직렬화를 json.render 구간으로 기록 (Boot 기본 변환기를 대체, 같은 ObjectMapper 사용)
+ */
+@Configuration
+public class SearchTracingConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<SearchTraceFilter> searchTraceFilter(
+            SearchTracing tracing,
+            @Value("${app.search.tracing.enabled:true}") boolean enabled) {
+        FilterRegistrationBean<SearchTraceFilter> registration =
+                new FilterRegistrationBean<>(new SearchTraceFilter(tracing, enabled));
+        registration.addUrlPatterns("/api/v1/properties/search");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   SearchTracing tracing) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                tracing.runStage("json.render", () -> super.writeInternal(object, type, outputMessage));
+            }
+        };
+    }
+}
@@ -1,10 +1,12 @@
 package com.hanihome.hanihome_au_api.infrastructure.persistence.property;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -80,4 +82,18 @@ public interface PropertyJpaRepository extends JpaRepository<PropertyJpaEntity,
                                                  @Param("priceThreshold") Double priceThreshold,
                                                  @Param("excludeId") Long excludeId,
                                                  org.springframework.data.domain.Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Active listings as [id, title, city, district, propertyType] in id order (keyset pages for the autocomplete index)
+     */
+    @Query("SELECT p.id, p.title, p.city, p.district, p.propertyType FROM PropertyJpaEntity p " +
+           "WHERE p.status = 'ACTIVE' AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findActiveAutocompleteRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Same columns for the given listings when they are active; missing ids are inactive or deleted
+     */
+    @Query("SELECT p.id, p.title, p.city, p.district, p.propertyType FROM PropertyJpaEntity p " +
+           "WHERE p.status = 'ACTIVE' AND p.id IN :ids")
+    List<Object[]> findActiveAutocompleteRowsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -160,6 +160,8 @@ public class PropertyRepositoryImpl implements PropertyRepository {
         
         // Set additional fields using reflection or getters/setters if available
         // For now, return the basic property
+        // Rebuilding through the factory raises a creation event; a loaded property was not just created
+        property.clearDomainEvents();
         return property;
     }
 
@@ -0,0 +1,86 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.property;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+
+/**
+ * 매물 키워드 검색용 HQL 함수 (PostgreSQL 전용, META-INF/services 로 등록)
+ * - property_fts_match(p.title, :keyword): 트리거가 유지하는 properties.search_vector 에 대한
+ *   plainto_tsquery 일치 검사로, idx_properties_search_vector GIN 인덱스를 사용
+ * - property_fts_rank(p.title, :keyword): 같은 질의의 ts_rank (제목 가중치 A, 설명 B)
+ * - search_vector 는 엔티티에 매핑하지 않으므로 첫 인자로 받은 제목 컬럼의 테이블 별칭으로 참조
+ * - 질의는 'english'(어간 추출)와 'simple'(한국어 등 원형) 두 설정을 OR 로 묶어 색인 시 설정과 맞춤
+ */
+public class PropertySearchFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_FUNCTION = "property_fts_match";
+    public static final String RANK_FUNCTION = "property_fts_rank";
+
+    private static final String SEARCH_VECTOR_COLUMN = "search_vector";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        var basicTypes = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().register(MATCH_FUNCTION,
+                new SearchVectorFunction(MATCH_FUNCTION, basicTypes.resolve(StandardBasicTypes.BOOLEAN)));
+        functionContributions.getFunctionRegistry().register(RANK_FUNCTION,
+                new SearchVectorFunction(RANK_FUNCTION, basicTypes.resolve(StandardBasicTypes.DOUBLE)));
+    }
+
+    private static final class SearchVectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private SearchVectorFunction(String name, BasicType<?> returnType) {
+            super(name,
+                    StandardArgumentsValidators.exactly(2),
+                    StandardFunctionReturnTypeResolvers.invariant(returnType),
+                    StandardFunctionArgumentTypeResolvers.NULL);
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> sqlAstArguments,
+                           ReturnableType<?> returnType, SqlAstTranslator<?> walker) {
+            String searchVector = searchVectorOf(sqlAstArguments.get(0));
+            SqlAstNode keyword = sqlAstArguments.get(1);
+
+            if (MATCH_FUNCTION.equals(getName())) {
+                sqlAppender.appendSql("(" + searchVector + " @@ ");
+                renderQuery(sqlAppender, keyword, walker);
+                sqlAppender.appendSql(")");
+            } else {
+                sqlAppender.appendSql("ts_rank(" + searchVector + ", ");
+                renderQuery(sqlAppender, keyword, walker);
+                sqlAppender.appendSql(")");
+            }
+        }
+
+        private static String searchVectorOf(SqlAstNode column) {
+            if (!(column instanceof ColumnReference reference)) {
+                throw new IllegalArgumentException("First argument must be a column of the properties table");
+            }
+            return reference.getQualifier() == null
+                    ? SEARCH_VECTOR_COLUMN
+                    : reference.getQualifier() + "." + SEARCH_VECTOR_COLUMN;
+        }
+
+        private static void renderQuery(SqlAppender sqlAppender, SqlAstNode keyword, SqlAstTranslator<?> walker) {
+            sqlAppender.appendSql("(plainto_tsquery('english', ");
+            keyword.accept(walker);
+            sqlAppender.appendSql(") || plainto_tsquery('simple', ");
+            keyword.accept(walker);
+            sqlAppender.appendSql("))");
+        }
+    }
+}
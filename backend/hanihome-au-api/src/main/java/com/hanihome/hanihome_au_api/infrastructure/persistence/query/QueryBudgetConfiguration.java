@@ -0,0 +1,41 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.query;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 쿼리 예산 계측 설정
+ * - app.query-budget.enabled=true 일 때만 애플리케이션 DataSource 를 QueryCountingDataSource 로 감쌈
+ *   (기본값 false, development/test/load-test 프로필에서만 켬)
+ * - QueryBudgetFilter 는 보안 필터 체인보다 앞에 등록
+ */
+@Configuration
+public class QueryBudgetConfiguration {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("app.query-budget.enabled", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryBudgetMonitor monitor) {
+        FilterRegistrationBean<QueryBudgetFilter> registration = new FilterRegistrationBean<>(new QueryBudgetFilter(monitor));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
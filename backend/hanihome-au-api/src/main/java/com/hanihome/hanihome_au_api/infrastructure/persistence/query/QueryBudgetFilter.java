@@ -0,0 +1,46 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a QueryScope around each HTTP request, ahead of the security chain so authentication lookups count too
+ * The endpoint name is taken after dispatch from the matched handler pattern; unmatched requests share one name.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final QueryBudgetMonitor monitor;
+
+    public QueryBudgetFilter(QueryBudgetMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!monitor.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        QueryScope scope = QueryScope.open(request.getMethod() + ' ' + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            monitor.complete(scope, endpoint(request), QueryBudgetMonitor.REQUEST);
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + ' ' + (pattern != null ? pattern : UNMAPPED);
+    }
+}
@@ -0,0 +1,118 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.query;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP 요청/스케줄 작업 단위 쿼리 예산
+ * - 범위가 끝나면 문장 수와 행 수를 엔드포인트(작업)별 히스토그램으로 기록 (Prometheus: db_query_statements, db_query_rows)
+ * - 예산을 넘거나 같은 지문의 문장이 repeat-threshold 번 이상 반복되면(N+1) 상위 지문과 함께 경고 로그를 남김
+ * - 엔드포인트 태그는 URL 패턴("GET /api/v1/properties/{id}")이라 경로 변수로 카디널리티가 늘지 않음
+ */
+@Component
+@Slf4j
+public class QueryBudgetMonitor {
+
+    public static final String REQUEST = "request";
+    public static final String JOB = "job";
+
+    private static final int LOGGED_FINGERPRINTS = 5;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    @Value("${app.query-budget.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.query-budget.request.max-statements:25}")
+    private int requestMaxStatements;
+
+    @Value("${app.query-budget.request.max-rows:5000}")
+    private long requestMaxRows;
+
+    @Value("${app.query-budget.job.max-statements:1000}")
+    private int jobMaxStatements;
+
+    @Value("${app.query-budget.job.max-rows:500000}")
+    private long jobMaxRows;
+
+    @Value("${app.query-budget.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    public QueryBudgetMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Closes the scope, records its counts under the endpoint or job name and logs it when over budget
+     */
+    public void complete(QueryScope scope, String name, String kind) {
+        scope.close();
+        Meters endpointMeters = meters.computeIfAbsent(kind + ' ' + name, key -> new Meters(name, kind));
+        endpointMeters.statements.record(scope.statements());
+        endpointMeters.rows.record(scope.rows());
+
+        boolean job = JOB.equals(kind);
+        boolean overBudget = scope.statements() > (job ? jobMaxStatements : requestMaxStatements)
+                || scope.rows() > (job ? jobMaxRows : requestMaxRows);
+        boolean repeated = scope.maxRepeats() >= repeatThreshold;
+        if (!overBudget && !repeated) {
+            return;
+        }
+
+        if (overBudget) {
+            endpointMeters.overBudget.increment();
+        }
+        if (repeated) {
+            endpointMeters.repeated.increment();
+        }
+        log.warn("Query budget {} for {} {}",
+                overBudget && repeated ? "exceeded with repeated statements"
+                        : overBudget ? "exceeded" : "warning: repeated statements (possible N+1)",
+                kind, scope.describe(LOGGED_FINGERPRINTS));
+    }
+
+    private final class Meters {
+
+        private final DistributionSummary statements;
+        private final DistributionSummary rows;
+        private final Counter overBudget;
+        private final Counter repeated;
+
+        Meters(String name, String kind) {
+            statements = DistributionSummary.builder("db.query.statements")
+                    .description("SQL statements executed per " + kind)
+                    .tag("kind", kind)
+                    .tag("endpoint", name)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            rows = DistributionSummary.builder("db.query.rows")
+                    .description("Result rows read per " + kind)
+                    .tag("kind", kind)
+                    .tag("endpoint", name)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            overBudget = Counter.builder("db.query.budget.violations")
+                    .tag("kind", kind)
+                    .tag("endpoint", name)
+                    .tag("reason", "over_budget")
+                    .register(meterRegistry);
+            repeated = Counter.builder("db.query.budget.violations")
+                    .tag("kind", kind)
+                    .tag("endpoint", name)
+                    .tag("reason", "repeated_statement")
+                    .register(meterRegistry);
+        }
+    }
+}
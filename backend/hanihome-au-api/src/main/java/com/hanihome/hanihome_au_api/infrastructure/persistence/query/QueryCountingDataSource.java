@@ -0,0 +1,163 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.query;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 실행된 SQL 문장과 읽은 행을 현재 QueryScope 에 기록하는 DataSource 래퍼
+ * - Hibernate, JdbcTemplate, 직접 JDBC 를 모두 커넥션 풀 바로 위에서 집계
+ * - 배치 실행(executeBatch)은 DB 왕복 한 번이므로 한 문장으로 셈
+ * - 열린 범위가 없으면 ResultSet 은 감싸지 않음
+ * - unwrap/isWrapperFor 는 원래 DataSource 로 전달되어 Hikari 메트릭과 PGConnection 접근은 그대로 동작
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * equals/hashCode on the proxy itself, so pools and sets see one object per proxy
+     */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" ->
+                        proxy(PreparedStatement.class, new StatementHandler(result, (Connection) proxy, (String) args[0]));
+                case "prepareCall" ->
+                        proxy(CallableStatement.class, new StatementHandler(result, (Connection) proxy, (String) args[0]));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(result, (Connection) proxy, null));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final Connection connection;
+        private final String preparedSql;
+        private String batchSql;
+
+        StatementHandler(Object target, Connection connection, String preparedSql) {
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if ("getConnection".equals(name)) {
+                return connection;
+            }
+            if ("addBatch".equals(name) && args != null && args[0] instanceof String sql) {
+                batchSql = sql;
+            }
+
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String executed
+                        ? executed
+                        : preparedSql != null ? preparedSql : batchSql;
+                QueryScope.statementExecuted(sql);
+            }
+            if (result instanceof ResultSet resultSet) {
+                QueryScope scope = QueryScope.current();
+                if (scope != null) {
+                    return proxy(ResultSet.class, new ResultSetHandler(resultSet, (Statement) proxy, scope));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final Statement statement;
+        private final QueryScope scope;
+
+        ResultSetHandler(ResultSet target, Statement statement, QueryScope scope) {
+            this.target = target;
+            this.statement = statement;
+            this.scope = scope;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            if ("getStatement".equals(method.getName())) {
+                return statement;
+            }
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                scope.rowRead();
+            }
+            return result;
+        }
+    }
+}
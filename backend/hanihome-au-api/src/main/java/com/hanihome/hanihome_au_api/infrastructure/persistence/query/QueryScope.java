@@ -0,0 +1,134 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.query;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문장 수와 읽은 행 수의 집계 범위 (HTTP 요청, 스케줄 작업, 테스트)
+ * - QueryCountingDataSource 가 문장 실행과 ResultSet.next() 마다 현재 범위에 기록
+ * - 범위는 중첩 가능하며 안쪽 범위의 쿼리는 바깥 범위에도 합산됨
+ * - 다른 스레드(병렬 작업, @Async)에서 실행된 쿼리는 그 스레드에 열린 범위가 없으면 집계되지 않음
+ * - 한 스레드에서만 쓰므로 동기화하지 않음
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final QueryScope parent;
+    private final long startedNanos = System.nanoTime();
+    private final Map<String, Integer> fingerprints = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long elapsedNanos = -1;
+
+    private QueryScope(String name, QueryScope parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+
+    public record FingerprintCount(String fingerprint, int count) {
+    }
+
+    /**
+     * Opens a scope on the current thread; close it in a finally block or try-with-resources
+     */
+    public static QueryScope open(String name) {
+        QueryScope scope = new QueryScope(name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static QueryScope current() {
+        return CURRENT.get();
+    }
+
+    static void statementExecuted(String sql) {
+        QueryScope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.fingerprints.merge(fingerprint, 1, Integer::sum);
+        }
+    }
+
+    void rowRead() {
+        for (QueryScope scope = this; scope != null; scope = scope.parent) {
+            scope.rows++;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (elapsedNanos >= 0) {
+            return;
+        }
+        elapsedNanos = System.nanoTime() - startedNanos;
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long elapsedMillis() {
+        return (elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startedNanos) / 1_000_000;
+    }
+
+    public Map<String, Integer> fingerprints() {
+        return Collections.unmodifiableMap(fingerprints);
+    }
+
+    /**
+     * Executions of the most repeated statement; a count that grows with the result size is the N+1 signature
+     */
+    public int maxRepeats() {
+        int max = 0;
+        for (int count : fingerprints.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    public List<FingerprintCount> topFingerprints(int limit) {
+        return fingerprints.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> new FingerprintCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Multi-line summary with the most executed statements, for logs and assertion messages
+     */
+    public String describe(int limit) {
+        StringBuilder description = new StringBuilder()
+                .append(name).append(": ").append(statements).append(" statements, ")
+                .append(rows).append(" rows, ").append(elapsedMillis()).append(" ms");
+        for (FingerprintCount top : topFingerprints(limit)) {
+            description.append(System.lineSeparator())
+                    .append(String.format("  %4dx %s", top.count(), top.fingerprint()));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.query;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a QueryScope around each @Scheduled run, named "<Class>.<method>"
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobQueryBudgetAspect {
+
+    private final QueryBudgetMonitor monitor;
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled) && within(com.hanihome.hanihome_au_api..*)")
+    public Object measureJob(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!monitor.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + '.' + joinPoint.getSignature().getName();
+        QueryScope scope = QueryScope.open(name);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            monitor.complete(scope, name, QueryBudgetMonitor.JOB);
+        }
+    }
+}
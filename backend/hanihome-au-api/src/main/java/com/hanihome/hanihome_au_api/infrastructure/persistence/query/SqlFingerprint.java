@@ -0,0 +1,136 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 문장의 지문(fingerprint)
+ * - 문자열/숫자 리터럴은 ?, 공백은 한 칸, 대소문자는 소문자로 통일
+ * - IN (?, ?, ...) 목록은 길이와 관계없이 (?...) 하나로 접어서 같은 쿼리가 같은 지문을 갖도록 함
+ * - Hibernate 는 같은 쿼리에 같은 SQL 문자열을 재사용하므로 결과를 캐시 (가득 차면 비움)
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_LENGTH = 1000;
+    private static final int CACHE_SIZE = 2048;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = normalize(sql);
+        if (CACHE.size() >= CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(sql, fingerprint);
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(Math.min(sql.length(), MAX_LENGTH));
+        int length = sql.length();
+        int i = 0;
+        while (i < length && out.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i = skipStringLiteral(sql, i + 1);
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty() && out.charAt(out.length() - 1) != ' ') {
+                    out.append(' ');
+                }
+            } else if (Character.isDigit(c) && !continuesIdentifier(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+        return collapseLists(out).trim();
+    }
+
+    /**
+     * Returns the index after the closing quote; doubled quotes are escapes
+     */
+    private static int skipStringLiteral(String sql, int i) {
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean continuesIdentifier(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '"';
+    }
+
+    /**
+     * Folds "(?, ?, ?)" into "(?...)"; a single "(?)" is kept as it is
+     */
+    private static String collapseLists(StringBuilder sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int i = 0;
+        while (i < sql.length()) {
+            int end = listEnd(sql, i);
+            if (end > 0) {
+                out.append("(?...)");
+                i = end;
+            } else {
+                out.append(sql.charAt(i++));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Index after the closing parenthesis when a list of two or more placeholders starts at i, else -1
+     */
+    private static int listEnd(StringBuilder sql, int i) {
+        if (sql.charAt(i) != '(') {
+            return -1;
+        }
+        int placeholders = 0;
+        boolean expectPlaceholder = true;
+        for (int j = i + 1; j < sql.length(); j++) {
+            char c = sql.charAt(j);
+            if (c == ' ') {
+                continue;
+            }
+            if (expectPlaceholder && c == '?') {
+                placeholders++;
+                expectPlaceholder = false;
+            } else if (!expectPlaceholder && c == ',') {
+                expectPlaceholder = true;
+            } else if (!expectPlaceholder && c == ')') {
+                return placeholders > 1 ? j + 1 : -1;
+            } else {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
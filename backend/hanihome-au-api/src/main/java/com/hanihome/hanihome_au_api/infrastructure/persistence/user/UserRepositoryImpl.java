@@ -1,5 +1,6 @@
 package com.hanihome.hanihome_au_api.infrastructure.persistence.user;
 
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEventPublisher;
 import com.hanihome.hanihome_au_api.domain.user.entity.User;
 import com.hanihome.hanihome_au_api.domain.user.repository.UserRepository;
 import com.hanihome.hanihome_au_api.domain.user.valueobject.Email;
@@ -13,15 +14,23 @@ import java.util.Optional;
 public class UserRepositoryImpl implements UserRepository {
     
     private final UserJpaRepository userJpaRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
-    public UserRepositoryImpl(UserJpaRepository userJpaRepository) {
+    public UserRepositoryImpl(UserJpaRepository userJpaRepository, DomainEventPublisher domainEventPublisher) {
         this.userJpaRepository = userJpaRepository;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
+    /**
+     * Users are created from several entry points (OAuth2 sign-up, admin use case),
+     * so registration and role change events are published here once the row is written
+     */
     @Override
     public User save(User user) {
         UserJpaEntity entity = mapToEntity(user);
         UserJpaEntity savedEntity = userJpaRepository.save(entity);
+        user.getDomainEvents().forEach(domainEventPublisher::publish);
+        user.clearDomainEvents();
         return mapToDomain(savedEntity);
     }
 
@@ -91,6 +100,8 @@ public class UserRepositoryImpl implements UserRepository {
             user.recordLogin();
         }
         
+        // Rebuilding through the factory raises a registration event; a loaded user was not just registered
+        user.clearDomainEvents();
         return user;
     }
 }
\ No newline at end of file
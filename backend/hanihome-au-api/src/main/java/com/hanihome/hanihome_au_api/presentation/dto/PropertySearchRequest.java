@@ -2,6 +2,7 @@ package com.hanihome.hanihome_au_api.presentation.dto;
 
 import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
 import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
@@ -118,7 +119,7 @@ public class PropertySearchRequest {
     private List<String> requiredOptions;
     
     // Sorting and pagination
-    @Schema(description = "Sort by field", allowableValues = {"createdAt", "rentPrice", "distance", "popularity"})
+    @Schema(description = "Sort by field", allowableValues = {"createdAt", "rentPrice", "distance", "popularity", "relevance"})
     private String sortBy = "createdAt";
     
     @Schema(description = "Sort direction", allowableValues = {"asc", "desc"})
@@ -147,4 +148,88 @@ public class PropertySearchRequest {
     
     @Schema(description = "Cursor for pagination (optional, for infinite scroll)")
     private PropertySearchCursor cursor;
-}
\ No newline at end of file
+    
+    @Schema(description = "Facet dimensions to count next to the results",
+            allowableValues = {"propertyType", "rentalType", "bedrooms", "priceBand", "amenities"})
+    private List<String> facets;
+
+    /**
+     * Filter criteria in the stored search-history form (paging and cursor excluded)
+     */
+    public SearchFilters toFilters() {
+        return SearchFilters.builder()
+                .keyword(keyword)
+                .propertyTypes(propertyTypes)
+                .rentalTypes(rentalTypes)
+                .minRentPrice(minRentPrice)
+                .maxRentPrice(maxRentPrice)
+                .minDeposit(minDeposit)
+                .maxDeposit(maxDeposit)
+                .minBedrooms(minBedrooms)
+                .maxBedrooms(maxBedrooms)
+                .minBathrooms(minBathrooms)
+                .maxBathrooms(maxBathrooms)
+                .minFloorArea(minFloorArea)
+                .maxFloorArea(maxFloorArea)
+                .city(city)
+                .state(state)
+                .country(country)
+                .postalCode(postalCode)
+                .latitude(latitude)
+                .longitude(longitude)
+                .maxDistance(maxDistance)
+                .parkingRequired(parkingRequired)
+                .petAllowedRequired(petAllowedRequired)
+                .furnishedRequired(furnishedRequired)
+                .shortTermAvailableRequired(shortTermAvailableRequired)
+                .requiredOptions(requiredOptions)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .availableFrom(availableFrom)
+                .availableTo(availableTo)
+                .recentDays(recentDays)
+                .build();
+    }
+
+    /**
+     * Re-run stored filters (first page, default size)
+     */
+    public static PropertySearchRequest fromFilters(SearchFilters filters) {
+        PropertySearchRequest request = new PropertySearchRequest();
+        request.setKeyword(filters.getKeyword());
+        request.setPropertyTypes(filters.getPropertyTypes());
+        request.setRentalTypes(filters.getRentalTypes());
+        request.setMinRentPrice(filters.getMinRentPrice());
+        request.setMaxRentPrice(filters.getMaxRentPrice());
+        request.setMinDeposit(filters.getMinDeposit());
+        request.setMaxDeposit(filters.getMaxDeposit());
+        request.setMinBedrooms(filters.getMinBedrooms());
+        request.setMaxBedrooms(filters.getMaxBedrooms());
+        request.setMinBathrooms(filters.getMinBathrooms());
+        request.setMaxBathrooms(filters.getMaxBathrooms());
+        request.setMinFloorArea(filters.getMinFloorArea());
+        request.setMaxFloorArea(filters.getMaxFloorArea());
+        request.setCity(filters.getCity());
+        request.setState(filters.getState());
+        request.setCountry(filters.getCountry());
+        request.setPostalCode(filters.getPostalCode());
+        request.setLatitude(filters.getLatitude());
+        request.setLongitude(filters.getLongitude());
+        request.setMaxDistance(filters.getMaxDistance());
+        request.setParkingRequired(filters.getParkingRequired());
+        request.setPetAllowedRequired(filters.getPetAllowedRequired());
+        request.setFurnishedRequired(filters.getFurnishedRequired());
+        request.setShortTermAvailableRequired(filters.getShortTermAvailableRequired());
+        request.setRequiredOptions(filters.getRequiredOptions());
+        if (filters.getSortBy() != null) {
+            request.setSortBy(filters.getSortBy());
+        }
+        if (filters.getSortDirection() != null) {
+            request.setSortDirection(filters.getSortDirection());
+        }
+        request.setAvailableFrom(filters.getAvailableFrom());
+        request.setAvailableTo(filters.getAvailableTo());
+        request.setRecentDays(filters.getRecentDays());
+        return request;
+    }
+}
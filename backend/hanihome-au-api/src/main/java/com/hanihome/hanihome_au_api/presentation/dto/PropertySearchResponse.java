@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -49,6 +50,10 @@ public class PropertySearchResponse {
     @Schema(description = "Applied filters summary")
     private SearchFilterSummary filterSummary;
     
+    @Schema(description = "Counts per requested facet dimension and bucket, over all matching properties",
+            example = "{\"propertyType\": {\"APARTMENT\": 120, \"STUDIO\": 45}, \"bedrooms\": {\"1\": 60, \"4+\": 8}}")
+    private Map<String, Map<String, Long>> facets;
+    
     @Schema(description = "Next cursor for pagination")
     private PropertySearchCursor nextCursor;
     
@@ -4,6 +4,8 @@ import com.hanihome.hanihome_au_api.application.admin.dto.DashboardStatsDto;
 import com.hanihome.hanihome_au_api.application.admin.dto.PropertyManagementDto;
 import com.hanihome.hanihome_au_api.application.admin.dto.UserManagementDto;
 import com.hanihome.hanihome_au_api.application.admin.service.AdminDashboardService;
+import com.hanihome.hanihome_au_api.application.admin.service.TimeSeriesAggregator;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Metric;
 import com.hanihome.hanihome_au_api.domain.enums.PropertyStatus;
 import com.hanihome.hanihome_au_api.domain.enums.UserRole;
 import com.hanihome.hanihome_au_api.dto.response.ApiResponse;
@@ -21,6 +23,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -31,6 +34,7 @@ import java.util.Map;
 public class AdminDashboardController {
 
     private final AdminDashboardService adminDashboardService;
+    private final TimeSeriesAggregator timeSeriesAggregator;
 
     @GetMapping("/stats")
     @PreAuthorize("@securityExpressionHandler.hasRole('ADMIN')")
@@ -46,6 +50,24 @@ public class AdminDashboardController {
         ));
     }
 
+    @GetMapping("/stats/series")
+    @PreAuthorize("@securityExpressionHandler.hasRole('ADMIN')")
+    @Operation(summary = "시계열 통계 조회", description = "지표별 생성/완료 건수를 일/주/월 단위로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<DashboardStatsDto.TimeSeriesData>>> getStatsSeries(
+            @Parameter(description = "지표 (USER, PROPERTY, TRANSACTION, VIEWING)") @RequestParam Metric metric,
+            @Parameter(description = "시리즈 (CREATED, COMPLETED)") @RequestParam(defaultValue = "CREATED") TimeSeriesAggregator.Series series,
+            @Parameter(description = "버킷 단위 (DAY, WEEK, MONTH)") @RequestParam(defaultValue = "DAY") TimeSeriesAggregator.Bucket bucket,
+            @Parameter(description = "버킷 개수 (현재 버킷 포함)") @RequestParam(defaultValue = "30") int periods) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(
+                    "Statistics series retrieved successfully",
+                    timeSeriesAggregator.getSeries(metric, series, bucket, periods)
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     @GetMapping("/users")
     @PreAuthorize("@securityExpressionHandler.hasRole('ADMIN')")
     @Operation(summary = "사용자 관리 목록 조회", description = "관리를 위한 사용자 목록을 페이징하여 조회합니다.")
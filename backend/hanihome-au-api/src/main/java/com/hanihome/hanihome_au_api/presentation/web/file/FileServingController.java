@@ -0,0 +1,243 @@
+package com.hanihome.hanihome_au_api.presentation.web.file;
+
+import com.hanihome.hanihome_au_api.service.FileStorageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves uploaded files from app.file-storage.upload-dir at <app.file-storage.base-url>/files/**
+ * (base-url is the API root including the /api/v1 context path, so generated URLs land here)
+ * - Body is handed to Tomcat sendfile when the connector supports it, otherwise copied with FileChannel.transferTo
+ * - Single byte ranges (Range / If-Range), ETags from the SHA-256 of the served bytes, If-None-Match → 304
+ *   (weak comparison, so W/ tags rewritten by proxies still match)
+ * - Unpublished uploads under blobs/tmp are never served
+ * - UUID- and content-hash-named files never change, so they get a one-year immutable Cache-Control suitable for a CDN
+ * - Pre-compressed .br / .gz siblings are served when the client accepts them
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Files", description = "Uploaded file delivery")
+public class FileServingController {
+
+    private static final String FILES_PREFIX = "/files/";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            ".*([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})[^/]*$");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String DEFAULT_CACHE_CONTROL = "public, max-age=3600";
+
+    private final FileStorageService fileStorageService;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @RequestMapping(value = "/files/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "Download an uploaded file", description = "Supports Range, ETag/If-None-Match and pre-compressed variants")
+    public void serveFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String relativePath = urlPathHelper.getPathWithinApplication(request).substring(FILES_PREFIX.length());
+
+        Path file;
+        try {
+            file = fileStorageService.resolveStoredFile(relativePath);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        if (fileStorageService.isStagingPath(file) || !Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String encoding = rangeHeader == null ? selectPrecompressedEncoding(file, acceptEncoding) : null;
+        Path body = encoding == null ? file : variantPath(file, encoding);
+
+        BasicFileAttributes attributes = Files.readAttributes(body, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + fileStorageService.contentHash(body, attributes) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                IMMUTABLE_NAME.matcher(file.getFileName().toString()).matches() ? IMMUTABLE_CACHE_CONTROL : DEFAULT_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range.length == 2) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long contentLength = end - start + 1;
+        response.setContentLengthLong(contentLength);
+
+        if ("HEAD".equals(request.getMethod()) || contentLength == 0) {
+            return;
+        }
+
+        transfer(body, start, contentLength, request, response);
+    }
+
+    /**
+     * Prefer the container's sendfile so bytes go from page cache to socket without entering the JVM;
+     * otherwise let FileChannel.transferTo copy straight into the response channel
+     */
+    private void transfer(Path file, long start, long count, HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private String selectPrecompressedEncoding(Path file, String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        if (acceptEncoding.contains("br") && Files.isRegularFile(variantPath(file, "br"))) {
+            return "br";
+        }
+        if (acceptEncoding.contains("gzip") && Files.isRegularFile(variantPath(file, "gzip"))) {
+            return "gzip";
+        }
+        return null;
+    }
+
+    private Path variantPath(Path file, String encoding) {
+        String suffix = "br".equals(encoding) ? ".br" : ".gz";
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    private boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        if ("*".equals(ifNoneMatch.trim())) {
+            return true;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            if (stripWeakPrefix(candidate.trim()).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-None-Match uses the weak comparison (RFC 9110 13.1.2); our own tags are always strong
+     */
+    private String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * Parse a single byte range
+     * @return {start, end} for a satisfiable range, an empty array to ignore the header
+     *         (multi-range or malformed), or null when the range is unsatisfiable
+     */
+    private long[] parseRange(String rangeHeader, long length) {
+        Matcher matcher = SINGLE_RANGE.matcher(rangeHeader.trim());
+        if (!matcher.matches()) {
+            return new long[0];
+        }
+
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        if (first.isEmpty() && last.isEmpty()) {
+            return new long[0];
+        }
+
+        try {
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength == 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffixLength);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -87,7 +87,8 @@ public class PropertyFavoriteController {
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @PageableDefault(size = 20) Pageable pageable) {
         
-        Page<PropertyFavoriteResponseDto> favorites = favoriteService.getUserFavorites(userPrincipal.getId(), pageable);
+        Page<PropertyFavoriteResponseDto> favorites = favoriteService.getUserFavorites(userPrincipal.getId(), pageable)
+                .toPage(pageable);
         return ResponseEntity.ok(ApiResponse.success(favorites));
     }
 
@@ -100,7 +101,7 @@ public class PropertyFavoriteController {
             @PageableDefault(size = 20) Pageable pageable) {
         
         Page<PropertyFavoriteResponseDto> favorites = favoriteService.getUserFavoritesByCategory(
-                userPrincipal.getId(), category, pageable);
+                userPrincipal.getId(), category, pageable).toPage(pageable);
         return ResponseEntity.ok(ApiResponse.success(favorites));
     }
 
@@ -0,0 +1,60 @@
+package com.hanihome.hanihome_au_api.presentation.web.property;
+
+import com.hanihome.hanihome_au_api.domain.entity.PropertyImage;
+import com.hanihome.hanihome_au_api.dto.response.ApiResponse;
+import com.hanihome.hanihome_au_api.service.PropertyImageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/properties/{propertyId}/images")
+@RequiredArgsConstructor
+@Tag(name = "Property Images", description = "Property image upload and processing status")
+@SecurityRequirement(name = "Bearer Authentication")
+public class PropertyImageController {
+
+    private final PropertyImageService propertyImageService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("@securityExpressionHandler.canManageProperty(#propertyId)")
+    @Operation(
+        summary = "Upload property images",
+        description = "Stores the originals and returns immediately. Renditions are generated in the background; " +
+                "poll GET /images or listen for the IMAGE SSE event for completion."
+    )
+    public ResponseEntity<ApiResponse<List<PropertyImage>>> uploadImages(
+            @PathVariable Long propertyId,
+            @RequestParam("files") List<MultipartFile> files) {
+        try {
+            List<PropertyImage> images = propertyImageService.uploadMultipleImages(propertyId, files);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Images accepted for processing", images));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to upload images for property {}: {}", propertyId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Internal server error"));
+        }
+    }
+
+    @GetMapping
+    @PreAuthorize("@securityExpressionHandler.canViewProperty(#propertyId)")
+    @Operation(summary = "Get property images", description = "Lists images with their rendition URLs and processing status")
+    public ResponseEntity<ApiResponse<List<PropertyImage>>> getImages(@PathVariable Long propertyId) {
+        return ResponseEntity.ok(ApiResponse.success(propertyImageService.getPropertyImages(propertyId)));
+    }
+}
@@ -2,6 +2,7 @@ package com.hanihome.hanihome_au_api.presentation.web.property;
 
 import com.hanihome.hanihome_au_api.application.property.service.SearchPerformanceService;
 import com.hanihome.hanihome_au_api.dto.response.ApiResponse;
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTraceRecorder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +44,20 @@ public class SearchPerformanceController {
         return ResponseEntity.ok(ApiResponse.success(slowQueries));
     }
 
+    @GetMapping("/stages")
+    @Operation(summary = "검색 구간별 지연 시간 조회",
+               description = "JWT 검증, 캐시 조회, 카운트/조회 쿼리, DTO 변환, JSON 직렬화 등 검색 요청 구간별 p50/p95/p99 지연 시간을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<SearchPerformanceService.StageLatency>>> getStageLatencies() {
+        return ResponseEntity.ok(ApiResponse.success(searchPerformanceService.getStageLatencies()));
+    }
+
+    @GetMapping("/slow-traces")
+    @Operation(summary = "느린 검색 요청 구간 분석 조회", description = "최근 느린 검색 요청의 구간별 소요 시간을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<SearchTraceRecorder.SlowTrace>>> getSlowTraces(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(searchPerformanceService.getSlowTraces(limit)));
+    }
+
     @PostMapping("/cache/clear")
     @Operation(summary = "캐시 초기화", description = "검색 캐시를 초기화합니다.")
     public ResponseEntity<ApiResponse<Void>> clearCache() {
@@ -0,0 +1,191 @@
+package com.hanihome.hanihome_au_api.repository;
+
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AdminStatRollupRepository extends JpaRepository<AdminStatRollup, AdminStatRollup.Key> {
+
+    String INSERT_ROLLUP = "INSERT INTO admin_stat_rollups " +
+            "(granularity, bucket_start, metric, dimension, dimension_value, value, updated_at) ";
+    String INSERT_DELTA = "INSERT INTO admin_stat_deltas " +
+            "(granularity, bucket_start, metric, dimension, dimension_value, delta) ";
+    String TOTAL = "'TOTAL', TIMESTAMP '1970-01-01 00:00:00', ";
+    String LOCK_KEY = "hashtext('admin_stat_rollups')";
+
+    /** Rows a reconcile rewrites: every TOTAL gauge and the HOUR / DAY buckets since the given starts */
+    String RECONCILED_SCOPE = "(granularity = 'TOTAL' OR (granularity = 'HOUR' AND bucket_start >= :hourSince) " +
+            "OR (granularity = 'DAY' AND bucket_start >= :daySince))";
+    /** Opens a correction: actual counts from the source tables minus the recorded rollups and pending deltas */
+    String CORRECTION = INSERT_DELTA +
+            "SELECT granularity, bucket_start, metric, dimension, dimension_value, SUM(value) FROM (";
+    String RECORDED_ROLLUPS = " UNION ALL SELECT granularity, bucket_start, metric, dimension, dimension_value, -value " +
+            "FROM admin_stat_rollups WHERE " + RECONCILED_SCOPE + " AND metric = ";
+    String RECORDED_DELTAS = " UNION ALL SELECT granularity, bucket_start, metric, dimension, dimension_value, -delta " +
+            "FROM admin_stat_deltas WHERE " + RECONCILED_SCOPE + " AND metric = ";
+    String CORRECTION_END = ") AS counts (granularity, bucket_start, metric, dimension, dimension_value, value) " +
+            "GROUP BY granularity, bucket_start, metric, dimension, dimension_value HAVING SUM(value) <> 0";
+
+    /**
+     * Dashboard read: every TOTAL gauge plus the daily creation counts since the given day
+     * Both branches are range scans on the primary key
+     */
+    @Query(value = "SELECT * FROM admin_stat_rollups WHERE granularity = 'TOTAL' " +
+                   "UNION ALL " +
+                   "SELECT * FROM admin_stat_rollups WHERE granularity = 'DAY' AND bucket_start >= :since " +
+                   "AND dimension = 'ALL'",
+           nativeQuery = true)
+    List<AdminStatRollup> findDashboardRows(@Param("since") LocalDateTime since);
+
+    /**
+     * Daily buckets of one series re-bucketed by date_trunc(:unit) in a single GROUP BY
+     * @return rows of {bucket start (Timestamp), count (Number)} ordered by bucket
+     */
+    @Query(value = "SELECT date_trunc(:unit, bucket_start) AS bucket, SUM(value) AS total " +
+                   "FROM admin_stat_rollups WHERE granularity = 'DAY' AND metric = :metric " +
+                   "AND dimension = :dimension AND dimension_value = :dimensionValue AND bucket_start >= :since " +
+                   "GROUP BY 1 ORDER BY 1",
+           nativeQuery = true)
+    List<Object[]> sumDailyBuckets(@Param("unit") String unit,
+                                   @Param("metric") String metric,
+                                   @Param("dimension") String dimension,
+                                   @Param("dimensionValue") String dimensionValue,
+                                   @Param("since") LocalDateTime since);
+
+    // ===== Event-driven deltas =====
+
+    @Modifying
+    @Query(value = INSERT_DELTA +
+                   "VALUES (:granularity, :bucketStart, :metric, :dimension, :dimensionValue, :delta)",
+           nativeQuery = true)
+    void insertDelta(@Param("granularity") String granularity,
+                     @Param("bucketStart") LocalDateTime bucketStart,
+                     @Param("metric") String metric,
+                     @Param("dimension") String dimension,
+                     @Param("dimensionValue") String dimensionValue,
+                     @Param("delta") long delta);
+
+    /**
+     * Folds up to :limit pending deltas into the rollups and deletes them, in one statement
+     * SKIP LOCKED lets compactions on several nodes take disjoint batches
+     * @return number of rollup rows written; 0 once no deltas are left
+     */
+    @Modifying
+    @Query(value = "WITH batch AS (SELECT id FROM admin_stat_deltas ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED), " +
+                   "drained AS (DELETE FROM admin_stat_deltas d USING batch WHERE d.id = batch.id " +
+                   "RETURNING d.granularity, d.bucket_start, d.metric, d.dimension, d.dimension_value, d.delta) " +
+                   INSERT_ROLLUP +
+                   "SELECT granularity, bucket_start, metric, dimension, dimension_value, SUM(delta), CURRENT_TIMESTAMP " +
+                   "FROM drained GROUP BY granularity, bucket_start, metric, dimension, dimension_value " +
+                   "ON CONFLICT (granularity, bucket_start, metric, dimension, dimension_value) " +
+                   "DO UPDATE SET value = admin_stat_rollups.value + EXCLUDED.value, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int compactDeltas(@Param("limit") int limit);
+
+    /**
+     * Transaction-scoped lock taken by every compaction; compactions on different nodes share it
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock_shared(" + LOCK_KEY + ")) AS locked",
+           nativeQuery = true)
+    long lockForCompaction();
+
+    /**
+     * Transaction-scoped lock taken by the nightly reconciliation; waits for running compactions and holds off new ones
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(" + LOCK_KEY + ")) AS locked",
+           nativeQuery = true)
+    long lockForReconciliation();
+
+    // ===== Nightly reconciliation =====
+    // Each correction is a single statement, so the source tables, the rollups and the pending deltas are read
+    // from one snapshot: a change committed before it is counted in the source tables and cancelled by its
+    // pending delta, a change committed after it is seen by neither. The difference is written as one more delta
+
+    @Modifying
+    @Query(value = "DELETE FROM admin_stat_rollups WHERE granularity = :granularity AND bucket_start < :before",
+           nativeQuery = true)
+    int deleteBucketsBefore(@Param("granularity") String granularity, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query(value = CORRECTION +
+                   "SELECT " + TOTAL + "'USER', 'ALL', '', COUNT(*) FROM users " +
+                   "UNION ALL SELECT " + TOTAL + "'USER', 'ROLE', role, COUNT(*) FROM users GROUP BY role " +
+                   "UNION ALL SELECT " + TOTAL + "'USER', 'ACTIVE', '', COUNT(*) FROM users " +
+                   "WHERE last_login_at >= :activeSince " +
+                   "UNION ALL SELECT 'HOUR', date_trunc('hour', created_at), 'USER', 'ALL', '', COUNT(*) " +
+                   "FROM users WHERE created_at >= :hourSince GROUP BY date_trunc('hour', created_at) " +
+                   "UNION ALL SELECT 'HOUR', date_trunc('hour', created_at), 'USER', 'ROLE', role, COUNT(*) " +
+                   "FROM users WHERE created_at >= :hourSince GROUP BY date_trunc('hour', created_at), role " +
+                   "UNION ALL SELECT 'DAY', date_trunc('day', created_at), 'USER', 'ALL', '', COUNT(*) " +
+                   "FROM users WHERE created_at >= :daySince GROUP BY date_trunc('day', created_at) " +
+                   "UNION ALL SELECT 'DAY', date_trunc('day', created_at), 'USER', 'ROLE', role, COUNT(*) " +
+                   "FROM users WHERE created_at >= :daySince GROUP BY date_trunc('day', created_at), role" +
+                   RECORDED_ROLLUPS + "'USER'" + RECORDED_DELTAS + "'USER'" +
+                   CORRECTION_END,
+           nativeQuery = true)
+    int correctUserCounts(@Param("hourSince") LocalDateTime hourSince,
+                          @Param("daySince") LocalDateTime daySince,
+                          @Param("activeSince") LocalDateTime activeSince);
+
+    @Modifying
+    @Query(value = CORRECTION +
+                   "SELECT " + TOTAL + "'PROPERTY', 'ALL', '', COUNT(*) FROM properties " +
+                   "UNION ALL SELECT " + TOTAL + "'PROPERTY', 'STATUS', status, COUNT(*) FROM properties GROUP BY status " +
+                   "UNION ALL SELECT " + TOTAL + "'PROPERTY', 'TYPE', property_type, COUNT(*) FROM properties GROUP BY property_type " +
+                   "UNION ALL SELECT 'HOUR', date_trunc('hour', created_date), 'PROPERTY', 'ALL', '', COUNT(*) " +
+                   "FROM properties WHERE created_date >= :hourSince GROUP BY date_trunc('hour', created_date) " +
+                   "UNION ALL SELECT 'HOUR', date_trunc('hour', created_date), 'PROPERTY', 'TYPE', property_type, COUNT(*) " +
+                   "FROM properties WHERE created_date >= :hourSince GROUP BY date_trunc('hour', created_date), property_type " +
+                   "UNION ALL SELECT 'DAY', date_trunc('day', created_date), 'PROPERTY', 'ALL', '', COUNT(*) " +
+                   "FROM properties WHERE created_date >= :daySince GROUP BY date_trunc('day', created_date) " +
+                   "UNION ALL SELECT 'DAY', date_trunc('day', created_date), 'PROPERTY', 'TYPE', property_type, COUNT(*) " +
+                   "FROM properties WHERE created_date >= :daySince GROUP BY date_trunc('day', created_date), property_type" +
+                   RECORDED_ROLLUPS + "'PROPERTY'" + RECORDED_DELTAS + "'PROPERTY'" +
+                   CORRECTION_END,
+           nativeQuery = true)
+    int correctPropertyCounts(@Param("hourSince") LocalDateTime hourSince, @Param("daySince") LocalDateTime daySince);
+
+    @Modifying
+    @Query(value = CORRECTION +
+                   "SELECT " + TOTAL + "'TRANSACTION', 'ALL', '', COUNT(*) FROM transaction.transactions " +
+                   "UNION ALL SELECT " + TOTAL + "'TRANSACTION', 'STATUS', status, COUNT(*) " +
+                   "FROM transaction.transactions GROUP BY status " +
+                   "UNION ALL SELECT 'HOUR', date_trunc('hour', created_at), 'TRANSACTION', 'ALL', '', COUNT(*) " +
+                   "FROM transaction.transactions WHERE created_at >= :hourSince GROUP BY date_trunc('hour', created_at) " +
+                   "UNION ALL SELECT 'DAY', date_trunc('day', created_at), 'TRANSACTION', 'ALL', '', COUNT(*) " +
+                   "FROM transaction.transactions WHERE created_at >= :daySince GROUP BY date_trunc('day', created_at) " +
+                   "UNION ALL SELECT 'HOUR', date_trunc('hour', contract_completed_at), 'TRANSACTION', 'STATUS', 'COMPLETED', COUNT(*) " +
+                   "FROM transaction.transactions WHERE status = 'COMPLETED' AND contract_completed_at >= :hourSince " +
+                   "GROUP BY date_trunc('hour', contract_completed_at) " +
+                   "UNION ALL SELECT 'DAY', date_trunc('day', contract_completed_at), 'TRANSACTION', 'STATUS', 'COMPLETED', COUNT(*) " +
+                   "FROM transaction.transactions WHERE status = 'COMPLETED' AND contract_completed_at >= :daySince " +
+                   "GROUP BY date_trunc('day', contract_completed_at)" +
+                   RECORDED_ROLLUPS + "'TRANSACTION'" + RECORDED_DELTAS + "'TRANSACTION'" +
+                   CORRECTION_END,
+           nativeQuery = true)
+    int correctTransactionCounts(@Param("hourSince") LocalDateTime hourSince, @Param("daySince") LocalDateTime daySince);
+
+    @Modifying
+    @Query(value = CORRECTION +
+                   "SELECT " + TOTAL + "'VIEWING', 'ALL', '', COUNT(*) FROM viewings " +
+                   "UNION ALL SELECT " + TOTAL + "'VIEWING', 'STATUS', status, COUNT(*) FROM viewings GROUP BY status " +
+                   "UNION ALL SELECT 'HOUR', date_trunc('hour', created_at), 'VIEWING', 'ALL', '', COUNT(*) " +
+                   "FROM viewings WHERE created_at >= :hourSince GROUP BY date_trunc('hour', created_at) " +
+                   "UNION ALL SELECT 'DAY', date_trunc('day', created_at), 'VIEWING', 'ALL', '', COUNT(*) " +
+                   "FROM viewings WHERE created_at >= :daySince GROUP BY date_trunc('day', created_at) " +
+                   "UNION ALL SELECT 'HOUR', date_trunc('hour', completed_at), 'VIEWING', 'STATUS', 'COMPLETED', COUNT(*) " +
+                   "FROM viewings WHERE status = 'COMPLETED' AND completed_at >= :hourSince GROUP BY date_trunc('hour', completed_at) " +
+                   "UNION ALL SELECT 'DAY', date_trunc('day', completed_at), 'VIEWING', 'STATUS', 'COMPLETED', COUNT(*) " +
+                   "FROM viewings WHERE status = 'COMPLETED' AND completed_at >= :daySince GROUP BY date_trunc('day', completed_at)" +
+                   RECORDED_ROLLUPS + "'VIEWING'" + RECORDED_DELTAS + "'VIEWING'" +
+                   CORRECTION_END,
+           nativeQuery = true)
+    int correctViewingCounts(@Param("hourSince") LocalDateTime hourSince, @Param("daySince") LocalDateTime daySince);
+}
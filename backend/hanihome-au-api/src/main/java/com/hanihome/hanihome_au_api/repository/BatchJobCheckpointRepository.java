@@ -0,0 +1,20 @@
+package com.hanihome.hanihome_au_api.repository;
+
+import com.hanihome.hanihome_au_api.domain.entity.BatchJobCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, String> {
+
+    // Checkpoint locked for the rest of the transaction, so lease checks and progress updates are serialized across nodes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM BatchJobCheckpoint c WHERE c.jobName = :jobName")
+    Optional<BatchJobCheckpoint> findForUpdate(@Param("jobName") String jobName);
+}
@@ -0,0 +1,95 @@
+package com.hanihome.hanihome_au_api.repository;
+
+import com.hanihome.hanihome_au_api.domain.entity.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    /**
+     * 블롭 참조 획득 - 없으면 생성, 있으면 참조 카운트 증가 (동시 업로드에도 안전)
+     * 갱신/삽입한 행은 트랜잭션 끝까지 잠기므로, 이 안에서 파일을 게시하면 GC 삭제와 겹치지 않음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_blobs (content_hash, relative_path, file_size, content_type, ref_count, " +
+                   "renditions_ready, created_at) " +
+                   "VALUES (:hash, :relativePath, :fileSize, :contentType, 1, FALSE, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (content_hash) DO UPDATE SET ref_count = image_blobs.ref_count + 1",
+           nativeQuery = true)
+    int acquire(@Param("hash") String hash,
+                @Param("relativePath") String relativePath,
+                @Param("fileSize") long fileSize,
+                @Param("contentType") String contentType);
+
+    /**
+     * 행 없이 디스크에만 남은 블롭 파일(롤백된 업로드 등)을 참조 0 블롭으로 등록해 GC 대상으로 만듦
+     * 진행 중인 업로드가 같은 해시를 삽입했다면 그 커밋을 기다린 뒤 아무것도 하지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO image_blobs (content_hash, relative_path, file_size, ref_count, renditions_ready, " +
+                   "created_at, last_released_at) " +
+                   "VALUES (:hash, :relativePath, :fileSize, 0, FALSE, CURRENT_TIMESTAMP, :releasedAt) " +
+                   "ON CONFLICT (content_hash) DO NOTHING",
+           nativeQuery = true)
+    int adoptOrphan(@Param("hash") String hash,
+                    @Param("relativePath") String relativePath,
+                    @Param("fileSize") long fileSize,
+                    @Param("releasedAt") LocalDateTime releasedAt);
+
+    /**
+     * 블롭 참조 해제 - 0 이 되어도 즉시 삭제하지 않고 GC 스윕에 맡김
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount - :count, b.lastReleasedAt = :releasedAt " +
+           "WHERE b.contentHash = :hash")
+    int release(@Param("hash") String hash, @Param("count") int count, @Param("releasedAt") LocalDateTime releasedAt);
+
+    /**
+     * 렌디션 생성 완료 기록 - 이후 같은 해시 업로드는 재인코딩 생략
+     * 이미지 파이프라인 워커 스레드에서 트랜잭션 없이 호출되므로 자체 트랜잭션 사용
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.thumbnailUrl = :thumbnailUrl, b.cardUrl = :cardUrl, b.fullUrl = :fullUrl, " +
+           "b.webpUrl = :webpUrl, b.renditionsReady = true WHERE b.contentHash = :hash")
+    int markRenditionsReady(@Param("hash") String hash,
+                            @Param("thumbnailUrl") String thumbnailUrl,
+                            @Param("cardUrl") String cardUrl,
+                            @Param("fullUrl") String fullUrl,
+                            @Param("webpUrl") String webpUrl);
+
+    /**
+     * 블롭 행을 잠그고 조회 (고아 파일 정리 시 업로드와 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ImageBlob b WHERE b.contentHash = :hash")
+    Optional<ImageBlob> findByIdForUpdate(@Param("hash") String hash);
+
+    /**
+     * GC 대상 블롭 조회 (참조 없음 + 유예 기간 경과)
+     */
+    @Query("SELECT b FROM ImageBlob b WHERE b.refCount <= 0 AND b.lastReleasedAt < :cutoff ORDER BY b.lastReleasedAt")
+    List<ImageBlob> findUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 조회 이후 다시 참조되지 않은 경우에만 삭제
+     * 삭제한 행은 트랜잭션 끝까지 잠기므로 같은 해시의 업로드는 GC 가 파일을 지우고 커밋할 때까지 대기
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.contentHash = :hash AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("hash") String hash);
+}
@@ -0,0 +1,98 @@
+package com.hanihome.hanihome_au_api.repository;
+
+import com.hanihome.hanihome_au_api.domain.entity.ModerationTargetStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ModerationTargetStatsRepository extends JpaRepository<ModerationTargetStats, String> {
+
+    /**
+     * 노드별 변경분(delta)을 누적 반영
+     * 행이 없으면 initialReports 로 생성하고, 있으면 다른 노드의 변경분을 덮어쓰지 않도록 delta 만 더함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO moderation_target_stats (target_key, active_reports, last_report_at, updated_at) " +
+                   "VALUES (:targetKey, GREATEST(0, :initialReports), :lastReportAt, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (target_key) DO UPDATE SET " +
+                   "active_reports = GREATEST(0, moderation_target_stats.active_reports + :delta), " +
+                   "last_report_at = GREATEST(moderation_target_stats.last_report_at, EXCLUDED.last_report_at), " +
+                   "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    void upsertDelta(@Param("targetKey") String targetKey,
+                     @Param("initialReports") int initialReports,
+                     @Param("delta") int delta,
+                     @Param("lastReportAt") LocalDateTime lastReportAt);
+
+    /**
+     * 노드별 시간 버킷 신고 수 변경분을 누적 반영
+     */
+    @Modifying
+    @Query(value = "INSERT INTO moderation_target_windows (target_key, bucket_hour, report_count) " +
+                   "VALUES (:targetKey, :bucketHour, :delta) " +
+                   "ON CONFLICT (target_key, bucket_hour) DO UPDATE SET " +
+                   "report_count = moderation_target_windows.report_count + EXCLUDED.report_count",
+           nativeQuery = true)
+    void upsertWindowDelta(@Param("targetKey") String targetKey,
+                           @Param("bucketHour") LocalDateTime bucketHour,
+                           @Param("delta") int delta);
+
+    /**
+     * 대상의 since 이후 시간 버킷 [bucket_hour, report_count]
+     */
+    @Query(value = "SELECT bucket_hour, report_count FROM moderation_target_windows " +
+                   "WHERE target_key = :targetKey AND bucket_hour >= :since",
+           nativeQuery = true)
+    List<Object[]> findWindowBuckets(@Param("targetKey") String targetKey, @Param("since") LocalDateTime since);
+
+    /**
+     * [since, completeBefore) 의 시간 버킷을 reports 테이블 기준으로 재계산
+     * completeBefore 는 모든 노드의 체크포인트가 끝난 시각 이전의 정시여야 함
+     * @return 보정된 버킷 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO moderation_target_windows (target_key, bucket_hour, report_count) " +
+                   "SELECT target_type || ':' || target_id, date_trunc('hour', created_at), COUNT(*) " +
+                   "FROM reports WHERE created_at >= :since AND created_at < :completeBefore " +
+                   "GROUP BY 1, 2 " +
+                   "ON CONFLICT (target_key, bucket_hour) DO UPDATE SET report_count = EXCLUDED.report_count " +
+                   "WHERE moderation_target_windows.report_count <> EXCLUDED.report_count",
+           nativeQuery = true)
+    int reconcileWindowsFromReports(@Param("since") LocalDateTime since,
+                                    @Param("completeBefore") LocalDateTime completeBefore);
+
+    /**
+     * 윈도우를 벗어난 시간 버킷 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM moderation_target_windows WHERE bucket_hour < :before", nativeQuery = true)
+    int deleteWindowsBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * reports 테이블 기준으로 유효 신고 수 재계산
+     * 최근 체크포인트가 기록된 행은 아직 반영 중인 변경분이 있을 수 있어 quietBefore 이전 행만 보정
+     * @return 보정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "WITH counts AS (" +
+                   "  SELECT s.target_key, (SELECT COUNT(*) FROM reports r " +
+                   "    WHERE r.target_type = split_part(s.target_key, ':', 1) " +
+                   "      AND r.target_id = CAST(split_part(s.target_key, ':', 2) AS BIGINT) " +
+                   "      AND r.status NOT IN (:inactiveStatuses)) AS active " +
+                   "  FROM moderation_target_stats s WHERE s.updated_at < :quietBefore) " +
+                   "UPDATE moderation_target_stats s SET active_reports = counts.active " +
+                   "FROM counts WHERE s.target_key = counts.target_key AND s.active_reports <> counts.active",
+           nativeQuery = true)
+    int reconcileFromReports(@Param("quietBefore") LocalDateTime quietBefore,
+                             @Param("inactiveStatuses") List<String> inactiveStatuses);
+}
@@ -1,10 +1,13 @@
 package com.hanihome.hanihome_au_api.repository;
 
 import com.hanihome.hanihome_au_api.domain.entity.PropertyImage;
+import com.hanihome.hanihome_au_api.domain.enums.ImageProcessingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -32,4 +35,28 @@ public interface PropertyImageRepository extends JpaRepository<PropertyImage, Lo
 
     @Query("SELECT pi FROM PropertyImage pi WHERE pi.propertyId IN :propertyIds AND pi.isMain = true")
     List<PropertyImage> findMainImagesByPropertyIds(@Param("propertyIds") List<Long> propertyIds);
-}
\ No newline at end of file
+
+    /**
+     * 렌디션 생성 결과만 기록 - 처리 중에 바뀐 대표 이미지/순서/설명은 건드리지 않고, 삭제된 행은 갱신되지 않음
+     * 이미지 파이프라인 워커 스레드에서 트랜잭션 없이 호출되므로 자체 트랜잭션 사용
+     * @return 갱신된 행 수 (처리 중 삭제된 이미지는 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PropertyImage pi SET pi.thumbnailUrl = :thumbnailUrl, pi.cardUrl = :cardUrl, " +
+           "pi.fullUrl = :fullUrl, pi.webpUrl = :webpUrl, pi.processingStatus = :status WHERE pi.id IN :ids")
+    int updateRenditions(@Param("ids") List<Long> ids,
+                         @Param("thumbnailUrl") String thumbnailUrl,
+                         @Param("cardUrl") String cardUrl,
+                         @Param("fullUrl") String fullUrl,
+                         @Param("webpUrl") String webpUrl,
+                         @Param("status") ImageProcessingStatus status);
+
+    /**
+     * 처리 상태만 기록 (렌디션 생성 실패 시)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PropertyImage pi SET pi.processingStatus = :status WHERE pi.id IN :ids")
+    int updateProcessingStatus(@Param("ids") List<Long> ids, @Param("status") ImageProcessingStatus status);
+}
@@ -80,6 +80,16 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     List<Report> findCandidatesForAutoModeration(@Param("autoModeratedTypes") List<ReportType> autoModeratedTypes, 
                                                  @Param("status") ReportStatus status);
 
+    @Query("SELECT r FROM Report r WHERE r.autoModerated = false AND r.reportType IN :autoModeratedTypes " +
+           "AND r.status = :status AND r.createdAt < :createdBefore ORDER BY r.createdAt ASC")
+    List<Report> findMissedAutoModerationCandidates(@Param("autoModeratedTypes") List<ReportType> autoModeratedTypes,
+                                                    @Param("status") ReportStatus status,
+                                                    @Param("createdBefore") LocalDateTime createdBefore,
+                                                    Pageable pageable);
+
+    @Query("SELECT r.status, COUNT(r) FROM Report r WHERE r.reporterId = :reporterId GROUP BY r.status")
+    List<Object[]> getStatusCountsByReporter(@Param("reporterId") Long reporterId);
+
     // Admin dashboard queries
     @Query("SELECT COUNT(r) FROM Report r WHERE r.assignedAdminId = :adminId AND r.status IN :activeStatuses")
     Long countAssignedActiveReports(@Param("adminId") Long adminId, @Param("activeStatuses") List<ReportStatus> activeStatuses);
@@ -0,0 +1,54 @@
+package com.hanihome.hanihome_au_api.repository;
+
+import com.hanihome.hanihome_au_api.domain.entity.ReporterCredibility;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReporterCredibilityRepository extends JpaRepository<ReporterCredibility, Long> {
+
+    /**
+     * 노드별 변경분(delta)을 누적 반영
+     * 행이 없으면 initial 값으로 생성하고, 있으면 delta 만 더함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO reporter_credibility (reporter_id, upheld_reports, rejected_reports, updated_at) " +
+                   "VALUES (:reporterId, :initialUpheld, :initialRejected, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (reporter_id) DO UPDATE SET " +
+                   "upheld_reports = GREATEST(0, reporter_credibility.upheld_reports + :upheldDelta), " +
+                   "rejected_reports = GREATEST(0, reporter_credibility.rejected_reports + :rejectedDelta), " +
+                   "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    void upsertDelta(@Param("reporterId") Long reporterId,
+                     @Param("initialUpheld") int initialUpheld,
+                     @Param("initialRejected") int initialRejected,
+                     @Param("upheldDelta") int upheldDelta,
+                     @Param("rejectedDelta") int rejectedDelta);
+
+    /**
+     * reports 테이블의 현재 처리 상태 기준으로 인용/기각 수 재계산 (quietBefore 이전에 기록된 행만)
+     * @return 보정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "WITH counts AS (" +
+                   "  SELECT c.reporter_id, " +
+                   "    COUNT(r.id) FILTER (WHERE r.status IN (:upheldStatuses)) AS upheld, " +
+                   "    COUNT(r.id) FILTER (WHERE r.status IN (:rejectedStatuses)) AS rejected " +
+                   "  FROM reporter_credibility c LEFT JOIN reports r ON r.reporter_id = c.reporter_id " +
+                   "  WHERE c.updated_at < :quietBefore GROUP BY c.reporter_id) " +
+                   "UPDATE reporter_credibility c SET upheld_reports = counts.upheld, rejected_reports = counts.rejected " +
+                   "FROM counts WHERE c.reporter_id = counts.reporter_id " +
+                   "AND (c.upheld_reports <> counts.upheld OR c.rejected_reports <> counts.rejected)",
+           nativeQuery = true)
+    int reconcileFromReports(@Param("quietBefore") LocalDateTime quietBefore,
+                             @Param("upheldStatuses") List<String> upheldStatuses,
+                             @Param("rejectedStatuses") List<String> rejectedStatuses);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,26 +27,82 @@ public interface SearchHistoryRepository extends JpaRepository<SearchHistory, Lo
      */
     Page<SearchHistory> findByUserIdAndIsSavedTrueOrderByLastUsedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * Saved searches of all users in id order (keyset pages for the saved-search alert index)
+     */
+    List<SearchHistory> findByIsSavedTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Total search count per keyword across users as [lower-cased keyword, count], most searched first
+     */
+    @Query(value = "SELECT lower(trim(filters->>'keyword')) AS term, SUM(COALESCE(search_count, 1)) AS total " +
+                   "FROM search_history WHERE length(trim(filters->>'keyword')) > 0 " +
+                   "GROUP BY 1 ORDER BY 2 DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> sumSearchCountsByKeyword(@Param("limit") int limit);
+
+    /**
+     * Total search count per city filter across users as [lower-cased city, count], most searched first
+     */
+    @Query(value = "SELECT lower(trim(filters->>'city')) AS term, SUM(COALESCE(search_count, 1)) AS total " +
+                   "FROM search_history WHERE length(trim(filters->>'city')) > 0 " +
+                   "GROUP BY 1 ORDER BY 2 DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> sumSearchCountsByCity(@Param("limit") int limit);
+
     /**
      * Find recent search history by user ID (non-saved)
      */
     Page<SearchHistory> findByUserIdAndIsSavedFalseOrderByLastUsedAtDesc(Long userId, Pageable pageable);
 
     /**
-     * Find similar search by user ID and search criteria hash
+     * Insert a buffered search, or add its count to the user's unsaved row with the same criteria
+     * Relies on the partial unique index on (user_id, criteria_hash) WHERE is_saved = false
      */
-    @Query("SELECT sh FROM SearchHistory sh WHERE sh.userId = :userId " +
-           "AND sh.keyword = :keyword " +
-           "AND sh.city = :city " +
-           "AND sh.minRentPrice = :minRentPrice " +
-           "AND sh.maxRentPrice = :maxRentPrice " +
-           "AND sh.isSaved = false " +
-           "ORDER BY sh.lastUsedAt DESC")
-    Optional<SearchHistory> findSimilarSearch(@Param("userId") Long userId,
-                                            @Param("keyword") String keyword,
-                                            @Param("city") String city,
-                                            @Param("minRentPrice") java.math.BigDecimal minRentPrice,
-                                            @Param("maxRentPrice") java.math.BigDecimal maxRentPrice);
+    @Modifying
+    @Query(value = "INSERT INTO search_history (user_id, filters, is_saved, search_count, last_used_at, " +
+                   "criteria_hash, created_at, updated_at) " +
+                   "VALUES (:userId, CAST(:filters AS jsonb), false, :searchCount, :lastUsedAt, :criteriaHash, " +
+                   "now(), now()) " +
+                   "ON CONFLICT (user_id, criteria_hash) WHERE is_saved = false DO UPDATE SET " +
+                   "search_count = COALESCE(search_history.search_count, 0) + EXCLUDED.search_count, " +
+                   "last_used_at = GREATEST(search_history.last_used_at, EXCLUDED.last_used_at), " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int upsertUnsaved(@Param("userId") Long userId, @Param("filters") String filters,
+                      @Param("criteriaHash") String criteriaHash, @Param("searchCount") int searchCount,
+                      @Param("lastUsedAt") LocalDateTime lastUsedAt);
+
+    /**
+     * Rows recorded before criteria_hash existed, in id order (keyset pages for the startup backfill)
+     */
+    List<SearchHistory> findByCriteriaHashIsNullAndIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Set the criteria hash of a row without touching its other columns (counts may be merged concurrently)
+     */
+    @Modifying
+    @Query(value = "UPDATE search_history sh SET criteria_hash = :criteriaHash " +
+                   "WHERE sh.id = :id AND sh.criteria_hash IS NULL AND (sh.is_saved = true OR NOT EXISTS (" +
+                   "SELECT 1 FROM search_history o WHERE o.user_id = sh.user_id " +
+                   "AND o.criteria_hash = :criteriaHash AND o.is_saved = false))",
+           nativeQuery = true)
+    int setCriteriaHashIfMissing(@Param("id") Long id, @Param("criteriaHash") String criteriaHash);
+
+    /**
+     * Fold a not yet hashed unsaved row into the user's row that already has its criteria hash, then delete it
+     * Used by the backfill when setting the hash would break the (user_id, criteria_hash) unique index
+     */
+    @Modifying
+    @Query(value = "WITH merged AS (DELETE FROM search_history WHERE id = :id AND criteria_hash IS NULL " +
+                   "AND is_saved = false RETURNING user_id, search_count, last_used_at) " +
+                   "UPDATE search_history sh SET " +
+                   "search_count = COALESCE(sh.search_count, 0) + COALESCE(merged.search_count, 1), " +
+                   "last_used_at = GREATEST(sh.last_used_at, merged.last_used_at) " +
+                   "FROM merged WHERE sh.user_id = merged.user_id AND sh.criteria_hash = :criteriaHash " +
+                   "AND sh.is_saved = false",
+           nativeQuery = true)
+    int mergeIntoHashedRow(@Param("id") Long id, @Param("criteriaHash") String criteriaHash);
 
     /**
      * Find most frequent searches by user
@@ -74,6 +131,36 @@ public interface SearchHistoryRepository extends JpaRepository<SearchHistory, Lo
            "AND sh.createdAt < :cutoffDate")
     int deleteOldSearchHistory(@Param("userId") Long userId, @Param("cutoffDate") LocalDateTime cutoffDate);
 
+    /**
+     * Unsaved entries not used since the cutoff, one chunk at a time
+     */
+    @Query("SELECT sh.id FROM SearchHistory sh WHERE sh.isSaved = false AND sh.lastUsedAt < :cutoffDate ORDER BY sh.id")
+    List<Long> findExpiredIds(@Param("cutoffDate") LocalDateTime cutoffDate, Pageable pageable);
+
+    /**
+     * Users whose unsaved history exceeds the per-user cap
+     */
+    @Query("SELECT sh.userId FROM SearchHistory sh WHERE sh.isSaved = false " +
+           "GROUP BY sh.userId HAVING COUNT(sh) > :maxPerUser")
+    List<Long> findUserIdsOverCap(@Param("maxPerUser") long maxPerUser);
+
+    /**
+     * Unsaved entries beyond the most recent maxPerUser of each given user
+     */
+    @Query(value = "SELECT id FROM (SELECT id, ROW_NUMBER() OVER " +
+                   "(PARTITION BY user_id ORDER BY last_used_at DESC, id DESC) AS rn " +
+                   "FROM search_history WHERE is_saved = false AND user_id IN (:userIds)) ranked " +
+                   "WHERE rn > :maxPerUser",
+           nativeQuery = true)
+    List<Long> findIdsOverCap(@Param("userIds") Collection<Long> userIds, @Param("maxPerUser") int maxPerUser);
+
+    /**
+     * Bulk delete by id; Hibernate clears the element collection tables first
+     */
+    @Modifying
+    @Query("DELETE FROM SearchHistory sh WHERE sh.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Delete all non-saved search history for user
      */
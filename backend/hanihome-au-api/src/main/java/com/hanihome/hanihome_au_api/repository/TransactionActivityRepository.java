@@ -50,26 +50,37 @@ public interface TransactionActivityRepository extends JpaRepository<Transaction
     List<TransactionActivity> searchByDescription(@Param("searchTerm") String searchTerm);
     
     // Find activities for audit trail
-    @Query("SELECT ta FROM TransactionActivity ta WHERE ta.transactionId = :transactionId " +
+    @Query("SELECT ta FROM TransactionActivity ta WHERE ta.transaction.id = :transactionId " +
            "AND ta.activityType IN :activityTypes ORDER BY ta.createdAt ASC")
     List<TransactionActivity> findAuditTrail(@Param("transactionId") Long transactionId, 
                                            @Param("activityTypes") List<TransactionActivityType> activityTypes);
     
     // Count activities by type for transaction
-    @Query("SELECT COUNT(ta) FROM TransactionActivity ta WHERE ta.transactionId = :transactionId " +
+    @Query("SELECT COUNT(ta) FROM TransactionActivity ta WHERE ta.transaction.id = :transactionId " +
            "AND ta.activityType = :activityType")
     Long countByTransactionIdAndActivityType(@Param("transactionId") Long transactionId, 
                                            @Param("activityType") TransactionActivityType activityType);
     
     // Find latest activity for transaction
-    @Query("SELECT ta FROM TransactionActivity ta WHERE ta.transactionId = :transactionId " +
+    @Query("SELECT ta FROM TransactionActivity ta WHERE ta.transaction.id = :transactionId " +
            "ORDER BY ta.createdAt DESC LIMIT 1")
     TransactionActivity findLatestActivityByTransactionId(@Param("transactionId") Long transactionId);
     
     // Find activities for timeline view
-    @Query("SELECT ta FROM TransactionActivity ta WHERE ta.transactionId = :transactionId " +
-           "AND ta.activityType IN ('TRANSACTION_CREATED', 'OFFER_MADE', 'COUNTER_OFFER_MADE', " +
-           "'OFFER_ACCEPTED', 'CONTRACT_REQUESTED', 'CONTRACT_SIGNED', 'CONTRACT_COMPLETED', " +
-           "'TRANSACTION_CANCELLED', 'STATUS_CHANGED') ORDER BY ta.createdAt ASC")
-    List<TransactionActivity> findTimelineActivities(@Param("transactionId") Long transactionId);
+    @Query("SELECT ta FROM TransactionActivity ta WHERE ta.transaction.id = :transactionId " +
+           "AND ta.activityType IN :activityTypes ORDER BY ta.createdAt ASC, ta.id ASC")
+    List<TransactionActivity> findTimelineActivities(@Param("transactionId") Long transactionId,
+                                                    @Param("activityTypes") List<TransactionActivityType> activityTypes,
+                                                    Pageable pageable);
+    
+    // Next timeline page after (createdAt, id) of the last row already returned
+    @Query("SELECT ta FROM TransactionActivity ta WHERE ta.transaction.id = :transactionId " +
+           "AND ta.activityType IN :activityTypes " +
+           "AND (ta.createdAt > :afterCreatedAt OR (ta.createdAt = :afterCreatedAt AND ta.id > :afterId)) " +
+           "ORDER BY ta.createdAt ASC, ta.id ASC")
+    List<TransactionActivity> findTimelineActivitiesAfter(@Param("transactionId") Long transactionId,
+                                                         @Param("activityTypes") List<TransactionActivityType> activityTypes,
+                                                         @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
 }
\ No newline at end of file
@@ -2,7 +2,10 @@ package com.hanihome.hanihome_au_api.repository;
 
 import com.hanihome.hanihome_au_api.domain.entity.TransactionFinancialInfo;
 import com.hanihome.hanihome_au_api.domain.enums.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -92,4 +95,16 @@ public interface TransactionFinancialInfoRepository extends JpaRepository<Transa
            "(tfi.landlordBankAccountEncrypted IS NULL OR tfi.tenantBankAccountEncrypted IS NULL) " +
            "AND (tfi.bondPaymentStatus = 'PENDING' OR tfi.firstRentPaymentStatus = 'PENDING')")
     List<TransactionFinancialInfo> findTransactionsNeedingBankDetails();
-}
\ No newline at end of file
+    
+    // Next chunk of rows holding encrypted bank details, locked so re-encryption cannot overwrite a concurrent update
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tfi FROM TransactionFinancialInfo tfi WHERE tfi.id > :afterId " +
+           "AND (tfi.landlordBankAccountEncrypted IS NOT NULL OR tfi.tenantBankAccountEncrypted IS NOT NULL) " +
+           "ORDER BY tfi.id ASC")
+    List<TransactionFinancialInfo> findEncryptedChunkForUpdate(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Next validation chunk after the last processed id, locked so the validation result cannot overwrite a concurrent update
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tfi FROM TransactionFinancialInfo tfi WHERE tfi.id > :afterId ORDER BY tfi.id ASC")
+    List<TransactionFinancialInfo> findChunkForUpdate(@Param("afterId") Long afterId, Pageable pageable);
+}
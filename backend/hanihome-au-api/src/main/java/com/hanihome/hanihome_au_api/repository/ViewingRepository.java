@@ -5,6 +5,7 @@ import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -71,13 +72,22 @@ public interface ViewingRepository extends JpaRepository<Viewing, Long> {
                                          @Param("excludeViewingId") Long excludeViewingId);
 
     /**
-     * Find upcoming viewings for reminders
+     * Find upcoming viewings whose reminder has not been sent yet
      */
     @Query("SELECT v FROM Viewing v WHERE v.status = 'CONFIRMED' " +
-           "AND v.scheduledAt BETWEEN :startTime AND :endTime")
+           "AND v.scheduledAt BETWEEN :startTime AND :endTime " +
+           "AND v.reminderSentAt IS NULL")
     List<Viewing> findUpcomingConfirmedViewings(@Param("startTime") LocalDateTime startTime,
                                                @Param("endTime") LocalDateTime endTime);
 
+    /**
+     * Claim one viewing's reminder; returns 0 when it was rescheduled, cancelled or already reminded meanwhile
+     */
+    @Modifying
+    @Query("UPDATE Viewing v SET v.reminderSentAt = :sentAt, v.version = v.version + 1 " +
+           "WHERE v.id = :id AND v.status = 'CONFIRMED' AND v.reminderSentAt IS NULL")
+    int markReminderSent(@Param("id") Long id, @Param("sentAt") LocalDateTime sentAt);
+
     /**
      * Find overdue viewings that need to be marked as completed or no-show
      */
@@ -1,8 +1,6 @@
 package com.hanihome.hanihome_au_api.security;
 
-import com.hanihome.hanihome_au_api.domain.user.entity.User;
 import com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole;
-import com.hanihome.hanihome_au_api.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.PermissionEvaluator;
@@ -10,14 +8,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
-import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CustomPermissionEvaluator implements PermissionEvaluator {
 
-    private final UserService userService;
+    private final RoleAuthorization roleAuthorization;
 
     @Override
     public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
@@ -26,17 +23,8 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
         }
 
         try {
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
-            
-            if (userOpt.isEmpty()) {
-                return false;
-            }
-            
-            User user = userOpt.get();
-            
             if (permission instanceof String permissionString) {
-                return user.hasPermission(permissionString);
+                return roleAuthorization.hasPermission(authentication, permissionString);
             }
             
             return false;
@@ -53,22 +41,20 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
         }
 
         try {
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
+            UserRole role = roleAuthorization.resolveRole(authentication);
             
-            if (userOpt.isEmpty()) {
+            if (role == null) {
                 return false;
             }
             
-            User user = userOpt.get();
-            
             // Handle specific resource-based permissions
             return switch (targetType.toLowerCase()) {
-                case "property" -> evaluatePropertyPermission(user, targetId, permission);
-                case "user" -> evaluateUserPermission(user, targetId, permission);
-                case "application" -> evaluateApplicationPermission(user, targetId, permission);
-                case "review" -> evaluateReviewPermission(user, targetId, permission);
-                case "payment" -> evaluatePaymentPermission(user, targetId, permission);
+                case "property" -> evaluatePropertyPermission(role, targetId, permission);
+                case "user" -> evaluateUserPermission(role, roleAuthorization.resolveUserId(authentication),
+                        targetId, permission);
+                case "application" -> evaluateApplicationPermission(role, targetId, permission);
+                case "review" -> evaluateReviewPermission(role, targetId, permission);
+                case "payment" -> evaluatePaymentPermission(role, targetId, permission);
                 default -> hasPermission(authentication, null, permission);
             };
         } catch (Exception e) {
@@ -77,25 +63,23 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
         }
     }
 
-    private boolean evaluatePropertyPermission(User user, Serializable propertyId, Object permission) {
+    private boolean evaluatePropertyPermission(UserRole role, Serializable propertyId, Object permission) {
         if (permission instanceof String permissionString) {
-            return user.canManageProperty() || 
-                   (permissionString.contains("READ") && user.getRole() == UserRole.TENANT);
+            return role.canManageProperty() || 
+                   (permissionString.contains("READ") && role == UserRole.TENANT);
         }
         return false;
     }
 
-    private boolean evaluateUserPermission(User user, Serializable targetUserId, Object permission) {
-        UserRole role = user.getRole();
-        
+    private boolean evaluateUserPermission(UserRole role, Long currentUserId, Serializable targetUserId,
+                                           Object permission) {
         // Admin has full user management access
         if (role == UserRole.ADMIN) {
             return true;
         }
 
         // Users can read/update their own information
-        Long currentUserId = user.getId().getValue();
-        if (currentUserId.equals(targetUserId)) {
+        if (currentUserId != null && currentUserId.equals(targetUserId)) {
             return permission instanceof String permString && 
                    (permString.contains("READ") || permString.contains("UPDATE"));
         }
@@ -108,19 +92,16 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
         return false;
     }
 
-    private boolean evaluateApplicationPermission(User user, Serializable applicationId, Object permission) {
-        UserRole role = user.getRole();
+    private boolean evaluateApplicationPermission(UserRole role, Serializable applicationId, Object permission) {
         return role == UserRole.ADMIN || role == UserRole.AGENT || role == UserRole.LANDLORD || 
                (role == UserRole.TENANT && permission instanceof String permString && permString.contains("READ"));
     }
 
-    private boolean evaluateReviewPermission(User user, Serializable reviewId, Object permission) {
-        UserRole role = user.getRole();
+    private boolean evaluateReviewPermission(UserRole role, Serializable reviewId, Object permission) {
         return role == UserRole.ADMIN || role == UserRole.AGENT || role == UserRole.LANDLORD || role == UserRole.TENANT;
     }
 
-    private boolean evaluatePaymentPermission(User user, Serializable paymentId, Object permission) {
-        UserRole role = user.getRole();
+    private boolean evaluatePaymentPermission(UserRole role, Serializable paymentId, Object permission) {
         return role == UserRole.ADMIN || role == UserRole.AGENT || 
                (role == UserRole.LANDLORD && permission instanceof String permString && 
                 (permString.contains("READ") || permString.contains("REFUND"))) ||
@@ -0,0 +1,57 @@
+package com.hanihome.hanihome_au_api.security;
+
+import com.hanihome.hanihome_au_api.domain.user.entity.User;
+import com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole;
+import com.hanihome.hanihome_au_api.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 역할 기반 권한 검사 (CustomPermissionEvaluator, SecurityExpressionHandler 공용)
+ * - 역할은 JwtAuthenticationFilter 가 요청마다 채운 UserPrincipal 에서 읽으므로 검사마다 사용자 조회가 없음
+ * - 권한 검사는 역할의 권한 이름 집합 조회 한 번 (domain.user.valueobject.UserRole)
+ * - principal 에 역할이 없는 인증만 사용자 저장소에서 역할을 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleAuthorization {
+
+    private final UserService userService;
+
+    /**
+     * @return the role of the authenticated user, or null when unauthenticated or unknown
+     */
+    public UserRole resolveRole(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && principal.getRole() != null) {
+            return UserRole.valueOf(principal.getRole());
+        }
+        return userService.findById(Long.parseLong(authentication.getName()))
+                .map(User::getRole)
+                .orElse(null);
+    }
+
+    /**
+     * @return the id of the authenticated user, or null when unauthenticated
+     */
+    public Long resolveUserId(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && principal.getId() != null) {
+            return principal.getId();
+        }
+        return Long.parseLong(authentication.getName());
+    }
+
+    /**
+     * Same string semantics as User.hasPermission: the role's permission names, or ALL_PERMISSIONS
+     */
+    public boolean hasPermission(Authentication authentication, String permission) {
+        UserRole role = resolveRole(authentication);
+        return role != null && role.hasPermission(permission);
+    }
+}
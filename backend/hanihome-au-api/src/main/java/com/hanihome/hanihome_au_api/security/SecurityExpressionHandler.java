@@ -1,39 +1,23 @@
 package com.hanihome.hanihome_au_api.security;
 
-import com.hanihome.hanihome_au_api.domain.user.entity.User;
 import com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole;
-import com.hanihome.hanihome_au_api.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 @Slf4j
 @Component("securityExpressionHandler")
 @RequiredArgsConstructor
 public class SecurityExpressionHandler {
 
-    private final UserService userService;
+    private final RoleAuthorization roleAuthorization;
 
     public boolean hasPermission(String permission) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return false;
-            }
-
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
-            
-            if (userOpt.isEmpty()) {
-                return false;
-            }
-            
-            User user = userOpt.get();
-            return user.hasPermission(permission);
+            return roleAuthorization.hasPermission(authentication, permission);
         } catch (Exception e) {
             log.error("Error checking permission {}: {}", permission, e.getMessage());
             return false;
@@ -42,21 +26,8 @@ public class SecurityExpressionHandler {
 
     public boolean hasRole(String role) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return false;
-            }
-
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
-            
-            if (userOpt.isEmpty()) {
-                return false;
-            }
-            
-            User user = userOpt.get();
-            
-            return user.getRole().name().equals(role);
+            UserRole userRole = roleAuthorization.resolveRole(SecurityContextHolder.getContext().getAuthentication());
+            return userRole != null && userRole.name().equals(role);
         } catch (Exception e) {
             log.error("Error checking role {}: {}", role, e.getMessage());
             return false;
@@ -64,8 +35,12 @@ public class SecurityExpressionHandler {
     }
 
     public boolean hasAnyRole(String... roles) {
+        UserRole userRole = getCurrentUserRole();
+        if (userRole == null) {
+            return false;
+        }
         for (String role : roles) {
-            if (hasRole(role)) {
+            if (userRole.name().equals(role)) {
                 return true;
             }
         }
@@ -97,20 +72,8 @@ public class SecurityExpressionHandler {
 
     public boolean canManageProperty(Long propertyId) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return false;
-            }
-
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
-            
-            if (userOpt.isEmpty()) {
-                return false;
-            }
-            
-            User user = userOpt.get();
-            return user.canManageProperty(); // Use domain logic
+            UserRole role = roleAuthorization.resolveRole(SecurityContextHolder.getContext().getAuthentication());
+            return role != null && role.canManageProperty(); // Use domain logic
         } catch (Exception e) {
             log.error("Error checking property management permission: {}", e.getMessage());
             return false;
@@ -119,22 +82,8 @@ public class SecurityExpressionHandler {
 
     public boolean canViewProperty(Long propertyId) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return false;
-            }
-
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
-            
-            if (userOpt.isEmpty()) {
-                return false;
-            }
-            
-            User user = userOpt.get();
-            
             // All authenticated users can view properties (basic read access)
-            return true; // All authenticated users can view properties
+            return roleAuthorization.resolveRole(SecurityContextHolder.getContext().getAuthentication()) != null;
         } catch (Exception e) {
             log.error("Error checking property view permission: {}", e.getMessage());
             return false;
@@ -144,19 +93,10 @@ public class SecurityExpressionHandler {
     public boolean canManageUser(Long targetUserId) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return false;
-            }
-
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
-            
-            if (userOpt.isEmpty()) {
+            UserRole role = roleAuthorization.resolveRole(authentication);
+            if (role == null) {
                 return false;
             }
-            
-            User user = userOpt.get();
-            UserRole role = user.getRole();
 
             // Admin can manage all users
             if (role == UserRole.ADMIN) {
@@ -164,7 +104,7 @@ public class SecurityExpressionHandler {
             }
 
             // Users can manage themselves
-            if (user.getId().getValue().equals(targetUserId)) {
+            if (targetUserId != null && targetUserId.equals(roleAuthorization.resolveUserId(authentication))) {
                 return true;
             }
 
@@ -199,11 +139,7 @@ public class SecurityExpressionHandler {
 
     public Long getCurrentUserId() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return null;
-            }
-            return Long.parseLong(authentication.getName());
+            return roleAuthorization.resolveUserId(SecurityContextHolder.getContext().getAuthentication());
         } catch (Exception e) {
             log.error("Error getting current user ID: {}", e.getMessage());
             return null;
@@ -212,20 +148,7 @@ public class SecurityExpressionHandler {
 
     public UserRole getCurrentUserRole() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return null;
-            }
-
-            Long userId = Long.parseLong(authentication.getName());
-            Optional<User> userOpt = userService.findById(userId);
-            
-            if (userOpt.isEmpty()) {
-                return null;
-            }
-            
-            User user = userOpt.get();
-            return user.getRole();
+            return roleAuthorization.resolveRole(SecurityContextHolder.getContext().getAuthentication());
         } catch (Exception e) {
             log.error("Error getting current user role: {}", e.getMessage());
             return null;
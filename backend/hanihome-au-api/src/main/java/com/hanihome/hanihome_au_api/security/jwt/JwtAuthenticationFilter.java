@@ -1,5 +1,6 @@
 package com.hanihome.hanihome_au_api.security.jwt;
 
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTracing;
 import com.hanihome.hanihome_au_api.security.UserPrincipal;
 import com.hanihome.hanihome_au_api.service.UserService;
 import jakarta.servlet.FilterChain;
@@ -24,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
+    private final SearchTracing searchTracing;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -31,11 +33,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getTokenFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+            // Validation includes the Redis blacklist lookup; both stages are only recorded on traced search requests
+            if (StringUtils.hasText(jwt) && searchTracing.stage("auth.jwt", () -> jwtTokenProvider.validateToken(jwt))) {
                 Long userId = jwtTokenProvider.getUserIdFromTokenAsLong(jwt);
                 
                 // Load user details
-                UserPrincipal userPrincipal = userService.loadUserById(userId);
+                UserPrincipal userPrincipal = searchTracing.stage("auth.user", () -> userService.loadUserById(userId));
                 
                 // Create authentication object
                 UsernamePasswordAuthenticationToken authentication = 
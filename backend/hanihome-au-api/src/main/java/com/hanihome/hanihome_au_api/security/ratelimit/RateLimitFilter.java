@@ -0,0 +1,71 @@
+package com.hanihome.hanihome_au_api.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanihome.hanihome_au_api.dto.response.ApiResponse;
+import com.hanihome.hanihome_au_api.security.UserPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies RateLimiter to every API request, keyed by user when authenticated and by client address otherwise
+ * Registered in the security chain right after JwtAuthenticationFilter so the user is already known.
+ * The client address is request.getRemoteAddr(); behind a proxy, set server.forward-headers-strategy so that
+ * it reflects the real client instead of trusting X-Forwarded-For here.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitPolicy policy = HttpMethod.OPTIONS.matches(request.getMethod())
+                ? null
+                : rateLimiter.resolvePolicy(request.getRequestURI().substring(request.getContextPath().length()));
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(policy, identity(request));
+        response.setHeader("X-RateLimit-Limit", Integer.toString(policy.burstSize()));
+        response.setHeader("X-RateLimit-Remaining", Integer.toString(decision.remaining()));
+
+        if (!decision.allowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("Too many requests. Retry after " + decision.retryAfterSeconds() + " seconds."));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static String identity(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getId() != null) {
+            return "user:" + principal.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
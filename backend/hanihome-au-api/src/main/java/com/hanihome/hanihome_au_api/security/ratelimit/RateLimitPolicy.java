@@ -0,0 +1,28 @@
+package com.hanihome.hanihome_au_api.security.ratelimit;
+
+/**
+ * Budget of one endpoint class: a sustained rate and the burst a client may spend at once
+ */
+public record RateLimitPolicy(String name, int requestsPerMinute, int burstSize) {
+
+    public RateLimitPolicy {
+        if (requestsPerMinute <= 0 || burstSize <= 0) {
+            throw new IllegalArgumentException("Rate limit " + name + " needs positive requests-per-minute and burst-size");
+        }
+    }
+
+    double tokensPerNano() {
+        return requestsPerMinute / 60_000_000_000d;
+    }
+
+    double tokensPerMilli() {
+        return requestsPerMinute / 60_000d;
+    }
+
+    /**
+     * Time for an empty bucket to fill up again; after that an idle bucket is the same as a new one
+     */
+    long refillNanos() {
+        return (long) Math.ceil(burstSize / tokensPerNano());
+    }
+}
@@ -0,0 +1,242 @@
+package com.hanihome.hanihome_au_api.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 토큰 버킷 요청 제한기
+ * - 요청마다 노드 로컬 버킷에서만 토큰을 꺼내므로 요청 경로에 Redis 왕복이 없음
+ * - sync 주기마다 노드가 사용한 토큰을 Lua 스크립트 한 번(max-keys-per-call 개 키 단위)으로 Redis 에 보고하고,
+ *   Redis 가 돌려준 클러스터 공유 잔량으로 로컬 잔량을 낮춤 → 여러 노드에 나눠 보내도 동기화 주기 안에서 예산에 수렴
+ * - Redis 장애 시 로컬 제한만 적용하고, 보고하지 못한 토큰은 다음 동기화에 함께 보고
+ * - 키는 {ratelimit} 해시 태그로 한 슬롯에 모아 Redis Cluster 에서도 다중 키 스크립트가 CROSSSLOT 없이 실행됨
+ * - 동기화는 전용 스레드에서 실행하므로 공용 스케줄러의 배치 작업이 길어져도 지연되지 않음
+ * - 다 채워질 만큼 쓰이지 않은 버킷은 동기화 때 제거하여 메모리를 제한
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    // The hash tag keeps every bucket in one cluster slot, as the sync script touches many keys per call
+    static final String KEY_PREFIX = "{ratelimit}:";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SYNC_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rate-limit-sync.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BucketEntry> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+    private final RateLimitPolicy defaultPolicy;
+    private final RateLimitPolicy searchPolicy;
+    private final List<String> searchPaths;
+    private final List<String> exemptPaths;
+    private final Timer syncTimer;
+    private final Counter syncFailures;
+    private final ScheduledExecutorService syncExecutor;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.sync.enabled:true}")
+    private boolean syncEnabled;
+
+    @Value("${rate-limit.sync.max-keys-per-call:500}")
+    private int maxKeysPerCall;
+
+    @Value("${rate-limit.sync.interval-ms:1000}")
+    private long syncIntervalMs;
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${rate-limit.requests-per-minute:100}") int requestsPerMinute,
+                       @Value("${rate-limit.burst-size:20}") int burstSize,
+                       @Value("${rate-limit.search.requests-per-minute:30}") int searchRequestsPerMinute,
+                       @Value("${rate-limit.search.burst-size:10}") int searchBurstSize,
+                       @Value("${rate-limit.search.paths:/api/v1/properties/search,/api/v1/properties/autocomplete}")
+                       List<String> searchPaths,
+                       @Value("${rate-limit.exempt-paths:/actuator/**,/error}") List<String> exemptPaths) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.defaultPolicy = new RateLimitPolicy("default", requestsPerMinute, burstSize);
+        this.searchPolicy = new RateLimitPolicy("search", searchRequestsPerMinute, searchBurstSize);
+        this.searchPaths = List.copyOf(searchPaths);
+        this.exemptPaths = List.copyOf(exemptPaths);
+        this.syncTimer = Timer.builder("rate_limit.sync")
+                .description("Redis reconciliation of local token buckets")
+                .register(meterRegistry);
+        this.syncFailures = Counter.builder("rate_limit.sync.failures")
+                .register(meterRegistry);
+        Gauge.builder("rate_limit.buckets", buckets, Map::size)
+                .description("Local token buckets currently tracked")
+                .register(meterRegistry);
+        this.syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void startSync() {
+        syncExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                sync();
+            } catch (Exception e) {
+                // An exception escaping the task would cancel every later sync
+                log.error("Rate limit sync failed: {}", e.getMessage(), e);
+            }
+        }, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopSync() {
+        syncExecutor.shutdownNow();
+    }
+
+    /**
+     * @return the policy for the request path, or null when the path is not rate limited
+     */
+    public RateLimitPolicy resolvePolicy(String path) {
+        if (!enabled || matchesAny(exemptPaths, path)) {
+            return null;
+        }
+        return matchesAny(searchPaths, path) ? searchPolicy : defaultPolicy;
+    }
+
+    /**
+     * Take one token for the identity ("user:{id}" or "ip:{address}") under the policy
+     */
+    public Decision tryAcquire(RateLimitPolicy policy, String identity) {
+        long now = System.nanoTime();
+        String key = policy.name() + ":" + identity;
+        BucketEntry entry = buckets.computeIfAbsent(key,
+                k -> new BucketEntry(policy, new TokenBucket(policy.burstSize(), policy.tokensPerNano(), now)));
+
+        long waitNanos = entry.bucket().tryConsume(now);
+        if (waitNanos == 0) {
+            return new Decision(true, entry.bucket().remaining(now), 0);
+        }
+
+        rejectedCounter(policy, identity).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return new Decision(false, 0, retryAfterSeconds);
+    }
+
+    /**
+     * Report tokens taken since the last sync and adopt the shared balances, one script call per batch of keys
+     */
+    public void sync() {
+        if (!enabled || buckets.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        SyncBatch batch = new SyncBatch();
+        for (Map.Entry<String, BucketEntry> mapEntry : buckets.entrySet()) {
+            BucketEntry entry = mapEntry.getValue();
+            if (entry.bucket().isIdle(now, entry.policy().refillNanos())) {
+                buckets.remove(mapEntry.getKey(), entry);
+                continue;
+            }
+            if (!syncEnabled) {
+                continue;
+            }
+            int taken = entry.bucket().drainUnsynced();
+            if (taken > 0) {
+                batch.add(mapEntry.getKey(), entry, taken);
+                if (batch.size() >= maxKeysPerCall) {
+                    syncBatch(batch);
+                    batch = new SyncBatch();
+                }
+            }
+        }
+        if (batch.size() > 0) {
+            syncBatch(batch);
+        }
+    }
+
+    private void syncBatch(SyncBatch batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            List<?> balances = redisTemplate.execute(SYNC_SCRIPT, batch.keys, batch.args.toArray());
+            long now = System.nanoTime();
+            for (int i = 0; i < batch.entries.size(); i++) {
+                batch.entries.get(i).bucket().reconcile(Double.parseDouble(String.valueOf(balances.get(i))), now);
+            }
+        } catch (Exception e) {
+            syncFailures.increment();
+            for (int i = 0; i < batch.entries.size(); i++) {
+                batch.entries.get(i).bucket().restoreUnsynced(batch.taken.get(i));
+            }
+            log.warn("Rate limit sync of {} buckets failed, enforcing local limits only: {}",
+                    batch.size(), e.getMessage());
+        } finally {
+            sample.stop(syncTimer);
+        }
+    }
+
+    private Counter rejectedCounter(RateLimitPolicy policy, String identity) {
+        String identityType = identity.substring(0, identity.indexOf(':'));
+        return rejectedCounters.computeIfAbsent(policy.name() + ":" + identityType,
+                k -> Counter.builder("rate_limit.rejected")
+                        .description("Requests rejected with 429")
+                        .tag("endpoint_class", policy.name())
+                        .tag("identity", identityType)
+                        .register(meterRegistry));
+    }
+
+    private static boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public record Decision(boolean allowed, int remaining, long retryAfterSeconds) {}
+
+    private record BucketEntry(RateLimitPolicy policy, TokenBucket bucket) {}
+
+    private static final class SyncBatch {
+        private final List<String> keys = new ArrayList<>();
+        private final List<String> args = new ArrayList<>();
+        private final List<BucketEntry> entries = new ArrayList<>();
+        private final List<Integer> taken = new ArrayList<>();
+
+        void add(String key, BucketEntry entry, int tokens) {
+            keys.add(KEY_PREFIX + key);
+            args.add(Integer.toString(tokens));
+            args.add(Double.toString(entry.policy().tokensPerMilli()));
+            args.add(Integer.toString(entry.policy().burstSize()));
+            entries.add(entry);
+            taken.add(tokens);
+        }
+
+        int size() {
+            return keys.size();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.hanihome.hanihome_au_api.security.ratelimit;
+
+/**
+ * Node-local token bucket for one rate-limit key
+ * - Refills continuously at the policy rate up to its capacity (burst size)
+ * - Counts tokens taken since the last Redis sync; the sync reports them and lowers the local
+ *   balance to the cluster-wide balance, so every node converges on the shared budget
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastUsedNanos;
+    private int unsynced;
+
+    TokenBucket(double capacity, double tokensPerNano, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerNano;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastUsedNanos = nowNanos;
+    }
+
+    /**
+     * @return 0 when a token was taken, otherwise the nanoseconds until one is available
+     */
+    synchronized long tryConsume(long nowNanos) {
+        refill(nowNanos);
+        lastUsedNanos = nowNanos;
+        if (tokens >= 1) {
+            tokens -= 1;
+            unsynced++;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    synchronized int remaining(long nowNanos) {
+        refill(nowNanos);
+        return (int) Math.max(0, Math.floor(tokens));
+    }
+
+    /**
+     * Tokens taken since the previous call; the caller reports them to Redis
+     */
+    synchronized int drainUnsynced() {
+        int drained = unsynced;
+        unsynced = 0;
+        return drained;
+    }
+
+    /**
+     * Put tokens back that could not be reported, so they are sent with the next sync
+     */
+    synchronized void restoreUnsynced(int count) {
+        unsynced += count;
+    }
+
+    /**
+     * Adopt the cluster-wide balance returned by Redis, which already includes the reported tokens
+     * but not the ones taken here while the sync was in flight
+     */
+    synchronized void reconcile(double globalTokens, long nowNanos) {
+        refill(nowNanos);
+        tokens = Math.min(tokens, globalTokens - unsynced);
+    }
+
+    synchronized boolean isIdle(long nowNanos, long idleNanos) {
+        return unsynced == 0 && nowNanos - lastUsedNanos > idleNanos;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -6,16 +6,36 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * File Storage Service for handling file uploads and operations
@@ -25,10 +45,25 @@ import java.util.UUID;
 @Service
 public class FileStorageService {
 
-    @Value("${app.file.upload-dir:uploads}")
+    private static final String BLOB_DIR = "blobs";
+    private static final String BLOB_TEMP_DIR = BLOB_DIR + "/tmp";
+    private static final Pattern BLOB_FILE_NAME = Pattern.compile("^([0-9a-f]{64})(\\.[A-Za-z0-9]+)?$");
+    private static final int MAX_CACHED_CONTENT_HASHES = 10_000;
+
+    /** Hashes of files that are not named by their hash, least recently served evicted first */
+    private final Map<ContentHashKey, String> contentHashes = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ContentHashKey, String> eldest) {
+                    return size() > MAX_CACHED_CONTENT_HASHES;
+                }
+            });
+
+    @Value("${app.file-storage.upload-dir:uploads}")
     private String uploadDir;
 
-    @Value("${app.file.base-url:http://localhost:8080}")
+    // Public URL of the API including the servlet context path; files are served by FileServingController at <base-url>/files/**
+    @Value("${app.file-storage.base-url:http://localhost:8080/api/v1}")
     private String baseUrl;
 
     @Value("${app.image.thumbnail.width:200}")
@@ -104,6 +139,193 @@ public class FileStorageService {
         return fullUrl;
     }
 
+    /**
+     * Hash an upload into a temp file (blobs/tmp) without publishing it
+     * The caller acquires the blob row first and then calls {@link #publishBlob} while holding its lock,
+     * so the file is never published for a row that a concurrent GC is deleting.
+     */
+    public StagedBlob stageContentAddressed(MultipartFile file) throws IOException {
+        validateFile(file);
+
+        Path tempDir = Paths.get(uploadDir).resolve(BLOB_TEMP_DIR);
+        Files.createDirectories(tempDir);
+        Path tempFile = Files.createTempFile(tempDir, "upload-", ".part");
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (DigestInputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new StagedBlob(HexFormat.of().formatHex(digest.digest()), tempFile, size);
+
+        } catch (NoSuchAlgorithmException e) {
+            Files.deleteIfExists(tempFile);
+            throw new IllegalStateException("SHA-256 not available", e);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Path of a new blob (blobs/ab/cd/<hash>.<ext>)
+     * Only used when the row is first inserted; later uploads of the same bytes use the row's path
+     * whatever their extension, so each hash has exactly one file.
+     */
+    public String blobRelativePath(String contentHash, String extension) {
+        return BLOB_DIR + "/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash
+                + "." + extension;
+    }
+
+    /**
+     * Move a staged upload to the blob's path, replacing any copy already there
+     * The bytes are identical by construction, and always renaming (instead of skipping when the file exists)
+     * means a file left behind by a rolled-back upload or a failed GC is never trusted blindly.
+     */
+    public void publishBlob(StagedBlob staged, String relativePath) throws IOException {
+        Path target = resolveStoredFile(relativePath);
+        Files.createDirectories(target.getParent());
+        Files.move(staged.tempFile(), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Remove a staged upload that was not published (no-op after {@link #publishBlob})
+     */
+    public void discardStaged(StagedBlob staged) {
+        try {
+            Files.deleteIfExists(staged.tempFile());
+        } catch (IOException e) {
+            log.warn("Failed to delete staged upload {}: {}", staged.tempFile(), e.getMessage());
+        }
+    }
+
+    /**
+     * Blob originals last modified before the cutoff (renditions excluded)
+     * Stale temp files from interrupted uploads are deleted along the way.
+     */
+    public List<BlobFile> findBlobFilesModifiedBefore(Instant cutoff) throws IOException {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path blobRoot = root.resolve(BLOB_DIR);
+        if (!Files.isDirectory(blobRoot)) {
+            return List.of();
+        }
+
+        Path tempDir = blobRoot.resolve("tmp");
+        Path renditionDir = blobRoot.resolve("renditions");
+        List<BlobFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(blobRoot)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (!Files.isRegularFile(path) || path.startsWith(renditionDir)) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (!attributes.lastModifiedTime().toInstant().isBefore(cutoff)) {
+                    continue;
+                }
+                if (path.startsWith(tempDir)) {
+                    Files.deleteIfExists(path);
+                    continue;
+                }
+                Matcher matcher = BLOB_FILE_NAME.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    files.add(new BlobFile(matcher.group(1), root.relativize(path).toString().replace('\\', '/'),
+                            attributes.size(), attributes.lastModifiedTime().toInstant()));
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Delete a file by path relative to the upload directory
+     */
+    public void deleteStoredFile(String relativePath) throws IOException {
+        if (Files.deleteIfExists(resolveStoredFile(relativePath))) {
+            log.info("File deleted successfully: {}", relativePath);
+        }
+    }
+
+    /**
+     * Build the public URL for a path relative to the upload directory
+     */
+    public String toUrl(String relativePath) {
+        return baseUrl + "/files/" + relativePath;
+    }
+
+    /**
+     * Resolve a path relative to the upload directory, rejecting traversal outside it
+     */
+    public Path resolveStoredFile(String relativePath) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path resolved = root.resolve(relativePath).normalize();
+        if (!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid file path: " + relativePath);
+        }
+        return resolved;
+    }
+
+    /**
+     * Whether a resolved path is an unpublished upload under blobs/tmp, which is never served
+     */
+    public boolean isStagingPath(Path resolved) {
+        return resolved.startsWith(Paths.get(uploadDir).toAbsolutePath().normalize().resolve(BLOB_TEMP_DIR));
+    }
+
+    /**
+     * SHA-256 hex of a stored file's bytes
+     * Blob originals carry it in their name; any other file is hashed once per size and modification time
+     */
+    public String contentHash(Path file, BasicFileAttributes attributes) throws IOException {
+        Matcher matcher = BLOB_FILE_NAME.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+            return matcher.group(1);
+        }
+
+        ContentHashKey key = new ContentHashKey(file, attributes.size(), attributes.lastModifiedTime().toMillis());
+        String cached = contentHashes.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (DigestInputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+                input.transferTo(OutputStream.nullOutputStream());
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            contentHashes.put(key, hash);
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Generate every {@link ImageRendition} for a stored original
+     * The source is decoded once with subsampling sized for the largest rendition,
+     * and each smaller rendition is scaled from the previous one.
+     * Renditions whose output format has no ImageIO writer (e.g. WebP without a plugin) are skipped.
+     */
+    public Map<ImageRendition, String> generateRenditions(Path source, String relativeDir, String baseName,
+                                                          String extension) throws IOException {
+        BufferedImage decoded = readSubsampled(source, ImageRendition.FULL.getMaxWidth(), ImageRendition.FULL.getMaxHeight());
+
+        Map<ImageRendition, String> urls = new EnumMap<>(ImageRendition.class);
+        Path targetDir = Paths.get(uploadDir).resolve(relativeDir);
+        Files.createDirectories(targetDir);
+
+        BufferedImage full = scaleToFit(decoded, ImageRendition.FULL, extension);
+        BufferedImage card = scaleToFit(full, ImageRendition.CARD, extension);
+        BufferedImage thumb = createThumbnail(card, ImageRendition.THUMB.getMaxWidth(), ImageRendition.THUMB.getMaxHeight());
+
+        writeRendition(full, ImageRendition.FULL, targetDir, relativeDir, baseName, extension, urls);
+        writeRendition(card, ImageRendition.CARD, targetDir, relativeDir, baseName, extension, urls);
+        writeRendition(thumb, ImageRendition.THUMB, targetDir, relativeDir, baseName, extension, urls);
+        writeRendition(full, ImageRendition.WEBP, targetDir, relativeDir, baseName, extension, urls);
+
+        return urls;
+    }
+
     /**
      * Delete a file by URL
      */
@@ -156,6 +378,71 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * Decode an image, letting the reader skip source pixels when the image is
+     * at least twice as large as the target box in both dimensions
+     */
+    private BufferedImage readSubsampled(Path source, int targetWidth, int targetHeight) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Cannot read image file: " + source.getFileName());
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = Math.max(1, Math.min(
+                        reader.getWidth(0) / targetWidth,
+                        reader.getHeight(0) / targetHeight));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale an image down to fit the rendition's bounding box, preserving aspect ratio
+     */
+    private BufferedImage scaleToFit(BufferedImage source, ImageRendition rendition, String extension) {
+        double scale = Math.min(1.0, Math.min(
+                (double) rendition.getMaxWidth() / source.getWidth(),
+                (double) rendition.getMaxHeight() / source.getHeight()));
+        if (scale >= 1.0) {
+            return source;
+        }
+
+        int width = Math.max(1, (int) (source.getWidth() * scale));
+        int height = Math.max(1, (int) (source.getHeight() * scale));
+        int type = "png".equals(extension) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(source, 0, 0, width, height, null);
+        g2d.dispose();
+
+        return scaled;
+    }
+
+    private void writeRendition(BufferedImage image, ImageRendition rendition, Path targetDir, String relativeDir,
+                                String baseName, String extension, Map<ImageRendition, String> urls) throws IOException {
+        String format = rendition.formatFor(extension);
+        if (!ImageIO.getImageWritersByFormatName(format).hasNext()) {
+            log.debug("No ImageIO writer for {}, skipping {} rendition", format, rendition);
+            return;
+        }
+
+        String filename = baseName + "_" + rendition.getSuffix() + "." + format;
+        ImageIO.write(image, format, targetDir.resolve(filename).toFile());
+        urls.put(rendition, toUrl(relativeDir + "/" + filename));
+    }
+
     /**
      * Create thumbnail image with specified dimensions
      */
@@ -194,4 +481,16 @@ public class FileStorageService {
         
         return thumbnail;
     }
-}
\ No newline at end of file
+
+    /**
+     * An upload hashed into a temp file, not yet published under its content hash
+     */
+    public record StagedBlob(String contentHash, Path tempFile, long size) {}
+
+    /**
+     * A blob original found on disk
+     */
+    private record ContentHashKey(Path file, long size, long lastModified) {}
+
+    public record BlobFile(String contentHash, String relativePath, long size, Instant lastModified) {}
+}
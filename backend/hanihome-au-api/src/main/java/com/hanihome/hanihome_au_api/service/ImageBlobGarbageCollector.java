@@ -0,0 +1,173 @@
+package com.hanihome.hanihome_au_api.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.ImageBlob;
+import com.hanihome.hanihome_au_api.repository.ImageBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Removes image blobs whose reference count dropped to zero
+ * A grace period keeps recently released blobs around so a re-upload shortly after
+ * deletion (e.g. cloning a listing that is being replaced) still finds the bytes.
+ * Each blob is deleted in one transaction that holds its row lock while the files are removed,
+ * so an upload of the same bytes waits and then re-creates both row and file.
+ * Files on disk that no row points to (rolled-back uploads, duplicates under another extension)
+ * are swept once older than the grace period.
+ */
+@Slf4j
+@Service
+public class ImageBlobGarbageCollector {
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.image.blob-gc.grace-hours:24}")
+    private int graceHours;
+
+    @Value("${app.image.blob-gc.batch-size:500}")
+    private int batchSize;
+
+    public ImageBlobGarbageCollector(ImageBlobRepository imageBlobRepository,
+                                     FileStorageService fileStorageService,
+                                     PlatformTransactionManager transactionManager) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Runs every day at 3 AM
+     */
+    @Scheduled(cron = "${app.image.blob-gc.cron:0 0 3 * * ?}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(graceHours);
+        log.info("Starting image blob GC sweep for blobs released before {}", cutoff);
+
+        try {
+            int orphans = adoptOrphanFiles(cutoff);
+            if (orphans > 0) {
+                log.info("Found {} orphaned blob files", orphans);
+            }
+        } catch (Exception e) {
+            log.error("Error scanning for orphaned blob files", e);
+        }
+
+        int removed = 0;
+        try {
+            List<ImageBlob> candidates = imageBlobRepository.findUnreferencedBefore(cutoff, PageRequest.of(0, batchSize));
+            while (!candidates.isEmpty()) {
+                int removedInBatch = 0;
+                for (ImageBlob blob : candidates) {
+                    if (collect(blob)) {
+                        removedInBatch++;
+                    }
+                }
+                removed += removedInBatch;
+
+                if (removedInBatch == 0 || candidates.size() < batchSize) {
+                    break;
+                }
+                candidates = imageBlobRepository.findUnreferencedBefore(cutoff, PageRequest.of(0, batchSize));
+            }
+            log.info("Image blob GC sweep removed {} blobs", removed);
+
+        } catch (Exception e) {
+            log.error("Error during image blob GC sweep", e);
+        }
+    }
+
+    /**
+     * Handle blob files older than the cutoff that no row points to
+     * - no row for the hash (rolled-back upload): registered as an unreferenced blob with
+     *   last_released_at = file time, so the same sweep collects it
+     * - row points to another file (same bytes stored earlier under another extension): deleted
+     * Both run under the blob's row lock, so an upload of the same bytes in flight is waited for.
+     */
+    int adoptOrphanFiles(LocalDateTime cutoff) throws IOException {
+        Instant cutoffInstant = cutoff.atZone(ZoneId.systemDefault()).toInstant();
+        List<FileStorageService.BlobFile> files = fileStorageService.findBlobFilesModifiedBefore(cutoffInstant);
+
+        int orphans = 0;
+        for (int from = 0; from < files.size(); from += batchSize) {
+            List<FileStorageService.BlobFile> batch = files.subList(from, Math.min(from + batchSize, files.size()));
+            Map<String, String> pathsByHash = new HashMap<>();
+            imageBlobRepository.findAllById(batch.stream().map(FileStorageService.BlobFile::contentHash).toList())
+                    .forEach(blob -> pathsByHash.put(blob.getContentHash(), blob.getRelativePath()));
+
+            for (FileStorageService.BlobFile file : batch) {
+                if (!file.relativePath().equals(pathsByHash.get(file.contentHash())) && handleOrphan(file)) {
+                    orphans++;
+                }
+            }
+        }
+        return orphans;
+    }
+
+    private boolean handleOrphan(FileStorageService.BlobFile file) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                ImageBlob blob = imageBlobRepository.findByIdForUpdate(file.contentHash()).orElse(null);
+                if (blob == null) {
+                    return imageBlobRepository.adoptOrphan(file.contentHash(), file.relativePath(), file.size(),
+                            LocalDateTime.ofInstant(file.lastModified(), ZoneId.systemDefault())) > 0;
+                }
+                if (blob.getRelativePath().equals(file.relativePath())) {
+                    return false;
+                }
+                try {
+                    fileStorageService.deleteStoredFile(file.relativePath());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            }));
+        } catch (Exception e) {
+            log.warn("Failed to handle orphaned blob file {}: {}", file.relativePath(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Delete the row and the files in one transaction; if a file cannot be removed the row comes back
+     * and the next sweep retries
+     */
+    private boolean collect(ImageBlob blob) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (imageBlobRepository.deleteIfUnreferenced(blob.getContentHash()) == 0) {
+                    return false;
+                }
+                try {
+                    fileStorageService.deleteStoredFile(blob.getRelativePath());
+                    for (String renditionUrl : new String[] {
+                            blob.getThumbnailUrl(), blob.getCardUrl(), blob.getFullUrl(), blob.getWebpUrl()}) {
+                        if (renditionUrl != null) {
+                            fileStorageService.deleteFile(renditionUrl);
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            }));
+        } catch (Exception e) {
+            log.warn("Failed to delete files of blob {}: {}", blob.getContentHash(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.hanihome.hanihome_au_api.service;
+
+import com.hanihome.hanihome_au_api.application.notification.service.SSENotificationService;
+import com.hanihome.hanihome_au_api.domain.entity.PropertyImage;
+import com.hanihome.hanihome_au_api.domain.enums.ImageProcessingStatus;
+import com.hanihome.hanihome_au_api.repository.ImageBlobRepository;
+import com.hanihome.hanihome_au_api.repository.PropertyImageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background image processing pipeline
+ * Generates renditions for already-stored originals on a bounded worker pool,
+ * records them on the image rows with a targeted UPDATE and notifies the uploader over SSE.
+ * Only the rendition and status columns are written, by id, so edits made while processing
+ * (main image, order, description) survive and images deleted meanwhile are skipped.
+ * Renditions are generated once per content hash and recorded on the ImageBlob so
+ * later uploads of the same bytes skip encoding entirely.
+ * When the queue is full the submitting thread runs the task itself, which throttles uploads
+ * instead of growing memory without bound.
+ */
+@Slf4j
+@Component
+public class ImageProcessingPipeline {
+
+    private final FileStorageService fileStorageService;
+    private final PropertyImageRepository propertyImageRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final SSENotificationService notificationService;
+
+    @Value("${app.image.pipeline.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${app.image.pipeline.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    public ImageProcessingPipeline(FileStorageService fileStorageService,
+                                   PropertyImageRepository propertyImageRepository,
+                                   ImageBlobRepository imageBlobRepository,
+                                   SSENotificationService notificationService) {
+        this.fileStorageService = fileStorageService;
+        this.propertyImageRepository = propertyImageRepository;
+        this.imageBlobRepository = imageBlobRepository;
+        this.notificationService = notificationService;
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workerThreads, workerThreads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-pipeline-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        log.info("Image processing pipeline started with {} workers", workerThreads);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Queue rendition generation for the images of one upload
+     * @param notifyUserId user to receive the completion event, may be null
+     */
+    public void submit(Long propertyId, Long notifyUserId, List<PendingImage> pendingImages) {
+        // Identical uploads within one request share a single rendition task
+        Map<String, List<PendingImage>> byContent = new LinkedHashMap<>();
+        for (PendingImage pending : pendingImages) {
+            byContent.computeIfAbsent(pending.contentHash(), hash -> new ArrayList<>()).add(pending);
+        }
+
+        List<CompletableFuture<GroupResult>> tasks = byContent.values().stream()
+                .map(group -> CompletableFuture.supplyAsync(() -> process(group), executor))
+                .toList();
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .thenRun(() -> complete(propertyId, notifyUserId, tasks.stream()
+                        .map(CompletableFuture::join)
+                        .toList()))
+                .exceptionally(e -> {
+                    log.error("Image pipeline failed for property {}: {}", propertyId, e.getMessage(), e);
+                    return null;
+                });
+    }
+
+    public int getQueuedTaskCount() {
+        return executor.getQueue().size();
+    }
+
+    private GroupResult process(List<PendingImage> group) {
+        PendingImage source = group.get(0);
+        List<Long> imageIds = group.stream().map(pending -> pending.image().getId()).toList();
+        Map<ImageRendition, String> urls;
+        try {
+            urls = fileStorageService.generateRenditions(
+                    source.originalPath(), source.renditionDir(), source.baseName(), source.extension());
+        } catch (Exception e) {
+            log.warn("Failed to generate renditions for blob {}: {}", source.contentHash(), e.getMessage());
+            int updated = propertyImageRepository.updateProcessingStatus(imageIds, ImageProcessingStatus.FAILED);
+            return new GroupResult(imageIds, updated, true);
+        }
+
+        String thumbnailUrl = urls.get(ImageRendition.THUMB);
+        String cardUrl = urls.get(ImageRendition.CARD);
+        String fullUrl = urls.get(ImageRendition.FULL);
+        String webpUrl = urls.get(ImageRendition.WEBP);
+
+        if (source.contentHash() != null) {
+            imageBlobRepository.markRenditionsReady(source.contentHash(), thumbnailUrl, cardUrl, fullUrl, webpUrl);
+        }
+        int updated = propertyImageRepository.updateRenditions(
+                imageIds, thumbnailUrl, cardUrl, fullUrl, webpUrl, ImageProcessingStatus.READY);
+        return new GroupResult(imageIds, updated, false);
+    }
+
+    private void complete(Long propertyId, Long notifyUserId, List<GroupResult> results) {
+        int images = 0;
+        int failed = 0;
+        int deleted = 0;
+        List<Long> imageIds = new ArrayList<>();
+        for (GroupResult result : results) {
+            images += result.updated();
+            deleted += result.imageIds().size() - result.updated();
+            if (result.failed()) {
+                failed += result.updated();
+            }
+            if (result.updated() > 0) {
+                imageIds.addAll(result.imageIds());
+            }
+        }
+        log.info("Processed {} images for property {} ({} failed, {} deleted while processing)",
+                images, propertyId, failed, deleted);
+
+        if (notifyUserId != null && images > 0) {
+            notificationService.sendToUser(notifyUserId, SSENotificationService.NotificationMessage.builder()
+                    .type(SSENotificationService.NotificationType.IMAGE)
+                    .subType(failed == 0 ? "IMAGES_READY" : "IMAGES_PARTIALLY_FAILED")
+                    .title("Images processed")
+                    .message(images - failed + "/" + images + " images are ready")
+                    .timestamp(LocalDateTime.now())
+                    .data(Map.of(
+                            "propertyId", propertyId,
+                            "imageIds", imageIds))
+                    .build());
+        }
+    }
+
+    /**
+     * Outcome of one content group; updated is lower than imageIds.size() when rows were deleted meanwhile
+     */
+    private record GroupResult(List<Long> imageIds, int updated, boolean failed) {}
+
+    /**
+     * An image row whose original is on disk and whose renditions are still to be generated
+     */
+    public record PendingImage(PropertyImage image, String contentHash, Path originalPath, String renditionDir,
+                               String baseName, String extension) {}
+}
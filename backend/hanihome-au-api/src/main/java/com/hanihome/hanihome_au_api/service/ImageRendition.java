@@ -0,0 +1,43 @@
+package com.hanihome.hanihome_au_api.service;
+
+/**
+ * Image renditions generated from every uploaded property photo
+ * Sizes are bounding boxes; the source aspect ratio is preserved
+ */
+public enum ImageRendition {
+    THUMB(200, 150, "thumb", null),
+    CARD(640, 480, "card", null),
+    FULL(1600, 1200, "full", null),
+    WEBP(1600, 1200, "full", "webp");
+
+    private final int maxWidth;
+    private final int maxHeight;
+    private final String suffix;
+    private final String formatOverride;
+
+    ImageRendition(int maxWidth, int maxHeight, String suffix, String formatOverride) {
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+        this.suffix = suffix;
+        this.formatOverride = formatOverride;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     * Output format for this rendition, falling back to the source format
+     */
+    public String formatFor(String sourceExtension) {
+        return formatOverride != null ? formatOverride : sourceExtension;
+    }
+}
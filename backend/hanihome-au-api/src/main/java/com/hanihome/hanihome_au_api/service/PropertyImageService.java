@@ -1,20 +1,30 @@
 package com.hanihome.hanihome_au_api.service;
 
 import com.hanihome.hanihome_au_api.service.FileStorageService;
+import com.hanihome.hanihome_au_api.domain.entity.ImageBlob;
 import com.hanihome.hanihome_au_api.domain.entity.PropertyImage;
+import com.hanihome.hanihome_au_api.domain.enums.ImageProcessingStatus;
+import com.hanihome.hanihome_au_api.domain.property.entity.Property;
 import com.hanihome.hanihome_au_api.domain.property.repository.PropertyRepository;
 import com.hanihome.hanihome_au_api.domain.property.valueobject.PropertyId;
+import com.hanihome.hanihome_au_api.repository.ImageBlobRepository;
 import com.hanihome.hanihome_au_api.repository.PropertyImageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,8 +33,10 @@ import java.util.UUID;
 public class PropertyImageService {
 
     private final PropertyImageRepository propertyImageRepository;
+    private final ImageBlobRepository imageBlobRepository;
     private final PropertyRepository propertyRepository;
     private final FileStorageService fileStorageService;
+    private final ImageProcessingPipeline imageProcessingPipeline;
 
     @Value("${app.property.image.max-count:10}")
     private int maxImageCount;
@@ -32,57 +44,56 @@ public class PropertyImageService {
     @Value("${app.property.image.max-size:5242880}") // 5MB
     private long maxImageSize;
 
+    /**
+     * Store the original and return immediately; renditions are generated by {@link ImageProcessingPipeline}
+     */
     public PropertyImage uploadImage(Long propertyId, MultipartFile file, String description, boolean isMain) throws IOException {
         validateFile(file);
-        validatePropertyExists(propertyId);
-        validateImageCount(propertyId);
+        Property property = loadProperty(propertyId);
+        validateImageCount(propertyId, 1);
 
         if (isMain) {
             unsetCurrentMainImage(propertyId);
         }
 
-        String originalFileName = file.getOriginalFilename();
-        String fileExtension = getFileExtension(originalFileName);
-        String fileName = generateFileName(propertyId, fileExtension);
-        
-        String imageUrl = fileStorageService.uploadFile(file, "properties/" + propertyId + "/images/" + fileName);
-        String thumbnailUrl = fileStorageService.generateThumbnail(file, "properties/" + propertyId + "/thumbnails/" + fileName);
+        List<ImageProcessingPipeline.PendingImage> pending = new ArrayList<>(1);
+        PropertyImage image = storePending(propertyId, file, description, isMain, getNextImageOrder(propertyId), pending);
 
-        int nextOrder = getNextImageOrder(propertyId);
+        PropertyImage savedImage = propertyImageRepository.save(image);
+        submitAfterCommit(property, pending);
+        log.info("Uploaded image for property {}: {}", propertyId, savedImage.getImageUrl());
 
-        PropertyImage propertyImage = PropertyImage.builder()
-                .propertyId(propertyId)
-                .imageUrl(imageUrl)
-                .thumbnailUrl(thumbnailUrl)
-                .imageOrder(nextOrder)
-                .description(description)
-                .isMain(isMain)
-                .fileSize(file.getSize())
-                .contentType(file.getContentType())
-                .originalFileName(originalFileName)
-                .build();
-
-        PropertyImage savedImage = propertyImageRepository.save(propertyImage);
-        log.info("Uploaded image for property {}: {}", propertyId, imageUrl);
-        
         return savedImage;
     }
 
+    /**
+     * Upload several images in one request
+     * Image order and main-image state are read once, originals are copied to disk,
+     * rows are written with a single saveAll and rendition work is queued after commit.
+     */
     public List<PropertyImage> uploadMultipleImages(Long propertyId, List<MultipartFile> files) throws IOException {
-        validatePropertyExists(propertyId);
+        Property property = loadProperty(propertyId);
         
         if (files.size() > maxImageCount) {
             throw new IllegalArgumentException("Cannot upload more than " + maxImageCount + " images");
         }
+        files.forEach(this::validateFile);
+        validateImageCount(propertyId, files.size());
 
-        List<PropertyImage> uploadedImages = new java.util.ArrayList<>();
+        int nextOrder = getNextImageOrder(propertyId);
+        boolean needsMain = !hasMainImage(propertyId);
+
+        List<PropertyImage> images = new ArrayList<>(files.size());
+        List<ImageProcessingPipeline.PendingImage> pending = new ArrayList<>(files.size());
         
         for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
-            boolean isMain = i == 0 && !hasMainImage(propertyId);
-            PropertyImage image = uploadImage(propertyId, file, null, isMain);
-            uploadedImages.add(image);
+            boolean isMain = i == 0 && needsMain;
+            images.add(storePending(propertyId, files.get(i), null, isMain, nextOrder + i, pending));
         }
+
+        List<PropertyImage> uploadedImages = propertyImageRepository.saveAll(images);
+        submitAfterCommit(property, pending);
+        log.info("Uploaded {} images for property {}", uploadedImages.size(), propertyId);
         
         return uploadedImages;
     }
@@ -101,10 +112,7 @@ public class PropertyImageService {
         PropertyImage image = propertyImageRepository.findById(imageId)
             .orElseThrow(() -> new IllegalArgumentException("Image not found: " + imageId));
 
-        fileStorageService.deleteFile(image.getImageUrl());
-        if (image.getThumbnailUrl() != null) {
-            fileStorageService.deleteFile(image.getThumbnailUrl());
-        }
+        releaseStoredFiles(image);
 
         propertyImageRepository.delete(image);
         log.info("Deleted image: {}", image.getImageUrl());
@@ -123,10 +131,17 @@ public class PropertyImageService {
     public void deleteAllPropertyImages(Long propertyId) throws IOException {
         List<PropertyImage> images = propertyImageRepository.findByPropertyId(propertyId);
         
+        // Blob-backed images only drop references; the GC sweep removes unreferenced bytes
+        Map<String, Long> releasedBlobs = images.stream()
+                .map(PropertyImage::getContentHash)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(hash -> hash, Collectors.counting()));
+        LocalDateTime releasedAt = LocalDateTime.now();
+        releasedBlobs.forEach((hash, count) -> imageBlobRepository.release(hash, count.intValue(), releasedAt));
+
         for (PropertyImage image : images) {
-            fileStorageService.deleteFile(image.getImageUrl());
-            if (image.getThumbnailUrl() != null) {
-                fileStorageService.deleteFile(image.getThumbnailUrl());
+            if (image.getContentHash() == null) {
+                deleteStoredFiles(image);
             }
         }
         
@@ -185,15 +200,14 @@ public class PropertyImageService {
         }
     }
 
-    private void validatePropertyExists(Long propertyId) {
-        if (!propertyRepository.findById(PropertyId.of(propertyId)).isPresent()) {
-            throw new IllegalArgumentException("Property not found: " + propertyId);
-        }
+    private Property loadProperty(Long propertyId) {
+        return propertyRepository.findById(PropertyId.of(propertyId))
+            .orElseThrow(() -> new IllegalArgumentException("Property not found: " + propertyId));
     }
 
-    private void validateImageCount(Long propertyId) {
+    private void validateImageCount(Long propertyId, int additionalCount) {
         long currentCount = propertyImageRepository.countByPropertyId(propertyId);
-        if (currentCount >= maxImageCount) {
+        if (currentCount + additionalCount > maxImageCount) {
             throw new IllegalArgumentException("Cannot upload more than " + maxImageCount + " images per property");
         }
     }
@@ -215,8 +229,99 @@ public class PropertyImageService {
         return (maxOrder == null) ? 1 : maxOrder + 1;
     }
 
-    private String generateFileName(Long propertyId, String extension) {
-        return "property_" + propertyId + "_" + UUID.randomUUID().toString() + "." + extension;
+    /**
+     * Store the upload content-addressed and build its row
+     * If the blob already has renditions the row is READY immediately and nothing is queued
+     */
+    private PropertyImage storePending(Long propertyId, MultipartFile file, String description, boolean isMain,
+                                       int imageOrder, List<ImageProcessingPipeline.PendingImage> pending) throws IOException {
+        String originalFileName = file.getOriginalFilename();
+        String fileExtension = getFileExtension(originalFileName);
+
+        // Insert-then-write: the acquired row stays locked until commit, so a GC sweep deleting the same
+        // blob either finishes (and its file deletion) first or waits and sees the new reference
+        FileStorageService.StagedBlob staged = fileStorageService.stageContentAddressed(file);
+        String contentHash = staged.contentHash();
+        ImageBlob blob;
+        try {
+            imageBlobRepository.acquire(contentHash, fileStorageService.blobRelativePath(contentHash, fileExtension),
+                    staged.size(), file.getContentType());
+            blob = imageBlobRepository.findById(contentHash)
+                    .orElseThrow(() -> new IllegalStateException("Image blob not found after acquire: " + contentHash));
+            fileStorageService.publishBlob(staged, blob.getRelativePath());
+        } finally {
+            fileStorageService.discardStaged(staged);
+        }
+
+        PropertyImage image = PropertyImage.builder()
+                .propertyId(propertyId)
+                .imageUrl(fileStorageService.toUrl(blob.getRelativePath()))
+                .imageOrder(imageOrder)
+                .description(description)
+                .isMain(isMain)
+                .fileSize(file.getSize())
+                .contentType(file.getContentType())
+                .originalFileName(originalFileName)
+                .contentHash(contentHash)
+                .processingStatus(ImageProcessingStatus.PENDING)
+                .build();
+
+        if (blob.hasRenditions()) {
+            image.completeProcessing(blob.getThumbnailUrl(), blob.getCardUrl(), blob.getFullUrl(), blob.getWebpUrl());
+            log.debug("Reusing renditions of blob {} for property {}", contentHash, propertyId);
+        } else {
+            pending.add(new ImageProcessingPipeline.PendingImage(
+                    image,
+                    contentHash,
+                    fileStorageService.resolveStoredFile(blob.getRelativePath()),
+                    "blobs/renditions/" + contentHash.substring(0, 2),
+                    contentHash,
+                    getFileExtension(blob.getRelativePath())));
+        }
+        return image;
+    }
+
+    /**
+     * Hand rendition work to the pipeline only once the rows are committed,
+     * so workers never update rows that could still be rolled back
+     */
+    private void submitAfterCommit(Property property, List<ImageProcessingPipeline.PendingImage> pending) {
+        Long propertyId = property.getId().getValue();
+        Long ownerId = property.getOwnerId() != null ? property.getOwnerId().getValue() : null;
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            imageProcessingPipeline.submit(propertyId, ownerId, pending);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageProcessingPipeline.submit(propertyId, ownerId, pending);
+            }
+        });
+    }
+
+    private void releaseStoredFiles(PropertyImage image) throws IOException {
+        if (image.getContentHash() != null) {
+            imageBlobRepository.release(image.getContentHash(), 1, LocalDateTime.now());
+        } else {
+            deleteStoredFiles(image);
+        }
+    }
+
+    private void deleteStoredFiles(PropertyImage image) throws IOException {
+        fileStorageService.deleteFile(image.getImageUrl());
+        for (String renditionUrl : new String[] {
+                image.getThumbnailUrl(), image.getCardUrl(), image.getFullUrl(), image.getWebpUrl()}) {
+            if (renditionUrl != null) {
+                fileStorageService.deleteFile(renditionUrl);
+            }
+        }
     }
 
     private String getFileExtension(String fileName) {
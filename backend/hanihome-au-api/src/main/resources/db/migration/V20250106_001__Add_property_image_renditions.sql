@@ -0,0 +1,9 @@
+-- Add rendition URLs and processing status for asynchronous image processing
+ALTER TABLE property_images ADD COLUMN card_url VARCHAR(500);
+ALTER TABLE property_images ADD COLUMN full_url VARCHAR(500);
+ALTER TABLE property_images ADD COLUMN webp_url VARCHAR(500);
+ALTER TABLE property_images ADD COLUMN processing_status VARCHAR(20) NOT NULL DEFAULT 'READY';
+
+CREATE INDEX idx_property_images_processing_status
+    ON property_images(property_id, processing_status)
+    WHERE processing_status <> 'READY';
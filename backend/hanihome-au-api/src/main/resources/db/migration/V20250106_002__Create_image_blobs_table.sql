@@ -0,0 +1,21 @@
+-- Content-addressed image storage shared across property images
+CREATE TABLE image_blobs (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    relative_path VARCHAR(300) NOT NULL,
+    file_size BIGINT NOT NULL,
+    content_type VARCHAR(50),
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    thumbnail_url VARCHAR(500),
+    card_url VARCHAR(500),
+    full_url VARCHAR(500),
+    webp_url VARCHAR(500),
+    renditions_ready BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_released_at TIMESTAMP
+);
+
+CREATE INDEX idx_image_blobs_unreferenced ON image_blobs(ref_count, last_released_at);
+
+-- Link property images to their blob (NULL for images uploaded before deduplication)
+ALTER TABLE property_images ADD COLUMN content_hash VARCHAR(64);
+CREATE INDEX idx_property_images_content_hash ON property_images(content_hash);
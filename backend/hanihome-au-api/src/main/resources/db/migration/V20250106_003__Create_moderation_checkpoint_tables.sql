@@ -0,0 +1,17 @@
+-- Checkpoints for the in-memory auto-moderation counters
+CREATE TABLE moderation_target_stats (
+    target_key VARCHAR(100) PRIMARY KEY,
+    active_reports INTEGER NOT NULL DEFAULT 0,
+    last_report_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE reporter_credibility (
+    reporter_id BIGINT PRIMARY KEY,
+    upheld_reports INTEGER NOT NULL DEFAULT 0,
+    rejected_reports INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Startup rebuild of the sliding windows and the fallback sweep both filter on created_at
+CREATE INDEX IF NOT EXISTS idx_reports_auto_moderated_created ON reports(auto_moderated, created_at);
@@ -0,0 +1,72 @@
+-- Materialized admin dashboard statistics
+-- TOTAL rows are current gauges (bucket_start fixed at epoch), HOUR/DAY rows count records created in the bucket
+CREATE TABLE admin_stat_rollups (
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    dimension_value VARCHAR(50) NOT NULL DEFAULT '',
+    value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (granularity, bucket_start, metric, dimension, dimension_value),
+    CONSTRAINT chk_admin_stat_rollups_granularity CHECK (granularity IN ('TOTAL', 'HOUR', 'DAY'))
+);
+
+
+-- Backfill from the source tables so the dashboard and growth series start complete
+-- Same aggregates as AdminStatRollupRepository's reconcile queries; DAY buckets cover the
+-- daily retention (730 days), HOUR buckets the hourly retention (14 days)
+INSERT INTO admin_stat_rollups (granularity, bucket_start, metric, dimension, dimension_value, value)
+SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'USER', 'ALL', '', COUNT(*) FROM users
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'USER', 'ROLE', role, COUNT(*) FROM users GROUP BY role
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'USER', 'ACTIVE', '', COUNT(*) FROM users
+    WHERE last_login_at >= CURRENT_TIMESTAMP - INTERVAL '30 days'
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'PROPERTY', 'ALL', '', COUNT(*) FROM properties
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'PROPERTY', 'STATUS', status, COUNT(*) FROM properties GROUP BY status
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'PROPERTY', 'TYPE', property_type, COUNT(*) FROM properties GROUP BY property_type
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'TRANSACTION', 'ALL', '', COUNT(*) FROM transaction.transactions
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'TRANSACTION', 'STATUS', status, COUNT(*)
+    FROM transaction.transactions GROUP BY status
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'VIEWING', 'ALL', '', COUNT(*) FROM viewings
+UNION ALL SELECT 'TOTAL', TIMESTAMP '1970-01-01 00:00:00', 'VIEWING', 'STATUS', status, COUNT(*) FROM viewings GROUP BY status;
+
+INSERT INTO admin_stat_rollups (granularity, bucket_start, metric, dimension, dimension_value, value)
+SELECT g.granularity, date_trunc(g.unit, u.created_at), 'USER', 'ALL', '', COUNT(*)
+FROM users u JOIN (VALUES ('HOUR', 'hour', INTERVAL '14 days'), ('DAY', 'day', INTERVAL '730 days')) AS g (granularity, unit, span)
+    ON u.created_at >= date_trunc('day', CURRENT_TIMESTAMP) - g.span
+GROUP BY g.granularity, date_trunc(g.unit, u.created_at)
+UNION ALL
+SELECT g.granularity, date_trunc(g.unit, u.created_at), 'USER', 'ROLE', u.role, COUNT(*)
+FROM users u JOIN (VALUES ('HOUR', 'hour', INTERVAL '14 days'), ('DAY', 'day', INTERVAL '730 days')) AS g (granularity, unit, span)
+    ON u.created_at >= date_trunc('day', CURRENT_TIMESTAMP) - g.span
+GROUP BY g.granularity, date_trunc(g.unit, u.created_at), u.role
+UNION ALL
+SELECT g.granularity, date_trunc(g.unit, p.created_date), 'PROPERTY', 'ALL', '', COUNT(*)
+FROM properties p JOIN (VALUES ('HOUR', 'hour', INTERVAL '14 days'), ('DAY', 'day', INTERVAL '730 days')) AS g (granularity, unit, span)
+    ON p.created_date >= date_trunc('day', CURRENT_TIMESTAMP) - g.span
+GROUP BY g.granularity, date_trunc(g.unit, p.created_date)
+UNION ALL
+SELECT g.granularity, date_trunc(g.unit, p.created_date), 'PROPERTY', 'TYPE', p.property_type, COUNT(*)
+FROM properties p JOIN (VALUES ('HOUR', 'hour', INTERVAL '14 days'), ('DAY', 'day', INTERVAL '730 days')) AS g (granularity, unit, span)
+    ON p.created_date >= date_trunc('day', CURRENT_TIMESTAMP) - g.span
+GROUP BY g.granularity, date_trunc(g.unit, p.created_date), p.property_type
+UNION ALL
+SELECT g.granularity, date_trunc(g.unit, t.created_at), 'TRANSACTION', 'ALL', '', COUNT(*)
+FROM transaction.transactions t JOIN (VALUES ('HOUR', 'hour', INTERVAL '14 days'), ('DAY', 'day', INTERVAL '730 days')) AS g (granularity, unit, span)
+    ON t.created_at >= date_trunc('day', CURRENT_TIMESTAMP) - g.span
+GROUP BY g.granularity, date_trunc(g.unit, t.created_at)
+UNION ALL
+SELECT g.granularity, date_trunc(g.unit, t.contract_completed_at), 'TRANSACTION', 'STATUS', 'COMPLETED', COUNT(*)
+FROM transaction.transactions t JOIN (VALUES ('HOUR', 'hour', INTERVAL '14 days'), ('DAY', 'day', INTERVAL '730 days')) AS g (granularity, unit, span)
+    ON t.status = 'COMPLETED' AND t.contract_completed_at >= date_trunc('day', CURRENT_TIMESTAMP) - g.span
+GROUP BY g.granularity, date_trunc(g.unit, t.contract_completed_at)
+UNION ALL
+SELECT g.granularity, date_trunc(g.unit, v.created_at), 'VIEWING', 'ALL', '', COUNT(*)
+FROM viewings v JOIN (VALUES ('HOUR', 'hour', INTERVAL '14 days'), ('DAY', 'day', INTERVAL '730 days')) AS g (granularity, unit, span)
+    ON v.created_at >= date_trunc('day', CURRENT_TIMESTAMP) - g.span
+GROUP BY g.granularity, date_trunc(g.unit, v.created_at)
+UNION ALL
+SELECT g.granularity, date_trunc(g.unit, v.completed_at), 'VIEWING', 'STATUS', 'COMPLETED', COUNT(*)
+FROM viewings v JOIN (VALUES ('HOUR', 'hour', INTERVAL '14 days'), ('DAY', 'day', INTERVAL '730 days')) AS g (granularity, unit, span)
+    ON v.status = 'COMPLETED' AND v.completed_at >= date_trunc('day', CURRENT_TIMESTAMP) - g.span
+GROUP BY g.granularity, date_trunc(g.unit, v.completed_at);
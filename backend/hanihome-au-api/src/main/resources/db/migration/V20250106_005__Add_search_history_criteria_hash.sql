@@ -0,0 +1,14 @@
+-- Write-behind search history recording
+-- criteria_hash identifies identical searches of one user so buffered repeats merge into a single row
+ALTER TABLE search_history ADD COLUMN IF NOT EXISTS criteria_hash VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_search_history_criteria_hash
+ON search_history(criteria_hash)
+WHERE is_saved = false;
+
+-- Nightly retention sweep selects expired rows by last use
+CREATE INDEX IF NOT EXISTS idx_search_history_unsaved_last_used
+ON search_history(last_used_at)
+WHERE is_saved = false;
+
+COMMENT ON COLUMN search_history.criteria_hash IS 'SHA-256 of user id and normalized search criteria; rows recorded before write-behind are filled in at startup (SearchHistoryCleanupService)';
@@ -0,0 +1,104 @@
+-- Search history filters as one versioned JSONB document (see SearchFilters)
+-- Replaces the per-criterion columns and the three element-collection side tables,
+-- so a history row is written with one INSERT and a history page is read with one SELECT
+ALTER TABLE search_history ADD COLUMN IF NOT EXISTS filters JSONB;
+
+-- Null criteria are left out of the document, matching the application's NON_NULL serialization.
+-- The element-collection tables were only created by Hibernate on some environments, so each one is
+-- aggregated only if it exists
+DO $$
+DECLARE
+    property_types TEXT := 'NULL::jsonb';
+    rental_types TEXT := 'NULL::jsonb';
+    required_options TEXT := 'NULL::jsonb';
+BEGIN
+    IF to_regclass('search_history_property_types') IS NOT NULL THEN
+        property_types := '(SELECT jsonb_agg(pt.property_type) FROM search_history_property_types pt '
+                          'WHERE pt.search_history_id = sh.id)';
+    END IF;
+    IF to_regclass('search_history_rental_types') IS NOT NULL THEN
+        rental_types := '(SELECT jsonb_agg(rt.rental_type) FROM search_history_rental_types rt '
+                        'WHERE rt.search_history_id = sh.id)';
+    END IF;
+    IF to_regclass('search_history_required_options') IS NOT NULL THEN
+        required_options := '(SELECT jsonb_agg(ro.required_option) FROM search_history_required_options ro '
+                            'WHERE ro.search_history_id = sh.id)';
+    END IF;
+
+    EXECUTE format($sql$
+        UPDATE search_history sh SET filters = jsonb_strip_nulls(jsonb_build_object(
+            'v', 1,
+            'keyword', sh.keyword,
+            'propertyTypes', %s,
+            'rentalTypes', %s,
+            'minRentPrice', sh.min_rent_price,
+            'maxRentPrice', sh.max_rent_price,
+            'minDeposit', sh.min_deposit,
+            'maxDeposit', sh.max_deposit,
+            'minBedrooms', sh.min_bedrooms,
+            'maxBedrooms', sh.max_bedrooms,
+            'minBathrooms', sh.min_bathrooms,
+            'maxBathrooms', sh.max_bathrooms,
+            'minFloorArea', sh.min_floor_area,
+            'maxFloorArea', sh.max_floor_area,
+            'city', sh.city,
+            'state', sh.state,
+            'country', sh.country,
+            'postalCode', sh.postal_code,
+            'latitude', sh.latitude,
+            'longitude', sh.longitude,
+            'maxDistance', sh.max_distance,
+            'parkingRequired', sh.parking_required,
+            'petAllowedRequired', sh.pet_allowed_required,
+            'furnishedRequired', sh.furnished_required,
+            'shortTermAvailableRequired', sh.short_term_available_required,
+            'requiredOptions', %s,
+            'sortBy', sh.sort_by,
+            'sortDirection', sh.sort_direction,
+            'availableFrom', sh.available_from,
+            'availableTo', sh.available_to,
+            'recentDays', sh.recent_days
+        ))
+        WHERE sh.filters IS NULL
+    $sql$, property_types, rental_types, required_options);
+END $$;
+
+ALTER TABLE search_history ALTER COLUMN filters SET DEFAULT '{"v": 1}'::jsonb;
+ALTER TABLE search_history ALTER COLUMN filters SET NOT NULL;
+
+DROP TABLE IF EXISTS search_history_property_types;
+DROP TABLE IF EXISTS search_history_rental_types;
+DROP TABLE IF EXISTS search_history_required_options;
+
+-- Dependent indexes (similar-search and location lookups) are dropped with their columns;
+-- repeat detection now goes through criteria_hash
+ALTER TABLE search_history
+    DROP COLUMN IF EXISTS keyword,
+    DROP COLUMN IF EXISTS min_rent_price,
+    DROP COLUMN IF EXISTS max_rent_price,
+    DROP COLUMN IF EXISTS min_deposit,
+    DROP COLUMN IF EXISTS max_deposit,
+    DROP COLUMN IF EXISTS min_bedrooms,
+    DROP COLUMN IF EXISTS max_bedrooms,
+    DROP COLUMN IF EXISTS min_bathrooms,
+    DROP COLUMN IF EXISTS max_bathrooms,
+    DROP COLUMN IF EXISTS min_floor_area,
+    DROP COLUMN IF EXISTS max_floor_area,
+    DROP COLUMN IF EXISTS city,
+    DROP COLUMN IF EXISTS state,
+    DROP COLUMN IF EXISTS country,
+    DROP COLUMN IF EXISTS postal_code,
+    DROP COLUMN IF EXISTS latitude,
+    DROP COLUMN IF EXISTS longitude,
+    DROP COLUMN IF EXISTS max_distance,
+    DROP COLUMN IF EXISTS parking_required,
+    DROP COLUMN IF EXISTS pet_allowed_required,
+    DROP COLUMN IF EXISTS furnished_required,
+    DROP COLUMN IF EXISTS short_term_available_required,
+    DROP COLUMN IF EXISTS sort_by,
+    DROP COLUMN IF EXISTS sort_direction,
+    DROP COLUMN IF EXISTS available_from,
+    DROP COLUMN IF EXISTS available_to,
+    DROP COLUMN IF EXISTS recent_days;
+
+COMMENT ON COLUMN search_history.filters IS 'Search criteria document {"v": version, ...non-null filters}, property names as in PropertySearchRequest';
@@ -0,0 +1,11 @@
+-- Transaction activities take ids from a pooled sequence (allocationSize = 50 in TransactionActivity)
+-- so Hibernate can batch their INSERTs instead of reading back an IDENTITY key per row.
+-- Existing rows keep their ids; the next allocated block starts right after the current value.
+ALTER SEQUENCE transaction.transaction_activities_id_seq INCREMENT BY 50;
+
+-- Keyset timeline pages: WHERE transaction_id = ? AND (created_at, id) > (?, ?) ORDER BY created_at, id
+CREATE INDEX IF NOT EXISTS idx_transaction_activities_timeline
+    ON transaction.transaction_activities (transaction_id, created_at, id);
+
+-- Covered by the leading column of the timeline index
+DROP INDEX IF EXISTS transaction.idx_transaction_activities_transaction_id;
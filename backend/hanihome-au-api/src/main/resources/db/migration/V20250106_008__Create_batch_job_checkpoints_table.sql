@@ -0,0 +1,10 @@
+-- Progress of restartable keyset batch jobs (e.g. FinancialValidationJob)
+-- A run that stops before completed_at is set resumes after last_processed_id
+CREATE TABLE batch_job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    last_processed_id BIGINT NOT NULL DEFAULT 0,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    run_started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,47 @@
+-- Stored full-text document for keyword search (see PropertySearchFunctionContributor)
+-- Replaces idx_properties_fulltext_search: the keyword filter never matched its expression,
+-- and title || ' ' || description is NULL for listings without a description
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE properties ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+-- 'english' stems English words; 'simple' keeps Korean and other words as typed.
+-- Title lexemes are weighted above description lexemes for ts_rank
+CREATE OR REPLACE FUNCTION properties_search_vector(title TEXT, description TEXT) RETURNS TSVECTOR AS $$
+    SELECT setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B');
+$$ LANGUAGE SQL IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION properties_search_vector_update() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := properties_search_vector(NEW.title, NEW.description);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_properties_search_vector ON properties;
+CREATE TRIGGER trg_properties_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON properties
+    FOR EACH ROW EXECUTE FUNCTION properties_search_vector_update();
+
+UPDATE properties SET search_vector = properties_search_vector(title, description)
+WHERE search_vector IS NULL;
+
+DROP INDEX IF EXISTS idx_properties_fulltext_search;
+
+CREATE INDEX IF NOT EXISTS idx_properties_search_vector
+ON properties USING gin(search_vector)
+WHERE status = 'ACTIVE';
+
+-- Trigram fallback for Korean keywords that are part of a longer word ("강남" in "강남역")
+CREATE INDEX IF NOT EXISTS idx_properties_title_trgm
+ON properties USING gin(lower(title) gin_trgm_ops)
+WHERE status = 'ACTIVE';
+
+CREATE INDEX IF NOT EXISTS idx_properties_description_trgm
+ON properties USING gin(lower(description) gin_trgm_ops)
+WHERE status = 'ACTIVE';
+
+COMMENT ON COLUMN properties.search_vector IS 'Maintained by trg_properties_search_vector; not mapped by the application';
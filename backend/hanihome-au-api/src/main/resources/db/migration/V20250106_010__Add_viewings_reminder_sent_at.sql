@@ -0,0 +1,13 @@
+-- Marks viewings whose 24-hour reminder has been sent, so the hourly reminder job sends it once
+ALTER TABLE viewings ADD COLUMN reminder_sent_at TIMESTAMP;
+
+-- Viewings already inside the reminder window were reminded by the previous run
+UPDATE viewings SET reminder_sent_at = CURRENT_TIMESTAMP
+WHERE status = 'CONFIRMED'
+  AND scheduled_at BETWEEN CURRENT_TIMESTAMP AND CURRENT_TIMESTAMP + INTERVAL '25 hours';
+
+DROP INDEX IF EXISTS idx_viewings_upcoming_confirmed;
+CREATE INDEX idx_viewings_upcoming_confirmed ON viewings(status, scheduled_at)
+WHERE status = 'CONFIRMED' AND reminder_sent_at IS NULL;
+
+COMMENT ON COLUMN viewings.reminder_sent_at IS 'When the 24-hour reminder was sent, cleared on reschedule';
@@ -0,0 +1,6 @@
+-- Columns mapped by PropertyJpaEntity that only V10_Add_bedrooms_clumn.sql adds.
+-- That file does not follow the V<version>__<description> naming, so Flyway never applies it;
+-- IF NOT EXISTS keeps this safe on databases where it was run by hand
+ALTER TABLE properties ADD COLUMN IF NOT EXISTS bedrooms INT;
+ALTER TABLE properties ADD COLUMN IF NOT EXISTS floor_area DOUBLE PRECISION;
+ALTER TABLE properties ADD COLUMN IF NOT EXISTS rent_price NUMERIC(10,0);
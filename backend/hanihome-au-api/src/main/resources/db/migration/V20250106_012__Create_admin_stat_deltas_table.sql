@@ -0,0 +1,12 @@
+-- Pending changes to admin_stat_rollups, written in the same transaction as the change they count
+-- AdminStatsRecorder folds them into the rollups every few seconds; inserts never contend on the hot rollup rows
+CREATE TABLE admin_stat_deltas (
+    id BIGSERIAL PRIMARY KEY,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    dimension_value VARCHAR(50) NOT NULL DEFAULT '',
+    delta BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,4 @@
+-- Lease on a batch job, so only one node runs it at a time
+-- The owner renews locked_until with every committed chunk; a node that dies loses the lease once it expires
+ALTER TABLE batch_job_checkpoints ADD COLUMN locked_by VARCHAR(100);
+ALTER TABLE batch_job_checkpoints ADD COLUMN locked_until TIMESTAMP;
@@ -0,0 +1,41 @@
+-- One unsaved history row per user and criteria, so concurrent write-behind flushes upsert instead of duplicating
+-- (SearchHistoryWriteBuffer, SearchHistoryRepository.upsertUnsaved)
+
+-- Fold existing duplicates into the most recently used row of each group
+WITH ranked AS (
+    SELECT id,
+           FIRST_VALUE(id) OVER (PARTITION BY user_id, criteria_hash
+                                 ORDER BY last_used_at DESC NULLS LAST, id DESC) AS keep_id
+    FROM search_history
+    WHERE is_saved = false AND criteria_hash IS NOT NULL
+), totals AS (
+    SELECT r.keep_id,
+           SUM(COALESCE(sh.search_count, 1)) AS search_count,
+           MAX(sh.last_used_at) AS last_used_at
+    FROM ranked r
+    JOIN search_history sh ON sh.id = r.id
+    GROUP BY r.keep_id
+    HAVING COUNT(*) > 1
+)
+UPDATE search_history sh
+SET search_count = t.search_count,
+    last_used_at = t.last_used_at
+FROM totals t
+WHERE sh.id = t.keep_id;
+
+DELETE FROM search_history sh
+USING (
+    SELECT id,
+           FIRST_VALUE(id) OVER (PARTITION BY user_id, criteria_hash
+                                 ORDER BY last_used_at DESC NULLS LAST, id DESC) AS keep_id
+    FROM search_history
+    WHERE is_saved = false AND criteria_hash IS NOT NULL
+) ranked
+WHERE sh.id = ranked.id AND ranked.id <> ranked.keep_id;
+
+-- The unique index also serves the lookups the plain criteria_hash index was added for
+DROP INDEX IF EXISTS idx_search_history_criteria_hash;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_search_history_user_criteria_unique
+ON search_history(user_id, criteria_hash)
+WHERE is_saved = false;
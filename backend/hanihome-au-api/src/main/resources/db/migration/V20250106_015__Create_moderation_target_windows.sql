@@ -0,0 +1,16 @@
+-- Hourly report counts per target for the mass-report sliding window (ReportSignalTracker)
+-- Every node adds its own counts at checkpoint time and reloads the sum, so the window covers reports
+-- received by any node; the hourly reconcile recounts finished hours from reports and prunes old ones
+CREATE TABLE moderation_target_windows (
+    target_key VARCHAR(100) NOT NULL,
+    bucket_hour TIMESTAMP NOT NULL,
+    report_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (target_key, bucket_hour)
+);
+
+-- Seed the default 24 hour window so detection does not start empty after the upgrade
+INSERT INTO moderation_target_windows (target_key, bucket_hour, report_count)
+SELECT target_type || ':' || target_id, date_trunc('hour', created_at), COUNT(*)
+FROM reports
+WHERE created_at >= date_trunc('hour', CURRENT_TIMESTAMP - INTERVAL '23 hours')
+GROUP BY 1, 2;
@@ -0,0 +1,29 @@
+-- Batched token-bucket sync (RateLimiter.sync): one call reconciles every bucket a node used since its last sync
+-- KEYS[i]        bucket key, all sharing the {ratelimit} hash tag so a call stays in one cluster slot
+-- ARGV[3i - 2]   tokens taken on the calling node since its previous sync
+-- ARGV[3i - 1]   refill rate in tokens per millisecond
+-- ARGV[3i]       capacity (burst size)
+-- Returns the shared balance of each bucket after refilling and deducting the reported tokens
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local balances = {}
+
+for i, key in ipairs(KEYS) do
+    local taken = tonumber(ARGV[3 * i - 2])
+    local rate = tonumber(ARGV[3 * i - 1])
+    local capacity = tonumber(ARGV[3 * i])
+
+    local state = redis.call('HMGET', key, 'tokens', 'ts')
+    local tokens = tonumber(state[1]) or capacity
+    local ts = tonumber(state[2]) or now
+    tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+    -- Debt is capped at one burst so a client that overran the budget across nodes is not locked out for long
+    tokens = math.max(-capacity, tokens - taken)
+
+    redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', now)
+    -- A bucket untouched for two full refills is equivalent to a fresh one
+    redis.call('PEXPIRE', key, math.ceil(2 * capacity / rate))
+    balances[i] = tostring(tokens)
+end
+
+return balances
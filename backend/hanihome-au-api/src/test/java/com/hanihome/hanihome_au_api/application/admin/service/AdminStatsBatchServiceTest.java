@@ -0,0 +1,88 @@
+package com.hanihome.hanihome_au_api.application.admin.service;
+
+import com.hanihome.hanihome_au_api.repository.AdminStatRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AdminStatsBatchService Tests")
+class AdminStatsBatchServiceTest {
+
+    private final AdminStatRollupRepository rollupRepository = mock(AdminStatRollupRepository.class);
+    private final AdminStatsRecorder adminStatsRecorder = mock(AdminStatsRecorder.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private AdminStatsBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new AdminStatsBatchService(mock(AdminDashboardService.class), adminStatsRecorder,
+                rollupRepository, transactionManager);
+        ReflectionTestUtils.setField(batchService, "reconcileHours", 48);
+        ReflectionTestUtils.setField(batchService, "reconcileDays", 35);
+        ReflectionTestUtils.setField(batchService, "activeUserDays", 30);
+    }
+
+    @Test
+    @DisplayName("Reconciliation should take the exclusive lock, correct every metric in one transaction, then compact")
+    void should_CorrectEveryMetricUnderExclusiveLock_ThenCompact() {
+        batchService.generateDailyStatistics();
+
+        InOrder order = inOrder(transactionManager, rollupRepository, adminStatsRecorder);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(rollupRepository).lockForReconciliation();
+        order.verify(rollupRepository).correctUserCounts(any(), any(), any());
+        order.verify(rollupRepository).correctPropertyCounts(any(), any());
+        order.verify(rollupRepository).correctTransactionCounts(any(), any());
+        order.verify(rollupRepository).correctViewingCounts(any(), any());
+        order.verify(transactionManager).commit(any());
+        order.verify(adminStatsRecorder).compact();
+    }
+
+    @Test
+    @DisplayName("Reconciliation should cover the configured hour, day and active-user windows")
+    void should_PassConfiguredWindows() {
+        LocalDateTime now = LocalDateTime.now();
+
+        batchService.generateDailyStatistics();
+
+        ArgumentCaptor<LocalDateTime> hourSince = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> daySince = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> activeSince = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(rollupRepository).correctUserCounts(hourSince.capture(), daySince.capture(), activeSince.capture());
+        verify(rollupRepository).correctViewingCounts(hourSince.getValue(), daySince.getValue());
+
+        assertThat(hourSince.getValue()).isEqualTo(hourSince.getValue().truncatedTo(ChronoUnit.HOURS))
+                .isCloseTo(now.minusHours(48), within(1, ChronoUnit.HOURS));
+        assertThat(daySince.getValue()).isEqualTo(daySince.getValue().truncatedTo(ChronoUnit.DAYS))
+                .isCloseTo(now.minusDays(35), within(1, ChronoUnit.DAYS));
+        assertThat(activeSince.getValue()).isCloseTo(now.minusDays(30), within(1, ChronoUnit.MINUTES));
+    }
+
+    @Test
+    @DisplayName("A failed correction should roll back and skip the compaction")
+    void should_RollBackAndSkipCompaction_WhenCorrectionFails() {
+        when(rollupRepository.correctPropertyCounts(any(), any())).thenThrow(new IllegalStateException("timeout"));
+
+        batchService.generateDailyStatistics();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(adminStatsRecorder, never()).compact();
+    }
+}
@@ -0,0 +1,219 @@
+package com.hanihome.hanihome_au_api.application.admin.service;
+
+import com.hanihome.hanihome_au_api.domain.enums.PropertyStatus;
+import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
+import com.hanihome.hanihome_au_api.domain.enums.TransactionStatus;
+import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyCreatedEvent;
+import com.hanihome.hanihome_au_api.domain.property.event.PropertyStatusChangedEvent;
+import com.hanihome.hanihome_au_api.domain.property.valueobject.PropertyId;
+import com.hanihome.hanihome_au_api.domain.transaction.event.TransactionCompletedEvent;
+import com.hanihome.hanihome_au_api.domain.transaction.event.TransactionCreatedEvent;
+import com.hanihome.hanihome_au_api.domain.transaction.event.TransactionStatusChangedEvent;
+import com.hanihome.hanihome_au_api.domain.user.event.UserRegisteredEvent;
+import com.hanihome.hanihome_au_api.domain.user.event.UserRoleChangedEvent;
+import com.hanihome.hanihome_au_api.domain.user.valueobject.Email;
+import com.hanihome.hanihome_au_api.domain.user.valueobject.UserId;
+import com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole;
+import com.hanihome.hanihome_au_api.domain.viewing.event.ViewingBookedEvent;
+import com.hanihome.hanihome_au_api.domain.viewing.event.ViewingStatusChangedEvent;
+import com.hanihome.hanihome_au_api.repository.AdminStatRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AdminStatsRecorder Tests")
+class AdminStatsRecorderTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** Sum of the inserted deltas per "granularity|bucket|metric|dimension|value" key */
+    private final Map<String, Long> deltas = new HashMap<>();
+
+    private final AdminStatRollupRepository rollupRepository = mock(AdminStatRollupRepository.class);
+    private AdminStatsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            String key = invocation.getArgument(0) + "|" + invocation.getArgument(1) + "|" + invocation.getArgument(2)
+                    + "|" + invocation.getArgument(3) + "|" + invocation.getArgument(4);
+            deltas.merge(key, invocation.<Long>getArgument(5), Long::sum);
+            return null;
+        }).when(rollupRepository).insertDelta(anyString(), any(), anyString(), anyString(), anyString(), anyLong());
+
+        recorder = new AdminStatsRecorder(rollupRepository, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(recorder, "compactBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("User registration should count the total, the role gauge and both creation buckets")
+    void should_RecordTotalsAndBuckets_OnUserRegistered() {
+        UserRegisteredEvent event = new UserRegisteredEvent(UserId.of(1L), Email.of("tenant@example.com"),
+                "Tenant", UserRole.TENANT);
+
+        recorder.onUserRegistered(event);
+
+        LocalDateTime at = event.getOccurredAt();
+        assertThat(deltas).containsOnly(
+                Map.entry(total("USER", "ALL", ""), 1L),
+                Map.entry(total("USER", "ROLE", "TENANT"), 1L),
+                Map.entry(hour(at, "USER", "ALL", ""), 1L),
+                Map.entry(day(at, "USER", "ALL", ""), 1L),
+                Map.entry(hour(at, "USER", "ROLE", "TENANT"), 1L),
+                Map.entry(day(at, "USER", "ROLE", "TENANT"), 1L));
+    }
+
+    @Test
+    @DisplayName("Property creation should count the status and type gauges and the type buckets")
+    void should_RecordStatusAndType_OnPropertyCreated() {
+        PropertyCreatedEvent event = new PropertyCreatedEvent(PropertyId.of(3L), UserId.of(1L), "Listing",
+                PropertyType.APARTMENT, PropertyStatus.PENDING_APPROVAL);
+
+        recorder.onPropertyCreated(event);
+
+        LocalDateTime at = event.getOccurredAt();
+        assertThat(deltas).containsOnly(
+                Map.entry(total("PROPERTY", "ALL", ""), 1L),
+                Map.entry(total("PROPERTY", "STATUS", "PENDING_APPROVAL"), 1L),
+                Map.entry(total("PROPERTY", "TYPE", "APARTMENT"), 1L),
+                Map.entry(hour(at, "PROPERTY", "ALL", ""), 1L),
+                Map.entry(day(at, "PROPERTY", "ALL", ""), 1L),
+                Map.entry(hour(at, "PROPERTY", "TYPE", "APARTMENT"), 1L),
+                Map.entry(day(at, "PROPERTY", "TYPE", "APARTMENT"), 1L));
+    }
+
+    @Test
+    @DisplayName("Status and role changes should move one unit between gauges")
+    void should_MoveGauges_OnStatusChanges() {
+        recorder.onPropertyStatusChanged(new PropertyStatusChangedEvent(PropertyId.of(3L),
+                PropertyStatus.PENDING_APPROVAL, PropertyStatus.ACTIVE));
+        recorder.onTransactionStatusChanged(new TransactionStatusChangedEvent(5L,
+                TransactionStatus.PROPOSED, TransactionStatus.NEGOTIATING));
+        recorder.onUserRoleChanged(new UserRoleChangedEvent(UserId.of(1L), UserRole.TENANT, UserRole.LANDLORD));
+
+        assertThat(deltas).containsOnly(
+                Map.entry(total("PROPERTY", "STATUS", "PENDING_APPROVAL"), -1L),
+                Map.entry(total("PROPERTY", "STATUS", "ACTIVE"), 1L),
+                Map.entry(total("TRANSACTION", "STATUS", "PROPOSED"), -1L),
+                Map.entry(total("TRANSACTION", "STATUS", "NEGOTIATING"), 1L),
+                Map.entry(total("USER", "ROLE", "TENANT"), -1L),
+                Map.entry(total("USER", "ROLE", "LANDLORD"), 1L));
+    }
+
+    @Test
+    @DisplayName("A change to the same status should write nothing")
+    void should_WriteNothing_WhenStatusUnchanged() {
+        recorder.onTransactionStatusChanged(new TransactionStatusChangedEvent(5L,
+                TransactionStatus.PROPOSED, TransactionStatus.PROPOSED));
+
+        verify(rollupRepository, never())
+                .insertDelta(anyString(), any(), anyString(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Transactions and viewings should count creation and completion buckets")
+    void should_RecordCreationAndCompletion_ForTransactionsAndViewings() {
+        LocalDateTime completedAt = LocalDateTime.of(2025, 1, 6, 14, 30);
+        TransactionCreatedEvent created = new TransactionCreatedEvent(3L, TransactionStatus.PROPOSED);
+        ViewingBookedEvent booked = new ViewingBookedEvent(9L, 3L, ViewingStatus.REQUESTED);
+        ViewingStatusChangedEvent viewed = new ViewingStatusChangedEvent(9L,
+                ViewingStatus.CONFIRMED, ViewingStatus.COMPLETED);
+
+        recorder.onTransactionCreated(created);
+        recorder.onTransactionCompleted(new TransactionCompletedEvent(5L, 3L, 1L, 2L, null, completedAt));
+        recorder.onViewingBooked(booked);
+        recorder.onViewingStatusChanged(viewed);
+
+        assertThat(deltas)
+                .containsEntry(total("TRANSACTION", "ALL", ""), 1L)
+                .containsEntry(total("TRANSACTION", "STATUS", "PROPOSED"), 1L)
+                .containsEntry(hour(created.occurredAt(), "TRANSACTION", "ALL", ""), 1L)
+                .containsEntry(hour(completedAt, "TRANSACTION", "STATUS", "COMPLETED"), 1L)
+                .containsEntry(day(completedAt, "TRANSACTION", "STATUS", "COMPLETED"), 1L)
+                .containsEntry(total("VIEWING", "ALL", ""), 1L)
+                .containsEntry(total("VIEWING", "STATUS", "REQUESTED"), 1L)
+                .containsEntry(day(booked.occurredAt(), "VIEWING", "ALL", ""), 1L)
+                .containsEntry(total("VIEWING", "STATUS", "CONFIRMED"), -1L)
+                .containsEntry(total("VIEWING", "STATUS", "COMPLETED"), 1L)
+                .containsEntry(hour(viewed.occurredAt(), "VIEWING", "STATUS", "COMPLETED"), 1L);
+        // Only completion timestamps feed STATUS buckets
+        assertThat(deltas).doesNotContainKey(hour(viewed.occurredAt(), "VIEWING", "STATUS", "CONFIRMED"));
+    }
+
+    @Test
+    @DisplayName("Flush should compact under the shared lock until no deltas are left")
+    void should_CompactUnderSharedLock_UntilDrained() {
+        when(rollupRepository.compactDeltas(100)).thenReturn(100, 7, 0);
+
+        recorder.flush();
+
+        InOrder order = inOrder(rollupRepository);
+        for (int i = 0; i < 3; i++) {
+            order.verify(rollupRepository).lockForCompaction();
+            order.verify(rollupRepository).compactDeltas(100);
+        }
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("Flush should only compact when deltas were recorded since the last compaction")
+    void should_SkipCompaction_WhenNothingRecorded() {
+        recorder.flush();
+        clearInvocations(rollupRepository);
+
+        recorder.flush();
+        verify(rollupRepository, never()).compactDeltas(anyInt());
+
+        recorder.onTransactionCreated(new TransactionCreatedEvent(3L, TransactionStatus.PROPOSED));
+        recorder.flush();
+        verify(rollupRepository).compactDeltas(100);
+    }
+
+    @Test
+    @DisplayName("A failed compaction should be retried on the next flush")
+    void should_RetryCompaction_WhenItFails() {
+        when(rollupRepository.compactDeltas(100))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(0);
+
+        recorder.flush();
+        recorder.flush();
+
+        verify(rollupRepository, times(2)).compactDeltas(100);
+    }
+
+    private static String total(String metric, String dimension, String value) {
+        return "TOTAL|" + EPOCH + "|" + metric + "|" + dimension + "|" + value;
+    }
+
+    private static String hour(LocalDateTime at, String metric, String dimension, String value) {
+        return "HOUR|" + at.truncatedTo(ChronoUnit.HOURS) + "|" + metric + "|" + dimension + "|" + value;
+    }
+
+    private static String day(LocalDateTime at, String metric, String dimension, String value) {
+        return "DAY|" + at.truncatedTo(ChronoUnit.DAYS) + "|" + metric + "|" + dimension + "|" + value;
+    }
+}
@@ -0,0 +1,72 @@
+package com.hanihome.hanihome_au_api.application.admin.service;
+
+import com.hanihome.hanihome_au_api.application.admin.dto.DashboardStatsDto;
+import com.hanihome.hanihome_au_api.domain.entity.AdminStatRollup.Metric;
+import com.hanihome.hanihome_au_api.repository.AdminStatRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TimeSeriesAggregator Tests")
+class TimeSeriesAggregatorTest {
+
+    private final AdminStatRollupRepository rollupRepository = mock(AdminStatRollupRepository.class);
+    private TimeSeriesAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new TimeSeriesAggregator(rollupRepository, new ConcurrentMapCacheManager());
+        ReflectionTestUtils.setField(aggregator, "dailyRetentionDays", 35);
+    }
+
+    @Test
+    @DisplayName("Should zero-fill buckets without rollup rows")
+    void should_ZeroFillMissingBuckets() {
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = List.<Object[]>of(new Object[] {Timestamp.valueOf(today.atStartOfDay()), 4L});
+        when(rollupRepository.sumDailyBuckets(eq("day"), eq("USER"), eq("ALL"), eq(""), any())).thenReturn(rows);
+
+        List<DashboardStatsDto.TimeSeriesData> series =
+                aggregator.getSeries(Metric.USER, TimeSeriesAggregator.Series.CREATED, TimeSeriesAggregator.Bucket.DAY, 3);
+
+        assertThat(series).extracting(DashboardStatsDto.TimeSeriesData::getValue).containsExactly(0L, 0L, 4L);
+        assertThat(series.get(2).getPeriod()).isEqualTo(today.toString());
+    }
+
+    @Test
+    @DisplayName("Should accept windows inside the retained daily buckets and reject longer ones")
+    void should_RejectWindowsBeyondRetention() {
+        when(rollupRepository.sumDailyBuckets(anyString(), anyString(), anyString(), anyString(), any()))
+                .thenReturn(List.of());
+
+        assertThat(aggregator.getSeries(Metric.PROPERTY, TimeSeriesAggregator.Series.CREATED,
+                TimeSeriesAggregator.Bucket.DAY, 36)).hasSize(36);
+        assertThatThrownBy(() -> aggregator.getSeries(Metric.PROPERTY, TimeSeriesAggregator.Series.CREATED,
+                TimeSeriesAggregator.Bucket.DAY, 37))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a month window that reaches past the retained daily buckets")
+    void should_RejectMonthWindowBeyondRetention() {
+        assertThatThrownBy(() -> aggregator.getSeries(Metric.TRANSACTION, TimeSeriesAggregator.Series.COMPLETED,
+                TimeSeriesAggregator.Bucket.MONTH, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(rollupRepository);
+    }
+}
@@ -0,0 +1,123 @@
+package com.hanihome.hanihome_au_api.application.moderation.service;
+
+import com.hanihome.hanihome_au_api.application.moderation.dto.ContentScanResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AhoCorasickAutomaton Tests")
+class AhoCorasickAutomatonTest {
+
+    private final AhoCorasickAutomaton automaton = AhoCorasickAutomaton.compile(List.of(
+            new ContentRule("무료", ContentRule.SPAM, 0.3),
+            new ContentRule("돈벌기", ContentRule.SPAM, 0.3),
+            new ContentRule("100%", ContentRule.SPAM, 0.2),
+            new ContentRule("사기", ContentRule.FRAUD, 0.4),
+            new ContentRule("free", ContentRule.SPAM, 0.3),
+            new ContentRule("허위", ContentRule.FRAUD, 0.1),
+            new ContentRule("허위매물", ContentRule.FRAUD, 0.3),
+            new ContentRule("매물", "TEST", 0.0)
+    ));
+
+    @Nested
+    @DisplayName("Matching")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("Should find every rule in a single pass including overlapping terms")
+        void should_FindOverlappingMatches() {
+            List<String> terms = automaton.findMatches("허위매물 신고").stream()
+                    .map(ContentScanResult.Match::term)
+                    .toList();
+
+            assertThat(terms).containsExactlyInAnyOrder("허위", "허위매물", "매물");
+        }
+
+        @Test
+        @DisplayName("Should report offsets in the original text")
+        void should_ReportOriginalOffsets() {
+            String text = "지금 무 료 상담";
+
+            ContentScanResult.Match match = automaton.findMatches(text).get(0);
+
+            assertThat(match.term()).isEqualTo("무료");
+            assertThat(text.substring(match.start(), match.end())).isEqualTo("무 료");
+        }
+
+        @Test
+        @DisplayName("Should return no matches for clean or empty text")
+        void should_ReturnEmpty_When_NoRuleMatches() {
+            assertThat(automaton.findMatches("Sunny two bedroom unit near the station")).isEmpty();
+            assertThat(automaton.findMatches("")).isEmpty();
+            assertThat(automaton.findMatches(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Normalization")
+    class NormalizationTests {
+
+        @Test
+        @DisplayName("Should ignore case, full-width forms and separators")
+        void should_MatchObfuscatedTerms() {
+            assertThat(automaton.findMatches("FREE rent")).hasSize(1);
+            assertThat(automaton.findMatches("ｆｒｅｅ rent")).hasSize(1);
+            assertThat(automaton.findMatches("f.r.e.e rent")).hasSize(1);
+            assertThat(automaton.findMatches("돈-벌-기")).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should match decomposed Hangul input")
+        void should_MatchDecomposedHangul() {
+            String decomposed = Normalizer.normalize("사기 당함", Normalizer.Form.NFD);
+
+            assertThat(automaton.findMatches(decomposed))
+                    .extracting(ContentScanResult.Match::term)
+                    .containsExactly("사기");
+        }
+
+        @Test
+        @DisplayName("Should only match Latin terms on word boundaries")
+        void should_RespectWordBoundaries_ForLatinTerms() {
+            assertThat(automaton.findMatches("carefree living")).isEmpty();
+            assertThat(automaton.findMatches("freedom")).isEmpty();
+            assertThat(automaton.findMatches("100% 보장")).extracting(ContentScanResult.Match::term).containsExactly("100%");
+        }
+    }
+
+    @Nested
+    @DisplayName("Scoring")
+    class ScoringTests {
+
+        @Test
+        @DisplayName("Should score each distinct term once and group by category")
+        void should_ScoreDistinctTermsPerCategory() {
+            ContentScanResult result = new ContentScanResult(automaton.findMatches("무료 무료 무료 돈벌기, 사기 아님"));
+
+            assertThat(result.getCategoryScore(ContentRule.SPAM)).isEqualTo(0.6, org.assertj.core.data.Offset.offset(1e-9));
+            assertThat(result.getCategoryScore(ContentRule.FRAUD)).isEqualTo(0.4, org.assertj.core.data.Offset.offset(1e-9));
+            assertThat(result.getScoreExcluding(ContentRule.SPAM)).isEqualTo(0.4, org.assertj.core.data.Offset.offset(1e-9));
+            assertThat(result.getMatchedTerms(ContentRule.SPAM)).containsExactly("무료", "돈벌기");
+        }
+
+        @Test
+        @DisplayName("Should handle thousands of rules")
+        void should_HandleLargeRuleSets() {
+            List<ContentRule> rules = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                rules.add(new ContentRule("term" + i, ContentRule.SPAM, 0.01));
+            }
+            AhoCorasickAutomaton large = AhoCorasickAutomaton.compile(rules);
+
+            assertThat(large.getRuleCount()).isEqualTo(5000);
+            assertThat(large.findMatches("contains term4999 and term12")).extracting(ContentScanResult.Match::term)
+                    .containsExactlyInAnyOrder("term4999", "term12");
+        }
+    }
+}
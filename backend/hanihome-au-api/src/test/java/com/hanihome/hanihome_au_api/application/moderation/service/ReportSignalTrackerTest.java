@@ -0,0 +1,239 @@
+package com.hanihome.hanihome_au_api.application.moderation.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.ModerationTargetStats;
+import com.hanihome.hanihome_au_api.domain.entity.ReporterCredibility;
+import com.hanihome.hanihome_au_api.domain.enums.ReportStatus;
+import com.hanihome.hanihome_au_api.domain.moderation.event.ReportClosedEvent;
+import com.hanihome.hanihome_au_api.repository.ModerationTargetStatsRepository;
+import com.hanihome.hanihome_au_api.repository.ReportRepository;
+import com.hanihome.hanihome_au_api.repository.ReporterCredibilityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReportSignalTracker Tests")
+class ReportSignalTrackerTest {
+
+    private static final String TARGET = "PROPERTY:7";
+
+    /** Shared checkpoint rows, standing in for the database both instances write to */
+    private final Map<String, Integer> targetRows = new ConcurrentHashMap<>();
+    private final Map<Long, int[]> reporterRows = new ConcurrentHashMap<>();
+    private final Map<LocalDateTime, Integer> windowRows = new ConcurrentHashMap<>();
+    private final AtomicBoolean failWrites = new AtomicBoolean();
+
+    private final ReportRepository reportRepository = mock(ReportRepository.class);
+    private final ModerationTargetStatsRepository targetStatsRepository = mock(ModerationTargetStatsRepository.class);
+    private final ReporterCredibilityRepository reporterCredibilityRepository = mock(ReporterCredibilityRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        when(targetStatsRepository.findById(anyString())).thenAnswer(invocation -> {
+            Integer value = targetRows.get(invocation.<String>getArgument(0));
+            if (value == null) {
+                return Optional.empty();
+            }
+            ModerationTargetStats stats = BeanUtils.instantiateClass(ModerationTargetStats.class);
+            ReflectionTestUtils.setField(stats, "activeReports", value);
+            return Optional.of(stats);
+        });
+        doAnswer(invocation -> {
+            if (failWrites.get()) {
+                throw new IllegalStateException("connection lost");
+            }
+            int initial = invocation.getArgument(1);
+            int delta = invocation.getArgument(2);
+            targetRows.merge(invocation.getArgument(0), Math.max(0, initial),
+                    (current, ignored) -> Math.max(0, current + delta));
+            return null;
+        }).when(targetStatsRepository).upsertDelta(anyString(), anyInt(), anyInt(), any());
+        doAnswer(invocation -> {
+            windowRows.merge(invocation.getArgument(1), invocation.<Integer>getArgument(2), Integer::sum);
+            return null;
+        }).when(targetStatsRepository).upsertWindowDelta(eq(TARGET), any(), anyInt());
+        when(targetStatsRepository.findWindowBuckets(eq(TARGET), any())).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(1);
+            return windowRows.entrySet().stream()
+                    .filter(row -> !row.getKey().isBefore(since))
+                    .map(row -> new Object[] {row.getKey(), row.getValue()})
+                    .toList();
+        });
+
+        when(reporterCredibilityRepository.findById(anyLong())).thenAnswer(invocation -> {
+            int[] row = reporterRows.get(invocation.<Long>getArgument(0));
+            if (row == null) {
+                return Optional.empty();
+            }
+            ReporterCredibility credibility = BeanUtils.instantiateClass(ReporterCredibility.class);
+            ReflectionTestUtils.setField(credibility, "upheldReports", row[0]);
+            ReflectionTestUtils.setField(credibility, "rejectedReports", row[1]);
+            return Optional.of(credibility);
+        });
+        doAnswer(invocation -> {
+            int[] initial = {invocation.getArgument(1), invocation.getArgument(2)};
+            int[] delta = {invocation.getArgument(3), invocation.getArgument(4)};
+            reporterRows.merge(invocation.getArgument(0), initial,
+                    (current, ignored) -> new int[] {current[0] + delta[0], current[1] + delta[1]});
+            return null;
+        }).when(reporterCredibilityRepository).upsertDelta(anyLong(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Reports recorded on two instances should both be added to the checkpoint")
+    void should_AddDeltasFromEveryInstance() {
+        targetRows.put(TARGET, 5);
+        ReportSignalTracker first = tracker();
+        ReportSignalTracker second = tracker();
+
+        first.recordReport("PROPERTY", 7L, LocalDateTime.now());
+        first.recordReport("PROPERTY", 7L, LocalDateTime.now());
+        second.recordReport("PROPERTY", 7L, LocalDateTime.now());
+        second.recordReport("PROPERTY", 7L, LocalDateTime.now());
+        second.recordReport("PROPERTY", 7L, LocalDateTime.now());
+
+        second.checkpoint();
+        first.checkpoint();
+
+        assertThat(targetRows.get(TARGET)).isEqualTo(10);
+        assertThat(first.currentSignal("PROPERTY", 7L).activeReports()).isEqualTo(10);
+        assertThat(second.currentSignal("PROPERTY", 7L).activeReports()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("A target without a checkpoint should be seeded from the reports table without double counting")
+    void should_SeedFromReportsTable() {
+        when(reportRepository.countReportsForTarget(eq("PROPERTY"), eq(7L), anyList())).thenReturn(3L);
+        ReportSignalTracker tracker = tracker();
+
+        assertThat(tracker.recordReport("PROPERTY", 7L, LocalDateTime.now()).activeReports()).isEqualTo(3);
+        tracker.recordReport("PROPERTY", 7L, LocalDateTime.now());
+        tracker.checkpoint();
+
+        assertThat(targetRows.get(TARGET)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deltas from a failed checkpoint should be kept and written by the next one")
+    void should_RetryDeltasAfterFailedCheckpoint() {
+        targetRows.put(TARGET, 2);
+        ReportSignalTracker tracker = tracker();
+        tracker.recordReport("PROPERTY", 7L, LocalDateTime.now());
+
+        failWrites.set(true);
+        tracker.checkpoint();
+        assertThat(targetRows.get(TARGET)).isEqualTo(2);
+
+        tracker.recordReport("PROPERTY", 7L, LocalDateTime.now());
+        failWrites.set(false);
+        tracker.checkpoint();
+
+        assertThat(targetRows.get(TARGET)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("The sliding window should include reports received by the other instance after a checkpoint")
+    void should_ShareWindowAcrossInstances() {
+        targetRows.put(TARGET, 0);
+        ReportSignalTracker first = tracker();
+        ReportSignalTracker second = tracker();
+        LocalDateTime now = LocalDateTime.now();
+
+        first.recordReport("PROPERTY", 7L, now);
+        first.recordReport("PROPERTY", 7L, now);
+        assertThat(second.recordReport("PROPERTY", 7L, now).reportsInWindow()).isEqualTo(1);
+
+        first.checkpoint();
+        second.checkpoint();
+
+        assertThat(windowRows).containsExactly(Map.entry(now.truncatedTo(ChronoUnit.HOURS), 3));
+        assertThat(first.currentSignal("PROPERTY", 7L).reportsInWindow()).isEqualTo(3);
+        assertThat(second.recordReport("PROPERTY", 7L, now).reportsInWindow()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Buckets older than the window should be left out when the window is loaded")
+    void should_IgnoreBucketsOutsideWindow() {
+        targetRows.put(TARGET, 0);
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        windowRows.put(hour.minusHours(24), 50);
+        windowRows.put(hour.minusHours(23), 4);
+
+        assertThat(tracker().currentSignal("PROPERTY", 7L).reportsInWindow()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Dismissals and reporter outcomes should be written as deltas")
+    void should_WriteClosureDeltas() {
+        targetRows.put(TARGET, 4);
+        reporterRows.put(11L, new int[] {1, 1});
+        ReportSignalTracker first = tracker();
+        ReportSignalTracker second = tracker();
+
+        first.onReportClosed(closed(11L, ReportStatus.DISMISSED));
+        second.onReportClosed(closed(11L, ReportStatus.CONTENT_REMOVED));
+        first.checkpoint();
+        second.checkpoint();
+
+        assertThat(targetRows.get(TARGET)).isEqualTo(3);
+        assertThat(reporterRows.get(11L)).containsExactly(2, 2);
+        assertThat(first.credibility(11L)).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Reconcile should recount checkpoints from reports and reload the in-memory values")
+    void should_ReconcileFromReports() {
+        targetRows.put(TARGET, 5);
+        ReportSignalTracker tracker = tracker();
+        assertThat(tracker.currentSignal("PROPERTY", 7L).activeReports()).isEqualTo(5);
+        when(targetStatsRepository.reconcileFromReports(any(), anyList())).thenAnswer(invocation -> {
+            targetRows.put(TARGET, 8);
+            return 1;
+        });
+
+        tracker.reconcile();
+
+        verify(targetStatsRepository).reconcileFromReports(any(), eq(List.of("DISMISSED", "DUPLICATE")));
+        verify(targetStatsRepository).reconcileWindowsFromReports(
+                eq(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(23)), any());
+        verify(targetStatsRepository).deleteWindowsBefore(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(23));
+        verify(reporterCredibilityRepository).reconcileFromReports(any(),
+                eq(List.of("RESOLVED", "WARNING_ISSUED", "CONTENT_REMOVED", "USER_SUSPENDED", "ACCOUNT_BANNED")),
+                eq(List.of("DISMISSED", "DUPLICATE")));
+        assertThat(tracker.currentSignal("PROPERTY", 7L).activeReports()).isEqualTo(8);
+    }
+
+    private ReportSignalTracker tracker() {
+        ReportSignalTracker tracker = new ReportSignalTracker(reportRepository, targetStatsRepository,
+                reporterCredibilityRepository, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(tracker, "windowHours", 24);
+        ReflectionTestUtils.setField(tracker, "checkpointIntervalMs", 30000L);
+        return tracker;
+    }
+
+    private static ReportClosedEvent closed(Long reporterId, ReportStatus status) {
+        return new ReportClosedEvent(100L, reporterId, "PROPERTY", 7L, ReportStatus.UNDER_REVIEW, status);
+    }
+}
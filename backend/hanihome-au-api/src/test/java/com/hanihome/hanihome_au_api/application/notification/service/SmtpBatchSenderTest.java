@@ -0,0 +1,74 @@
+package com.hanihome.hanihome_au_api.application.notification.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SmtpBatchSender Tests")
+class SmtpBatchSenderTest {
+
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private SmtpBatchSender sender;
+
+    @BeforeEach
+    void setUp() {
+        sender = new SmtpBatchSender(mailSender, meterRegistry);
+        ReflectionTestUtils.setField(sender, "batchSize", 2);
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.getArguments().length);
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("Should send every message over one SMTP transaction per batch")
+    void should_SendInBatches() {
+        int sent = sender.sendAll(messages(5));
+
+        assertThat(sent).isEqualTo(5);
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+        assertThat(meterRegistry.get("email.messages").tag("outcome", "sent").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("email.send").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should count only the failed recipients of a partially failed batch")
+    void should_CountPartialFailures() {
+        List<MimeMessage> messages = messages(2);
+        doAnswer(invocation -> {
+            throw new MailSendException("rejected", null, Map.<Object, Exception>of(messages.get(1), new RuntimeException("550")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        int sent = sender.sendAll(messages);
+
+        assertThat(sent).isEqualTo(1);
+        assertThat(meterRegistry.get("email.messages").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    private static List<MimeMessage> messages(int count) {
+        Session session = Session.getInstance(new Properties());
+        List<MimeMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(new MimeMessage(session));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,196 @@
+package com.hanihome.hanihome_au_api.application.property.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AutocompleteTrie Tests")
+class AutocompleteTrieTest {
+
+    private final AutocompleteTrie trie = AutocompleteTrie.compile(List.of(
+            new AutocompleteTrie.Entry("Sydney", "location", "City", 50),
+            new AutocompleteTrie.Entry("Sydney Olympic Park", "location", "District", 5),
+            new AutocompleteTrie.Entry("Sunny studio near Central", "property_title", "Sydney", 7),
+            new AutocompleteTrie.Entry("Studio  in Surry Hills", "property_title", "Sydney", 9),
+            new AutocompleteTrie.Entry("강남 원룸", "property_title", "Seoul", 3),
+            new AutocompleteTrie.Entry("Melbourne", "location", "City", 40)
+    ), 2);
+
+    @Nested
+    @DisplayName("Prefix lookup")
+    class PrefixTests {
+
+        @Test
+        @DisplayName("Should return the highest weighted entries under the prefix")
+        void should_ReturnTopWeighted() {
+            assertThat(trie.suggest("s", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Sydney", "Studio  in Surry Hills");
+        }
+
+        @Test
+        @DisplayName("Should match prefixes ending inside a compressed edge")
+        void should_MatchInsideEdge() {
+            assertThat(trie.suggest("sydney olympic pa", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Sydney Olympic Park");
+        }
+
+        @Test
+        @DisplayName("Should match later words, ignoring case and repeated spaces")
+        void should_MatchWordStarts() {
+            assertThat(trie.suggest("CENTRAL", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Sunny studio near Central");
+            assertThat(trie.suggest("studio", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Studio  in Surry Hills", "Sunny studio near Central");
+            assertThat(trie.suggest("원룸", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("강남 원룸");
+        }
+
+        @Test
+        @DisplayName("Should return nothing for unknown prefixes and honour the limit")
+        void should_HandleMissesAndLimit() {
+            assertThat(trie.suggest("brisbane", 10)).isEmpty();
+            assertThat(trie.suggest("syd", 1)).extracting(match -> match.entry().text())
+                    .containsExactly("Sydney");
+            assertThat(AutocompleteTrie.empty().suggest("a", 5)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Typo tolerance")
+    class FuzzyTests {
+
+        @Test
+        @DisplayName("Should match one misspelt or transposed character")
+        void should_MatchWithinOneEdit() {
+            List<AutocompleteTrie.Match> matches = trie.suggest("melborne", 10);
+
+            assertThat(matches).extracting(match -> match.entry().text()).containsExactly("Melbourne");
+            assertThat(matches.get(0).distance()).isEqualTo(1);
+            assertThat(trie.suggest("mlebourne", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Melbourne");
+        }
+
+        @Test
+        @DisplayName("Should rank exact prefixes before fuzzy matches")
+        void should_RankExactFirst() {
+            List<AutocompleteTrie.Match> matches = trie.suggest("sydn", 10);
+
+            assertThat(matches).extracting(match -> match.entry().text())
+                    .startsWith("Sydney", "Sydney Olympic Park");
+            assertThat(matches.get(0).distance()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not correct short prefixes or the first character")
+        void should_NotCorrectShortOrFirstChar() {
+            assertThat(AutocompleteTrie.maxEdits(3)).isZero();
+            assertThat(trie.suggest("xelbourne", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Korean input and highlighting")
+    class JamoTests {
+
+        @Test
+        @DisplayName("Should match syllables still being composed")
+        void should_MatchPartialSyllable() {
+            assertThat(trie.suggest("강나", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("강남 원룸");
+            assertThat(trie.suggest("ㄱ", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("강남 원룸");
+        }
+
+        @Test
+        @DisplayName("Should report highlight offsets in the original text")
+        void should_ReportHighlightOffsets() {
+            AutocompleteTrie.Match studio = trie.suggest("stu", 1).get(0);
+            assertThat(studio.entry().text().substring(studio.highlightStart(), studio.highlightEnd()))
+                    .isEqualTo("Stu");
+            assertThat(studio.startsAtBeginning()).isTrue();
+
+            AutocompleteTrie.Match central = trie.suggest("central", 1).get(0);
+            assertThat(central.entry().text().substring(central.highlightStart(), central.highlightEnd()))
+                    .isEqualTo("Central");
+            assertThat(central.startsAtBeginning()).isFalse();
+
+            AutocompleteTrie.Match gangnam = trie.suggest("강나", 1).get(0);
+            assertThat(gangnam.highlightStart()).isZero();
+            assertThat(gangnam.highlightEnd()).isEqualTo(2);
+            assertThat(trie.suggest("sydney", 1).get(0).coversText()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental updates")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should surface the next entry when a top-k entry is removed")
+        void should_RepairTopKOnRemove() {
+            AutocompleteTrie updated = trie.update(
+                    List.of(new AutocompleteTrie.Entry("Sydney", "location", "City", 50)), List.of());
+
+            assertThat(updated.suggest("s", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Studio  in Surry Hills", "Sunny studio near Central");
+            assertThat(updated.suggest("sydney", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Sydney Olympic Park");
+            assertThat(updated.size()).isEqualTo(5);
+            assertThat(trie.suggest("s", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Sydney", "Studio  in Surry Hills");
+        }
+
+        @Test
+        @DisplayName("Should rank a reweighted entry by its new weight and split edges for new keys")
+        void should_ApplyReweightAndInsert() {
+            AutocompleteTrie updated = trie.update(
+                    List.of(new AutocompleteTrie.Entry("Sunny studio near Central", "property_title", "Sydney", 7)),
+                    List.of(new AutocompleteTrie.Entry("Sunny studio near Central", "property_title", "Sydney", 70),
+                            new AutocompleteTrie.Entry("Sydenham", "location", "District", 1)));
+
+            assertThat(updated.suggest("s", 10)).extracting(match -> match.entry().text())
+                    .containsExactly("Sunny studio near Central", "Sydney");
+            assertThat(updated.suggest("syde", 10)).extracting(match -> match.entry().text())
+                    .startsWith("Sydenham");
+            assertThat(updated.suggest("missing", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should answer like a full compile of the same entries after many updates")
+        void should_MatchFullCompile() {
+            String[] words = {"sydney", "syd", "sunny", "studio", "surry", "central", "강남", "원룸", "melbourne", "park"};
+            Random random = new Random(7);
+            List<AutocompleteTrie.Entry> live = new ArrayList<>();
+            AutocompleteTrie incremental = AutocompleteTrie.compile(List.of(), 3);
+            long weight = 0;
+
+            for (int round = 0; round < 500; round++) {
+                List<AutocompleteTrie.Entry> removed = new ArrayList<>();
+                List<AutocompleteTrie.Entry> added = new ArrayList<>();
+                for (int i = random.nextInt(3); i > 0 && !live.isEmpty(); i--) {
+                    removed.add(live.remove(random.nextInt(live.size())));
+                }
+                for (int i = random.nextInt(4); i > 0; i--) {
+                    String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                    AutocompleteTrie.Entry entry = new AutocompleteTrie.Entry(text, "property_title", "Sydney", ++weight);
+                    live.add(entry);
+                    added.add(entry);
+                }
+                incremental = incremental.update(removed, added);
+            }
+
+            AutocompleteTrie full = AutocompleteTrie.compile(live, 3);
+            assertThat(incremental.size()).isEqualTo(full.size());
+            assertThat(incremental.nodeCount()).isEqualTo(full.nodeCount());
+            for (String query : List.of("s", "syd", "sydn", "st", "강", "ㅇ", "melborne", "sunny studio", "p")) {
+                assertThat(incremental.suggest(query, 5)).isEqualTo(full.suggest(query, 5));
+            }
+        }
+    }
+}
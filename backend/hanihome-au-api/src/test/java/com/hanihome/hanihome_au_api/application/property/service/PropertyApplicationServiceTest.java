@@ -0,0 +1,101 @@
+package com.hanihome.hanihome_au_api.application.property.service;
+
+import com.hanihome.hanihome_au_api.application.moderation.service.ContentScanner;
+import com.hanihome.hanihome_au_api.application.moderation.service.ReportService;
+import com.hanihome.hanihome_au_api.application.property.dto.CreatePropertyCommand;
+import com.hanihome.hanihome_au_api.application.property.dto.PropertyResponseDto;
+import com.hanihome.hanihome_au_api.application.property.usecase.CreatePropertyUseCase;
+import com.hanihome.hanihome_au_api.domain.enums.ReportType;
+import com.hanihome.hanihome_au_api.domain.property.repository.PropertyRepository;
+import com.hanihome.hanihome_au_api.domain.property.service.PropertyDomainService;
+import com.hanihome.hanihome_au_api.domain.shared.event.DomainEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PropertyApplicationService listing screening Tests")
+class PropertyApplicationServiceTest {
+
+    private final CreatePropertyUseCase createPropertyUseCase = mock(CreatePropertyUseCase.class);
+    private final ReportService reportService = mock(ReportService.class);
+    private PropertyApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        ContentScanner contentScanner = new ContentScanner(new DefaultResourceLoader());
+        ReflectionTestUtils.setField(contentScanner, "rulesLocation", "classpath:moderation/content-rules.txt");
+        contentScanner.reload();
+
+        service = new PropertyApplicationService(mock(PropertyRepository.class), mock(PropertyDomainService.class),
+                createPropertyUseCase, mock(DomainEventPublisher.class), mock(SearchCacheEvictionService.class),
+                contentScanner, reportService, 0.8);
+
+        PropertyResponseDto created = mock(PropertyResponseDto.class);
+        when(created.getId()).thenReturn(42L);
+        when(createPropertyUseCase.execute(any())).thenReturn(created);
+    }
+
+    @Test
+    @DisplayName("Ordinary listing copy with spam and contact terms should be accepted for review")
+    void should_AcceptOrdinaryListingCopy() {
+        CreatePropertyCommand command = command("무료 주차/인터넷, 즉시 입주 가능",
+                "문의는 연락처 또는 카카오톡으로 주세요. 역까지 도보 5분.");
+
+        assertThatCode(() -> service.createProperty(command)).doesNotThrowAnyException();
+        verify(createPropertyUseCase).execute(command);
+    }
+
+    @Test
+    @DisplayName("A flagged listing should be stored with a pending report on the new property")
+    void should_PersistReviewFlag_ForFlaggedListing() {
+        CreatePropertyCommand command = command("즉시 입주 가능", "문의는 카카오톡으로 주세요.");
+
+        service.createProperty(command);
+
+        verify(reportService).flagForReview(eq(ReportType.INAPPROPRIATE_CONTENT),
+                argThat(description -> description.contains("PERSONAL_INFO") && description.contains("카카오톡")),
+                eq("PROPERTY"), eq(42L), eq(2));
+    }
+
+    @Test
+    @DisplayName("A listing without rule matches should not be flagged")
+    void should_NotFlagCleanListing() {
+        assertThat(service.createProperty(command("Bright two bedroom apartment", "Close to the station"))).isNotNull();
+
+        verify(reportService, never()).flagForReview(any(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Listings with fraud terms at or above the block score should be rejected")
+    void should_RejectFraudulentListing() {
+        CreatePropertyCommand command = command("Sydney CBD studio",
+                "Owner overseas, wire the deposit via western union before viewing. Not a scam.");
+
+        assertThatThrownBy(() -> service.createProperty(command))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(createPropertyUseCase, never()).execute(command);
+        verify(reportService, never()).flagForReview(any(), anyString(), anyString(), any(), any());
+    }
+
+    private static CreatePropertyCommand command(String title, String description) {
+        return new CreatePropertyCommand(1L, title, description, "APARTMENT", "MONTHLY", "1 George St", "Sydney",
+                "NSW", "Australia", "2000", -33.86, 151.2, 2, 1, 54.5, 3, 10, true, false, true,
+                new BigDecimal("650.00"), new BigDecimal("2600.00"), "AUD");
+    }
+}
@@ -0,0 +1,178 @@
+package com.hanihome.hanihome_au_api.application.property.service;
+
+import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
+import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.infrastructure.observation.SearchTracing;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.QPropertyJpaEntity;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchRequest;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchResponse;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Facet counts from the single aggregate query, checked against one plain count query per bucket
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("PropertySearchService facet count Tests")
+class PropertySearchFacetCountTest {
+
+    private static final QPropertyJpaEntity property = QPropertyJpaEntity.propertyJpaEntity;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private PropertySearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new PropertySearchService(entityManager, mock(PropertyApplicationService.class),
+                SearchTracing.noop());
+        ReflectionTestUtils.setField(searchService, "fullTextEnabled", false);
+
+        Random random = new Random(46);
+        PropertyJpaEntity.PropertyTypeEnum[] types = PropertyJpaEntity.PropertyTypeEnum.values();
+        PropertyJpaEntity.RentalTypeEnum[] rentalTypes = PropertyJpaEntity.RentalTypeEnum.values();
+        for (int i = 0; i < 200; i++) {
+            persist(types[random.nextInt(types.length)], rentalTypes[random.nextInt(rentalTypes.length)],
+                    random.nextInt(6), 400 + random.nextInt(60) * 100, random.nextBoolean(),
+                    random.nextBoolean(), random.nextInt(3) == 0 ? "Melbourne" : "Sydney",
+                    random.nextInt(8) == 0 ? PropertyJpaEntity.PropertyStatusEnum.INACTIVE
+                            : PropertyJpaEntity.PropertyStatusEnum.ACTIVE);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Each facet should be counted with the other dimensions' filters but without its own")
+    void should_MatchPerBucketCounts_ExcludingOwnDimension() {
+        PropertySearchResponse response = searchService.searchProperties(filteredRequest(
+                List.of("propertyType", "rentalType", "bedrooms", "priceBand", "amenities")));
+
+        assertFacetCounts(response, SearchFacet.resolve(
+                List.of("propertyType", "rentalType", "bedrooms", "priceBand", "amenities")));
+        // Excluding the dimension's own filter is what makes unselected values visible
+        assertThat(response.getFacets().get("propertyType").get("VILLA")).isPositive();
+        assertThat(response.getFacets().get("rentalType").get("SALE")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Filters on dimensions that are not requested as facets should narrow every count")
+    void should_MatchPerBucketCounts_WhenOnlySomeFacetsRequested() {
+        PropertySearchResponse response = searchService.searchProperties(
+                filteredRequest(List.of("bedrooms", "amenities")));
+
+        assertFacetCounts(response, SearchFacet.resolve(List.of("bedrooms", "amenities")));
+    }
+
+    @Test
+    @DisplayName("The total should still apply every filter")
+    void should_KeepTotalFullyFiltered() {
+        PropertySearchResponse withFacets = searchService.searchProperties(filteredRequest(List.of("priceBand")));
+        PropertySearchResponse withoutFacets = searchService.searchProperties(filteredRequest(null));
+
+        assertThat(withFacets.getTotalElements()).isEqualTo(count(filters(), null, null));
+        assertThat(withFacets.getTotalElements()).isEqualTo(withoutFacets.getTotalElements());
+    }
+
+    private void assertFacetCounts(PropertySearchResponse response, List<SearchFacet> facets) {
+        Map<SearchFacet, Predicate> filters = filters();
+        assertThat(response.getTotalElements()).isEqualTo(count(filters, null, null));
+        assertThat(response.getFacets()).hasSize(facets.size());
+        for (SearchFacet facet : facets) {
+            for (SearchFacet.Bucket bucket : facet.buckets(property)) {
+                assertThat(response.getFacets().get(facet.dimension()).get(bucket.value()))
+                        .as("%s = %s", facet.dimension(), bucket.value())
+                        .isEqualTo(count(filters, facet, bucket.predicate()));
+            }
+        }
+    }
+
+    /** One bucket's count: every filter except the facet's own, plus the bucket */
+    private long count(Map<SearchFacet, Predicate> filters, SearchFacet facet, Predicate bucket) {
+        BooleanBuilder where = new BooleanBuilder()
+                .and(property.status.eq(PropertyJpaEntity.PropertyStatusEnum.ACTIVE))
+                .and(property.city.containsIgnoreCase("sydney"))
+                .and(bucket);
+        filters.forEach((filtered, filter) -> {
+            if (filtered != facet) {
+                where.and(filter);
+            }
+        });
+        Long count = new JPAQueryFactory(entityManager)
+                .select(property.id.count())
+                .from(property)
+                .where(where)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /** The facet dimension filters of {@link #filteredRequest(List)} */
+    private static Map<SearchFacet, Predicate> filters() {
+        Map<SearchFacet, Predicate> filters = new EnumMap<>(SearchFacet.class);
+        filters.put(SearchFacet.PROPERTY_TYPE, property.propertyType.in(
+                PropertyJpaEntity.PropertyTypeEnum.APARTMENT, PropertyJpaEntity.PropertyTypeEnum.STUDIO));
+        filters.put(SearchFacet.RENTAL_TYPE, property.rentalType.eq(PropertyJpaEntity.RentalTypeEnum.MONTHLY));
+        filters.put(SearchFacet.BEDROOMS, property.rooms.goe(1));
+        filters.put(SearchFacet.PRICE_BAND, property.monthlyRent.loe(BigDecimal.valueOf(3000)));
+        filters.put(SearchFacet.AMENITIES, property.parkingAvailable.isTrue());
+        return filters;
+    }
+
+    private static PropertySearchRequest filteredRequest(List<String> facets) {
+        PropertySearchRequest request = new PropertySearchRequest();
+        request.setCity("Sydney");
+        request.setPropertyTypes(List.of(PropertyType.APARTMENT, PropertyType.STUDIO));
+        request.setRentalTypes(List.of(RentalType.MONTHLY));
+        request.setMinBedrooms(1);
+        request.setMaxRentPrice(BigDecimal.valueOf(3000));
+        request.setParkingRequired(true);
+        request.setFacets(facets);
+        request.setSize(1);
+        return request;
+    }
+
+    private void persist(PropertyJpaEntity.PropertyTypeEnum type, PropertyJpaEntity.RentalTypeEnum rentalType,
+                         int rooms, int monthlyRent, boolean parking, boolean furnished, String city,
+                         PropertyJpaEntity.PropertyStatusEnum status) {
+        PropertyJpaEntity entity = BeanUtils.instantiateClass(PropertyJpaEntity.class);
+        entity.setTitle("Listing " + type + " " + rooms);
+        entity.setAddress("1 George St");
+        entity.setCity(city);
+        entity.setPropertyType(type);
+        entity.setRentalType(rentalType);
+        entity.setRooms(rooms);
+        entity.setMonthlyRent(BigDecimal.valueOf(monthlyRent));
+        entity.setParkingAvailable(parking);
+        entity.setFurnished(furnished);
+        entity.setPetAllowed(false);
+        entity.setShortTermAvailable(rooms % 2 == 0);
+        entity.setStatus(status);
+        entity.setLandlordId(1L);
+        entity.setCreatedDate(LocalDateTime.now());
+        entity.setModifiedDate(LocalDateTime.now());
+        entityManager.persist(entity);
+    }
+}
@@ -0,0 +1,88 @@
+package com.hanihome.hanihome_au_api.application.search.service;
+
+import com.hanihome.hanihome_au_api.application.notification.service.SSENotificationService;
+import com.hanihome.hanihome_au_api.domain.entity.SearchHistory;
+import com.hanihome.hanihome_au_api.domain.search.event.SavedSearchDeletedEvent;
+import com.hanihome.hanihome_au_api.domain.search.event.SearchSavedEvent;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaRepository;
+import com.hanihome.hanihome_au_api.repository.SearchHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SavedSearchAlertService Tests")
+class SavedSearchAlertServiceTest {
+
+    private final SearchHistoryRepository searchHistoryRepository = mock(SearchHistoryRepository.class);
+    private SavedSearchAlertService alertService;
+
+    @BeforeEach
+    void setUp() {
+        alertService = new SavedSearchAlertService(searchHistoryRepository, mock(PropertyJpaRepository.class),
+                mock(SSENotificationService.class));
+        ReflectionTestUtils.setField(alertService, "enabled", true);
+        ReflectionTestUtils.setField(alertService, "loadPageSize", 100);
+    }
+
+    @Test
+    @DisplayName("Committed saves and deletes should update the index")
+    void should_IndexCommittedChanges() {
+        alertService.onSearchSaved(new SearchSavedEvent(1L, 10L, "sydney", SearchFilters.builder().city("Sydney").build()));
+        alertService.onSearchSaved(new SearchSavedEvent(2L, 11L, "perth", SearchFilters.builder().city("Perth").build()));
+
+        alertService.onSavedSearchDeleted(new SavedSearchDeletedEvent(1L));
+
+        assertThat(alertService.getIndexedSearchCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Changes committed while a rebuild reads the table should survive the index swap")
+    void should_ReplayChangesCommittedDuringRebuild() {
+        when(searchHistoryRepository.findByIsSavedTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    // Saved and deleted on this node after the rebuild query started
+                    alertService.onSearchSaved(new SearchSavedEvent(3L, 12L, "new", SearchFilters.empty()));
+                    alertService.onSavedSearchDeleted(new SavedSearchDeletedEvent(1L));
+                    return List.of(saved(1L), saved(2L));
+                });
+
+        alertService.rebuild();
+
+        assertThat(alertService.getIndexedSearchCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A failed rebuild should keep the current index and later changes")
+    void should_KeepIndex_WhenRebuildFails() {
+        alertService.onSearchSaved(new SearchSavedEvent(1L, 10L, "sydney", SearchFilters.empty()));
+        when(searchHistoryRepository.findByIsSavedTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        assertThatThrownBy(() -> alertService.rebuild()).isInstanceOf(IllegalStateException.class);
+        alertService.onSearchSaved(new SearchSavedEvent(2L, 11L, "perth", SearchFilters.empty()));
+
+        assertThat(alertService.getIndexedSearchCount()).isEqualTo(2);
+    }
+
+    private static SearchHistory saved(Long id) {
+        return SearchHistory.builder()
+                .id(id)
+                .userId(10L)
+                .searchName("s" + id)
+                .filters(SearchFilters.empty())
+                .isSaved(true)
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.hanihome.hanihome_au_api.application.search.service;
+
+import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
+import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SavedSearchIndex Tests")
+class SavedSearchIndexTest {
+
+    private final SavedSearchIndex index = new SavedSearchIndex();
+
+    private static SavedSearchIndex.Listing listing(String city, PropertyType type, String rent,
+                                                    String latitude, String longitude) {
+        return new SavedSearchIndex.Listing(1L, type, RentalType.MONTHLY, new BigDecimal(rent),
+                new BigDecimal("2000"), 2, 1, new BigDecimal("60"), city,
+                latitude == null ? null : new BigDecimal(latitude), longitude == null ? null : new BigDecimal(longitude),
+                true, false, false, false, "Bright apartment near the station", "Close to shops");
+    }
+
+    private List<Long> matchIds(SavedSearchIndex.Listing listing, String previousRent) {
+        return index.match(listing, previousRent == null ? null : new BigDecimal(previousRent)).stream()
+                .map(SavedSearchIndex.Match::searchId)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Partitions")
+    class PartitionTests {
+
+        @Test
+        @DisplayName("Should match city searches case-insensitively within the price range")
+        void should_MatchCityAndPrice() {
+            index.put(1L, 10L, "sydney", SearchFilters.builder().city("Sydney")
+                    .minRentPrice(new BigDecimal("400")).maxRentPrice(new BigDecimal("600")).build());
+            index.put(2L, 11L, "melbourne", SearchFilters.builder().city("Melbourne").build());
+            index.put(3L, 12L, "cheap sydney", SearchFilters.builder().city("sydney")
+                    .maxRentPrice(new BigDecimal("399.99")).build());
+
+            assertThat(matchIds(listing(" SYDNEY ", PropertyType.APARTMENT, "400", null, null), null))
+                    .containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Should match radius searches through grid cells and the bounding box")
+        void should_MatchRadiusSearches() {
+            index.put(1L, 10L, "near cbd", SearchFilters.builder()
+                    .latitude(new BigDecimal("-33.8688")).longitude(new BigDecimal("151.2093"))
+                    .maxDistance(new BigDecimal("5")).build());
+            index.put(2L, 11L, "wide", SearchFilters.builder()
+                    .latitude(new BigDecimal("-33.8688")).longitude(new BigDecimal("151.2093"))
+                    .maxDistance(new BigDecimal("500")).build());
+
+            assertThat(matchIds(listing("Sydney", PropertyType.APARTMENT, "500", "-33.8900", "151.2000"), null))
+                    .containsExactlyInAnyOrder(1L, 2L);
+            assertThat(matchIds(listing("Newcastle", PropertyType.APARTMENT, "500", "-32.9283", "151.7817"), null))
+                    .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("Should match type-only and unrestricted searches")
+        void should_MatchTypeAndAnySearches() {
+            index.put(1L, 10L, "studios", SearchFilters.builder()
+                    .propertyTypes(List.of(PropertyType.STUDIO, PropertyType.APARTMENT)).build());
+            index.put(2L, 11L, "villas", SearchFilters.builder().propertyTypes(List.of(PropertyType.VILLA)).build());
+            index.put(3L, 12L, "anything with parking", SearchFilters.builder().parkingRequired(true).build());
+            index.put(4L, 13L, "pets", SearchFilters.builder().petAllowedRequired(true).build());
+
+            assertThat(matchIds(listing("Perth", PropertyType.APARTMENT, "300", null, null), null))
+                    .containsExactlyInAnyOrder(1L, 3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filters")
+    class FilterTests {
+
+        @Test
+        @DisplayName("Should require the keyword in the title or description")
+        void should_MatchKeyword() {
+            index.put(1L, 10L, "station", SearchFilters.builder().keyword(" Station ").build());
+            index.put(2L, 11L, "pool", SearchFilters.builder().keyword("pool").build());
+
+            assertThat(matchIds(listing("Sydney", PropertyType.APARTMENT, "500", null, null), null))
+                    .containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Should only report searches that a price change newly brings into range")
+        void should_SkipSearchesAlreadyInRange() {
+            index.put(1L, 10L, "up to 500", SearchFilters.builder().maxRentPrice(new BigDecimal("500")).build());
+            index.put(2L, 11L, "up to 700", SearchFilters.builder().maxRentPrice(new BigDecimal("700")).build());
+
+            assertThat(matchIds(listing("Sydney", PropertyType.APARTMENT, "480", null, null), "650"))
+                    .containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Should never match an inverted price range")
+        void should_IgnoreInvertedRange() {
+            index.put(1L, 10L, "inverted", SearchFilters.builder()
+                    .minRentPrice(new BigDecimal("800")).maxRentPrice(new BigDecimal("200")).build());
+
+            assertThat(matchIds(listing("Sydney", PropertyType.APARTMENT, "500", null, null), null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should stop matching removed and replaced searches")
+        void should_ApplyRemoveAndReplace() {
+            index.put(1L, 10L, "sydney", SearchFilters.builder().city("Sydney").build());
+            index.put(2L, 11L, "sydney too", SearchFilters.builder().city("Sydney").build());
+
+            index.remove(1L);
+            index.put(2L, 11L, "now melbourne", SearchFilters.builder().city("Melbourne").build());
+
+            assertThat(matchIds(listing("Sydney", PropertyType.APARTMENT, "500", null, null), null)).isEmpty();
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should agree with a linear scan for random price ranges")
+        void should_AgreeWithLinearScan() {
+            Random random = new Random(42);
+            List<SavedSearchIndex.SavedSearch> searches = new ArrayList<>();
+            List<long[]> ranges = new ArrayList<>();
+            for (long id = 1; id <= 2000; id++) {
+                long low = random.nextInt(2000);
+                long high = low + random.nextInt(1500);
+                ranges.add(new long[] {id, low, high});
+                searches.add(new SavedSearchIndex.SavedSearch(id, id, "s" + id, SearchFilters.builder()
+                        .minRentPrice(BigDecimal.valueOf(low)).maxRentPrice(BigDecimal.valueOf(high)).build()));
+            }
+            index.putAll(searches);
+
+            for (int i = 0; i < 50; i++) {
+                long rent = random.nextInt(3500);
+                List<Long> expected = ranges.stream()
+                        .filter(range -> range[1] <= rent && rent <= range[2])
+                        .map(range -> range[0])
+                        .toList();
+
+                assertThat(matchIds(listing("Sydney", PropertyType.APARTMENT, String.valueOf(rent), null, null), null))
+                        .containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("Should agree with a linear scan after single puts and removes across tree rebuilds")
+        void should_AgreeWithLinearScan_AfterIncrementalUpdates() {
+            Random random = new Random(7);
+            Map<Long, long[]> live = new HashMap<>();
+            for (int step = 0; step < 3000; step++) {
+                long id = 1 + random.nextInt(400);
+                if (random.nextInt(4) == 0) {
+                    index.remove(id);
+                    live.remove(id);
+                } else {
+                    long low = random.nextInt(2000);
+                    long high = low + random.nextInt(1500);
+                    index.put(id, id, "s" + id, SearchFilters.builder()
+                            .minRentPrice(BigDecimal.valueOf(low)).maxRentPrice(BigDecimal.valueOf(high)).build());
+                    live.put(id, new long[] {low, high});
+                }
+
+                if (step % 100 == 0) {
+                    long rent = random.nextInt(3500);
+                    List<Long> expected = live.entrySet().stream()
+                            .filter(entry -> entry.getValue()[0] <= rent && rent <= entry.getValue()[1])
+                            .map(Map.Entry::getKey)
+                            .toList();
+
+                    assertThat(matchIds(listing("Sydney", PropertyType.APARTMENT, String.valueOf(rent), null, null), null))
+                            .containsExactlyInAnyOrderElementsOf(expected);
+                }
+            }
+            assertThat(index.size()).isEqualTo(live.size());
+        }
+    }
+}
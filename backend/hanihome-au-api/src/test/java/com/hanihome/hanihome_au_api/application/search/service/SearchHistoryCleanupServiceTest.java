@@ -0,0 +1,114 @@
+package com.hanihome.hanihome_au_api.application.search.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.SearchHistory;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
+import com.hanihome.hanihome_au_api.repository.SearchHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SearchHistoryCleanupService Tests")
+class SearchHistoryCleanupServiceTest {
+
+    private final SearchHistoryRepository searchHistoryRepository = mock(SearchHistoryRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private SearchHistoryCleanupService cleanupService;
+
+    @BeforeEach
+    void setUp() {
+        cleanupService = new SearchHistoryCleanupService(searchHistoryRepository, transactionManager);
+        ReflectionTestUtils.setField(cleanupService, "retentionDays", 90);
+        ReflectionTestUtils.setField(cleanupService, "maxHistoryPerUser", 2);
+        ReflectionTestUtils.setField(cleanupService, "batchSize", 4);
+        ReflectionTestUtils.setField(cleanupService, "cleanupEnabled", true);
+    }
+
+    @Test
+    @DisplayName("Expired entries should be deleted a chunk per transaction until a chunk comes back short")
+    void should_DeleteExpiredInChunks() {
+        when(searchHistoryRepository.findExpiredIds(any(), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L, 3L, 4L), List.of(5L));
+        when(searchHistoryRepository.deleteByIdIn(anyCollection())).thenReturn(4, 1);
+
+        cleanupService.cleanupOldSearchHistory();
+
+        verify(searchHistoryRepository).deleteByIdIn(List.of(1L, 2L, 3L, 4L));
+        verify(searchHistoryRepository).deleteByIdIn(List.of(5L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Users over the cap should be trimmed batch-size / max-history-per-user users at a time")
+    void should_TrimUsersOverCap_InChunks() {
+        when(searchHistoryRepository.findExpiredIds(any(), any(Pageable.class))).thenReturn(List.of());
+        when(searchHistoryRepository.findUserIdsOverCap(2)).thenReturn(List.of(10L, 11L, 12L));
+        when(searchHistoryRepository.findIdsOverCap(List.of(10L, 11L), 2)).thenReturn(List.of(100L, 110L));
+        when(searchHistoryRepository.findIdsOverCap(List.of(12L), 2)).thenReturn(List.of());
+
+        cleanupService.cleanupOldSearchHistory();
+
+        verify(searchHistoryRepository).deleteByIdIn(List.of(100L, 110L));
+        verify(searchHistoryRepository).findIdsOverCap(List.of(12L), 2);
+    }
+
+    @Test
+    @DisplayName("Nothing should be read or deleted while cleanup is disabled")
+    void should_DoNothing_WhenDisabled() {
+        ReflectionTestUtils.setField(cleanupService, "cleanupEnabled", false);
+
+        cleanupService.cleanupOldSearchHistory();
+
+        verifyNoInteractions(searchHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("Backfill should hash legacy rows and merge an unsaved row whose criteria already has a row")
+    void should_BackfillHashes_AndMergeDuplicates() {
+        SearchHistory hashable = row(1L, false, "bondi");
+        SearchHistory duplicate = row(2L, false, "manly");
+        SearchHistory saved = row(3L, true, "manly");
+        when(searchHistoryRepository.findByCriteriaHashIsNullAndIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(hashable, duplicate, saved));
+        when(searchHistoryRepository.setCriteriaHashIfMissing(eq(1L), anyString())).thenReturn(1);
+        when(searchHistoryRepository.setCriteriaHashIfMissing(eq(2L), anyString())).thenReturn(0);
+        when(searchHistoryRepository.setCriteriaHashIfMissing(eq(3L), anyString())).thenReturn(0);
+        when(searchHistoryRepository.mergeIntoHashedRow(eq(2L), anyString())).thenReturn(1);
+
+        cleanupService.backfillCriteriaHashes();
+
+        verify(searchHistoryRepository).setCriteriaHashIfMissing(1L, hashable.computeCriteriaHash());
+        verify(searchHistoryRepository, never()).mergeIntoHashedRow(eq(1L), anyString());
+        verify(searchHistoryRepository).mergeIntoHashedRow(2L, duplicate.computeCriteriaHash());
+        // Saved searches are outside the unique index and never merged away
+        verify(searchHistoryRepository, never()).mergeIntoHashedRow(eq(3L), anyString());
+        // A short chunk is the last one
+        verify(searchHistoryRepository, times(1))
+                .findByCriteriaHashIsNullAndIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class));
+    }
+
+    private static SearchHistory row(Long id, boolean saved, String keyword) {
+        return SearchHistory.builder()
+                .id(id)
+                .userId(7L)
+                .isSaved(saved)
+                .filters(SearchFilters.builder().keyword(keyword).build())
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.hanihome.hanihome_au_api.application.search.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanihome.hanihome_au_api.domain.entity.SearchHistory;
+import com.hanihome.hanihome_au_api.domain.search.valueobject.SearchFilters;
+import com.hanihome.hanihome_au_api.repository.SearchHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SearchHistoryWriteBuffer Tests")
+class SearchHistoryWriteBufferTest {
+
+    private final SearchHistoryRepository searchHistoryRepository = mock(SearchHistoryRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SearchHistoryWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new SearchHistoryWriteBuffer(searchHistoryRepository, transactionManager, new ObjectMapper(),
+                meterRegistry);
+        ReflectionTestUtils.setField(buffer, "maxPending", 2);
+        ReflectionTestUtils.setField(buffer, "flushBatchSize", 500);
+    }
+
+    @Test
+    @DisplayName("Repeated searches should be merged and written with one upsert carrying the total count")
+    void should_MergeRepeats_IntoOneUpsert() {
+        buffer.record(search(1L, "bondi"));
+        buffer.record(search(1L, "bondi"));
+        buffer.record(search(1L, "bondi"));
+
+        buffer.flush();
+
+        String hash = search(1L, "bondi").computeCriteriaHash();
+        verify(searchHistoryRepository).upsertUnsaved(eq(1L), contains("\"keyword\":\"bondi\""), eq(hash), eq(3), any());
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("The same criteria of different users should be written as separate rows")
+    void should_KeepUsersApart() {
+        buffer.record(search(1L, "bondi"));
+        buffer.record(search(2L, "bondi"));
+
+        buffer.flush();
+
+        verify(searchHistoryRepository).upsertUnsaved(eq(1L), anyString(), anyString(), eq(1), any());
+        verify(searchHistoryRepository).upsertUnsaved(eq(2L), anyString(), anyString(), eq(1), any());
+    }
+
+    @Test
+    @DisplayName("A full buffer should drop new criteria without writing on the caller's thread")
+    void should_DropNewCriteria_WhenFull() {
+        buffer.record(search(1L, "bondi"));
+        buffer.record(search(1L, "manly"));
+        buffer.record(search(1L, "coogee"));
+        buffer.record(search(1L, "bondi"));
+
+        verifyNoInteractions(searchHistoryRepository, transactionManager);
+        assertThat(buffer.getPendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("search_history.buffer.dropped").count()).isEqualTo(1);
+
+        buffer.flush();
+        verify(searchHistoryRepository).upsertUnsaved(eq(1L), contains("bondi"), anyString(), eq(2), any());
+        verify(searchHistoryRepository, never()).upsertUnsaved(anyLong(), contains("coogee"), anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("A failed flush should keep the counts and add them to the next flush")
+    void should_Requeue_WhenFlushFails() {
+        when(searchHistoryRepository.upsertUnsaved(anyLong(), anyString(), anyString(), anyInt(), any()))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(1);
+        buffer.record(search(1L, "bondi"));
+
+        buffer.flush();
+        assertThat(buffer.getPendingCount()).isEqualTo(1);
+        verify(transactionManager).rollback(any());
+
+        buffer.record(search(1L, "bondi"));
+        buffer.flush();
+        verify(searchHistoryRepository).upsertUnsaved(eq(1L), anyString(), anyString(), eq(2), any());
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Flush should write flush-batch-size entries per transaction")
+    void should_WriteOneTransactionPerBatch() {
+        ReflectionTestUtils.setField(buffer, "maxPending", 10);
+        ReflectionTestUtils.setField(buffer, "flushBatchSize", 2);
+        buffer.record(search(1L, "bondi"));
+        buffer.record(search(1L, "manly"));
+        buffer.record(search(1L, "coogee"));
+
+        buffer.flush();
+
+        verify(transactionManager, times(2)).commit(any());
+        verify(searchHistoryRepository, times(3)).upsertUnsaved(anyLong(), anyString(), anyString(), eq(1), any());
+    }
+
+    private static SearchHistory search(Long userId, String keyword) {
+        return SearchHistory.builder()
+                .userId(userId)
+                .filters(SearchFilters.builder().keyword(keyword).build())
+                .build();
+    }
+}
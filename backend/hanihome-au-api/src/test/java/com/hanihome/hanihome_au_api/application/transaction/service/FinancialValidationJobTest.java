@@ -0,0 +1,139 @@
+package com.hanihome.hanihome_au_api.application.transaction.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.BatchJobCheckpoint;
+import com.hanihome.hanihome_au_api.domain.entity.TransactionFinancialInfo;
+import com.hanihome.hanihome_au_api.repository.BatchJobCheckpointRepository;
+import com.hanihome.hanihome_au_api.repository.TransactionFinancialInfoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FinancialValidationJob Tests")
+class FinancialValidationJobTest {
+
+    private static final String JOB_NAME = FinancialValidationJob.JOB_NAME;
+
+    private final TransactionFinancialInfoRepository financialInfoRepository = mock(TransactionFinancialInfoRepository.class);
+    private final BatchJobCheckpointRepository checkpointRepository = mock(BatchJobCheckpointRepository.class);
+    private FinancialValidationJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new FinancialValidationJob(financialInfoRepository, checkpointRepository,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 2);
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "leaseTtl", Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    @DisplayName("A run should be skipped while another node holds an unexpired lease")
+    void should_Skip_WhenAnotherNodeHoldsLease() {
+        BatchJobCheckpoint checkpoint = new BatchJobCheckpoint(JOB_NAME);
+        checkpoint.lease("other-node", Duration.ofMinutes(10));
+        when(checkpointRepository.findForUpdate(JOB_NAME)).thenReturn(Optional.of(checkpoint));
+
+        assertThat(job.run()).isZero();
+
+        verify(financialInfoRepository, never()).findChunkForUpdate(anyLong(), any());
+        assertThat(checkpoint.getLockedBy()).isEqualTo("other-node");
+    }
+
+    @Test
+    @DisplayName("An expired lease should be taken over and the run resumed from the checkpoint")
+    void should_ResumeFromCheckpoint_WhenLeaseExpired() {
+        BatchJobCheckpoint checkpoint = new BatchJobCheckpoint(JOB_NAME);
+        checkpoint.advance(40L, 40);
+        checkpoint.lease("dead-node", Duration.ofMinutes(-1));
+        when(checkpointRepository.findForUpdate(JOB_NAME)).thenReturn(Optional.of(checkpoint));
+        when(financialInfoRepository.findChunkForUpdate(eq(40L), any(Pageable.class)))
+                .thenReturn(List.of(info(41L), info(42L)));
+        when(financialInfoRepository.findChunkForUpdate(eq(42L), any(Pageable.class)))
+                .thenReturn(List.of(info(43L)));
+
+        assertThat(job.run()).isEqualTo(3);
+
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(43L);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(43L);
+        assertThat(checkpoint.isInProgress()).isFalse();
+        assertThat(checkpoint.getLockedBy()).isNull();
+    }
+
+    @Test
+    @DisplayName("A completed checkpoint should start a new run from the first id")
+    void should_Restart_WhenLastRunCompleted() {
+        BatchJobCheckpoint checkpoint = new BatchJobCheckpoint(JOB_NAME);
+        checkpoint.advance(99L, 99);
+        checkpoint.complete();
+        when(checkpointRepository.findForUpdate(JOB_NAME)).thenReturn(Optional.of(checkpoint));
+        when(financialInfoRepository.findChunkForUpdate(eq(0L), any(Pageable.class))).thenReturn(List.of(info(1L)));
+
+        assertThat(job.run()).isEqualTo(1);
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("A run should stop without writing once another node took the lease over")
+    void should_Stop_WhenLeaseLostMidRun() {
+        BatchJobCheckpoint checkpoint = new BatchJobCheckpoint(JOB_NAME);
+        when(checkpointRepository.findForUpdate(JOB_NAME)).thenReturn(Optional.of(checkpoint));
+        List<TransactionFinancialInfo> firstChunk = List.of(info(1L), info(2L));
+        when(financialInfoRepository.findChunkForUpdate(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // The lease expires while the first chunk is validated and another node takes it
+            checkpoint.release(checkpoint.getLockedBy());
+            checkpoint.lease("other-node", Duration.ofMinutes(10));
+            return firstChunk;
+        });
+
+        assertThatThrownBy(() -> job.run()).isInstanceOf(IllegalStateException.class);
+
+        verify(financialInfoRepository, never()).findChunkForUpdate(eq(2L), any());
+        assertThat(checkpoint.getLockedBy()).isEqualTo("other-node");
+    }
+
+    @Test
+    @DisplayName("A new checkpoint should be created and leased on the first run")
+    void should_CreateCheckpoint_OnFirstRun() {
+        when(checkpointRepository.findForUpdate(JOB_NAME)).thenReturn(Optional.empty());
+        when(checkpointRepository.saveAndFlush(any(BatchJobCheckpoint.class))).thenAnswer(invocation -> {
+            BatchJobCheckpoint created = invocation.getArgument(0);
+            when(checkpointRepository.findForUpdate(JOB_NAME)).thenReturn(Optional.of(created));
+            return created;
+        });
+
+        assertThat(job.run()).isZero();
+
+        verify(checkpointRepository).saveAndFlush(any(BatchJobCheckpoint.class));
+        verify(financialInfoRepository).findChunkForUpdate(eq(0L), any(Pageable.class));
+    }
+
+    private static TransactionFinancialInfo info(long id) {
+        TransactionFinancialInfo info = mock(TransactionFinancialInfo.class);
+        when(info.getId()).thenReturn(id);
+        when(info.validateFinancialInfo()).thenReturn("");
+        return info;
+    }
+}
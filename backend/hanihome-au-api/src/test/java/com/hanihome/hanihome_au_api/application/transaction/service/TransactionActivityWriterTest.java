@@ -0,0 +1,127 @@
+package com.hanihome.hanihome_au_api.application.transaction.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.TransactionActivity;
+import com.hanihome.hanihome_au_api.domain.enums.TransactionActivityType;
+import com.hanihome.hanihome_au_api.repository.TransactionActivityRepository;
+import com.hanihome.hanihome_au_api.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TransactionActivityWriter Tests")
+class TransactionActivityWriterTest {
+
+    private final TransactionActivityRepository activityRepository = mock(TransactionActivityRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TransactionActivityWriter writer = new TransactionActivityWriter(
+            mock(TransactionRepository.class), activityRepository, transactionManager);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Activities of a read-write transaction should be saved together just before it commits")
+    void should_FlushBatchBeforeCommit() {
+        beginTransaction(false);
+
+        writer.append(1L, TransactionActivityType.OFFER_MADE, "Offer made", 3L, null);
+        writer.append(1L, TransactionActivityType.OFFER_ACCEPTED, "Offer accepted", 4L, null);
+        verify(activityRepository, never()).saveAll(anyIterable());
+
+        beforeCommit();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransactionActivity>> rows = ArgumentCaptor.forClass(List.class);
+        verify(activityRepository).saveAll(rows.capture());
+        assertThat(rows.getValue()).extracting(TransactionActivity::getActivityType)
+                .containsExactly(TransactionActivityType.OFFER_MADE, TransactionActivityType.OFFER_ACCEPTED);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("A failed batch should fail the surrounding commit instead of being dropped")
+    void should_FailCommitWhenBatchFails() {
+        beginTransaction(false);
+        when(activityRepository.saveAll(anyIterable())).thenThrow(new DataIntegrityViolationException("fk"));
+
+        writer.append(99L, TransactionActivityType.STATUS_CHANGED, "Status changed", 3L, null);
+
+        assertThatThrownBy(this::beforeCommit).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Outside a transaction an activity should be written and committed in its own transaction")
+    void should_WriteInOwnTransactionOutsideTransaction() {
+        writer.append(1L, TransactionActivityType.DOCUMENT_UPLOADED, "Lease uploaded", 3L, null);
+
+        verify(activityRepository).saveAll(anyIterable());
+        assertRequiresNewCommitted();
+    }
+
+    @Test
+    @DisplayName("From a read-only transaction an activity should be written in its own transaction")
+    void should_WriteInOwnTransactionFromReadOnlyTransaction() {
+        beginTransaction(true);
+
+        writer.append(1L, TransactionActivityType.DOCUMENT_UPLOADED, "Lease uploaded", 3L, null);
+
+        verify(activityRepository).saveAll(anyIterable());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        assertRequiresNewCommitted();
+    }
+
+    @Test
+    @DisplayName("A constraint violation outside a transaction should be rolled back and reported to the caller")
+    void should_PropagateFailureOutsideTransaction() {
+        when(activityRepository.saveAll(anyIterable())).thenThrow(new DataIntegrityViolationException("fk"));
+
+        assertThatThrownBy(() -> writer.append(99L, TransactionActivityType.STATUS_CHANGED, "Status changed", 3L, null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void beforeCommit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+    }
+
+    private void assertRequiresNewCommitted() {
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(transactionManager).commit(any());
+    }
+}
@@ -0,0 +1,185 @@
+package com.hanihome.hanihome_au_api.application.viewing.service;
+
+import com.hanihome.hanihome_au_api.application.notification.service.EmailNotificationService;
+import com.hanihome.hanihome_au_api.domain.entity.Viewing;
+import com.hanihome.hanihome_au_api.domain.enums.ViewingStatus;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.property.PropertyJpaRepository;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.user.UserJpaEntity;
+import com.hanihome.hanihome_au_api.infrastructure.persistence.user.UserJpaRepository;
+import com.hanihome.hanihome_au_api.repository.ViewingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewingMaintenanceService reminder Tests")
+class ViewingMaintenanceServiceTest {
+
+    @Mock
+    private ViewingRepository viewingRepository;
+
+    @Mock
+    private ViewingConflictService conflictService;
+
+    @Mock
+    private EmailNotificationService emailNotificationService;
+
+    @Mock
+    private UserJpaRepository userJpaRepository;
+
+    @Mock
+    private PropertyJpaRepository propertyJpaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ViewingMaintenanceService service;
+
+    @Test
+    @DisplayName("Should send one bulk batch with real tenant names and property titles and mark viewings reminded")
+    void should_SendBulkRemindersWithResolvedNames() {
+        Viewing first = viewing(1L, 10L, 100L, "first@example.com");
+        Viewing second = viewing(2L, 11L, 100L, "second@example.com");
+        Viewing noEmail = viewing(3L, 10L, 100L, null);
+        List<UserJpaEntity> tenants = List.of(user(10L, "김민수"), user(11L, "Jane Doe"));
+        when(viewingRepository.findUpcomingConfirmedViewings(any(), any())).thenReturn(List.of(first, second, noEmail));
+        when(userJpaRepository.findAllById(any())).thenReturn(tenants);
+        when(propertyJpaRepository.findAllById(any())).thenReturn(List.of(property(100L, "시드니 CBD 원룸")));
+        when(viewingRepository.markReminderSent(anyLong(), any())).thenReturn(1);
+
+        service.sendViewingReminders();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailNotificationService.ReminderEmail>> emails = ArgumentCaptor.forClass(List.class);
+        verify(emailNotificationService).sendViewingReminderEmails(emails.capture());
+        assertThat(emails.getValue())
+                .extracting(EmailNotificationService.ReminderEmail::getToEmail,
+                        EmailNotificationService.ReminderEmail::getRecipientName,
+                        EmailNotificationService.ReminderEmail::getPropertyTitle)
+                .containsExactly(
+                        tuple("first@example.com", "김민수", "시드니 CBD 원룸"),
+                        tuple("second@example.com", "Jane Doe", "시드니 CBD 원룸"));
+        verify(viewingRepository).markReminderSent(eq(1L), any());
+        verify(viewingRepository).markReminderSent(eq(2L), any());
+        verify(viewingRepository).markReminderSent(eq(3L), any());
+    }
+
+    @Test
+    @DisplayName("Should commit each reminder marker in its own transaction before any email is sent")
+    void should_CommitEachMarkerBeforeSending() {
+        Viewing first = viewing(1L, 10L, 100L, "first@example.com");
+        Viewing second = viewing(2L, 11L, 100L, "second@example.com");
+        when(viewingRepository.findUpcomingConfirmedViewings(any(), any())).thenReturn(List.of(first, second));
+        when(userJpaRepository.findAllById(any())).thenReturn(List.of());
+        when(propertyJpaRepository.findAllById(any())).thenReturn(List.of(property(100L, "시드니 CBD 원룸")));
+        when(viewingRepository.markReminderSent(anyLong(), any())).thenReturn(1);
+
+        service.sendViewingReminders();
+
+        InOrder order = inOrder(transactionManager, viewingRepository, emailNotificationService);
+        order.verify(viewingRepository).markReminderSent(eq(1L), any());
+        order.verify(transactionManager).commit(any());
+        order.verify(viewingRepository).markReminderSent(eq(2L), any());
+        order.verify(transactionManager).commit(any());
+        order.verify(emailNotificationService).sendViewingReminderEmails(anyList());
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("Should skip viewings claimed elsewhere or whose marker failed to commit")
+    void should_SkipUnclaimedViewings() {
+        Viewing claimed = viewing(1L, 10L, 100L, "first@example.com");
+        Viewing alreadyReminded = viewing(2L, 11L, 100L, "second@example.com");
+        Viewing failed = viewing(3L, 12L, 100L, "third@example.com");
+        when(viewingRepository.findUpcomingConfirmedViewings(any(), any()))
+                .thenReturn(List.of(claimed, alreadyReminded, failed));
+        when(userJpaRepository.findAllById(any())).thenReturn(List.of());
+        when(propertyJpaRepository.findAllById(any())).thenReturn(List.of(property(100L, "시드니 CBD 원룸")));
+        when(viewingRepository.markReminderSent(eq(1L), any())).thenReturn(1);
+        when(viewingRepository.markReminderSent(eq(2L), any())).thenReturn(0);
+        when(viewingRepository.markReminderSent(eq(3L), any())).thenThrow(new IllegalStateException("deadlock"));
+
+        service.sendViewingReminders();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailNotificationService.ReminderEmail>> emails = ArgumentCaptor.forClass(List.class);
+        verify(emailNotificationService).sendViewingReminderEmails(emails.capture());
+        assertThat(emails.getValue())
+                .extracting(EmailNotificationService.ReminderEmail::getToEmail)
+                .containsExactly("first@example.com");
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should not send anything when every viewing in the window was already reminded")
+    void should_NotResendReminders() {
+        when(viewingRepository.findUpcomingConfirmedViewings(any(), any())).thenReturn(List.of());
+
+        service.sendViewingReminders();
+
+        verify(emailNotificationService, never()).sendViewingReminderEmails(anyList());
+        verify(userJpaRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Should clear the reminder marker when a viewing is rescheduled")
+    void should_ClearReminderOnReschedule() {
+        Viewing viewing = viewing(1L, 10L, 100L, "first@example.com");
+        viewing.markReminderSent();
+
+        viewing.reschedule(LocalDateTime.now().plusDays(3));
+
+        assertThat(viewing.getReminderSentAt()).isNull();
+    }
+
+    private static Viewing viewing(Long id, Long tenantId, Long propertyId, String email) {
+        return Viewing.builder()
+                .id(id)
+                .tenantUserId(tenantId)
+                .landlordUserId(99L)
+                .propertyId(propertyId)
+                .scheduledAt(LocalDateTime.now().plusHours(24))
+                .status(ViewingStatus.CONFIRMED)
+                .contactEmail(email)
+                .build();
+    }
+
+    private static UserJpaEntity user(Long id, String name) {
+        UserJpaEntity user = mock(UserJpaEntity.class);
+        when(user.getId()).thenReturn(id);
+        when(user.getName()).thenReturn(name);
+        return user;
+    }
+
+    private static PropertyJpaEntity property(Long id, String title) {
+        PropertyJpaEntity property = new PropertyJpaEntity();
+        property.setId(id);
+        property.setTitle(title);
+        property.setAddress("123 George St, Sydney NSW 2000");
+        return property;
+    }
+}
@@ -0,0 +1,87 @@
+package com.hanihome.hanihome_au_api.domain.search.valueobject;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanihome.hanihome_au_api.domain.enums.PropertyType;
+import com.hanihome.hanihome_au_api.domain.enums.RentalType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * search_history.filters round trips, using the same Jackson defaults as Hibernate's JSON format mapper
+ */
+@DisplayName("SearchFilters JSON Tests")
+class SearchFiltersTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("Every criterion should survive a write and read of the JSONB document")
+    void should_RoundTripEveryCriterion() throws Exception {
+        SearchFilters filters = SearchFilters.builder()
+                .keyword("bondi beach")
+                .propertyTypes(List.of(PropertyType.APARTMENT, PropertyType.STUDIO))
+                .rentalTypes(List.of(RentalType.MONTHLY))
+                .minRentPrice(new BigDecimal("450.50"))
+                .maxRentPrice(new BigDecimal("900"))
+                .minBedrooms(1)
+                .maxBathrooms(2)
+                .city("Sydney")
+                .latitude(new BigDecimal("-33.8908"))
+                .longitude(new BigDecimal("151.2743"))
+                .parkingRequired(true)
+                .requiredOptions(List.of("AIR_CONDITIONING", "DISHWASHER"))
+                .sortBy("price")
+                .sortDirection("ASC")
+                .availableFrom("2025-02-01")
+                .recentDays(7)
+                .build();
+
+        SearchFilters read = objectMapper.readValue(objectMapper.writeValueAsString(filters), SearchFilters.class);
+
+        assertThat(read).isEqualTo(filters);
+        assertThat(read.canonicalForm()).isEqualTo(filters.canonicalForm());
+    }
+
+    @Test
+    @DisplayName("Null criteria should be left out of the document")
+    void should_OmitNullCriteria() throws Exception {
+        assertThat(objectMapper.writeValueAsString(SearchFilters.empty())).isEqualTo("{\"v\":1}");
+        assertThat(objectMapper.writeValueAsString(SearchFilters.builder().city("Perth").build()))
+                .isEqualTo("{\"v\":1,\"city\":\"Perth\"}");
+    }
+
+    @Test
+    @DisplayName("A document written by the migration backfill should read back with the same criteria hash input")
+    void should_ReadMigratedDocument() throws Exception {
+        // jsonb_build_object renders NUMERIC columns with their scale and aggregates enum names
+        String migrated = "{\"v\": 1, \"city\": \"Sydney\", \"keyword\": \"bondi\", \"minRentPrice\": 450.00, "
+                + "\"propertyTypes\": [\"STUDIO\", \"APARTMENT\"], \"parkingRequired\": true}";
+
+        SearchFilters read = objectMapper.readValue(migrated, SearchFilters.class);
+
+        SearchFilters expected = SearchFilters.builder()
+                .keyword("bondi")
+                .city("Sydney")
+                .minRentPrice(new BigDecimal("450"))
+                .propertyTypes(List.of(PropertyType.APARTMENT, PropertyType.STUDIO))
+                .parkingRequired(true)
+                .build();
+        assertThat(read.getVersion()).isEqualTo(SearchFilters.CURRENT_VERSION);
+        assertThat(read.canonicalForm()).isEqualTo(expected.canonicalForm());
+    }
+
+    @Test
+    @DisplayName("Properties added by a newer version should be ignored")
+    void should_IgnoreUnknownProperties() throws Exception {
+        SearchFilters read = objectMapper.readValue(
+                "{\"v\": 2, \"city\": \"Hobart\", \"commuteTo\": {\"lat\": -42.88}}", SearchFilters.class);
+
+        assertThat(read.getVersion()).isEqualTo(2);
+        assertThat(read.getCity()).isEqualTo("Hobart");
+    }
+}
@@ -0,0 +1,168 @@
+package com.hanihome.hanihome_au_api.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.hanihome.hanihome_au_api.application.property.dto.PropertyFavoritePageDto;
+import com.hanihome.hanihome_au_api.application.property.dto.PropertyFavoriteResponseDto;
+import com.hanihome.hanihome_au_api.application.property.dto.PropertyResponseDto;
+import com.hanihome.hanihome_au_api.domain.enums.PropertyStatus;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchCursor;
+import com.hanihome.hanihome_au_api.presentation.dto.PropertySearchResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VersionedCacheValueSerializer Tests")
+class VersionedCacheValueSerializerTest {
+
+    private static final int NO_COMPRESSION = 0;
+    private static final int ALWAYS_COMPRESS = 1;
+
+    private final SmileCacheValueCodec codec = new SmileCacheValueCodec();
+
+    @Test
+    @DisplayName("Should round-trip DTOs, boxed longs, maps and null markers through the Smile codec")
+    void should_RoundTripValues() {
+        for (int threshold : new int[] {NO_COMPRESSION, ALWAYS_COMPRESS}) {
+            VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(codec, 1, threshold);
+
+            PropertyResponseDto dto = property(7L);
+            assertThat(serializer.deserialize(serializer.serialize(dto)))
+                    .isInstanceOf(PropertyResponseDto.class)
+                    .usingRecursiveComparison()
+                    .isEqualTo(dto);
+
+            assertThat(serializer.deserialize(serializer.serialize(42L))).isEqualTo(42L);
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("totalUsers", 12L);
+            stats.put("status", PropertyStatus.ACTIVE);
+            stats.put("recent", new ArrayList<>(List.of(property(1L), property(2L))));
+            Object decoded = serializer.deserialize(serializer.serialize(stats));
+            assertThat(decoded).isInstanceOf(Map.class);
+            assertThat((Map<?, ?>) decoded)
+                    .containsEntry("totalUsers", 12L)
+                    .containsEntry("status", PropertyStatus.ACTIVE);
+            assertThat((List<?>) ((Map<?, ?>) decoded).get("recent")).hasSize(2)
+                    .allSatisfy(item -> assertThat(item).isInstanceOf(PropertyResponseDto.class));
+
+            assertThat(serializer.deserialize(serializer.serialize(NullValue.INSTANCE))).isInstanceOf(NullValue.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should round-trip a property search response with facets and cursors")
+    void should_RoundTripPropertySearchResponse() {
+        VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(codec, 1, ALWAYS_COMPRESS);
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("propertyType", new LinkedHashMap<>(Map.of("APARTMENT", 120L)));
+        PropertySearchResponse response = PropertySearchResponse.builder()
+                .properties(new ArrayList<>(List.of(property(1L), property(2L))))
+                .currentPage(0).totalPages(3).totalElements(41).numberOfElements(2).size(20)
+                .first(true).last(false).hasNext(true).hasPrevious(false)
+                .filterSummary(PropertySearchResponse.SearchFilterSummary.builder()
+                        .keyword("station").priceRange("$400 - $700").totalFiltersApplied(2).build())
+                .facets(facets)
+                .nextCursor(PropertySearchCursor.builder().lastId(2L).lastSortValue("650.00")
+                        .lastCreatedAt(LocalDateTime.of(2025, 1, 6, 10, 30)).useCursor(true).build())
+                .build();
+
+        assertThat(serializer.deserialize(serializer.serialize(response)))
+                .isInstanceOf(PropertySearchResponse.class)
+                .usingRecursiveComparison()
+                .isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a favorites page and rebuild it with the request's paging and sort")
+    void should_RoundTripFavoritesPage() {
+        VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(codec, 1, NO_COMPRESSION);
+        PageRequest pageable = PageRequest.of(1, 2, Sort.by(Sort.Order.desc("createdAt")));
+        Page<PropertyFavoriteResponseDto> page = new PageImpl<>(List.of(
+                new PropertyFavoriteResponseDto(5L, 3L, 7L, "shortlist", "near work",
+                        LocalDateTime.of(2025, 1, 6, 9, 0), true, property(7L)),
+                new PropertyFavoriteResponseDto(6L, 3L, 8L, null, null,
+                        LocalDateTime.of(2025, 1, 5, 9, 0), false, null)), pageable, 5);
+
+        Object decoded = serializer.deserialize(serializer.serialize(PropertyFavoritePageDto.from(page)));
+
+        assertThat(decoded).isInstanceOf(PropertyFavoritePageDto.class);
+        Page<PropertyFavoriteResponseDto> restored = ((PropertyFavoritePageDto) decoded).toPage(pageable);
+        assertThat(restored.getTotalElements()).isEqualTo(5);
+        assertThat(restored.getTotalPages()).isEqualTo(3);
+        assertThat(restored.getSort()).isEqualTo(pageable.getSort());
+        assertThat(restored.getContent()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(page.getContent());
+    }
+
+    @Test
+    @DisplayName("Should treat values written under another schema version or codec as misses")
+    void should_MissOnVersionOrCodecMismatch() {
+        byte[] written = new VersionedCacheValueSerializer(codec, 1, NO_COMPRESSION).serialize(property(7L));
+
+        assertThat(new VersionedCacheValueSerializer(codec, 2, NO_COMPRESSION).deserialize(written)).isNull();
+        assertThat(new VersionedCacheValueSerializer(new JsonCacheValueCodec(), 1, NO_COMPRESSION).deserialize(written))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Should treat corrupt LZ4 blocks, bad length prefixes and truncated entries as misses")
+    void should_MissOnCorruptCompressedPayload() {
+        VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(codec, 1, ALWAYS_COMPRESS);
+        byte[] written = serializer.serialize(property(7L));
+
+        byte[] corruptBlock = written.clone();
+        Arrays.fill(corruptBlock, 8, corruptBlock.length, (byte) 0xFF);
+        assertThat(serializer.deserialize(corruptBlock)).isNull();
+
+        byte[] negativeLength = written.clone();
+        negativeLength[4] = (byte) 0x80;
+        assertThat(serializer.deserialize(negativeLength)).isNull();
+
+        byte[] hugeLength = written.clone();
+        hugeLength[4] = (byte) 0x7F;
+        assertThat(serializer.deserialize(hugeLength)).isNull();
+
+        assertThat(serializer.deserialize(Arrays.copyOf(written, 6))).isNull();
+        assertThat(serializer.deserialize(Arrays.copyOf(written, written.length - 3))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should treat a corrupt payload or a type outside the allowed packages as a miss")
+    void should_MissOnCorruptOrDisallowedPayload() throws Exception {
+        VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(codec, 1, NO_COMPRESSION);
+        byte[] written = serializer.serialize(property(7L));
+
+        byte[] garbage = written.clone();
+        Arrays.fill(garbage, 4, garbage.length, (byte) 0x3A);
+        assertThat(serializer.deserialize(garbage)).isNull();
+
+        byte[] disallowed = new ObjectMapper(new SmileFactory())
+                .writeValueAsBytes(Map.of("@class", "java.net.URL", "host", "example.com"));
+        byte[] entry = new byte[4 + disallowed.length];
+        System.arraycopy(written, 0, entry, 0, 4);
+        System.arraycopy(disallowed, 0, entry, 4, disallowed.length);
+        assertThat(serializer.deserialize(entry)).isNull();
+    }
+
+    private static PropertyResponseDto property(Long id) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 6, 10, 30);
+        return new PropertyResponseDto(id, 3L, "Sunny room " + id, "Close to the station", "APARTMENT", "MONTHLY",
+                "ACTIVE", "1 George St, Sydney NSW 2000", -33.86, 151.2, 2, 1, 54.5, 3, 10, true, false, true,
+                new BigDecimal("650.00"), new BigDecimal("2600.00"), "AUD", now, now, now);
+    }
+}
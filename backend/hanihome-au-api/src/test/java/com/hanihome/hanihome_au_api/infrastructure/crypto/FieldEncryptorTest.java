@@ -0,0 +1,101 @@
+package com.hanihome.hanihome_au_api.infrastructure.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FieldEncryptor Tests")
+class FieldEncryptorTest {
+
+    private static final SecretKey KEY_V1 = FieldEncryptor.deriveKey("first-secret", 1);
+    private static final SecretKey KEY_V2 = FieldEncryptor.deriveKey("second-secret", 2);
+    private static final String LEGACY_SECRET = "0123456789abcdef";
+    private static final String ACCOUNT = "BSB 062-000 Account 12345678";
+
+    private final FieldEncryptor v1 = new FieldEncryptor(Map.of(1, KEY_V1), 1, null);
+    private final FieldEncryptor v2 = new FieldEncryptor(Map.of(1, KEY_V1, 2, KEY_V2), 2,
+            FieldEncryptor.legacyKey(LEGACY_SECRET));
+
+    @Nested
+    @DisplayName("Encryption")
+    class EncryptionTests {
+
+        @Test
+        @DisplayName("Should round-trip with a key version header and a fresh IV per value")
+        void should_RoundTrip() {
+            String first = v1.encrypt(ACCOUNT);
+            String second = v1.encrypt(ACCOUNT);
+
+            assertThat(first).startsWith("v1:").isNotEqualTo(second);
+            assertThat(v1.decrypt(first)).isEqualTo(ACCOUNT);
+            assertThat(v1.decrypt(second)).isEqualTo(ACCOUNT);
+            assertThat(v1.encrypt(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject tampered ciphertext and a swapped version header")
+        void should_RejectTampering() {
+            String encrypted = v2.encrypt(ACCOUNT);
+            byte[] payload = Base64.getDecoder().decode(encrypted.substring(3));
+            payload[payload.length - 1] ^= 1;
+
+            assertThatThrownBy(() -> v2.decrypt("v2:" + Base64.getEncoder().encodeToString(payload)))
+                    .isInstanceOf(FieldEncryptor.FieldEncryptionException.class);
+            assertThatThrownBy(() -> v2.decrypt("v1" + encrypted.substring(2)))
+                    .isInstanceOf(FieldEncryptor.FieldEncryptionException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rotation")
+    class RotationTests {
+
+        @Test
+        @DisplayName("Should read values of older key versions and re-encrypt them under the active key")
+        void should_ReEncryptOlderVersions() {
+            String old = v1.encrypt(ACCOUNT);
+
+            assertThat(v2.decrypt(old)).isEqualTo(ACCOUNT);
+            assertThat(v2.needsReEncryption(old)).isTrue();
+
+            String rotated = v2.reEncrypt(old);
+            assertThat(rotated).startsWith("v2:");
+            assertThat(v2.needsReEncryption(rotated)).isFalse();
+            assertThat(v2.reEncrypt(rotated)).isSameAs(rotated);
+        }
+
+        @Test
+        @DisplayName("Should read headerless legacy ECB values with the legacy key")
+        void should_ReadLegacyValues() throws Exception {
+            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8), "AES"));
+            String legacy = Base64.getEncoder().encodeToString(cipher.doFinal(ACCOUNT.getBytes(StandardCharsets.UTF_8)));
+
+            assertThat(v2.needsReEncryption(legacy)).isTrue();
+            assertThat(v2.decrypt(legacy)).isEqualTo(ACCOUNT);
+            assertThat(v2.decrypt(v2.reEncrypt(legacy))).isEqualTo(ACCOUNT);
+            assertThatThrownBy(() -> v1.decrypt(legacy))
+                    .isInstanceOf(FieldEncryptor.FieldEncryptionException.class);
+        }
+
+        @Test
+        @DisplayName("Should fail for a key version that is not configured")
+        void should_FailForUnknownVersion() {
+            String encrypted = v2.encrypt(ACCOUNT);
+
+            assertThatThrownBy(() -> v1.decrypt(encrypted))
+                    .isInstanceOf(FieldEncryptor.FieldEncryptionException.class)
+                    .hasMessageContaining("version 2");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.hanihome.hanihome_au_api.infrastructure.observation;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchTraceRecorder Tests")
+class SearchTraceRecorderTest {
+
+    private final SearchTraceRecorder recorder = new SearchTraceRecorder();
+    private SearchTracing tracing;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recorder, "slowThresholdMs", 0L);
+        ReflectionTestUtils.setField(recorder, "capacity", 2);
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(recorder);
+        tracing = new SearchTracing(registry);
+    }
+
+    @Test
+    @DisplayName("Should record the stages of a search request, summing repeated stages")
+    void should_RecordStageBreakdown() {
+        traceRequest("POST /api/v1/properties/search", () -> {
+            assertThat(tracing.isActive()).isTrue();
+            tracing.stage("search.count", () -> 42L);
+            tracing.runStage("cache.lookup", () -> tracing.stage("cache.deserialize", () -> "value"));
+            tracing.stage("cache.deserialize", () -> "value");
+        });
+
+        List<SearchTraceRecorder.SlowTrace> traces = recorder.getSlowTraces(10);
+        assertThat(traces).hasSize(1);
+        assertThat(traces.get(0).endpoint()).isEqualTo("POST /api/v1/properties/search");
+        assertThat(traces.get(0).failed()).isFalse();
+        assertThat(traces.get(0).stageMillis())
+                .containsOnlyKeys("search.count", "cache.deserialize", "cache.lookup");
+        assertThat(traces.get(0).totalMillis())
+                .isGreaterThanOrEqualTo(traces.get(0).stageMillis().get("cache.lookup"));
+    }
+
+    @Test
+    @DisplayName("Should run stages untraced outside a search request")
+    void should_NotTraceOutsideRequest() {
+        assertThat(tracing.isActive()).isFalse();
+        assertThat(tracing.stage("search.fetch", () -> "result")).isEqualTo("result");
+
+        assertThat(recorder.getSlowTraces(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep only requests over the threshold, most recent first, up to the capacity")
+    void should_KeepRecentSlowRequests() {
+        traceRequest("first", () -> tracing.stage("search.fetch", () -> 1));
+        traceRequest("second", () -> tracing.stage("search.fetch", () -> 2));
+        traceRequest("third", () -> tracing.stage("search.fetch", () -> 3));
+
+        assertThat(recorder.getSlowTraces(10))
+                .extracting(SearchTraceRecorder.SlowTrace::endpoint)
+                .containsExactly("third", "second");
+        assertThat(recorder.getSlowTraces(1)).hasSize(1);
+
+        ReflectionTestUtils.setField(recorder, "slowThresholdMs", 60_000L);
+        traceRequest("fast", () -> tracing.stage("search.fetch", () -> 4));
+        assertThat(recorder.getSlowTraces(10)).extracting(SearchTraceRecorder.SlowTrace::endpoint)
+                .doesNotContain("fast");
+    }
+
+    private void traceRequest(String endpoint, Runnable work) {
+        Observation request = tracing.startRequest(endpoint);
+        try (Observation.Scope ignored = request.openScope()) {
+            work.run();
+        } finally {
+            request.stop();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.hanihome.hanihome_au_api.infrastructure.persistence.query;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryCountingDataSource Tests")
+class QueryCountingDataSourceTest {
+
+    private QueryCountingDataSource dataSource;
+    private Connection keepAlive;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:query_budget;DB_CLOSE_DELAY=-1");
+        dataSource = new QueryCountingDataSource(h2);
+        keepAlive = h2.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE favorites (id BIGINT PRIMARY KEY, user_id BIGINT, category VARCHAR(20))");
+            statement.execute("INSERT INTO favorites VALUES (1, 7, 'shortlist'), (2, 7, 'maybe'), (3, 7, 'maybe'), "
+                    + "(4, 8, 'shortlist')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DROP TABLE favorites");
+        }
+        keepAlive.close();
+    }
+
+    @Nested
+    @DisplayName("Counting")
+    class CountingTests {
+
+        @Test
+        @DisplayName("Should count statements and rows read in the open scope")
+        void should_CountStatementsAndRows() throws SQLException {
+            try (QueryScope scope = QueryScope.open("test")) {
+                assertThat(countRows("SELECT * FROM favorites WHERE user_id = 7")).isEqualTo(3);
+                assertThat(countRows("SELECT * FROM favorites WHERE user_id = 8")).isEqualTo(1);
+
+                assertThat(scope.statements()).isEqualTo(2);
+                assertThat(scope.rows()).isEqualTo(4);
+            }
+        }
+
+        @Test
+        @DisplayName("Should report the statement repeated per item as one fingerprint")
+        void should_GroupRepeatedStatements() throws SQLException {
+            try (QueryScope scope = QueryScope.open("test");
+                 Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(
+                         "SELECT COUNT(*) FROM favorites WHERE user_id = ? AND category = ?")) {
+                for (String category : new String[]{"shortlist", "maybe", "inspect"}) {
+                    statement.setLong(1, 7);
+                    statement.setString(2, category);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                    }
+                }
+
+                assertThat(scope.statements()).isEqualTo(3);
+                assertThat(scope.maxRepeats()).isEqualTo(3);
+                assertThat(scope.topFingerprints(1).get(0).fingerprint())
+                        .isEqualTo("select count(*) from favorites where user_id = ? and category = ?");
+            }
+        }
+
+        @Test
+        @DisplayName("Should add nested scope counts to the enclosing scope")
+        void should_AddNestedCountsToParent() throws SQLException {
+            try (QueryScope outer = QueryScope.open("outer")) {
+                countRows("SELECT * FROM favorites");
+                try (QueryScope inner = QueryScope.open("inner")) {
+                    countRows("SELECT * FROM favorites WHERE id = 1");
+                    assertThat(inner.statements()).isEqualTo(1);
+                }
+                assertThat(QueryScope.current()).isSameAs(outer);
+                assertThat(outer.statements()).isEqualTo(2);
+                assertThat(outer.rows()).isEqualTo(5);
+            }
+            assertThat(QueryScope.current()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should count a batch as one statement")
+        void should_CountBatchOnce() throws SQLException {
+            try (QueryScope scope = QueryScope.open("test");
+                 Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("UPDATE favorites SET category = ? WHERE id = ?")) {
+                for (long id = 1; id <= 3; id++) {
+                    statement.setString(1, "inspect");
+                    statement.setLong(2, id);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                assertThat(scope.statements()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("Should run unchanged without an open scope")
+        void should_PassThroughWithoutScope() throws SQLException {
+            assertThat(countRows("SELECT * FROM favorites")).isEqualTo(4);
+            assertThat(QueryScope.current()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Fingerprints")
+    class FingerprintTests {
+
+        @Test
+        @DisplayName("Should replace literals and normalize whitespace and case")
+        void should_ReplaceLiterals() {
+            assertThat(SqlFingerprint.normalize("SELECT *\n  FROM users u1_0 WHERE u1_0.email = 'a@b.com' AND age > 30"))
+                    .isEqualTo("select * from users u1_0 where u1_0.email = ? and age > ?");
+        }
+
+        @Test
+        @DisplayName("Should treat escaped quotes as part of the literal")
+        void should_HandleEscapedQuotes() {
+            assertThat(SqlFingerprint.normalize("select 1 from t where name = 'O''Brien' and x = 2.5"))
+                    .isEqualTo("select ? from t where name = ? and x = ?");
+        }
+
+        @Test
+        @DisplayName("Should fold IN lists of any length into one form")
+        void should_FoldInLists() {
+            String three = SqlFingerprint.normalize("select * from properties where id in (?, ?, ?)");
+            String five = SqlFingerprint.normalize("select * from properties where id in (?,?,?,?,?)");
+
+            assertThat(three).isEqualTo("select * from properties where id in (?...)").isEqualTo(five);
+            assertThat(SqlFingerprint.normalize("select * from properties where id in (?)"))
+                    .isEqualTo("select * from properties where id in (?)");
+        }
+    }
+
+    private int countRows(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            int rows = 0;
+            while (resultSet.next()) {
+                rows++;
+            }
+            return rows;
+        }
+    }
+}
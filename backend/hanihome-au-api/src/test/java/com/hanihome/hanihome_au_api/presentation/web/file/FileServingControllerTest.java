@@ -0,0 +1,228 @@
+package com.hanihome.hanihome_au_api.presentation.web.file;
+
+import com.hanihome.hanihome_au_api.service.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileServingController Tests")
+class FileServingControllerTest {
+
+    private static final String CONTEXT_PATH = "/api/v1";
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+    private FileServingController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileStorageService = new FileStorageService();
+        ReflectionTestUtils.setField(fileStorageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileStorageService, "baseUrl", "https://api.hanihome.com.au" + CONTEXT_PATH);
+        controller = new FileServingController(fileStorageService);
+
+        Files.createDirectories(uploadDir.resolve("properties/1"));
+        Files.writeString(uploadDir.resolve("properties/1/photo.txt"), CONTENT, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Generated URLs should resolve to the controller mapping under the context path")
+    void should_GenerateUrlsServedByController() throws IOException {
+        String url = fileStorageService.toUrl("properties/1/photo.txt");
+        assertThat(url).isEqualTo("https://api.hanihome.com.au/api/v1/files/properties/1/photo.txt");
+
+        MockHttpServletResponse response = serve(request(url.substring("https://api.hanihome.com.au".length())));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("Should return 206 with Content-Range for a single byte range")
+    void should_ServeByteRange() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("Should serve suffix and open-ended ranges, clamping the end to the file length")
+    void should_ServeSuffixAndOpenRanges() throws IOException {
+        MockHttpServletRequest suffix = request();
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        assertThat(serve(suffix).getContentAsString()).isEqualTo("789");
+
+        MockHttpServletRequest open = request();
+        open.addHeader(HttpHeaders.RANGE, "bytes=7-");
+        assertThat(serve(open).getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+
+        MockHttpServletRequest clamped = request();
+        clamped.addHeader(HttpHeaders.RANGE, "bytes=8-100");
+        assertThat(serve(clamped).getContentAsString()).isEqualTo("89");
+    }
+
+    @Test
+    @DisplayName("Should return 416 for an unsatisfiable range")
+    void should_RejectUnsatisfiableRange() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("Should ignore multi-range and malformed Range headers and serve the whole file")
+    void should_IgnoreUnsupportedRanges() throws IOException {
+        for (String range : new String[] {"bytes=0-1,4-5", "bytes=-", "items=0-1", "bytes=abc-"}) {
+            MockHttpServletRequest request = request();
+            request.addHeader(HttpHeaders.RANGE, range);
+
+            MockHttpServletResponse response = serve(request);
+
+            assertThat(response.getStatus()).as(range).isEqualTo(200);
+            assertThat(response.getContentAsString()).as(range).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    @DisplayName("Should honour the range only when If-Range matches the current ETag")
+    void should_ApplyIfRange() throws IOException {
+        String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest matching = request();
+        matching.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        matching.addHeader(HttpHeaders.IF_RANGE, etag);
+        assertThat(serve(matching).getStatus()).isEqualTo(206);
+
+        MockHttpServletRequest stale = request();
+        stale.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+        MockHttpServletResponse response = serve(stale);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("Should return 304 when If-None-Match lists the current ETag or is a wildcard")
+    void should_ReturnNotModified() throws IOException {
+        String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest listed = request();
+        listed.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag);
+        MockHttpServletResponse response = serve(listed);
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletRequest wildcard = request();
+        wildcard.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+        assertThat(serve(wildcard).getStatus()).isEqualTo(304);
+
+        MockHttpServletRequest stale = request();
+        stale.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        assertThat(serve(stale).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("The ETag should be the SHA-256 of the bytes, unchanged by a new modification time")
+    void should_DeriveEtagFromContentHash() throws IOException, NoSuchAlgorithmException {
+        String expected = "\"" + sha256(CONTENT) + "\"";
+        assertThat(serve(request()).getHeader(HttpHeaders.ETAG)).isEqualTo(expected);
+
+        Files.setLastModifiedTime(uploadDir.resolve("properties/1/photo.txt"), FileTime.fromMillis(0));
+        assertThat(serve(request()).getHeader(HttpHeaders.ETAG)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("A content-addressed blob should use the hash in its name as the ETag")
+    void should_UseBlobNameAsEtag() throws IOException {
+        String hash = "a".repeat(64);
+        Files.createDirectories(uploadDir.resolve("blobs/aa"));
+        Files.writeString(uploadDir.resolve("blobs/aa/" + hash + ".jpg"), CONTENT, StandardCharsets.UTF_8);
+
+        MockHttpServletResponse response = serve(request(CONTEXT_PATH + "/files/blobs/aa/" + hash + ".jpg"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + hash + "\"");
+    }
+
+    @Test
+    @DisplayName("If-None-Match should use the weak comparison and accept a W/ tag")
+    void should_ReturnNotModified_ForWeakTag() throws IOException {
+        String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest weak = request();
+        weak.addHeader(HttpHeaders.IF_NONE_MATCH, "W/" + etag);
+        assertThat(serve(weak).getStatus()).isEqualTo(304);
+
+        MockHttpServletRequest weakIfRange = request();
+        weakIfRange.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        weakIfRange.addHeader(HttpHeaders.IF_RANGE, "W/" + etag);
+        assertThat(serve(weakIfRange).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Uploads still staged under blobs/tmp should never be served")
+    void should_NotServeStagedUploads() throws IOException {
+        Files.createDirectories(uploadDir.resolve("blobs/tmp"));
+        Files.writeString(uploadDir.resolve("blobs/tmp/upload.part"), CONTENT, StandardCharsets.UTF_8);
+
+        assertThat(serve(request(CONTEXT_PATH + "/files/blobs/tmp/upload.part")).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("Should reject paths that escape the upload directory and 404 on missing files")
+    void should_RejectTraversalAndMissingFiles() throws IOException {
+        assertThat(serve(request(CONTEXT_PATH + "/files/../secret.txt")).getStatus()).isEqualTo(400);
+        assertThat(serve(request(CONTEXT_PATH + "/files/properties/1/missing.txt")).getStatus()).isEqualTo(404);
+    }
+
+    private static String sha256(String content) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private MockHttpServletRequest request() {
+        return request(CONTEXT_PATH + "/files/properties/1/photo.txt");
+    }
+
+    private MockHttpServletRequest request(String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        request.setContextPath(CONTEXT_PATH);
+        return request;
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serveFile(request, response);
+        return response;
+    }
+}
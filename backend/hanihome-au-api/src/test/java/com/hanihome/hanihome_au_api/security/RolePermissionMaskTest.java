@@ -0,0 +1,82 @@
+package com.hanihome.hanihome_au_api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanihome.hanihome_au_api.config.MenuConfiguration;
+import com.hanihome.hanihome_au_api.domain.enums.Permission;
+import com.hanihome.hanihome_au_api.domain.user.valueobject.UserRole;
+import com.hanihome.hanihome_au_api.dto.response.MenuItemDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Compiled role permissions and menus Tests")
+class RolePermissionMaskTest {
+
+    @Nested
+    @DisplayName("Permission masks")
+    class PermissionMaskTests {
+
+        @Test
+        @DisplayName("Should match the permission set of each role")
+        void should_MatchPermissionSet() {
+            for (com.hanihome.hanihome_au_api.domain.enums.UserRole role
+                    : com.hanihome.hanihome_au_api.domain.enums.UserRole.values()) {
+                for (Permission permission : Permission.values()) {
+                    assertThat(role.hasPermission(permission))
+                            .as("%s / %s", role, permission)
+                            .isEqualTo(role.getPermissions().contains(permission));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the string semantics of the user role permission names")
+        void should_KeepStringPermissionSemantics() {
+            assertThat(UserRole.LANDLORD.hasPermission("PROPERTY_CREATE")).isTrue();
+            assertThat(UserRole.TENANT.hasPermission("PROPERTY_CREATE")).isFalse();
+            assertThat(UserRole.TENANT.hasPermission("user:read")).isFalse();
+            assertThat(UserRole.LANDLORD.hasPermission("property:create")).isFalse();
+            assertThat(UserRole.ADMIN.hasPermission("user:read")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Precomputed menus")
+    class MenuTests {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final MenuConfiguration menuConfiguration = new MenuConfiguration(objectMapper);
+
+        @Test
+        @DisplayName("Should filter child menus by role")
+        void should_FilterChildMenus() {
+            List<MenuItemDto> menu = menuConfiguration.getMenuForRole(
+                    com.hanihome.hanihome_au_api.domain.enums.UserRole.TENANT);
+
+            MenuItemDto properties = menu.stream()
+                    .filter(item -> item.getId().equals("properties"))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(properties.getChildren()).extracting(MenuItemDto::getId)
+                    .containsExactly("property-search");
+            assertThat(menu).extracting(MenuItemDto::getId).doesNotContain("users", "admin");
+        }
+
+        @Test
+        @DisplayName("Should serve the same JSON as serializing the filtered lists")
+        void should_PreSerializeMenus() throws Exception {
+            var role = com.hanihome.hanihome_au_api.domain.enums.UserRole.AGENT;
+
+            assertThat(objectMapper.writeValueAsString(menuConfiguration.getMenuJson(role)))
+                    .isEqualTo(objectMapper.writeValueAsString(menuConfiguration.getMenuForRole(role)));
+            assertThat(objectMapper.writeValueAsString(menuConfiguration.getFeaturesJson(role)))
+                    .isEqualTo(objectMapper.writeValueAsString(menuConfiguration.getAvailableFeaturesForRole(role)));
+            assertThat(menuConfiguration.hasFeature(role, "agent.clients.manage")).isTrue();
+            assertThat(menuConfiguration.hasFeature(role, "admin.logs")).isFalse();
+        }
+    }
+}
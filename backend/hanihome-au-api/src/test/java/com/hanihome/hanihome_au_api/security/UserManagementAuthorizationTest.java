@@ -0,0 +1,76 @@
+package com.hanihome.hanihome_au_api.security;
+
+import com.hanihome.hanihome_au_api.controller.UserManagementController;
+import com.hanihome.hanihome_au_api.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("UserManagementController authorization Tests")
+class UserManagementAuthorizationTest {
+
+    private static final long CURRENT_USER_ID = 7L;
+    private static final long OTHER_USER_ID = 8L;
+
+    private final SecurityExpressionHandler securityExpressionHandler =
+            new SecurityExpressionHandler(new RoleAuthorization(mock(UserService.class)));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("A tenant should not be allowed to read another user's profile")
+    void should_DenyTenantReadingOtherUser() throws Exception {
+        authenticate("TENANT");
+
+        assertThat(evaluateGetUserProfile(OTHER_USER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("A tenant should be allowed to read their own profile")
+    void should_AllowTenantReadingOwnProfile() throws Exception {
+        authenticate("TENANT");
+
+        assertThat(evaluateGetUserProfile(CURRENT_USER_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("An admin should be allowed to read any user's profile")
+    void should_AllowAdminReadingOtherUser() throws Exception {
+        authenticate("ADMIN");
+
+        assertThat(evaluateGetUserProfile(OTHER_USER_ID)).isTrue();
+    }
+
+    /**
+     * Evaluates the @PreAuthorize expression of GET /users/{userId} as Spring Security would
+     */
+    private boolean evaluateGetUserProfile(long userId) throws Exception {
+        String expression = UserManagementController.class.getMethod("getUserProfile", Long.class)
+                .getAnnotation(PreAuthorize.class).value();
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setBeanResolver((evaluationContext, beanName) -> securityExpressionHandler);
+        context.setVariable("userId", userId);
+        return Boolean.TRUE.equals(new SpelExpressionParser().parseExpression(expression).getValue(context, Boolean.class));
+    }
+
+    private static void authenticate(String role) {
+        UserPrincipal principal = new UserPrincipal(CURRENT_USER_ID, "user@example.com", "User", role, true,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role)), null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.hanihome.hanihome_au_api.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RateLimiter Tests")
+class RateLimiterTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final List<List<String>> syncedKeys = new ArrayList<>();
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            syncedKeys.add(keys);
+            return keys.stream().map(key -> "5").toList();
+        });
+        rateLimiter = new RateLimiter(redisTemplate, new SimpleMeterRegistry(), 60, 10, 30, 5,
+                List.of("/api/v1/properties/search"), List.of("/actuator/**"));
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "syncEnabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "maxKeysPerCall", 2);
+    }
+
+    @Test
+    @DisplayName("Every key of a sync call should share one hash tag so the script runs on Redis Cluster")
+    void should_HashTagEveryKey() {
+        RateLimitPolicy policy = rateLimiter.resolvePolicy("/api/v1/properties");
+        rateLimiter.tryAcquire(policy, "user:1");
+        rateLimiter.tryAcquire(policy, "user:2");
+        rateLimiter.tryAcquire(rateLimiter.resolvePolicy("/api/v1/properties/search"), "ip:10.0.0.1");
+
+        rateLimiter.sync();
+
+        assertThat(syncedKeys).hasSize(2);
+        assertThat(syncedKeys).flatMap(keys -> keys).hasSize(3)
+                .allSatisfy(key -> assertThat(key).startsWith("{ratelimit}:"));
+    }
+
+    @Test
+    @DisplayName("Sync should adopt the shared balance returned by Redis")
+    void should_AdoptSharedBalance() {
+        RateLimitPolicy policy = rateLimiter.resolvePolicy("/api/v1/properties");
+        rateLimiter.tryAcquire(policy, "user:1");
+
+        rateLimiter.sync();
+
+        assertThat(rateLimiter.tryAcquire(policy, "user:1").remaining()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,102 @@
+package com.hanihome.hanihome_au_api.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucket Tests")
+class TokenBucketTest {
+
+    // 60 requests per minute = one token per second, burst of 3
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy("test", 60, 3);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final TokenBucket bucket = new TokenBucket(POLICY.burstSize(), POLICY.tokensPerNano(), 0);
+
+    @Nested
+    @DisplayName("Local limiting")
+    class LocalTests {
+
+        @Test
+        @DisplayName("Should allow the burst and then report the wait for the next token")
+        void should_AllowBurstThenReject() {
+            assertThat(bucket.tryConsume(0)).isZero();
+            assertThat(bucket.tryConsume(0)).isZero();
+            assertThat(bucket.tryConsume(0)).isZero();
+
+            long wait = bucket.tryConsume(0);
+            assertThat(wait).isBetween(SECOND - 1000, SECOND + 1000);
+        }
+
+        @Test
+        @DisplayName("Should refill at the policy rate up to the burst size")
+        void should_Refill() {
+            for (int i = 0; i < 3; i++) {
+                bucket.tryConsume(0);
+            }
+
+            assertThat(bucket.tryConsume(SECOND)).isZero();
+            assertThat(bucket.tryConsume(SECOND)).isPositive();
+            assertThat(bucket.remaining(100 * SECOND)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sync")
+    class SyncTests {
+
+        @Test
+        @DisplayName("Should hand out taken tokens once and take them back after a failed sync")
+        void should_DrainAndRestore() {
+            bucket.tryConsume(0);
+            bucket.tryConsume(0);
+
+            assertThat(bucket.drainUnsynced()).isEqualTo(2);
+            assertThat(bucket.drainUnsynced()).isZero();
+
+            bucket.restoreUnsynced(2);
+            assertThat(bucket.drainUnsynced()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should lower the local balance to the shared one minus tokens taken during the sync")
+        void should_ReconcileWithSharedBalance() {
+            bucket.tryConsume(0);
+            bucket.drainUnsynced();
+            bucket.tryConsume(0);
+
+            // Another node used most of the shared budget: one token left before this node's in-flight token
+            bucket.reconcile(1, 0);
+
+            assertThat(bucket.remaining(0)).isZero();
+            assertThat(bucket.tryConsume(0)).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should never raise the local balance above what it has")
+        void should_NotRaiseLocalBalance() {
+            bucket.tryConsume(0);
+            bucket.tryConsume(0);
+            bucket.drainUnsynced();
+
+            bucket.reconcile(3, 0);
+
+            assertThat(bucket.remaining(0)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should be idle only without unsynced tokens and after the idle period")
+        void should_DetectIdle() {
+            bucket.tryConsume(0);
+
+            assertThat(bucket.isIdle(10 * SECOND, POLICY.refillNanos())).isFalse();
+            bucket.drainUnsynced();
+            assertThat(bucket.isIdle(2 * SECOND, POLICY.refillNanos())).isFalse();
+            assertThat(bucket.isIdle(10 * SECOND, POLICY.refillNanos())).isTrue();
+        }
+    }
+}
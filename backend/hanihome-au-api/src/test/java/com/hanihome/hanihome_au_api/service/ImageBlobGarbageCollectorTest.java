@@ -0,0 +1,183 @@
+package com.hanihome.hanihome_au_api.service;
+
+import com.hanihome.hanihome_au_api.domain.entity.ImageBlob;
+import com.hanihome.hanihome_au_api.repository.ImageBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Content-addressed blob storage and GC Tests")
+class ImageBlobGarbageCollectorTest {
+
+    private static final byte[] BYTES = "same image bytes".getBytes();
+
+    @TempDir
+    Path uploadDir;
+
+    private final ImageBlobRepository imageBlobRepository = mock(ImageBlobRepository.class);
+    private FileStorageService fileStorageService;
+    private ImageBlobGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService();
+        ReflectionTestUtils.setField(fileStorageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileStorageService, "baseUrl", "http://localhost:8080/api/v1");
+        collector = new ImageBlobGarbageCollector(imageBlobRepository, fileStorageService,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(collector, "graceHours", 24);
+        ReflectionTestUtils.setField(collector, "batchSize", 100);
+    }
+
+    @Test
+    @DisplayName("Identical bytes uploaded under another extension should be published to the existing blob path")
+    void should_KeepOneFilePerHash() throws IOException {
+        FileStorageService.StagedBlob first = fileStorageService.stageContentAddressed(upload("a.jpg"));
+        String path = fileStorageService.blobRelativePath(first.contentHash(), "jpg");
+        fileStorageService.publishBlob(first, path);
+
+        // Second upload as .jpeg: acquire keeps the row's path, so the caller publishes there
+        FileStorageService.StagedBlob second = fileStorageService.stageContentAddressed(upload("b.jpeg"));
+        assertThat(second.contentHash()).isEqualTo(first.contentHash());
+        fileStorageService.publishBlob(second, path);
+        fileStorageService.discardStaged(second);
+
+        try (var files = Files.walk(uploadDir.resolve("blobs"))) {
+            assertThat(files.filter(Files::isRegularFile).toList())
+                    .containsExactly(uploadDir.resolve(path));
+        }
+        assertThat(Files.readAllBytes(uploadDir.resolve(path))).isEqualTo(BYTES);
+    }
+
+    @Test
+    @DisplayName("Should register files with no row (rolled-back uploads) once older than the grace period")
+    void should_AdoptOrphanFiles() throws IOException {
+        FileStorageService.StagedBlob staged = fileStorageService.stageContentAddressed(upload("a.jpg"));
+        String path = fileStorageService.blobRelativePath(staged.contentHash(), "jpg");
+        fileStorageService.publishBlob(staged, path);
+        age(path, 48);
+        when(imageBlobRepository.findAllById(any())).thenReturn(List.of());
+        when(imageBlobRepository.findByIdForUpdate(staged.contentHash())).thenReturn(Optional.empty());
+        when(imageBlobRepository.adoptOrphan(eq(staged.contentHash()), eq(path), anyLong(), any())).thenReturn(1);
+
+        int orphans = collector.adoptOrphanFiles(LocalDateTime.now().minusHours(24));
+
+        assertThat(orphans).isEqualTo(1);
+        verify(imageBlobRepository).adoptOrphan(eq(staged.contentHash()), eq(path), eq((long) BYTES.length), any());
+    }
+
+    @Test
+    @DisplayName("Should leave recent files and files their row points to alone")
+    void should_SkipRecentAndReferencedFiles() throws IOException {
+        FileStorageService.StagedBlob staged = fileStorageService.stageContentAddressed(upload("a.jpg"));
+        String path = fileStorageService.blobRelativePath(staged.contentHash(), "jpg");
+        fileStorageService.publishBlob(staged, path);
+
+        assertThat(collector.adoptOrphanFiles(LocalDateTime.now().minusHours(24))).isZero();
+        verify(imageBlobRepository, never()).adoptOrphan(any(), any(), anyLong(), any());
+
+        age(path, 48);
+        ImageBlob blob = blob(staged.contentHash(), path);
+        when(imageBlobRepository.findAllById(any())).thenReturn(List.of(blob));
+
+        assertThat(collector.adoptOrphanFiles(LocalDateTime.now().minusHours(24))).isZero();
+        verify(imageBlobRepository, never()).findByIdForUpdate(any());
+        assertThat(uploadDir.resolve(path)).exists();
+    }
+
+    @Test
+    @DisplayName("Should delete a duplicate stored under another extension and stale temp files")
+    void should_DeleteDuplicatesAndStaleTempFiles() throws IOException {
+        FileStorageService.StagedBlob staged = fileStorageService.stageContentAddressed(upload("a.jpg"));
+        String rowPath = fileStorageService.blobRelativePath(staged.contentHash(), "jpg");
+        String duplicatePath = fileStorageService.blobRelativePath(staged.contentHash(), "jpeg");
+        Files.createDirectories(uploadDir.resolve(rowPath).getParent());
+        Files.write(uploadDir.resolve(rowPath), BYTES);
+        fileStorageService.publishBlob(staged, duplicatePath);
+        age(duplicatePath, 48);
+
+        Path staleTemp = uploadDir.resolve("blobs/tmp/upload-1.part");
+        Files.write(staleTemp, BYTES);
+        Files.setLastModifiedTime(staleTemp, FileTime.from(Instant.now().minus(48, ChronoUnit.HOURS)));
+
+        ImageBlob blob = blob(staged.contentHash(), rowPath);
+        when(imageBlobRepository.findAllById(any())).thenReturn(List.of(blob));
+        when(imageBlobRepository.findByIdForUpdate(staged.contentHash())).thenReturn(Optional.of(blob));
+
+        assertThat(collector.adoptOrphanFiles(LocalDateTime.now().minusHours(24))).isEqualTo(1);
+        assertThat(uploadDir.resolve(duplicatePath)).doesNotExist();
+        assertThat(uploadDir.resolve(rowPath)).exists();
+        assertThat(staleTemp).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should delete the row and the original of an unreferenced blob")
+    void should_CollectUnreferencedBlob() throws IOException {
+        FileStorageService.StagedBlob staged = fileStorageService.stageContentAddressed(upload("a.jpg"));
+        String path = fileStorageService.blobRelativePath(staged.contentHash(), "jpg");
+        fileStorageService.publishBlob(staged, path);
+        ImageBlob blob = blob(staged.contentHash(), path);
+        when(imageBlobRepository.findAllById(any())).thenReturn(List.of(blob));
+        when(imageBlobRepository.findUnreferencedBefore(any(), any())).thenReturn(List.of(blob));
+        when(imageBlobRepository.deleteIfUnreferenced(staged.contentHash())).thenReturn(1);
+
+        collector.sweep();
+
+        assertThat(uploadDir.resolve(path)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should keep the file when the blob was re-referenced before the locked delete")
+    void should_NotDeleteReacquiredBlob() throws IOException {
+        FileStorageService.StagedBlob staged = fileStorageService.stageContentAddressed(upload("a.jpg"));
+        String path = fileStorageService.blobRelativePath(staged.contentHash(), "jpg");
+        fileStorageService.publishBlob(staged, path);
+        ImageBlob blob = blob(staged.contentHash(), path);
+        when(imageBlobRepository.findAllById(any())).thenReturn(List.of(blob));
+        when(imageBlobRepository.findUnreferencedBefore(any(), any())).thenReturn(List.of(blob));
+        when(imageBlobRepository.deleteIfUnreferenced(staged.contentHash())).thenReturn(0);
+
+        collector.sweep();
+
+        assertThat(uploadDir.resolve(path)).exists();
+    }
+
+    private void age(String relativePath, int hours) throws IOException {
+        Files.setLastModifiedTime(uploadDir.resolve(relativePath),
+                FileTime.from(Instant.now().minus(hours, ChronoUnit.HOURS)));
+    }
+
+    private static MockMultipartFile upload(String name) {
+        return new MockMultipartFile("file", name, "image/jpeg", BYTES);
+    }
+
+    private static ImageBlob blob(String hash, String relativePath) {
+        ImageBlob blob = mock(ImageBlob.class);
+        when(blob.getContentHash()).thenReturn(hash);
+        when(blob.getRelativePath()).thenReturn(relativePath);
+        return blob;
+    }
+}
@@ -0,0 +1,115 @@
+package com.hanihome.hanihome_au_api.service;
+
+import com.hanihome.hanihome_au_api.application.notification.service.SSENotificationService;
+import com.hanihome.hanihome_au_api.domain.entity.PropertyImage;
+import com.hanihome.hanihome_au_api.domain.enums.ImageProcessingStatus;
+import com.hanihome.hanihome_au_api.repository.ImageBlobRepository;
+import com.hanihome.hanihome_au_api.repository.PropertyImageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ImageProcessingPipeline Tests")
+class ImageProcessingPipelineTest {
+
+    private static final Map<ImageRendition, String> URLS = Map.of(
+            ImageRendition.THUMB, "/thumb.jpg",
+            ImageRendition.CARD, "/card.jpg",
+            ImageRendition.FULL, "/full.jpg",
+            ImageRendition.WEBP, "/full.webp");
+
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+    private final PropertyImageRepository propertyImageRepository = mock(PropertyImageRepository.class);
+    private final ImageBlobRepository imageBlobRepository = mock(ImageBlobRepository.class);
+    private final SSENotificationService notificationService = mock(SSENotificationService.class);
+    private ImageProcessingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new ImageProcessingPipeline(fileStorageService, propertyImageRepository, imageBlobRepository,
+                notificationService);
+        ReflectionTestUtils.setField(pipeline, "workerThreads", 2);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 10);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    @Test
+    @DisplayName("Should update only rendition columns by id and never write back the captured entities")
+    void should_UpdateRenditionColumnsById() throws IOException {
+        when(fileStorageService.generateRenditions(any(), any(), any(), any())).thenReturn(URLS);
+        when(propertyImageRepository.updateRenditions(anyList(), any(), any(), any(), any(), any())).thenReturn(2);
+
+        pipeline.submit(1L, 7L, List.of(pending(10L, "hash-a"), pending(11L, "hash-a")));
+
+        verify(propertyImageRepository, timeout(5000)).updateRenditions(List.of(10L, 11L),
+                "/thumb.jpg", "/card.jpg", "/full.jpg", "/full.webp", ImageProcessingStatus.READY);
+        verify(notificationService, timeout(5000)).sendToUser(eq(7L), any());
+        verify(imageBlobRepository).markRenditionsReady("hash-a", "/thumb.jpg", "/card.jpg", "/full.jpg", "/full.webp");
+        verify(propertyImageRepository, never()).saveAll(any());
+        verify(propertyImageRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should skip images deleted while processing and not notify when none remain")
+    void should_SkipDeletedImages() throws IOException {
+        when(fileStorageService.generateRenditions(any(), any(), any(), any())).thenReturn(URLS);
+        when(propertyImageRepository.updateRenditions(anyList(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        pipeline.submit(1L, 7L, List.of(pending(10L, "hash-a")));
+
+        verify(propertyImageRepository, timeout(5000)).updateRenditions(anyList(), any(), any(), any(), any(), any());
+        pipeline.stop();
+        verify(notificationService, never()).sendToUser(any(), any());
+        verify(propertyImageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should mark only the status as FAILED when rendition generation fails")
+    void should_MarkFailedStatusOnly() throws IOException {
+        when(fileStorageService.generateRenditions(any(), any(), any(), any())).thenThrow(new IOException("corrupt"));
+        when(propertyImageRepository.updateProcessingStatus(anyList(), any())).thenReturn(1);
+
+        pipeline.submit(1L, 7L, List.of(pending(10L, "hash-a")));
+
+        verify(propertyImageRepository, timeout(5000)).updateProcessingStatus(List.of(10L), ImageProcessingStatus.FAILED);
+        ArgumentCaptor<SSENotificationService.NotificationMessage> message =
+                ArgumentCaptor.forClass(SSENotificationService.NotificationMessage.class);
+        verify(notificationService, timeout(5000)).sendToUser(eq(7L), message.capture());
+        assertThat(message.getValue().getSubType()).isEqualTo("IMAGES_PARTIALLY_FAILED");
+        verify(propertyImageRepository, never()).updateRenditions(anyList(), any(), any(), any(), any(), any());
+    }
+
+    private static ImageProcessingPipeline.PendingImage pending(Long id, String hash) {
+        PropertyImage image = PropertyImage.builder()
+                .id(id)
+                .propertyId(1L)
+                .imageUrl("/blobs/" + hash + ".jpg")
+                .processingStatus(ImageProcessingStatus.PENDING)
+                .build();
+        return new ImageProcessingPipeline.PendingImage(image, hash, Path.of("/tmp/" + hash + ".jpg"),
+                "blobs/renditions/ha", hash, "jpg");
+    }
+}
@@ -0,0 +1,58 @@
+package com.hanihome.hanihome_au_api.testutil;
+
+import com.hanihome.hanihome_au_api.infrastructure.persistence.query.QueryScope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 SQL 쿼리 수 검증 도우미
+ * - 애플리케이션 컨텍스트의 DataSource 가 QueryCountingDataSource 로 감싸져 있어야 함
+ *   (테스트 프로필들은 app.query-budget.enabled=true 로 자동으로 감쌈)
+ * - 실패 메시지에 가장 많이 실행된 문장의 지문이 포함되어 N+1 위치를 바로 찾을 수 있음
+ *
+ * <pre>
+ * QueryCountAssertions.assertMaxQueries(3, () -> favoriteService.getCategoryStats(userId));
+ * QueryCountAssertions.assertNoRepeatedQueries(2, () -> searchHistoryService.getUserSearchHistory(userId, page));
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private static final int DESCRIBED_FINGERPRINTS = 10;
+
+    private QueryCountAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs the action in its own scope and returns the closed scope for custom assertions
+     */
+    public static QueryScope capture(ThrowingRunnable action) throws Exception {
+        try (QueryScope scope = QueryScope.open("test")) {
+            action.run();
+            return scope;
+        }
+    }
+
+    public static QueryScope assertMaxQueries(int maxStatements, ThrowingRunnable action) throws Exception {
+        QueryScope scope = capture(action);
+        assertThat(scope.statements())
+                .as("SQL statements executed%n%s", scope.describe(DESCRIBED_FINGERPRINTS))
+                .isLessThanOrEqualTo(maxStatements);
+        return scope;
+    }
+
+    /**
+     * Fails when any statement runs more than maxExecutions times, whatever the total
+     */
+    public static QueryScope assertNoRepeatedQueries(int maxExecutions, ThrowingRunnable action) throws Exception {
+        QueryScope scope = capture(action);
+        assertThat(scope.maxRepeats())
+                .as("Executions of the most repeated statement (possible N+1)%n%s", scope.describe(DESCRIBED_FINGERPRINTS))
+                .isLessThanOrEqualTo(maxExecutions);
+        return scope;
+    }
+}